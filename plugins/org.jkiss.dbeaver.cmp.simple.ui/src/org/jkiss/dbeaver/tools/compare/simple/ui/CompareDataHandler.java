@@ -0,0 +1,113 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple.ui;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.ui.handlers.HandlerUtil;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataExecutor;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataReportRenderer;
+import org.jkiss.dbeaver.tools.compare.simple.ui.internal.CompareUIMessages;
+import org.jkiss.dbeaver.ui.ShellUtils;
+import org.jkiss.dbeaver.ui.UIUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares data of two selected tables
+ */
+public class CompareDataHandler extends AbstractHandler {
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        final ISelection selection = HandlerUtil.getCurrentSelection(event);
+        List<DBSEntity> entities = new ArrayList<>();
+        if (selection instanceof IStructuredSelection ss) {
+            for (Object item : ss.toList()) {
+                if (item instanceof DBNDatabaseNode node && node.getObject() instanceof DBSEntity entity) {
+                    entities.add(entity);
+                }
+            }
+        }
+        if (entities.size() != 2) {
+            DBWorkbench.getPlatformUI().showError(
+                CompareUIMessages.compare_data_error_two_tables_title,
+                CompareUIMessages.compare_data_error_two_tables_message);
+            return null;
+        }
+        CompareDataExecutor executor = new CompareDataExecutor(entities.get(0), entities.get(1));
+        File reportFile;
+        try {
+            reportFile = File.createTempFile("compare-data-report", ".html");
+            reportFile.deleteOnExit();
+            UIUtils.runInProgressService(monitor -> {
+                try (OutputStream outputStream = new FileOutputStream(reportFile)) {
+                    CompareDataReportRenderer renderer = new CompareDataReportRenderer(executor, outputStream);
+                    executor.compareData(monitor, renderer);
+                    renderer.finish(monitor.isCanceled());
+                } catch (DBException | IOException e) {
+                    throw new InvocationTargetException(e);
+                }
+                if (monitor.isCanceled()) {
+                    throw new InterruptedException();
+                }
+            });
+        } catch (IOException | InvocationTargetException e) {
+            DBWorkbench.getPlatformUI().showError(
+                CompareUIMessages.compare_data_report_title,
+                null,
+                e instanceof InvocationTargetException ite ? ite.getTargetException() : e);
+            return null;
+        } catch (InterruptedException e) {
+            UIUtils.showMessageBox(
+                HandlerUtil.getActiveShell(event),
+                CompareUIMessages.compare_data_report_title,
+                NLS.bind(
+                    CompareUIMessages.compare_data_report_canceled,
+                    new Object[]{executor.getSourceRowCount(), executor.getTargetRowCount(), executor.getDifferenceCount()}),
+                SWT.ICON_WARNING);
+            return null;
+        }
+
+        UIUtils.showMessageBox(
+            HandlerUtil.getActiveShell(event),
+            CompareUIMessages.compare_data_report_title,
+            NLS.bind(
+                CompareUIMessages.compare_data_report_summary,
+                new Object[]{executor.getSourceRowCount(), executor.getTargetRowCount(), executor.getDifferenceCount()}),
+            executor.getDifferenceCount() == 0 ? SWT.ICON_INFORMATION : SWT.ICON_WARNING);
+        if (executor.getDifferenceCount() > 0) {
+            ShellUtils.launchProgram(reportFile.getAbsolutePath());
+        }
+        return null;
+    }
+}
@@ -51,6 +51,12 @@ public class CompareUIMessages extends NLS {
     public static String compare_objects_error_different_object_types_title;
     public static String compare_objects_error_different_object_types_message;
 
+    public static String compare_data_error_two_tables_title;
+    public static String compare_data_error_two_tables_message;
+    public static String compare_data_report_title;
+    public static String compare_data_report_summary;
+    public static String compare_data_report_canceled;
+
     static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, CompareUIMessages.class);
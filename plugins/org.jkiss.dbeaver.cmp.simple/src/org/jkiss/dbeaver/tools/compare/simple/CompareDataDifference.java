@@ -0,0 +1,78 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+/**
+ * Row-level difference of two tables
+ */
+public class CompareDataDifference {
+
+    public enum Type {
+        // Row exists only in the source table
+        MISSING_IN_TARGET,
+        // Row exists only in the target table
+        MISSING_IN_SOURCE,
+        // Row exists in both tables but some column values differ
+        DIFFERENT
+    }
+
+    private final Type type;
+    private final Object[] keyValues;
+    private final Object[] sourceValues;
+    private final Object[] targetValues;
+
+    CompareDataDifference(@NotNull Type type, @NotNull Object[] keyValues, @Nullable Object[] sourceValues, @Nullable Object[] targetValues) {
+        this.type = type;
+        this.keyValues = keyValues;
+        this.sourceValues = sourceValues;
+        this.targetValues = targetValues;
+    }
+
+    @NotNull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Values of key columns
+     */
+    @NotNull
+    public Object[] getKeyValues() {
+        return keyValues;
+    }
+
+    /**
+     * Values of compared columns (key columns go first) in the source table
+     * or null if row is missing in the source table
+     */
+    @Nullable
+    public Object[] getSourceValues() {
+        return sourceValues;
+    }
+
+    /**
+     * Values of compared columns (key columns go first) in the target table
+     * or null if row is missing in the target table
+     */
+    @Nullable
+    public Object[] getTargetValues() {
+        return targetValues;
+    }
+}
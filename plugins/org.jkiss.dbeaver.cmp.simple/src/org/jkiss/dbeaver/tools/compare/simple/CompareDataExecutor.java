@@ -0,0 +1,562 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares data of two tables. Tables may belong to different data sources.
+ * <p>
+ * Tables are read ordered by the unique key of the source table and merged row by row,
+ * so tables of any size are compared in one pass with constant memory.
+ * If both tables support the same server-side row hash (see {@link CompareDataHashFunction}) then
+ * key ranges are hashed on the server first and only ranges with different hashes are merged.
+ * Server-side hashes exist only for PostgreSQL and MySQL, and both tables must use the same dialect.
+ * Otherwise all rows are read and merged on the client, and the reason is logged.
+ * Differences are passed to the listener as soon as they are found.
+ */
+public class CompareDataExecutor {
+
+    private static final Log log = Log.getLog(CompareDataExecutor.class);
+
+    private static final int FETCH_SIZE = 10000;
+    private static final int RANGE_ROWS = 10000;
+    private static final int PROGRESS_ROWS = 100000;
+
+    public interface DifferenceListener {
+        void handleDifference(@NotNull CompareDataDifference difference) throws DBException;
+    }
+
+    private final DBSEntity sourceEntity;
+    private final DBSEntity targetEntity;
+    private final List<String> columnNames = new ArrayList<>();
+
+    private long sourceRowCount;
+    private long targetRowCount;
+    private long differenceCount;
+    private long hashedRangeCount;
+    private long mergedRangeCount;
+    private long lastProgressRowCount;
+
+    public CompareDataExecutor(@NotNull DBSEntity sourceEntity, @NotNull DBSEntity targetEntity) {
+        this.sourceEntity = sourceEntity;
+        this.targetEntity = targetEntity;
+    }
+
+    @NotNull
+    public DBSEntity getSourceEntity() {
+        return sourceEntity;
+    }
+
+    @NotNull
+    public DBSEntity getTargetEntity() {
+        return targetEntity;
+    }
+
+    /**
+     * Names of compared columns (key columns go first) in the order of difference values
+     */
+    @NotNull
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public long getSourceRowCount() {
+        return sourceRowCount;
+    }
+
+    public long getTargetRowCount() {
+        return targetRowCount;
+    }
+
+    public long getDifferenceCount() {
+        return differenceCount;
+    }
+
+    /**
+     * Number of key ranges compared by hash
+     */
+    public long getHashedRangeCount() {
+        return hashedRangeCount;
+    }
+
+    /**
+     * Number of key ranges compared row by row
+     */
+    public long getMergedRangeCount() {
+        return mergedRangeCount;
+    }
+
+    /**
+     * Compares key columns and all columns which exist in both tables.
+     * LOB columns are not compared.
+     */
+    public void compareData(@NotNull DBRProgressMonitor monitor, @NotNull DifferenceListener listener) throws DBException {
+        List<? extends DBSEntityAttribute> keyAttributes = DBUtils.getBestTableIdentifier(monitor, sourceEntity);
+        if (keyAttributes.isEmpty()) {
+            throw new DBException("Table " + getEntityName(sourceEntity) + " has no unique key");
+        }
+        List<? extends DBSEntityAttribute> allTargetAttributes = CommonUtils.safeList(targetEntity.getAttributes(monitor));
+
+        // Key columns go first
+        List<DBSEntityAttribute> sourceAttributes = new ArrayList<>(keyAttributes);
+        List<DBSEntityAttribute> targetAttributes = new ArrayList<>();
+        for (DBSEntityAttribute keyAttribute : keyAttributes) {
+            DBSEntityAttribute targetAttribute = DBUtils.findObject(allTargetAttributes, keyAttribute.getName(), true);
+            if (targetAttribute == null) {
+                throw new DBException("Key column " + keyAttribute.getName() + " is missing in table " + getEntityName(targetEntity));
+            }
+            targetAttributes.add(targetAttribute);
+        }
+        for (DBSEntityAttribute attribute : CommonUtils.safeCollection(sourceEntity.getAttributes(monitor))) {
+            if (keyAttributes.contains(attribute) || DBUtils.isHiddenObject(attribute) || DBUtils.isPseudoAttribute(attribute) ||
+                attribute.getDataKind() == DBPDataKind.CONTENT) {
+                continue;
+            }
+            DBSEntityAttribute targetAttribute = DBUtils.findObject(allTargetAttributes, attribute.getName(), true);
+            if (targetAttribute != null) {
+                sourceAttributes.add(attribute);
+                targetAttributes.add(targetAttribute);
+            }
+        }
+        final int keyCount = keyAttributes.size();
+        columnNames.clear();
+        for (DBSEntityAttribute attribute : sourceAttributes) {
+            columnNames.add(attribute.getName());
+        }
+
+        monitor.subTask("Compare data of " + getEntityName(sourceEntity) + " and " + getEntityName(targetEntity));
+        try (TableDataSide source = new TableDataSide(monitor, sourceEntity, sourceAttributes, keyCount);
+             TableDataSide target = new TableDataSide(monitor, targetEntity, targetAttributes, keyCount))
+        {
+            compareData(monitor, listener, source, target, keyCount);
+        }
+    }
+
+    /**
+     * Compares rows of two sides.
+     *
+     * @param keyCount number of key values in the beginning of each row
+     */
+    public void compareData(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DifferenceListener listener,
+        @NotNull CompareDataSide source,
+        @NotNull CompareDataSide target,
+        int keyCount
+    ) throws DBException {
+        sourceRowCount = 0;
+        targetRowCount = 0;
+        differenceCount = 0;
+        hashedRangeCount = 0;
+        mergedRangeCount = 0;
+        lastProgressRowCount = 0;
+
+        CompareDataHashFunction hashFunction = source.getHashFunction();
+        if (hashFunction == null || hashFunction != target.getHashFunction()) {
+            log.info("Server-side row hashes can't be used (source: " + CommonUtils.toString(hashFunction, "not supported") +
+                ", target: " + CommonUtils.toString(target.getHashFunction(), "not supported") + "). All rows are compared on the client.");
+            compareRange(monitor, listener, source, target, keyCount, null, null);
+            return;
+        }
+        Object[] lowerKey = null;
+        while (!monitor.isCanceled()) {
+            Object[] upperKey = source.findRangeEnd(lowerKey, RANGE_ROWS);
+            CompareDataSide.RangeHash sourceHash = source.hashRange(lowerKey, upperKey);
+            CompareDataSide.RangeHash targetHash = target.hashRange(lowerKey, upperKey);
+            if (sourceHash.equals(targetHash)) {
+                hashedRangeCount++;
+                sourceRowCount += sourceHash.rowCount();
+                targetRowCount += targetHash.rowCount();
+                reportProgress(monitor);
+            } else {
+                compareRange(monitor, listener, source, target, keyCount, lowerKey, upperKey);
+            }
+            if (upperKey == null) {
+                break;
+            }
+            lowerKey = upperKey;
+        }
+    }
+
+    private void compareRange(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DifferenceListener listener,
+        @NotNull CompareDataSide source,
+        @NotNull CompareDataSide target,
+        int keyCount,
+        @Nullable Object[] lowerKey,
+        @Nullable Object[] upperKey
+    ) throws DBException {
+        mergedRangeCount++;
+        try (OrderedCursor sourceCursor = new OrderedCursor(source.readRange(lowerKey, upperKey), keyCount, sourceEntity);
+             OrderedCursor targetCursor = new OrderedCursor(target.readRange(lowerKey, upperKey), keyCount, targetEntity))
+        {
+            Object[] sourceRow = sourceCursor.nextRow();
+            Object[] targetRow = targetCursor.nextRow();
+            while ((sourceRow != null || targetRow != null) && !monitor.isCanceled()) {
+                int keyCompare = sourceRow == null ? 1 : targetRow == null ? -1 : compareKeys(sourceRow, targetRow, keyCount);
+                if (keyCompare < 0) {
+                    reportDifference(listener, CompareDataDifference.Type.MISSING_IN_TARGET, sourceRow, keyCount, sourceRow, null);
+                    sourceRow = sourceCursor.nextRow();
+                    sourceRowCount++;
+                } else if (keyCompare > 0) {
+                    reportDifference(listener, CompareDataDifference.Type.MISSING_IN_SOURCE, targetRow, keyCount, null, targetRow);
+                    targetRow = targetCursor.nextRow();
+                    targetRowCount++;
+                } else {
+                    if (!equalRows(sourceRow, targetRow, keyCount)) {
+                        reportDifference(listener, CompareDataDifference.Type.DIFFERENT, sourceRow, keyCount, sourceRow, targetRow);
+                    }
+                    sourceRow = sourceCursor.nextRow();
+                    targetRow = targetCursor.nextRow();
+                    sourceRowCount++;
+                    targetRowCount++;
+                }
+                reportProgress(monitor);
+            }
+        }
+    }
+
+    private void reportProgress(@NotNull DBRProgressMonitor monitor) {
+        if (sourceRowCount - lastProgressRowCount >= PROGRESS_ROWS) {
+            lastProgressRowCount = sourceRowCount;
+            monitor.subTask("Compared " + sourceRowCount + " rows, " + differenceCount + " differences found");
+        }
+    }
+
+    private void reportDifference(
+        @NotNull DifferenceListener listener,
+        @NotNull CompareDataDifference.Type type,
+        @NotNull Object[] row,
+        int keyCount,
+        @Nullable Object[] sourceRow,
+        @Nullable Object[] targetRow
+    ) throws DBException {
+        differenceCount++;
+        listener.handleDifference(new CompareDataDifference(type, Arrays.copyOf(row, keyCount), sourceRow, targetRow));
+    }
+
+    private static int compareKeys(@NotNull Object[] row1, @NotNull Object[] row2, int keyCount) {
+        for (int i = 0; i < keyCount; i++) {
+            int result = DBUtils.compareDataValues(row1[i], row2[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean equalRows(@NotNull Object[] row1, @NotNull Object[] row2, int keyCount) {
+        for (int i = keyCount; i < row1.length; i++) {
+            if (!equalValues(row1[i], row2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean equalValues(@Nullable Object value1, @Nullable Object value2) {
+        if (value1 instanceof byte[] bytes1 && value2 instanceof byte[] bytes2) {
+            return Arrays.equals(bytes1, bytes2);
+        }
+        return DBUtils.compareDataValues(value1, value2) == 0;
+    }
+
+    @NotNull
+    private static String getEntityName(@NotNull DBSEntity entity) {
+        return DBUtils.getObjectFullName(entity, DBPEvaluationContext.UI);
+    }
+
+    /**
+     * Checks that rows come in the key order expected by merge
+     */
+    private static class OrderedCursor implements AutoCloseable {
+        private final CompareDataSide.RowCursor cursor;
+        private final int keyCount;
+        private final DBSEntity entity;
+        private Object[] prevRow;
+
+        OrderedCursor(@NotNull CompareDataSide.RowCursor cursor, int keyCount, @NotNull DBSEntity entity) {
+            this.cursor = cursor;
+            this.keyCount = keyCount;
+            this.entity = entity;
+        }
+
+        @Nullable
+        Object[] nextRow() throws DBException {
+            Object[] row = cursor.nextRow();
+            if (row != null && prevRow != null && compareKeys(prevRow, row, keyCount) >= 0) {
+                throw new DBException("Rows of table " + getEntityName(entity) + " are ordered differently by server and client. " +
+                    "Key columns of compared tables probably have different collations.");
+            }
+            prevRow = row;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Reads table data in a separate connection.
+     * Auto-commit is turned off, otherwise some drivers (e.g. PostgreSQL) ignore fetch size and read the whole table in memory.
+     */
+    private static class TableDataSide implements CompareDataSide {
+        private final DBRProgressMonitor monitor;
+        private final DBSEntity entity;
+        private final List<DBSEntityAttribute> attributes;
+        private final int keyCount;
+        private final DBCExecutionContext context;
+        private final boolean isolatedContext;
+        private final DBCSession session;
+        private final CompareDataHashFunction hashFunction;
+        private Boolean oldAutoCommit;
+
+        TableDataSide(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity, @NotNull List<DBSEntityAttribute> attributes, int keyCount)
+            throws DBException
+        {
+            this.monitor = monitor;
+            this.entity = entity;
+            this.attributes = attributes;
+            this.keyCount = keyCount;
+            this.hashFunction = CompareDataHashFunction.getFunction(entity.getDataSource().getSQLDialect());
+
+            DBCExecutionContext defaultContext = DBUtils.getDefaultContext(entity, false);
+            if (defaultContext == null) {
+                throw new DBException("No execution context for table " + getEntityName(entity));
+            }
+            // Embedded databases may not support multiple connections
+            this.isolatedContext = !entity.getDataSource().getContainer().getDriver().isEmbedded();
+            this.context = isolatedContext ?
+                DBUtils.getObjectOwnerInstance(entity).openIsolatedContext(monitor, "Compare data", defaultContext) :
+                defaultContext;
+            if (isolatedContext) {
+                try {
+                    DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                    if (txnManager != null && txnManager.isSupportsTransactions()) {
+                        oldAutoCommit = txnManager.isAutoCommit();
+                        txnManager.setAutoCommit(monitor, false);
+                    }
+                } catch (DBCException e) {
+                    log.warn("Can't change auto-commit", e);
+                }
+            }
+            this.session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Read data of " + getEntityName(entity));
+            this.session.enableLogging(false);
+        }
+
+        @Nullable
+        @Override
+        public CompareDataHashFunction getHashFunction() {
+            return hashFunction;
+        }
+
+        @Nullable
+        @Override
+        public Object[] findRangeEnd(@Nullable Object[] lowerKey, int rowCount) throws DBException {
+            StringBuilder sql = new StringBuilder("SELECT ");
+            appendColumns(sql, keyCount);
+            appendFrom(sql, lowerKey, null);
+            sql.append(" ORDER BY ");
+            appendColumns(sql, keyCount);
+            // Range hashes are supported only by dialects with LIMIT/OFFSET
+            sql.append(" LIMIT 1 OFFSET ").append(rowCount - 1);
+            try (DBCStatement statement = prepareStatement(sql, lowerKey, null)) {
+                if (statement.executeStatement()) {
+                    try (DBCResultSet resultSet = statement.openResultSet()) {
+                        if (resultSet != null && resultSet.nextRow()) {
+                            return readRow(resultSet, keyCount);
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        @NotNull
+        @Override
+        public RangeHash hashRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) throws DBException {
+            if (hashFunction == null) {
+                throw new DBException("Row hashes are not supported for table " + getEntityName(entity));
+            }
+            List<String> columns = new ArrayList<>();
+            for (DBSEntityAttribute attribute : attributes) {
+                columns.add(DBUtils.getQuotedIdentifier(attribute));
+            }
+            StringBuilder sql = new StringBuilder("SELECT COUNT(*),");
+            sql.append(hashFunction.makeHashExpression(columns, columns.subList(0, keyCount)));
+            appendFrom(sql, lowerKey, upperKey);
+            try (DBCStatement statement = prepareStatement(sql, lowerKey, upperKey)) {
+                if (statement.executeStatement()) {
+                    try (DBCResultSet resultSet = statement.openResultSet()) {
+                        if (resultSet != null && resultSet.nextRow()) {
+                            Object rowCount = resultSet.getAttributeValue(0);
+                            Object hash = resultSet.getAttributeValue(1);
+                            return new RangeHash(CommonUtils.toLong(rowCount), hash == null ? null : hash.toString());
+                        }
+                    }
+                }
+            }
+            throw new DBException("Can't read row hash of table " + getEntityName(entity));
+        }
+
+        @NotNull
+        @Override
+        public RowCursor readRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) throws DBException {
+            StringBuilder sql = new StringBuilder("SELECT ");
+            appendColumns(sql, attributes.size());
+            appendFrom(sql, lowerKey, upperKey);
+            sql.append(" ORDER BY ");
+            appendColumns(sql, keyCount);
+            DBCStatement statement = prepareStatement(sql, lowerKey, upperKey);
+            try {
+                statement.setResultsFetchSize(FETCH_SIZE);
+                DBCResultSet resultSet = statement.executeStatement() ? statement.openResultSet() : null;
+                return new RowCursor() {
+                    @Nullable
+                    @Override
+                    public Object[] nextRow() throws DBException {
+                        if (resultSet == null || !resultSet.nextRow()) {
+                            return null;
+                        }
+                        return readRow(resultSet, attributes.size());
+                    }
+
+                    @Override
+                    public void close() {
+                        if (resultSet != null) {
+                            resultSet.close();
+                        }
+                        statement.close();
+                    }
+                };
+            } catch (DBException e) {
+                statement.close();
+                throw e;
+            }
+        }
+
+        private void appendColumns(@NotNull StringBuilder sql, int count) {
+            for (int i = 0; i < count; i++) {
+                if (i > 0) sql.append(",");
+                sql.append(DBUtils.getQuotedIdentifier(attributes.get(i)));
+            }
+        }
+
+        private void appendFrom(@NotNull StringBuilder sql, @Nullable Object[] lowerKey, @Nullable Object[] upperKey) {
+            sql.append(" FROM ").append(DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML));
+            if (lowerKey != null) {
+                sql.append(" WHERE ");
+                appendKeyCondition(sql, ">");
+            }
+            if (upperKey != null) {
+                sql.append(lowerKey == null ? " WHERE " : " AND ");
+                appendKeyCondition(sql, "<=");
+            }
+        }
+
+        private void appendKeyCondition(@NotNull StringBuilder sql, @NotNull String operator) {
+            // Row value comparison for composite keys
+            if (keyCount > 1) sql.append("(");
+            appendColumns(sql, keyCount);
+            if (keyCount > 1) sql.append(")");
+            sql.append(" ").append(operator).append(" ");
+            if (keyCount > 1) sql.append("(");
+            for (int i = 0; i < keyCount; i++) {
+                if (i > 0) sql.append(",");
+                sql.append("?");
+            }
+            if (keyCount > 1) sql.append(")");
+        }
+
+        @NotNull
+        private DBCStatement prepareStatement(@NotNull StringBuilder sql, @Nullable Object[] lowerKey, @Nullable Object[] upperKey)
+            throws DBCException
+        {
+            DBCStatement statement = session.prepareStatement(DBCStatementType.QUERY, sql.toString(), false, false, false);
+            try {
+                int paramIndex = bindKey(statement, lowerKey, 0);
+                bindKey(statement, upperKey, paramIndex);
+            } catch (DBCException e) {
+                statement.close();
+                throw e;
+            }
+            return statement;
+        }
+
+        private int bindKey(@NotNull DBCStatement statement, @Nullable Object[] key, int paramIndex) throws DBCException {
+            if (key != null) {
+                for (int i = 0; i < keyCount; i++) {
+                    DBSEntityAttribute attribute = attributes.get(i);
+                    DBDValueHandler valueHandler = DBUtils.findValueHandler(session, attribute);
+                    valueHandler.bindValueObject(session, statement, attribute, paramIndex++, key[i]);
+                }
+            }
+            return paramIndex;
+        }
+
+        @NotNull
+        private static Object[] readRow(@NotNull DBCResultSet resultSet, int columnCount) throws DBCException {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = resultSet.getAttributeValue(i);
+            }
+            return row;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (oldAutoCommit != null) {
+                    DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                    if (txnManager != null) {
+                        // Nothing was changed, just finish the read transaction
+                        txnManager.rollback(session, null);
+                        txnManager.setAutoCommit(monitor, oldAutoCommit);
+                    }
+                }
+            } catch (DBCException e) {
+                log.warn("Can't restore auto-commit", e);
+            } finally {
+                session.close();
+                if (isolatedContext) {
+                    context.close();
+                }
+            }
+        }
+    }
+
+}
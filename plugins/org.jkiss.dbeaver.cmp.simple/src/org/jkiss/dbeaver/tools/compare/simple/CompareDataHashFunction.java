@@ -0,0 +1,72 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+
+import java.util.List;
+
+/**
+ * Server-side hash of table rows.
+ * Lets data compare skip key ranges which have equal hashes on both sides without reading their rows.
+ * Hashes are comparable only when both tables use the same function, so tables of different
+ * databases (or of databases other than PostgreSQL and MySQL) are always compared row by row.
+ */
+public enum CompareDataHashFunction {
+
+    POSTGRESQL {
+        @NotNull
+        @Override
+        public String makeHashExpression(@NotNull List<String> columns, @NotNull List<String> keyColumns) {
+            return "md5(string_agg(md5(row(" + String.join(",", columns) + ")::text), '' ORDER BY " + String.join(",", keyColumns) + "))";
+        }
+    },
+    MYSQL {
+        @NotNull
+        @Override
+        public String makeHashExpression(@NotNull List<String> columns, @NotNull List<String> keyColumns) {
+            // CONCAT_WS skips NULLs, so NULL flags are added to distinguish NULL from empty values
+            StringBuilder nullFlags = new StringBuilder();
+            for (String column : columns) {
+                if (nullFlags.length() > 0) nullFlags.append(",");
+                nullFlags.append("ISNULL(").append(column).append(")");
+            }
+            return "BIT_XOR(CAST(CONV(LEFT(MD5(CONCAT_WS('#'," + String.join(",", columns) +
+                ",CONCAT(" + nullFlags + "))),16),16,10) AS UNSIGNED))";
+        }
+    };
+
+    /**
+     * Makes aggregate expression which hashes all rows of a key range.
+     *
+     * @param columns    quoted names of compared columns
+     * @param keyColumns quoted names of key columns
+     */
+    @NotNull
+    public abstract String makeHashExpression(@NotNull List<String> columns, @NotNull List<String> keyColumns);
+
+    @Nullable
+    public static CompareDataHashFunction getFunction(@NotNull SQLDialect dialect) {
+        return switch (dialect.getDialectId()) {
+            case "postgresql" -> POSTGRESQL;
+            case "mysql" -> MYSQL;
+            default -> null;
+        };
+    }
+}
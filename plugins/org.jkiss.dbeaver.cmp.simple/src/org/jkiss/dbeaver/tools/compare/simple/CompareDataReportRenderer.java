@@ -0,0 +1,174 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.xml.XMLBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes data compare differences into an HTML report as soon as they are found
+ */
+public class CompareDataReportRenderer implements CompareDataExecutor.DifferenceListener {
+
+    private final CompareDataExecutor executor;
+    private final XMLBuilder xml;
+    private boolean tableStarted;
+
+    public CompareDataReportRenderer(@NotNull CompareDataExecutor executor, @NotNull OutputStream outputStream) throws IOException {
+        this.executor = executor;
+        this.xml = new XMLBuilder(outputStream, GeneralUtils.UTF8_ENCODING, true);
+        this.xml.setButify(true);
+        xml.addContent(
+            "<!DOCTYPE html \n" +
+            "     PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\"\n" +
+            "    \"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\">");
+
+        xml.startElement("html");
+        xml.startElement("head");
+        xml.startElement("meta");
+        xml.addAttribute("http-equiv", "Content-type");
+        xml.addAttribute("content", "text/html; charset=utf-8");
+        xml.endElement();
+        xml.startElement("title");
+        xml.addText("Data compare report");
+        xml.endElement();
+        xml.startElement("style");
+        xml.addText(
+            "body,table {font-family:\"Lucida Sans Unicode\", \"Lucida Grande\", Sans-Serif;font-size:12px;text-align:left;} " +
+            "td,th {border-top:solid 1px; border-right:solid 1px; border-color: black; white-space:pre; padding:2px;} " +
+            ".missing {color:red;} .differs {color:blue;}", false);
+        xml.endElement();
+        xml.endElement();
+        xml.startElement("body");
+        xml.startElement("h3");
+        xml.addText(getEntityName(executor.getSourceEntity()) + " / " + getEntityName(executor.getTargetEntity()));
+        xml.endElement();
+    }
+
+    @Override
+    public void handleDifference(@NotNull CompareDataDifference difference) throws DBException {
+        try {
+            if (!tableStarted) {
+                startTable();
+                tableStarted = true;
+            }
+            Object[] sourceValues = difference.getSourceValues();
+            Object[] targetValues = difference.getTargetValues();
+            xml.startElement("tr");
+            xml.startElement("td");
+            if (difference.getType() != CompareDataDifference.Type.DIFFERENT) {
+                xml.addAttribute("class", "missing");
+            }
+            xml.addText(difference.getType().name());
+            xml.endElement();
+            int columnCount = executor.getColumnNames().size();
+            for (int i = 0; i < columnCount; i++) {
+                Object sourceValue = sourceValues == null ? null : sourceValues[i];
+                Object targetValue = targetValues == null ? null : targetValues[i];
+                xml.startElement("td");
+                if (sourceValues == null) {
+                    xml.addText(formatValue(targetValue));
+                } else if (targetValues == null || CompareDataExecutor.equalValues(sourceValue, targetValue)) {
+                    xml.addText(formatValue(sourceValue));
+                } else {
+                    xml.addAttribute("class", "differs");
+                    xml.addText(formatValue(sourceValue));
+                    xml.startElement("br");
+                    xml.endElement();
+                    xml.addText(formatValue(targetValue));
+                }
+                xml.endElement();
+            }
+            xml.endElement();
+        } catch (IOException e) {
+            throw new DBException("Error writing data compare report", e);
+        }
+    }
+
+    /**
+     * Closes the differences table and writes compare summary
+     */
+    public void finish(boolean canceled) throws IOException {
+        if (tableStarted) {
+            xml.endElement();
+        }
+        xml.startElement("p");
+        xml.addText(
+            "Source rows: " + executor.getSourceRowCount() +
+            ", target rows: " + executor.getTargetRowCount() +
+            ", differences: " + executor.getDifferenceCount());
+        xml.endElement();
+        if (executor.getHashedRangeCount() > 0) {
+            xml.startElement("p");
+            xml.addText(
+                "Key ranges hashed on server: " + executor.getHashedRangeCount() +
+                ", merged on client: " + executor.getMergedRangeCount());
+            xml.endElement();
+        }
+        if (canceled) {
+            xml.startElement("p");
+            xml.addAttribute("class", "missing");
+            xml.addText("Compare was canceled, the report is incomplete");
+            xml.endElement();
+        }
+        xml.endElement();
+        xml.endElement();
+        xml.flush();
+    }
+
+    private void startTable() throws IOException {
+        xml.startElement("table");
+        xml.addAttribute("cellspacing", 0);
+        xml.addAttribute("cellpadding", 0);
+        xml.startElement("tr");
+        xml.startElement("th");
+        xml.addText("Difference");
+        xml.endElement();
+        List<String> columnNames = executor.getColumnNames();
+        for (String columnName : columnNames) {
+            xml.startElement("th");
+            xml.addText(columnName);
+            xml.endElement();
+        }
+        xml.endElement();
+    }
+
+    @NotNull
+    private static String formatValue(@Nullable Object value) {
+        if (value == null) {
+            return "[NULL]";
+        } else if (value instanceof byte[] bytes) {
+            return "[" + bytes.length + " bytes]";
+        }
+        return String.valueOf(value);
+    }
+
+    @NotNull
+    private static String getEntityName(@NotNull DBSEntity entity) {
+        return DBUtils.getObjectFullName(entity, DBPEvaluationContext.UI);
+    }
+}
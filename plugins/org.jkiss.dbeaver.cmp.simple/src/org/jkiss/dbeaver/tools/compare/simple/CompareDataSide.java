@@ -0,0 +1,68 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+
+/**
+ * Rows of one of compared tables.
+ * Rows are arrays of key column values followed by values of other compared columns.
+ * Key ranges are bounded by key values: lower bound is exclusive, upper bound is inclusive, null means unbounded.
+ */
+public interface CompareDataSide extends AutoCloseable {
+
+    /**
+     * Rows of a key range ordered by key
+     */
+    interface RowCursor extends AutoCloseable {
+        @Nullable
+        Object[] nextRow() throws DBException;
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Row count and hash of a key range
+     */
+    record RangeHash(long rowCount, @Nullable String hash) {
+    }
+
+    /**
+     * Returns function used by {@link #hashRange} or null if range hashes are not supported
+     */
+    @Nullable
+    CompareDataHashFunction getHashFunction();
+
+    /**
+     * Returns key of the row which is {@code rowCount} rows after {@code lowerKey}
+     * or null if there are less rows.
+     */
+    @Nullable
+    Object[] findRangeEnd(@Nullable Object[] lowerKey, int rowCount) throws DBException;
+
+    @NotNull
+    RangeHash hashRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) throws DBException;
+
+    @NotNull
+    RowCursor readRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) throws DBException;
+
+    @Override
+    void close();
+}
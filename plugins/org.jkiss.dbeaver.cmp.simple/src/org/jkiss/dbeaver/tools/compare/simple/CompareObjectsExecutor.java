@@ -17,6 +17,9 @@
 package org.jkiss.dbeaver.tools.compare.simple;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
@@ -27,9 +30,11 @@ import org.jkiss.dbeaver.model.navigator.DBNDatabaseFolder;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressListener;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.SubTaskProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.runtime.properties.*;
@@ -40,79 +45,93 @@ public class CompareObjectsExecutor {
 
     private static final Log log = Log.getLog(CompareObjectsExecutor.class);
 
-    private final Object PROPS_LOCK = new Object();
+    // Maximum number of subtrees (containers or tables) compared at the same time
+    private static final int MAX_PARALLEL_SUBTREES = 4;
 
     private CompareObjectsSettings settings;
 
     private final List<DBNDatabaseNode> rootNodes;
     private final Map<DBPDataSource, DataSourcePropertyFilter> dataSourceFilters = new IdentityHashMap<>();
 
-    private final DBRProgressListener initializeFinisher;
     private final ILazyPropertyLoadListener lazyPropertyLoadListener;
 
-    private volatile int initializedCount = 0;
     private volatile IStatus initializeError;
     private final Map<Object, Map<DBPPropertyDescriptor, Object>> propertyValues = new IdentityHashMap<>();
 
-    private final List<CompareReportLine> reportLines = new ArrayList<>();
-    private int reportDepth = 0;
-    private CompareReportLine lastLine;
+    /**
+     * Report lines of one compared subtree.
+     * Subtrees compared in parallel get their own context, their lines are merged in tree order.
+     */
+    private class CompareContext {
+        private final List<CompareReportLine> reportLines = new ArrayList<>();
+        private final boolean forkSubtrees;
+        private int reportDepth;
+        private CompareReportLine lastLine;
+
+        CompareContext(int reportDepth, boolean forkSubtrees)
+        {
+            this.reportDepth = reportDepth;
+            this.forkSubtrees = forkSubtrees;
+        }
 
-    private void reportObjectsCompareBegin(List<DBNDatabaseNode> objects)
-    {
-        reportDepth++;
-        lastLine = new CompareReportLine();
-        lastLine.depth = reportDepth;
-        lastLine.structure = objects.get(0);
-        lastLine.nodes = new DBNDatabaseNode[rootNodes.size()];
-        for (int i = 0; i < rootNodes.size(); i++) {
-            for (DBNDatabaseNode node : objects) {
-                if (node == rootNodes.get(i) || node.isChildOf(rootNodes.get(i))) {
-                    lastLine.nodes[i] = node;
-                    break;
+        private void reportObjectsCompareBegin(List<DBNDatabaseNode> objects)
+        {
+            reportDepth++;
+            lastLine = new CompareReportLine();
+            lastLine.depth = reportDepth;
+            lastLine.structure = objects.get(0);
+            lastLine.nodes = new DBNDatabaseNode[rootNodes.size()];
+            for (int i = 0; i < rootNodes.size(); i++) {
+                for (DBNDatabaseNode node : objects) {
+                    if (node == rootNodes.get(i) || node.isChildOf(rootNodes.get(i))) {
+                        lastLine.nodes[i] = node;
+                        break;
+                    }
                 }
             }
-        }
-        for (DBNDatabaseNode node : lastLine.nodes) {
-            if (node == null) {
-                lastLine.hasDifference = true;
-                break;
+            for (DBNDatabaseNode node : lastLine.nodes) {
+                if (node == null) {
+                    lastLine.hasDifference = true;
+                    break;
+                }
             }
+            reportLines.add(lastLine);
         }
-        reportLines.add(lastLine);
-    }
 
-    private void reportPropertyCompare(ObjectPropertyDescriptor property)
-    {
-        CompareReportProperty reportProperty = new CompareReportProperty(property);
-        reportProperty.values = new Object[rootNodes.size()];
-        for (int i = 0; i < lastLine.nodes.length; i++) {
-            DBNDatabaseNode node = lastLine.nodes[i];
-            if (node == null) {
-                continue;
+        private void reportPropertyCompare(ObjectPropertyDescriptor property)
+        {
+            CompareReportProperty reportProperty = new CompareReportProperty(property);
+            reportProperty.values = new Object[rootNodes.size()];
+            for (int i = 0; i < lastLine.nodes.length; i++) {
+                DBNDatabaseNode node = lastLine.nodes[i];
+                if (node == null) {
+                    continue;
+                }
+                synchronized (propertyValues) {
+                    Map<DBPPropertyDescriptor, Object> valueMap = propertyValues.get(node.getObject());
+                    if (valueMap != null) {
+                        reportProperty.values[i] = valueMap.get(property);
+                    }
+                }
             }
-            Map<DBPPropertyDescriptor, Object> valueMap = propertyValues.get(node.getObject());
-            if (valueMap != null) {
-                reportProperty.values[i] = valueMap.get(property);
+            if (lastLine.properties == null) {
+                lastLine.properties = new ArrayList<>();
             }
-        }
-        if (lastLine.properties == null) {
-            lastLine.properties = new ArrayList<>();
-        }
-        lastLine.properties.add(reportProperty);
+            lastLine.properties.add(reportProperty);
 
-        Object firstValue = reportProperty.values[0];
-        for (int i = 1; i < rootNodes.size(); i++) {
-            if (!CompareUtils.equalPropertyValues(reportProperty.values[i], firstValue)) {
-                lastLine.hasDifference = true;
-                break;
+            Object firstValue = reportProperty.values[0];
+            for (int i = 1; i < rootNodes.size(); i++) {
+                if (!CompareUtils.equalPropertyValues(reportProperty.values[i], firstValue)) {
+                    lastLine.hasDifference = true;
+                    break;
+                }
             }
         }
-    }
 
-    private void reportObjectsCompareEnd()
-    {
-        reportDepth--;
+        private void reportObjectsCompareEnd()
+        {
+            reportDepth--;
+        }
     }
 
     public CompareObjectsExecutor(CompareObjectsSettings settings)
@@ -120,17 +139,6 @@ public class CompareObjectsExecutor {
         this.settings = settings;
         this.rootNodes = settings.getNodes();
 
-        initializeFinisher = new DBRProgressListener() {
-            @Override
-            public void onTaskFinished(IStatus status)
-            {
-                if (!status.isOK()) {
-                    initializeError = status;
-                } else {
-                    initializedCount++;
-                }
-            }
-        };
         lazyPropertyLoadListener = new ILazyPropertyLoadListener() {
             @Override
             public void handlePropertyLoad(Object object, DBPPropertyDescriptor property, Object propertyValue, boolean completed)
@@ -159,54 +167,50 @@ public class CompareObjectsExecutor {
     public CompareReport compareObjects(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
         throws DBException, InterruptedException
     {
-        reportLines.clear();
-        lastLine = null;
-
-        compareNodes(monitor, nodes);
-        return new CompareReport(rootNodes, reportLines);
+        initializeError = null;
+        CompareContext context = new CompareContext(0, true);
+        compareNodes(monitor, context, nodes);
+        return new CompareReport(rootNodes, context.reportLines);
     }
 
-    private void compareNodes(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
+    private void compareNodes(DBRProgressMonitor monitor, CompareContext context, List<DBNDatabaseNode> nodes)
         throws DBException, InterruptedException
     {
-        reportObjectsCompareBegin(nodes);
+        context.reportObjectsCompareBegin(nodes);
 
         try {
             if (nodes.size() > 1) {
                 // Go deeper only if we have more than one node
                 if (!(nodes.get(0) instanceof DBNDatabaseFolder)) {
-                    compareProperties(monitor, nodes);
+                    compareProperties(monitor, context, nodes);
                 }
 
-                compareChildren(monitor, nodes);
+                compareChildren(monitor, context, nodes);
             }
         } finally {
-            reportObjectsCompareEnd();
+            context.reportObjectsCompareEnd();
         }
     }
 
-    private void compareProperties(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
+    private void compareProperties(DBRProgressMonitor monitor, CompareContext context, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
     {
         boolean onlyStruct = settings.isCompareOnlyStructure();
 
-        // Clear compare singletons
-        this.initializedCount = 0;
-        this.initializeError = null;
-        this.propertyValues.clear();
-
         StringBuilder title = new StringBuilder();
         // Initialize nodes
         {
             monitor.subTask("Initialize nodes");
+            NodeInitializer initializer = new NodeInitializer();
             for (DBNDatabaseNode node : nodes) {
                 if (title.length() > 0) title.append(", ");
                 title.append(node.getNodeFullName());
-                node.initializeNode(null, initializeFinisher);
+                node.initializeNode(null, initializer);
                 monitor.worked(1);
             }
-            while (initializedCount != nodes.size()) {
-                if (initializeError != null) {
-                    throw new DBException(initializeError.getMessage());
+            while (initializer.initializedCount != nodes.size()) {
+                if (initializer.error != null) {
+                    initializeError = initializer.error;
+                    throw new DBException(initializer.error.getMessage());
                 }
                 Thread.sleep(50);
                 if (monitor.isCanceled()) {
@@ -237,58 +241,66 @@ public class CompareObjectsExecutor {
             return;
         }
 
-        // Load all properties
-        for (DBNDatabaseNode node : nodes) {
-            if (monitor.isCanceled()) {
-                throw new InterruptedException();
-            }
-            DBSObject databaseObject = node.getObject();
-            Map<DBPPropertyDescriptor, Object> nodeProperties = propertyValues.get(databaseObject);
-            if (nodeProperties == null) {
-                nodeProperties = new IdentityHashMap<>();
-                propertyValues.put(databaseObject, nodeProperties);
-            }
-            PropertyCollector propertySource = new PropertyCollector(databaseObject, compareLazyProperties || compareScripts);
-            for (ObjectPropertyDescriptor prop : properties) {
-                boolean isScriptProperty = prop.getId().equals(DBConstants.PARAM_OBJECT_DEFINITION_TEXT) || prop.getId().equals(DBConstants.PARAM_EXTENDED_DEFINITION_TEXT);
-                if (prop.isLazy()) {
-                    if (!compareLazyProperties) {
-                        if (compareScripts) {
-                            // Only DBPScriptObject methods
-                            if (!isScriptProperty) {
+        try {
+            // Load all properties
+            for (DBNDatabaseNode node : nodes) {
+                if (monitor.isCanceled()) {
+                    throw new InterruptedException();
+                }
+                DBSObject databaseObject = node.getObject();
+                Map<DBPPropertyDescriptor, Object> nodeProperties;
+                synchronized (propertyValues) {
+                    nodeProperties = propertyValues.computeIfAbsent(databaseObject, k -> new IdentityHashMap<>());
+                }
+                PropertyCollector propertySource = new PropertyCollector(databaseObject, compareLazyProperties || compareScripts);
+                for (ObjectPropertyDescriptor prop : properties) {
+                    boolean isScriptProperty = prop.getId().equals(DBConstants.PARAM_OBJECT_DEFINITION_TEXT) || prop.getId().equals(DBConstants.PARAM_EXTENDED_DEFINITION_TEXT);
+                    if (prop.isLazy()) {
+                        if (!compareLazyProperties) {
+                            if (compareScripts) {
+                                // Only DBPScriptObject methods
+                                if (!isScriptProperty) {
+                                    continue;
+                                }
+                            } else {
                                 continue;
                             }
-                        } else {
+                        }
+                    } else {
+                        if (prop.isHidden()) {
                             continue;
                         }
                     }
-                } else {
-                    if (prop.isHidden()) {
+                    if (onlyStruct && !isScriptProperty) {
                         continue;
                     }
-                }
-                if (onlyStruct && !isScriptProperty) {
-                    continue;
-                }
-                Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop, true);
-                synchronized (PROPS_LOCK) {
+                    Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop, true);
                     if (propertyValue instanceof DBPNamedObject) {
                         // Compare just object names
                         propertyValue = ((DBPNamedObject) propertyValue).getName();
                     }
-                    nodeProperties.put(prop, propertyValue);
+                    synchronized (propertyValues) {
+                        nodeProperties.put(prop, propertyValue);
+                    }
                 }
+                monitor.worked(1);
             }
-            monitor.worked(1);
-        }
 
-        // Compare properties
-        for (ObjectPropertyDescriptor prop : properties) {
-            reportPropertyCompare(prop);
+            // Compare properties
+            for (ObjectPropertyDescriptor prop : properties) {
+                context.reportPropertyCompare(prop);
+            }
+        } finally {
+            // Values are copied into the report, other subtrees may still be loading theirs
+            synchronized (propertyValues) {
+                for (DBNDatabaseNode node : nodes) {
+                    propertyValues.remove(node.getObject());
+                }
+            }
         }
     }
 
-    private void compareChildren(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
+    private void compareChildren(DBRProgressMonitor monitor, CompareContext context, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
     {
         // Compare children
         int nodeCount = nodes.size();
@@ -327,6 +339,7 @@ public class CompareObjectsExecutor {
             }
         }
 
+        List<List<DBNDatabaseNode>> childGroups = new ArrayList<>(allChildNames.size());
         for (String childName : allChildNames) {
             int[] childIndexes = new int[nodeCount];
             for (int i = 0; i < nodeCount; i++) {
@@ -359,13 +372,85 @@ public class CompareObjectsExecutor {
                     }
                 }
             }
-            // Compare children recursively
-            compareNodes(monitor, nodesToCompare);
+            childGroups.add(nodesToCompare);
+        }
+
+        // Compare children recursively
+        if (context.forkSubtrees && childGroups.stream().filter(CompareObjectsExecutor::isSubtreeRoot).count() > 1) {
+            compareSubtrees(monitor, context, childGroups);
+        } else {
+            for (List<DBNDatabaseNode> nodesToCompare : childGroups) {
+                compareNodes(monitor, context, nodesToCompare);
+            }
+        }
+    }
+
+    /**
+     * Compares child containers and tables in separate jobs, at most {@link #MAX_PARALLEL_SUBTREES} at once.
+     * Each subtree is walked sequentially by its job, smaller children are compared by the caller meanwhile.
+     * Report lines are merged in the original tree order.
+     */
+    private void compareSubtrees(DBRProgressMonitor monitor, CompareContext context, List<List<DBNDatabaseNode>> childGroups)
+        throws DBException, InterruptedException
+    {
+        monitor.subTask("Compare " + childGroups.size() + " child objects");
+        List<CompareContext> childContexts = new ArrayList<>(childGroups.size());
+        List<SubtreeCompareJob> jobs = new ArrayList<>();
+        for (List<DBNDatabaseNode> nodesToCompare : childGroups) {
+            CompareContext childContext = new CompareContext(context.reportDepth, false);
+            childContexts.add(childContext);
+            if (isSubtreeRoot(nodesToCompare)) {
+                jobs.add(new SubtreeCompareJob(childContext, nodesToCompare));
+            }
+        }
+        JobGroup jobGroup = new JobGroup("Compare objects", MAX_PARALLEL_SUBTREES, jobs.size());
+        try {
+            for (SubtreeCompareJob job : jobs) {
+                job.setJobGroup(jobGroup);
+                job.schedule();
+            }
+            for (int i = 0; i < childGroups.size(); i++) {
+                if (!isSubtreeRoot(childGroups.get(i))) {
+                    compareNodes(monitor, childContexts.get(i), childGroups.get(i));
+                }
+            }
+            jobGroup.join(0, monitor.getNestedMonitor());
+        } catch (OperationCanceledException e) {
+            jobGroup.cancel();
+            throw new InterruptedException();
+        } catch (Throwable e) {
+            jobGroup.cancel();
+            throw e;
+        }
+        if (monitor.isCanceled()) {
+            throw new InterruptedException();
+        }
+        for (SubtreeCompareJob job : jobs) {
+            if (job.error instanceof DBException dbe) {
+                throw dbe;
+            } else if (job.error instanceof InterruptedException ie) {
+                throw ie;
+            } else if (job.error != null) {
+                throw new DBException("Error comparing " + job.nodes.get(0).getNodeFullName(), job.error);
+            }
+        }
+        for (CompareContext childContext : childContexts) {
+            context.reportLines.addAll(childContext.reportLines);
         }
     }
 
+    private static boolean isSubtreeRoot(List<DBNDatabaseNode> nodes)
+    {
+        if (nodes.size() < 2) {
+            // Nothing to read
+            return false;
+        }
+        DBNDatabaseNode node = nodes.get(0);
+        return !(node instanceof DBNDatabaseFolder) &&
+            (node.getObject() instanceof DBSObjectContainer || node.getObject() instanceof DBSEntity);
+    }
 
-    private DataSourcePropertyFilter getDataSourceFilter(DBNDatabaseNode node)
+    private synchronized DataSourcePropertyFilter getDataSourceFilter(DBNDatabaseNode node)
     {
         DBPDataSource dataSource = node.getDataSourceContainer().getDataSource();
         if (dataSource == null) {
@@ -379,4 +464,45 @@ public class CompareObjectsExecutor {
         return filter;
     }
 
-}
\ No newline at end of file
+    private static class NodeInitializer implements DBRProgressListener {
+        private volatile int initializedCount;
+        private volatile IStatus error;
+
+        @Override
+        public synchronized void onTaskFinished(IStatus status)
+        {
+            if (!status.isOK()) {
+                error = status;
+            } else {
+                initializedCount++;
+            }
+        }
+    }
+
+    private class SubtreeCompareJob extends AbstractJob {
+        private final CompareContext context;
+        private final List<DBNDatabaseNode> nodes;
+        private volatile Throwable error;
+
+        SubtreeCompareJob(CompareContext context, List<DBNDatabaseNode> nodes)
+        {
+            super("Compare " + nodes.get(0).getNodeFullName());
+            setSystem(true);
+            setUser(false);
+            this.context = context;
+            this.nodes = nodes;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            try {
+                compareNodes(monitor, context, nodes);
+            } catch (Throwable e) {
+                error = e;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -29,6 +29,10 @@ public class GeometryViewerConstants {
 
     public static final int DEFAULT_MAX_OBJECTS_RENDER = 10000;
 
+    // Above this number of objects only features within the viewport are sent to the browser
+    public static final int DEFAULT_VIEWPORT_LOAD_THRESHOLD = 1000;
+    public static final int MAX_VIEWPORT_FEATURES = 5000;
+
     // https://leafletjs.com/reference.html#tilelayer-minzoom
     public static final int DEFAULT_MIN_ZOOM_LEVEL = 0;
     public static final int DEFAULT_MAX_ZOOM_LEVEL = 18;
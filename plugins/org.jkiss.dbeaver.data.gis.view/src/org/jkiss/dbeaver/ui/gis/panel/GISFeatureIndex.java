@@ -0,0 +1,239 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.gis.panel;
+
+import com.google.gson.Gson;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.gis.GisTransformUtils;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+import java.util.*;
+
+/**
+ * Spatial index over prepared (already transformed) viewer features.
+ * Allows to ship only features visible in the current viewport, simplified for the current zoom.
+ */
+public class GISFeatureIndex {
+
+    private static final Log log = Log.getLog(GISFeatureIndex.class);
+
+    private static final Gson gson = new Gson();
+
+    public static class Feature {
+        @NotNull
+        private final Object value;
+        @Nullable
+        private final Geometry geometry;
+        @NotNull
+        private final String tip;
+
+        Feature(@NotNull Object value, @NotNull String tip) {
+            this.value = value;
+            this.geometry = GisTransformUtils.getJtsGeometry(value);
+            this.tip = tip;
+        }
+
+        @NotNull
+        public String getTip() {
+            return tip;
+        }
+
+        @NotNull
+        String getText(double tolerance) {
+            if (geometry == null || tolerance <= 0 || geometry.getNumPoints() < 4) {
+                return value.toString();
+            }
+            try {
+                final Geometry simplified = geometry instanceof Polygonal
+                    ? TopologyPreservingSimplifier.simplify(geometry, tolerance)
+                    : DouglasPeuckerSimplifier.simplify(geometry, tolerance);
+                if (simplified.isEmpty()) {
+                    // Too small to be visible. Keep the original so the feature doesn't disappear
+                    return value.toString();
+                }
+                return simplified.toText();
+            } catch (Exception e) {
+                log.debug("Error simplifying geometry", e);
+                return value.toString();
+            }
+        }
+    }
+
+    private final List<Feature> features = new ArrayList<>();
+    // Features which can't be indexed (e.g. not convertible to JTS). They are always visible.
+    private final List<Feature> unindexed = new ArrayList<>();
+    private final STRtree tree = new STRtree();
+    private final Envelope extent = new Envelope();
+    // Coordinates are longitudes/latitudes, so the viewport may cross the antimeridian
+    private boolean wrapLongitude;
+
+    public void addFeature(@NotNull Object value, @NotNull String tip) {
+        final Feature feature = new Feature(value, tip);
+        features.add(feature);
+        if (feature.geometry == null || feature.geometry.isEmpty()) {
+            unindexed.add(feature);
+        } else {
+            final Envelope envelope = feature.geometry.getEnvelopeInternal();
+            tree.insert(envelope, feature);
+            extent.expandToInclude(envelope);
+        }
+    }
+
+    public void setWrapLongitude(boolean wrapLongitude) {
+        this.wrapLongitude = wrapLongitude;
+    }
+
+    public int size() {
+        return features.size();
+    }
+
+    @NotNull
+    List<Feature> getFeatures() {
+        return features;
+    }
+
+    @NotNull
+    Envelope getExtent() {
+        return extent;
+    }
+
+    /**
+     * Returns features intersecting the viewport, at most {@code maxFeatures}.
+     * If there are more, features which can't be indexed go first, then the largest ones,
+     * then the ones closest to the viewport centre.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public List<Feature> query(@NotNull Envelope viewport, int maxFeatures) {
+        final Set<Feature> found = new LinkedHashSet<>();
+        for (Envelope part : splitViewport(viewport, wrapLongitude)) {
+            found.addAll((List<Feature>) tree.query(part));
+        }
+        final List<Feature> candidates = new ArrayList<>(found);
+        if (unindexed.size() + candidates.size() > maxFeatures) {
+            final Coordinate center = getCenter(viewport);
+            candidates.sort(Comparator
+                .comparingDouble((Feature feature) -> -feature.geometry.getEnvelopeInternal().getArea())
+                .thenComparingDouble(feature -> getDistance(feature.geometry.getEnvelopeInternal().centre(), center)));
+        }
+        final List<Feature> result = new ArrayList<>(Math.min(maxFeatures, unindexed.size() + candidates.size()));
+        for (Feature feature : unindexed) {
+            if (result.size() >= maxFeatures) {
+                return result;
+            }
+            result.add(feature);
+        }
+        for (Feature feature : candidates) {
+            if (result.size() >= maxFeatures) {
+                break;
+            }
+            result.add(feature);
+        }
+        return result;
+    }
+
+    /**
+     * Splits a viewport crossing the antimeridian (180 degrees longitude) into two parts,
+     * one on each side of it. Leaflet doesn't wrap bounds, so their longitudes may be outside of [-180, 180].
+     */
+    @NotNull
+    public static List<Envelope> splitViewport(@NotNull Envelope viewport, boolean wrapLongitude) {
+        if (!wrapLongitude || viewport.isNull()) {
+            return List.of(viewport);
+        }
+        if (viewport.getWidth() >= 360) {
+            return List.of(new Envelope(-180, 180, viewport.getMinY(), viewport.getMaxY()));
+        }
+        final double shift = getLongitudeShift(viewport.getMinX());
+        final double minX = viewport.getMinX() - shift;
+        final double maxX = viewport.getMaxX() - shift;
+        if (maxX <= 180) {
+            return List.of(new Envelope(minX, maxX, viewport.getMinY(), viewport.getMaxY()));
+        }
+        return List.of(
+            new Envelope(minX, 180, viewport.getMinY(), viewport.getMaxY()),
+            new Envelope(-180, maxX - 360, viewport.getMinY(), viewport.getMaxY()));
+    }
+
+    @Nullable
+    private Coordinate getCenter(@NotNull Envelope viewport) {
+        final Coordinate center = viewport.centre();
+        if (wrapLongitude && center != null) {
+            center.x -= getLongitudeShift(center.x);
+        }
+        return center;
+    }
+
+    private double getDistance(@NotNull Coordinate point, @Nullable Coordinate center) {
+        if (center == null) {
+            return 0;
+        }
+        double dx = Math.abs(point.x - center.x);
+        if (wrapLongitude && dx > 180) {
+            dx = 360 - dx;
+        }
+        return Math.hypot(dx, point.y - center.y);
+    }
+
+    /**
+     * Multiple of 360 which moves the longitude into [-180, 180)
+     */
+    private static double getLongitudeShift(double longitude) {
+        return Math.floor((longitude + 180) / 360) * 360;
+    }
+
+    /**
+     * Serializes features for the viewport into a JSON object with {@code values} (WKT) and {@code tips} arrays.
+     *
+     * @param viewport     visible area in map coordinates
+     * @param widthPixels  width of the map in pixels. Used to compute simplification tolerance
+     * @param maxFeatures  maximum number of features to ship
+     */
+    @NotNull
+    String toViewportJson(@NotNull Envelope viewport, int widthPixels, int maxFeatures) {
+        final double tolerance = getTolerance(viewport, widthPixels);
+        final StringBuilder values = new StringBuilder();
+        final StringBuilder tips = new StringBuilder();
+        for (Feature feature : query(viewport, maxFeatures)) {
+            if (values.length() > 0) {
+                values.append(',');
+                tips.append(',');
+            }
+            values.append(gson.toJson(feature.getText(tolerance)));
+            tips.append(feature.getTip());
+        }
+        return "{\"values\":[" + values + "],\"tips\":[" + tips + "]}";
+    }
+
+    /**
+     * Tolerance equal to a single pixel: anything smaller isn't visible anyway
+     */
+    static double getTolerance(@NotNull Envelope viewport, int widthPixels) {
+        if (widthPixels <= 0 || viewport.isNull()) {
+            return 0;
+        }
+        return viewport.getWidth() / widthPixels;
+    }
+}
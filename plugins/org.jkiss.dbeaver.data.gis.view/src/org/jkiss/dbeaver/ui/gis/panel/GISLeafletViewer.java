@@ -75,6 +75,7 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.IOUtils;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
 import java.io.*;
@@ -104,6 +105,8 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
 
     private Browser browser;
     private DBGeometry[] lastValue;
+    private GISFeatureIndex featureIndex;
+    private boolean featureIndexShowMap;
     private int sourceSRID = UNDEFINED_SRID; // Explicitly set SRID
     private int actualSourceSRID; // SRID taken from geometry value
     private Path scriptFile;
@@ -168,6 +171,25 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
                 };
             }
 
+            new BrowserFunction(browser, "loadViewportFeatures") {
+                @Override
+                public Object function(Object[] arguments) {
+                    if (featureIndex == null) {
+                        return null;
+                    }
+                    final Bounds bounds = new Bounds(
+                        CommonUtils.toDouble(arguments[0]),
+                        CommonUtils.toDouble(arguments[1]),
+                        CommonUtils.toDouble(arguments[2]),
+                        CommonUtils.toDouble(arguments[3])
+                    );
+                    return featureIndex.toViewportJson(
+                        bounds.toEnvelope(),
+                        CommonUtils.toInt(arguments[4]),
+                        GeometryViewerConstants.MAX_VIEWPORT_FEATURES);
+                }
+            };
+
             browser.addDisposeListener(e -> {
                 cleanupFiles();
                 GISViewerActivator.getDefault().getPreferences().removePropertyChangeListener(this);
@@ -334,8 +356,88 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             }
         }
 
-        List<String> geomValues = new ArrayList<>();
-        List<String> geomTipValues = new ArrayList<>();
+        featureIndex = buildFeatureIndex(values, attributeSrid);
+
+        final boolean lazyLoad = featureIndex.size() > GeometryViewerConstants.DEFAULT_VIEWPORT_LOAD_THRESHOLD;
+        final Bounds viewBounds;
+        final List<GISFeatureIndex.Feature> features;
+        if (lazyLoad) {
+            // Too many features. Render features within the initial viewport only, the rest is loaded on demand
+            viewBounds = bounds != null ? bounds : Bounds.fromEnvelope(featureIndex.getExtent());
+            features = featureIndex.query(viewBounds.toEnvelope(), GeometryViewerConstants.MAX_VIEWPORT_FEATURES);
+        } else {
+            viewBounds = bounds;
+            features = featureIndex.getFeatures();
+        }
+        final double tolerance = lazyLoad && viewBounds != null && browser != null
+            ? GISFeatureIndex.getTolerance(viewBounds.toEnvelope(), browser.getSize().x)
+            : 0;
+        List<String> geomValues = new ArrayList<>(features.size());
+        List<String> geomTipValues = new ArrayList<>(features.size());
+        for (GISFeatureIndex.Feature feature : features) {
+            geomValues.add("'" + feature.getText(tolerance) + "'");
+            geomTipValues.add(feature.getTip());
+        }
+        this.defaultSRID = actualSourceSRID;
+        String geomValuesString = String.join(",", geomValues);
+        String geomTipValuesString = String.join(",", geomTipValues);
+        String geomCRS = actualSourceSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
+        boolean isShowMap = featureIndexShowMap;
+
+        InputStream fis = GISViewerActivator.getDefault().getResourceStream(GISBrowserViewerConstants.VIEW_TEMPLATE_PATH);
+        if (fis == null) {
+            throw new IOException("View template file not found (" + GISBrowserViewerConstants.VIEW_TEMPLATE_PATH + ")");
+        }
+        try (InputStreamReader isr = new InputStreamReader(fis)) {
+            String viewTemplate = IOUtils.readToString(isr);
+            viewTemplate = GeneralUtils.replaceVariables(viewTemplate, name -> {
+                switch (name) {
+                    case "geomValues":
+                        return geomValuesString;
+                    case "geomTipValues":
+                        return geomTipValuesString;
+                    case "geomSRID":
+                        return String.valueOf(defaultSRID);
+                    case "showMap":
+                        return String.valueOf(isShowMap);
+                    case "showTools":
+                        return String.valueOf(toolsVisible);
+                    case "showLabels":
+                        return String.valueOf(showLabels);
+                    case "geomCRS":
+                        return geomCRS;
+                    case "geomBounds":
+                        return CommonUtils.toString(viewBounds, "undefined");
+                    case "lazyLoad":
+                        return String.valueOf(lazyLoad);
+                    case "minZoomLevel":
+                        return String.valueOf(GISViewerActivator.getDefault().getPreferences().getInt(GeometryViewerConstants.PREF_MIN_ZOOM_LEVEL));
+                    case "defaultTiles":
+                        LeafletTilesDescriptor descriptor = GeometryViewerRegistry.getInstance().getDefaultLeafletTiles();
+                        if (descriptor == null) {
+                            return null;
+                        }
+                        return GeometryViewerRegistry.getInstance().getDefaultLeafletTiles().getLayersDefinition();
+                }
+                return null;
+            });
+            try (OutputStream fos = Files.newOutputStream(scriptFile)) {
+                fos.write(viewTemplate.getBytes(GeneralUtils.UTF8_CHARSET));
+            }
+        } finally {
+            ContentUtils.close(fis);
+        }
+
+        return scriptFile;
+    }
+
+    /**
+     * Transforms all values into the map CRS once and indexes them,
+     * so panning and zooming doesn't require to transform them again.
+     */
+    @NotNull
+    private GISFeatureIndex buildFeatureIndex(@NotNull DBGeometry[] values, int attributeSrid) {
+        GISFeatureIndex index = new GISFeatureIndex();
         boolean showMap = false;
         for (int i = 0; i < values.length; i++) {
             DBGeometry value = values[i];
@@ -397,66 +499,19 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             if (targetValue == null) {
                 continue;
             }
-            geomValues.add("'" + targetValue + "'");
+            String tip = "null";
             try {
-                if (CommonUtils.isEmpty(value.getProperties())) {
-                    geomTipValues.add("null");
-                } else {
-                    geomTipValues.add(gson.toJson(value.getProperties()));
+                if (!CommonUtils.isEmpty(value.getProperties())) {
+                    tip = gson.toJson(value.getProperties());
                 }
             } catch (Exception e) {
                 log.debug(e);
             }
+            index.addFeature(targetValue, tip);
         }
-        this.defaultSRID = actualSourceSRID;
-        String geomValuesString = String.join(",", geomValues);
-        String geomTipValuesString = String.join(",", geomTipValues);
-        String geomCRS = actualSourceSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
-        boolean isShowMap = showMap;
-
-        InputStream fis = GISViewerActivator.getDefault().getResourceStream(GISBrowserViewerConstants.VIEW_TEMPLATE_PATH);
-        if (fis == null) {
-            throw new IOException("View template file not found (" + GISBrowserViewerConstants.VIEW_TEMPLATE_PATH + ")");
-        }
-        try (InputStreamReader isr = new InputStreamReader(fis)) {
-            String viewTemplate = IOUtils.readToString(isr);
-            viewTemplate = GeneralUtils.replaceVariables(viewTemplate, name -> {
-                switch (name) {
-                    case "geomValues":
-                        return geomValuesString;
-                    case "geomTipValues":
-                        return geomTipValuesString;
-                    case "geomSRID":
-                        return String.valueOf(defaultSRID);
-                    case "showMap":
-                        return String.valueOf(isShowMap);
-                    case "showTools":
-                        return String.valueOf(toolsVisible);
-                    case "showLabels":
-                        return String.valueOf(showLabels);
-                    case "geomCRS":
-                        return geomCRS;
-                    case "geomBounds":
-                        return CommonUtils.toString(bounds, "undefined");
-                    case "minZoomLevel":
-                        return String.valueOf(GISViewerActivator.getDefault().getPreferences().getInt(GeometryViewerConstants.PREF_MIN_ZOOM_LEVEL));
-                    case "defaultTiles":
-                        LeafletTilesDescriptor descriptor = GeometryViewerRegistry.getInstance().getDefaultLeafletTiles();
-                        if (descriptor == null) {
-                            return null;
-                        }
-                        return GeometryViewerRegistry.getInstance().getDefaultLeafletTiles().getLayersDefinition();
-                }
-                return null;
-            });
-            try (OutputStream fos = Files.newOutputStream(scriptFile)) {
-                fos.write(viewTemplate.getBytes(GeneralUtils.UTF8_CHARSET));
-            }
-        } finally {
-            ContentUtils.close(fis);
-        }
-
-        return scriptFile;
+        featureIndexShowMap = showMap;
+        index.setWrapLongitude(showMap);
+        return index;
     }
 
     private void checkIncludesExistence(Path scriptDir) throws IOException {
@@ -745,6 +800,16 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             }
         }
 
+        @NotNull
+        public static Bounds fromEnvelope(@NotNull Envelope envelope) {
+            return new Bounds(envelope.getMaxY(), envelope.getMaxX(), envelope.getMinY(), envelope.getMinX());
+        }
+
+        @NotNull
+        public Envelope toEnvelope() {
+            return new Envelope(west, east, south, north);
+        }
+
         @Override
         public String toString() {
             return String.format("L.latLngBounds(L.latLng(%f, %f), L.latLng(%f, %f))", north, east, south, west);
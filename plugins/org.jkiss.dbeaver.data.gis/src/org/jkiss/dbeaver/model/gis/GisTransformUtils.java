@@ -48,7 +48,9 @@ import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -78,6 +80,10 @@ public class GisTransformUtils {
 
     private static List<Integer> crsCodes;
 
+    // CRS lookup and operation resolution are expensive, so both are cached by SRID (pair)
+    private static final Map<Integer, CoordinateReferenceSystem> crsCache = new HashMap<>();
+    private static final Map<Long, CoordinateOperation> operationCache = new HashMap<>();
+
     public static CRSFactory getCRSFactory() {
         return crsFactory;
     }
@@ -98,14 +104,51 @@ public class GisTransformUtils {
         return crsCodes;
     }
 
+    @NotNull
+    public static synchronized CoordinateReferenceSystem getCRS(int srid) throws CRSException {
+        CoordinateReferenceSystem crs = crsCache.get(srid);
+        if (crs == null) {
+            crs = crsFactory.getCRS("EPSG:" + srid);
+            crsCache.put(srid, crs);
+        }
+        return crs;
+    }
+
+    /**
+     * Returns the most precise operation between two SRIDs or null if there is no such operation.
+     * Resolved operations are cached per SRID pair.
+     */
+    @Nullable
+    private static synchronized CoordinateOperation getCoordinateOperation(
+        int sourceSRID,
+        @NotNull CoordinateReferenceSystem crs1,
+        int targetSRID,
+        @NotNull CoordinateReferenceSystem crs2
+    ) throws CoordinateOperationException {
+        final long key = ((long) sourceSRID << 32) | (targetSRID & 0xFFFFFFFFL);
+        if (operationCache.containsKey(key)) {
+            return operationCache.get(key);
+        }
+        CoordinateOperation op = null;
+        if (crs1 instanceof GeodeticCRS && crs2 instanceof GeodeticCRS) {
+            Set<CoordinateOperation> coordOps = CoordinateOperationFactory.createCoordinateOperations((GeodeticCRS) crs1, (GeodeticCRS) crs2);
+            if (!coordOps.isEmpty()) {
+                op = CoordinateOperationFactory.getMostPrecise(coordOps);
+            }
+        }
+        operationCache.put(key, op);
+        return op;
+    }
+
     public static void transformGisData(GisTransformRequest request) throws DBException {
         try {
             //srcSRID = 3857;
-            CoordinateReferenceSystem crs1 = crsFactory.getCRS("EPSG:" + request.getSourceSRID());
-            CoordinateReferenceSystem crs2 = crsFactory.getCRS("EPSG:" + request.getTargetSRID());
+            CoordinateReferenceSystem crs1 = getCRS(request.getSourceSRID());
+            CoordinateReferenceSystem crs2 = getCRS(request.getTargetSRID());
 
             try {
-                Geometry targetValue = transformGisData(request.getSourceValue(), crs1, crs2);
+                CoordinateOperation op = getCoordinateOperation(request.getSourceSRID(), crs1, request.getTargetSRID(), crs2);
+                Geometry targetValue = op == null ? request.getSourceValue() : transformGeometry(request.getSourceValue(), op);
                 targetValue.setSRID(request.getTargetSRID());
                 request.setTargetValue(targetValue);
                 request.setShowOnMap(true);
@@ -445,7 +445,7 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
             } else if (row[i] instanceof DBDContent) {
                 DBDContent content = (DBDContent) row[i];
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     if (cs == null) {
                         cell.setCellValue(DBConstants.NULL_VALUE_LABEL);
                     } else if (ContentUtils.isTextContent(content)) {
@@ -48,6 +48,7 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
 
     private boolean ignoreErrors;
     private boolean dumpQueryResultsToLog;
+    private int batchSize;
 
     public List<String> getScriptFiles() {
         return scriptFiles;
@@ -81,6 +82,14 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
         this.dumpQueryResultsToLog = dumpQueryResultsToLog;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     public boolean isAutoCommit() {
         return autoCommit;
     }
@@ -134,6 +143,7 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
 
         ignoreErrors = JSONUtils.getBoolean(config, "ignoreErrors");
         dumpQueryResultsToLog = JSONUtils.getBoolean(config, "dumpQueryResultsToLog");
+        batchSize = JSONUtils.getInteger(config, "batchSize", 0);
 
         autoCommit = JSONUtils.getBoolean(config, "autoCommit");
     }
@@ -151,6 +161,9 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
 
         config.put("ignoreErrors", ignoreErrors);
         config.put("dumpQueryResultsToLog", dumpQueryResultsToLog);
+        if (batchSize > 0) {
+            config.put("batchSize", batchSize);
+        }
 
         config.put("autoCommit", autoCommit);
     }
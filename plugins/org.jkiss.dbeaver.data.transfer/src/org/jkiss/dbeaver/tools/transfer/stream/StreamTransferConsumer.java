@@ -318,7 +318,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     private Path saveContentToFile(DBRProgressMonitor monitor, DBDContent content)
         throws IOException, DBException {
-        DBDContentStorage contents = content.getContents(monitor);
+        DBDContentStorage contents = content.getStreamedContents(monitor);
         if (DBUtils.isNullValue(contents)) {
             return null;
         }
@@ -1045,13 +1045,17 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
                         }
                         case HEX: {
                             writer.write("0x"); //$NON-NLS-1$
-                            byte[] buffer = new byte[5000];
-                            for (; ; ) {
-                                int count = stream.read(buffer);
-                                if (count <= 0) {
-                                    break;
+                            byte[] buffer = ContentUtils.acquireByteBuffer();
+                            try {
+                                for (; ; ) {
+                                    int count = stream.read(buffer);
+                                    if (count <= 0) {
+                                        break;
+                                    }
+                                    GeneralUtils.writeBytesAsHex(writer, buffer, 0, count);
                                 }
-                                GeneralUtils.writeBytesAsHex(writer, buffer, 0, count);
+                            } finally {
+                                ContentUtils.releaseBuffer(buffer);
                             }
                             break;
                         }
@@ -198,7 +198,7 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
                 // Inline textual content and handle binaries in some special way
                 DBDContent content = (DBDContent)row[i];
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     if (cs == null) {
                         writeCellValue(DBConstants.NULL_VALUE_LABEL, false);
                     } else if (ContentUtils.isTextContent(content)) {
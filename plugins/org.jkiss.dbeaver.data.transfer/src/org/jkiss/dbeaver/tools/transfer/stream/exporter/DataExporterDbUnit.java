@@ -155,7 +155,7 @@ public class DataExporterDbUnit extends StreamExporterAbstract {
                 // Inline textual content and handle binaries in some special way
                 DBDContent content = (DBDContent) columnValue;
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     if (cs != null) {
                         if (ContentUtils.isTextContent(content)) {
                             try (Reader reader = cs.getContentReader()) {
@@ -129,7 +129,7 @@ public class DataExporterHTML extends StreamExporterAbstract {
                 // Inline textual content and handle binaries in some special way
                 DBDContent content = (DBDContent) row[i];
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     out.write("<td>");
                     if (cs != null) {
                         if (ContentUtils.isTextContent(content)) {
@@ -131,7 +131,7 @@ public class DataExporterMarkdownTable extends StreamExporterAbstract {
                 // Inline textual content and handle binaries in some special way
                 DBDContent content = (DBDContent)row[i];
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     if (cs == null) {
                         writeCellValue(DBConstants.NULL_VALUE_LABEL);
                     } else if (ContentUtils.isTextContent(content)) {
@@ -331,7 +331,7 @@ public class DataExporterSQL extends StreamExporterAbstract implements IAppendab
                     } else {
                         // Content
                         // Inline textual content and handle binaries in some special way
-                        DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                        DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                         if (cs != null) {
                             if (ContentUtils.isTextContent(content)) {
                                 try (Reader contentReader = cs.getContentReader()) {
@@ -136,7 +136,7 @@ public class DataExporterSourceCode extends StreamExporterAbstract implements ID
                 // Inline textual content and handle binaries in some special way
                 DBDContent content = (DBDContent) cellValue;
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     if (cs != null) {
                         if (ContentUtils.isTextContent(content)) {
                             try (Reader in = cs.getContentReader()) {
@@ -88,7 +88,7 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
          * Returns the length of appended content
          */
         public int append(DBDContent content) throws IOException, DBCException {
-            DBDContentStorage cs = content.getContents(monitor);
+            DBDContentStorage cs = content.getStreamedContents(monitor);
             if (cs == null) {
                 return this.append(DBConstants.NULL_VALUE_LABEL);
             } else {
@@ -111,7 +111,7 @@ public class DataExporterXML extends StreamExporterAbstract {
                 // Inline textual content and handle binaries in some special way
                 DBDContent content = (DBDContent)row[i];
                 try {
-                    DBDContentStorage cs = content.getContents(session.getProgressMonitor());
+                    DBDContentStorage cs = content.getStreamedContents(session.getProgressMonitor());
                     if (cs != null) {
                         if (ContentUtils.isTextContent(content)) {
                             try (Reader reader = cs.getContentReader()) {
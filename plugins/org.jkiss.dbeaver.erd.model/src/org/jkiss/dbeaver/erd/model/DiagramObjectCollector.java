@@ -16,6 +16,9 @@
  */
 package org.jkiss.dbeaver.erd.model;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
@@ -24,6 +27,7 @@ import org.jkiss.dbeaver.model.DBPNamedObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.exec.DBExecUtils;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
@@ -39,6 +43,8 @@ public class DiagramObjectCollector {
 
     private static final Log log = Log.getLog(DiagramObjectCollector.class);
 
+    private static final int PARALLEL_PREFETCH_THRESHOLD = 100;
+
     private final ERDDiagram diagram;
     private final List<ERDEntity> erdEntities = new ArrayList<>();
     private boolean showViews;
@@ -147,6 +153,9 @@ public class DiagramObjectCollector {
         throws DBException
     {
         Collection<DBSEntity> tables = collectTables(monitor, roots, settings, showViews);
+        if (tables.size() > PARALLEL_PREFETCH_THRESHOLD) {
+            prefetchMetadata(monitor, tables);
+        }
         for (DBSEntity table : tables) {
             if (DBUtils.isHiddenObject(table)) {
                 // Skip hidden tables
@@ -161,6 +170,65 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Reads attributes and associations of all table containers, so entities and relations are built
+     * from the warmed metadata caches. Tables of one container share its structure cache, so each container
+     * is read once with bulk queries. Different containers are read in parallel jobs.
+     * Errors are ignored here, they will be reported when the same metadata is read again.
+     */
+    private static void prefetchMetadata(DBRProgressMonitor monitor, Collection<DBSEntity> tables)
+    {
+        final Set<DBSObjectContainer> containers = new LinkedHashSet<>();
+        for (DBSEntity table : tables) {
+            if (table.getParentObject() instanceof DBSObjectContainer container) {
+                containers.add(container);
+            }
+        }
+        monitor.subTask("Read metadata of " + tables.size() + " tables");
+        if (containers.size() == 1) {
+            cacheContainerStructure(monitor, containers.iterator().next());
+            return;
+        }
+        final List<AbstractJob> jobs = new ArrayList<>(containers.size());
+        for (DBSObjectContainer container : containers) {
+            AbstractJob job = new AbstractJob("Read metadata of " + container.getName()) {
+                {
+                    setSystem(true);
+                    setUser(false);
+                }
+
+                @Override
+                protected IStatus run(DBRProgressMonitor jobMonitor) {
+                    if (!monitor.isCanceled()) {
+                        cacheContainerStructure(jobMonitor, container);
+                    }
+                    return Status.OK_STATUS;
+                }
+            };
+            job.schedule();
+            jobs.add(job);
+        }
+        try {
+            for (AbstractJob job : jobs) {
+                // Throws OperationCanceledException if the caller cancels diagram creation
+                job.join(0, monitor.getNestedMonitor());
+            }
+        } catch (InterruptedException | OperationCanceledException e) {
+            for (AbstractJob job : jobs) {
+                job.cancel();
+            }
+        }
+    }
+
+    private static void cacheContainerStructure(DBRProgressMonitor monitor, DBSObjectContainer container)
+    {
+        try {
+            container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ATTRIBUTES | DBSObjectContainer.STRUCT_ASSOCIATIONS);
+        } catch (DBException e) {
+            log.debug("Error reading metadata of '" + container.getName() + "'", e);
+        }
+    }
+
     private void addDiagramEntity(DBRProgressMonitor monitor, DBSEntity table)
     {
         if (diagram.containsTable(table) && !diagram.getContentProvider().allowEntityDuplicates()) {
@@ -39,7 +39,9 @@ import org.jkiss.dbeaver.erd.ui.part.NodePart;
 import org.jkiss.dbeaver.erd.ui.router.ERDConnectionRouterDescriptor;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +54,14 @@ import java.util.Map;
 public class DirectedGraphLayoutVisitor {
     private static final Log log = Log.getLog(DirectedGraphLayoutVisitor.class);
 
+    /**
+     * Large diagrams are laid out per connected component.
+     * Layout algorithms are superlinear so it is much faster than laying out the whole graph at once.
+     */
+    private static final int COMPONENT_LAYOUT_THRESHOLD = 200;
+    private static final int COMPONENT_OFFSET = 30;
+    private static final int COMPONENT_SPACING = 60;
+
     private final ERDDecorator decorator;
     private Map<EditPart, Object> partToNodesMap;
     private DirectedGraph graph;
@@ -76,14 +86,11 @@ public class DirectedGraphLayoutVisitor {
             try {
                 if (diagram instanceof DiagramPart) {
                     DiagramPart diagramPart = (DiagramPart) diagram;
-                    ERDConnectionRouterDescriptor diagramRouter = diagramPart.getEditor().getDiagramRouter();
-                    DirectedGraphLayout layout = null;
-                    if (diagramRouter.supportedAttributeAssociation()) {
-                        layout = new OrthoDirectedGraphLayout(diagram);
+                    if (graph.nodes.size() > COMPONENT_LAYOUT_THRESHOLD) {
+                        layoutComponents(diagramPart);
                     } else {
-                        layout = new NodeJoiningDirectedGraphLayout(diagram);
+                        createLayout(diagramPart).visit(graph);
                     }
-                    layout.visit(graph);
                 }
             } catch (Exception e) {
                 log.error("Error during layoting elements:" + e.getMessage(), e);
@@ -94,6 +101,151 @@ public class DirectedGraphLayoutVisitor {
 
     }
 
+    private DirectedGraphLayout createLayout(DiagramPart diagramPart)
+    {
+        ERDConnectionRouterDescriptor diagramRouter = diagramPart.getEditor().getDiagramRouter();
+        if (diagramRouter.supportedAttributeAssociation()) {
+            return new OrthoDirectedGraphLayout(diagramPart);
+        } else {
+            return new NodeJoiningDirectedGraphLayout(diagramPart);
+        }
+    }
+
+    //******************* Connected components layout **********/
+
+    /**
+     * Lays out each connected component separately (biggest first) and packs them into rows.
+     */
+    private void layoutComponents(DiagramPart diagramPart)
+    {
+        List<DirectedGraph> components = splitComponents();
+        components.sort(Comparator.comparingInt((DirectedGraph g) -> g.nodes.size()).reversed());
+
+        long totalArea = 0;
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            Node node = graph.nodes.getNode(i);
+            totalArea += (long) (node.width + COMPONENT_SPACING) * (node.height + COMPONENT_SPACING);
+        }
+        final int rowWidth = (int) (Math.sqrt(totalArea) * 1.5);
+
+        int x = COMPONENT_OFFSET, y = COMPONENT_OFFSET, rowHeight = 0;
+        for (DirectedGraph component : components) {
+            if (component.nodes.size() > 1 || !component.edges.isEmpty()) {
+                createLayout(diagramPart).visit(component);
+            } else {
+                Node node = component.nodes.getNode(0);
+                node.x = 0;
+                node.y = 0;
+            }
+            Rectangle bounds = getComponentBounds(component);
+            if (x > COMPONENT_OFFSET && x + bounds.width > rowWidth) {
+                // Next row
+                x = COMPONENT_OFFSET;
+                y += rowHeight + COMPONENT_SPACING;
+                rowHeight = 0;
+            }
+            translateComponent(component, x - bounds.x, y - bounds.y);
+            x += bounds.width + COMPONENT_SPACING;
+            rowHeight = Math.max(rowHeight, bounds.height);
+        }
+    }
+
+    private List<DirectedGraph> splitComponents()
+    {
+        // Union-find over top level nodes
+        final Map<Node, Integer> nodeIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            nodeIndexes.put(graph.nodes.getNode(i), i);
+        }
+        final int[] parents = new int[graph.nodes.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        for (int i = 0; i < graph.edges.size(); i++) {
+            Edge edge = graph.edges.getEdge(i);
+            Integer source = nodeIndexes.get(getTopLevelNode(edge.source));
+            Integer target = nodeIndexes.get(getTopLevelNode(edge.target));
+            if (source != null && target != null) {
+                parents[findRoot(parents, source)] = findRoot(parents, target);
+            }
+        }
+
+        final Map<Integer, DirectedGraph> components = new LinkedHashMap<>();
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            components.computeIfAbsent(findRoot(parents, i), root -> {
+                DirectedGraph component = new DirectedGraph();
+                component.setDirection(PositionConstants.EAST);
+                return component;
+            }).nodes.add(graph.nodes.getNode(i));
+        }
+        for (int i = 0; i < graph.edges.size(); i++) {
+            Edge edge = graph.edges.getEdge(i);
+            Integer source = nodeIndexes.get(getTopLevelNode(edge.source));
+            if (source != null) {
+                components.get(findRoot(parents, source)).edges.add(edge);
+            }
+        }
+        return new ArrayList<>(components.values());
+    }
+
+    private static int findRoot(int[] parents, int index)
+    {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private static Node getTopLevelNode(Node node)
+    {
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return node;
+    }
+
+    private static Rectangle getComponentBounds(DirectedGraph component)
+    {
+        Rectangle bounds = null;
+        for (int i = 0; i < component.nodes.size(); i++) {
+            Node node = component.nodes.getNode(i);
+            Rectangle nodeBounds = new Rectangle(node.x, node.y, node.width, node.height);
+            if (bounds == null) {
+                bounds = nodeBounds;
+            } else {
+                bounds.union(nodeBounds);
+            }
+        }
+        return bounds == null ? new Rectangle() : bounds;
+    }
+
+    private static void translateComponent(DirectedGraph component, int dx, int dy)
+    {
+        for (int i = 0; i < component.nodes.size(); i++) {
+            Node node = component.nodes.getNode(i);
+            node.x += dx;
+            node.y += dy;
+            if (node instanceof Subgraph) {
+                for (int k = 0; k < ((Subgraph) node).members.size(); k++) {
+                    Node member = ((Subgraph) node).members.getNode(k);
+                    member.x += dx;
+                    member.y += dy;
+                }
+            }
+        }
+        for (int i = 0; i < component.edges.size(); i++) {
+            NodeList vNodes = component.edges.getEdge(i).vNodes;
+            if (vNodes != null) {
+                for (int k = 0; k < vNodes.size(); k++) {
+                    Node vNode = vNodes.getNode(k);
+                    vNode.x += dx;
+                    vNode.y += dy;
+                }
+            }
+        }
+    }
+
     //******************* DiagramPart contribution methods **********/
 
     protected void addDiagramNodes(AbstractGraphicalEditPart diagram)
@@ -0,0 +1,142 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.router.shortpath;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.jkiss.code.NotNull;
+
+import java.util.*;
+
+/**
+ * Points of routed connections bucketed by X coordinate.
+ * Used to move connection ends away from points of other connections.
+ * <p>
+ * Lookup gives the same result as a sequential scan of all points of all other connections
+ * (in the order of owners passed to the constructor): each point which is close to the current end
+ * shifts the end once, and following points are checked against the shifted end.
+ */
+public class ConnectionPointIndex<T> {
+
+    private final int pointDistance;
+    private final Map<T, Integer> ownerOrder = new HashMap<>();
+    private final Map<T, PointList> indexedPoints = new HashMap<>();
+    // Each bucket is sorted by the scan order
+    private final Map<Integer, List<IndexedPoint<T>>> pointsByX = new HashMap<>();
+
+    public ConnectionPointIndex(int pointDistance) {
+        this.pointDistance = pointDistance;
+    }
+
+    /**
+     * Adds owner points. Owners are scanned in the order they were added.
+     */
+    public void add(@NotNull T owner, @NotNull PointList points) {
+        if (ownerOrder.containsKey(owner)) {
+            update(owner, points);
+            return;
+        }
+        ownerOrder.put(owner, ownerOrder.size());
+        addPoints(owner, points.getCopy());
+    }
+
+    /**
+     * Replaces points of the owner. Owners which weren't added are ignored.
+     */
+    public void update(@NotNull T owner, @NotNull PointList points) {
+        if (!ownerOrder.containsKey(owner)) {
+            return;
+        }
+        PointList oldPoints = indexedPoints.remove(owner);
+        if (oldPoints != null) {
+            for (int i = 0; i < oldPoints.size(); i++) {
+                List<IndexedPoint<T>> bucket = pointsByX.get(oldPoints.getPoint(i).x);
+                if (bucket != null) {
+                    bucket.removeIf(ip -> ip.owner().equals(owner));
+                    if (bucket.isEmpty()) {
+                        pointsByX.remove(oldPoints.getPoint(i).x);
+                    }
+                }
+            }
+        }
+        addPoints(owner, points.getCopy());
+    }
+
+    /**
+     * Returns how many times the point must be shifted by (dx, dy) so that it moves away from points of other owners.
+     * A point is close to another one if they have the same X and Y distance is less than point distance.
+     */
+    public int countShifts(@NotNull T owner, @NotNull Point point, int dx, int dy) {
+        int x = point.x;
+        int y = point.y;
+        long lastMatch = -1;
+        int shifts = 0;
+        for (; ; ) {
+            List<IndexedPoint<T>> bucket = pointsByX.get(x);
+            if (bucket == null) {
+                break;
+            }
+            IndexedPoint<T> match = null;
+            for (int i = findFirstAfter(bucket, lastMatch); i < bucket.size(); i++) {
+                IndexedPoint<T> ip = bucket.get(i);
+                if (!ip.owner().equals(owner) && Math.abs(y - ip.y()) < pointDistance) {
+                    match = ip;
+                    break;
+                }
+            }
+            if (match == null) {
+                break;
+            }
+            lastMatch = match.order();
+            x += dx;
+            y += dy;
+            shifts++;
+        }
+        return shifts;
+    }
+
+    private void addPoints(@NotNull T owner, @NotNull PointList points) {
+        indexedPoints.put(owner, points);
+        long ownerOffset = (long) ownerOrder.get(owner) << 32;
+        for (int i = 0; i < points.size(); i++) {
+            Point p = points.getPoint(i);
+            List<IndexedPoint<T>> bucket = pointsByX.computeIfAbsent(p.x, key -> new ArrayList<>());
+            long order = ownerOffset | i;
+            bucket.add(findFirstAfter(bucket, order), new IndexedPoint<>(owner, p.y, order));
+        }
+    }
+
+    /**
+     * Returns index of the first point which goes after the specified scan position
+     */
+    private static <T> int findFirstAfter(@NotNull List<IndexedPoint<T>> bucket, long order) {
+        int low = 0;
+        int high = bucket.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bucket.get(mid).order() <= order) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record IndexedPoint<T>(@NotNull T owner, int y, long order) {
+    }
+}
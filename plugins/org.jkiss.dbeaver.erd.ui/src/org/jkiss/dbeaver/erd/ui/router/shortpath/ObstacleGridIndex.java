@@ -0,0 +1,115 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.router.shortpath;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.jkiss.code.NotNull;
+
+import java.util.*;
+
+/**
+ * Uniform grid index of obstacle bounds.
+ * Each obstacle is registered in every cell it overlaps, so point lookups
+ * only check obstacles located nearby instead of all diagram figures.
+ */
+public class ObstacleGridIndex {
+
+    public static final int DEFAULT_CELL_SIZE = 256;
+
+    private final int cellSize;
+    private final Map<Long, List<Rectangle>> cells = new HashMap<>();
+    private int size;
+
+    public ObstacleGridIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public ObstacleGridIndex(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public void add(@NotNull Rectangle bounds) {
+        forEachCell(bounds, key -> cells.computeIfAbsent(key, k -> new ArrayList<>()).add(bounds));
+        size++;
+    }
+
+    public void remove(@NotNull Rectangle bounds) {
+        final boolean[] removed = new boolean[1];
+        forEachCell(bounds, key -> {
+            List<Rectangle> cell = cells.get(key);
+            if (cell != null && cell.remove(bounds)) {
+                removed[0] = true;
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        });
+        if (removed[0]) {
+            size--;
+        }
+    }
+
+    public void update(@NotNull Rectangle oldBounds, @NotNull Rectangle newBounds) {
+        remove(oldBounds);
+        add(newBounds);
+    }
+
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the point lies inside any obstacle
+     */
+    public boolean containsPoint(@NotNull Point point) {
+        List<Rectangle> cell = cells.get(getCellKey(Math.floorDiv(point.x, cellSize), Math.floorDiv(point.y, cellSize)));
+        if (cell != null) {
+            for (Rectangle bounds : cell) {
+                if (bounds.contains(point)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void forEachCell(@NotNull Rectangle bounds, @NotNull CellVisitor visitor) {
+        final int x1 = Math.floorDiv(bounds.x, cellSize);
+        final int y1 = Math.floorDiv(bounds.y, cellSize);
+        final int x2 = Math.floorDiv(bounds.x + Math.max(bounds.width, 0), cellSize);
+        final int y2 = Math.floorDiv(bounds.y + Math.max(bounds.height, 0), cellSize);
+        for (int x = x1; x <= x2; x++) {
+            for (int y = y1; y <= y2; y++) {
+                visitor.visit(getCellKey(x, y));
+            }
+        }
+    }
+
+    private static long getCellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private interface CellVisitor {
+        void visit(long key);
+    }
+}
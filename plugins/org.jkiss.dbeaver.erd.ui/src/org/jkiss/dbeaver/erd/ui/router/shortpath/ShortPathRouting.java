@@ -27,7 +27,6 @@ import org.jkiss.dbeaver.erd.ui.figures.EntityFigure;
 import org.jkiss.dbeaver.erd.ui.router.ERDConnectionRouter;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public class ShortPathRouting extends ERDConnectionRouter {
 
@@ -42,16 +41,22 @@ public class ShortPathRouting extends ERDConnectionRouter {
     private Map<Connection, Path> connectionToPaths;
     private boolean isDirty;
     private ShortestPathRouter algorithm = new ShortestPathRouter();
+    private final ObstacleGridIndex obstacleIndex = new ObstacleGridIndex();
     private final Set<Connection> staleConnections = new HashSet<>();
     private final LayoutListener listener = new LayoutTracker();
     private boolean ignoreInvalidate;
 
     private final FigureListener figureListener = source -> {
         Rectangle newBounds = source.getBounds().getCopy();
-        if (algorithm.updateObstacle(figuresToBounds.get(source), newBounds)) {
+        Rectangle oldBounds = figuresToBounds.get(source);
+        if (algorithm.updateObstacle(oldBounds, newBounds)) {
             queueSomeRouting();
             isDirty = true;
         }
+        if (oldBounds != null) {
+            obstacleIndex.remove(oldBounds);
+        }
+        obstacleIndex.add(newBounds);
 
         figuresToBounds.put(source, newBounds);
     };
@@ -65,6 +70,7 @@ public class ShortPathRouting extends ERDConnectionRouter {
         }
         Rectangle bounds = child.getBounds().getCopy();
         algorithm.addObstacle(bounds);
+        obstacleIndex.add(bounds);
         figuresToBounds.put(child, bounds);
         child.addFigureListener(figureListener);
         isDirty = true;
@@ -88,6 +94,7 @@ public class ShortPathRouting extends ERDConnectionRouter {
             }
             figuresToBounds = null;
         }
+        obstacleIndex.clear();
     }
 
     /**
@@ -208,7 +215,8 @@ public class ShortPathRouting extends ERDConnectionRouter {
         }
         Rectangle bounds = child.getBounds().getCopy();
         boolean change = algorithm.removeObstacle(bounds);
-        figuresToBounds.remove(child);
+        Rectangle indexedBounds = figuresToBounds.remove(child);
+        obstacleIndex.remove(indexedBounds != null ? indexedBounds : bounds);
         child.removeFigureListener(figureListener);
         if (change) {
             isDirty = true;
@@ -226,6 +234,11 @@ public class ShortPathRouting extends ERDConnectionRouter {
             processStaleConnections();
             isDirty = false;
             List<Path> paths = computePaths();
+            // Index of points of all connections. Used to detect connections with coincident ends
+            ConnectionPointIndex<Connection> pointIndex = new ConnectionPointIndex<>(POINT_DISTANCE);
+            for (Connection connection : getConnectionPoints().keySet()) {
+                pointIndex.add(connection, connection.getPoints());
+            }
             Connection current;
             for (Path path : paths) {
                 current = (Connection) path.data;
@@ -258,29 +271,19 @@ public class ShortPathRouting extends ERDConnectionRouter {
                 int dxTrgSrc = (int) (Math.cos(Math.toRadians(trgSrcAngel)) * indentation);
                 int dyTrgSrc = (int) (Math.sin(Math.toRadians(trgSrcAngel)) * indentation);
 
-                for (Entry<Connection, PointList> entry : getConnectionPoints().entrySet()) {
-                    if (entry.getKey().equals(current)) {
-                        continue;
-                    }
-                    for (int i = 0; i < entry.getKey().getPoints().size(); i++) {
-                        Point p = entry.getKey().getPoints().getPoint(i);
-                        int dxStart = Math.abs(start.x - p.x);
-                        int dyStart = Math.abs(start.y - p.y);
-                        int dxEnd = Math.abs(end.x - p.x);
-                        int dyEnd = Math.abs(end.y - p.y);
-                        if (dxStart == 0 && dyStart < POINT_DISTANCE) {
-                            start = new Point(start.x + dxSrcTrg, start.y - dySrcTrg);
-                            Point firstPoint = points.getPoint(0);
-                            firstPoint = new Point(firstPoint.x + dxSrcTrg, firstPoint.y - dySrcTrg);
-                            points.setPoint(firstPoint, 0);
-                        }
-                        if (dxEnd == 0 && dyEnd < POINT_DISTANCE) {
-                            end = new Point(end.x - dxTrgSrc, end.y - dyTrgSrc);
-                            Point endPoint = points.getPoint(points.size() - 1);
-                            endPoint = new Point(endPoint.x - dxTrgSrc, endPoint.y - dyTrgSrc);
-                            points.setPoint(endPoint, points.size() - 1);
-                        }
-                    }
+                int startShifts = pointIndex.countShifts(current, start, dxSrcTrg, -dySrcTrg);
+                if (startShifts > 0) {
+                    start = new Point(start.x + dxSrcTrg * startShifts, start.y - dySrcTrg * startShifts);
+                    Point firstPoint = points.getPoint(0);
+                    firstPoint = new Point(firstPoint.x + dxSrcTrg * startShifts, firstPoint.y - dySrcTrg * startShifts);
+                    points.setPoint(firstPoint, 0);
+                }
+                int endShifts = pointIndex.countShifts(current, end, -dxTrgSrc, -dyTrgSrc);
+                if (endShifts > 0) {
+                    end = new Point(end.x - dxTrgSrc * endShifts, end.y - dyTrgSrc * endShifts);
+                    Point endPoint = points.getPoint(points.size() - 1);
+                    endPoint = new Point(endPoint.x - dxTrgSrc * endShifts, endPoint.y - dyTrgSrc * endShifts);
+                    points.setPoint(endPoint, points.size() - 1);
                 }
                 if (indentation != 0) {
                     // first
@@ -316,6 +319,7 @@ public class ShortPathRouting extends ERDConnectionRouter {
                     // end
                     modifiedPoints.addPoint(points.getLastPoint());
                     current.setPoints(modifiedPoints);
+                    pointIndex.update(current, modifiedPoints);
                 } else {
                     int direction = 0;
                     IFigure targetOwner = current.getTargetAnchor().getOwner();
@@ -329,6 +333,7 @@ public class ShortPathRouting extends ERDConnectionRouter {
                     points.removePoint(points.size() - 1);
                     points.addPoint(lastPoint);
                     current.setPoints(points);
+                    pointIndex.update(current, points);
                 }
                 
             }
@@ -358,15 +363,7 @@ public class ShortPathRouting extends ERDConnectionRouter {
             PointList actualBendPoints = new PointList(bendPoints.size());
             for (int index = 0; index < bendPoints.size(); index++) {
                 Point bp = bendPoints.getPoint(index);
-                boolean requireToSkipp = false;
-                for (Entry<IFigure, Rectangle> entry : figuresToBounds.entrySet()) {
-                    Rectangle rectangle = entry.getValue();
-                    if (rectangle.contains(bp)) {
-                        requireToSkipp = true;
-                        break;
-                    }
-                }
-                if (requireToSkipp) {
+                if (obstacleIndex.containsPoint(bp)) {
                     continue;
                 }
                 actualBendPoints.addPoint(bp);
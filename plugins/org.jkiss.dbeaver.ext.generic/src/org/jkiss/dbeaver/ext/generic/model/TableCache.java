@@ -33,6 +33,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -81,6 +82,13 @@ public class TableCache extends JDBCStructLookupCache<GenericStructContainer, Ge
         return dataSource.getMetaModel().prepareTableColumnLoadStatement(session, owner, forTable);
     }
 
+    @Override
+    protected JDBCStatement prepareChildrenBatchStatement(@NotNull JDBCSession session, @NotNull GenericStructContainer owner, @NotNull List<GenericTableBase> forTables)
+        throws SQLException
+    {
+        return dataSource.getMetaModel().prepareTableColumnBatchLoadStatement(session, owner, forTables);
+    }
+
     @Override
     protected GenericTableColumn fetchChild(@NotNull JDBCSession session, @NotNull GenericStructContainer owner, @NotNull GenericTableBase table, @NotNull JDBCResultSet dbResult)
         throws SQLException, DBException
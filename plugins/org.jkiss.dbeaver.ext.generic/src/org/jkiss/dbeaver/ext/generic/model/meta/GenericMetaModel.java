@@ -742,6 +742,17 @@ public class GenericMetaModel {
             .getSourceStatement();
     }
 
+    /**
+     * Prepares statement which reads columns of several tables at once.
+     * Result set must have the same columns as the result of {@link java.sql.DatabaseMetaData#getColumns}.
+     *
+     * @return statement or null if the database doesn't support it, then columns of each table are read separately.
+     */
+    @Nullable
+    public JDBCStatement prepareTableColumnBatchLoadStatement(@NotNull JDBCSession session, @NotNull GenericStructContainer owner, @NotNull List<GenericTableBase> forTables) throws SQLException {
+        return null;
+    }
+
     public GenericTableColumn createTableColumnImpl(@NotNull DBRProgressMonitor monitor, @Nullable JDBCResultSet dbResult, @NotNull GenericTableBase table, String columnName, String typeName, int valueType, int sourceType, int ordinalPos, long columnSize, long charLength, Integer scale, Integer precision, int radix, boolean notNull, String remarks, String defaultValue, boolean autoIncrement, boolean autoGenerated) throws DBException {
         return new GenericTableColumn(table,
             columnName,
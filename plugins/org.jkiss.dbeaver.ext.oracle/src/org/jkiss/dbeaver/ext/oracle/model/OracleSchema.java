@@ -34,6 +34,7 @@ import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructLookupCache;
 import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
@@ -680,18 +681,7 @@ public class OracleSchema extends OracleGlobalObject implements
         protected JDBCStatement prepareChildrenStatement(@NotNull JDBCSession session, @NotNull OracleSchema owner, @Nullable OracleTableBase forTable)
             throws SQLException
         {
-            String colsView;
-            if (!owner.getDataSource().isViewAvailable(session.getProgressMonitor(), OracleConstants.SCHEMA_SYS, "ALL_TAB_COLS")) {
-                colsView = "TAB_COLUMNS";
-            } else {
-                colsView = "TAB_COLS";
-            }
-            StringBuilder sql = new StringBuilder(500);
-            sql
-                .append("SELECT ").append(OracleUtils.getSysCatalogHint(owner.getDataSource())).append("\nc.*,c.TABLE_NAME as OBJECT_NAME " +
-                    "FROM ").append(OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), getDataSource(), colsView)).append(" c\n" +
-//                    "LEFT OUTER JOIN " + OracleUtils.getSysSchemaPrefix(getDataSource()) + "ALL_COL_COMMENTS cc ON CC.OWNER=c.OWNER AND cc.TABLE_NAME=c.TABLE_NAME AND cc.COLUMN_NAME=c.COLUMN_NAME\n" +
-                    "WHERE c.OWNER=?");
+            StringBuilder sql = getColumnsQuery(session, owner);
             if (forTable != null) {
                 sql.append(" AND c.TABLE_NAME=?");
             }
@@ -710,6 +700,38 @@ public class OracleSchema extends OracleGlobalObject implements
             return dbStat;
         }
 
+        @Override
+        protected JDBCStatement prepareChildrenBatchStatement(@NotNull JDBCSession session, @NotNull OracleSchema owner, @NotNull List<OracleTableBase> forTables)
+            throws SQLException
+        {
+            StringBuilder sql = getColumnsQuery(session, owner);
+            sql.append(" AND c.TABLE_NAME IN (").append(SQLUtils.generateParamList(forTables.size())).append(")");
+            JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString());
+            dbStat.setString(1, owner.getName());
+            for (int i = 0; i < forTables.size(); i++) {
+                dbStat.setString(i + 2, forTables.get(i).getName());
+            }
+            return dbStat;
+        }
+
+        @NotNull
+        private StringBuilder getColumnsQuery(@NotNull JDBCSession session, @NotNull OracleSchema owner) throws SQLException
+        {
+            String colsView;
+            if (!owner.getDataSource().isViewAvailable(session.getProgressMonitor(), OracleConstants.SCHEMA_SYS, "ALL_TAB_COLS")) {
+                colsView = "TAB_COLUMNS";
+            } else {
+                colsView = "TAB_COLS";
+            }
+            StringBuilder sql = new StringBuilder(500);
+            sql
+                .append("SELECT ").append(OracleUtils.getSysCatalogHint(owner.getDataSource())).append("\nc.*,c.TABLE_NAME as OBJECT_NAME " +
+                    "FROM ").append(OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), getDataSource(), colsView)).append(" c\n" +
+//                    "LEFT OUTER JOIN " + OracleUtils.getSysSchemaPrefix(getDataSource()) + "ALL_COL_COMMENTS cc ON CC.OWNER=c.OWNER AND cc.TABLE_NAME=c.TABLE_NAME AND cc.COLUMN_NAME=c.COLUMN_NAME\n" +
+                    "WHERE c.OWNER=?");
+            return sql;
+        }
+
         @Override
         protected OracleTableColumn fetchChild(@NotNull JDBCSession session, @NotNull OracleSchema owner, @NotNull OracleTableBase table, @NotNull JDBCResultSet dbResult)
             throws SQLException, DBException
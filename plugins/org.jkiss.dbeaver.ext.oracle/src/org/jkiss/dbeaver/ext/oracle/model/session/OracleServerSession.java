@@ -269,6 +269,28 @@ public class OracleServerSession extends AbstractServerSession {
         return sqlId;
     }
 
+    @Override
+    public boolean isActiveSession() {
+        // Background processes are always active
+        return "ACTIVE".equals(status) && !"BACKGROUND".equals(type);
+    }
+
+    @Override
+    public String getSessionUser() {
+        return user;
+    }
+
+    @Override
+    public String getSessionState() {
+        return status;
+    }
+
+    @Override
+    public String getSessionWaitEvent() {
+        // Session is on CPU if it doesn't wait right now
+        return "WAITING".equals(state) ? event : null;
+    }
+
     @Override
     public String toString() {
         return sid + " - " + event;
@@ -859,10 +859,31 @@ public class PostgreSchema implements
         @Override
         protected JDBCStatement prepareChildrenStatement(@NotNull JDBCSession session, @NotNull PostgreTableContainer container, @Nullable PostgreTableBase forTable)
             throws SQLException {
-            boolean supportsSequences = container.getDataSource().getServerType().supportsSequences();
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                getColumnsQuery(container, forTable, forTable != null ? "c.oid=?" : "c.relnamespace=?"));
+            if (forTable != null) {
+                dbStat.setLong(1, forTable.getObjectId());
+            } else {
+                dbStat.setLong(1, PostgreSchema.this.getObjectId());
+            }
+            return dbStat;
+        }
 
+        @Override
+        protected JDBCStatement prepareChildrenBatchStatement(@NotNull JDBCSession session, @NotNull PostgreTableContainer container, @NotNull List<PostgreTableBase> forTables)
+            throws SQLException {
             JDBCPreparedStatement dbStat = session.prepareStatement(
-                "SELECT c.relname,a.*,pg_catalog.pg_get_expr(ad.adbin, ad.adrelid, true) as def_value,dsc.description" +
+                getColumnsQuery(container, null, "c.oid IN (" + SQLUtils.generateParamList(forTables.size()) + ")"));
+            for (int i = 0; i < forTables.size(); i++) {
+                dbStat.setLong(i + 1, forTables.get(i).getObjectId());
+            }
+            return dbStat;
+        }
+
+        @NotNull
+        private String getColumnsQuery(@NotNull PostgreTableContainer container, @Nullable PostgreTableBase forTable, @NotNull String tableCondition) {
+            boolean supportsSequences = container.getDataSource().getServerType().supportsSequences();
+            return "SELECT c.relname,a.*,pg_catalog.pg_get_expr(ad.adbin, ad.adrelid, true) as def_value,dsc.description" +
                     getTableColumnsQueryExtraParameters(container.getSchema(), forTable) +
                     (supportsSequences ? ",dep.objid" : "") +
                     "\nFROM pg_catalog.pg_attribute a" +
@@ -871,15 +892,8 @@ public class PostgreSchema implements
                     "\nLEFT OUTER JOIN pg_catalog.pg_description dsc ON (c.oid=dsc.objoid AND a.attnum = dsc.objsubid)" +
                     (supportsSequences ? "\nLEFT OUTER JOIN pg_depend dep on dep.refobjid = a.attrelid AND dep.deptype = 'i' " +
                         "and dep.refobjsubid = a.attnum and dep.classid = dep.refclassid" : "") +
-                    "\nWHERE NOT a.attisdropped AND c.relkind not in ('i','I','c')" +
-                    (forTable != null ? " AND c.oid=?" : " AND c.relnamespace=?") +
-                    "\nORDER BY a.attnum");
-            if (forTable != null) {
-                dbStat.setLong(1, forTable.getObjectId());
-            } else {
-                dbStat.setLong(1, PostgreSchema.this.getObjectId());
-            }
-            return dbStat;
+                    "\nWHERE NOT a.attisdropped AND c.relkind not in ('i','I','c') AND " + tableCondition +
+                    "\nORDER BY a.attnum";
         }
 
         @Override
@@ -43,6 +43,8 @@ public class PostgreSession extends AbstractServerSession {
     private Date queryStart;
     private Date stateChange;
     private String state;
+    private String waitEventType;
+    private String waitEvent;
     private String appName;
 
     public PostgreSession(ResultSet dbResult) {
@@ -62,6 +64,8 @@ public class PostgreSession extends AbstractServerSession {
         this.stateChange = JDBCUtils.safeGetTimestamp(dbResult, "state_change");
 
         this.state = JDBCUtils.safeGetString(dbResult, "state");
+        this.waitEventType = JDBCUtils.safeGetString(dbResult, "wait_event_type");
+        this.waitEvent = JDBCUtils.safeGetString(dbResult, "wait_event");
         this.appName = JDBCUtils.safeGetString(dbResult, "application_name");
     }
 
@@ -125,6 +129,16 @@ public class PostgreSession extends AbstractServerSession {
         return state;
     }
 
+    @Property(viewable = false, order = 8)
+    public String getWaitEventType() {
+        return waitEventType;
+    }
+
+    @Property(viewable = false, order = 9)
+    public String getWaitEvent() {
+        return waitEvent;
+    }
+
     @Property(viewable = true, order = 100)
     public String getBriefQuery() {
         if (query != null && query.length() > 50) {
@@ -140,6 +154,33 @@ public class PostgreSession extends AbstractServerSession {
         return query;
     }
 
+    @Override
+    public boolean isActiveSession() {
+        if (state == null) {
+            return super.isActiveSession();
+        }
+        // Idle sessions show their last query
+        return !state.startsWith("idle") && !state.equals("disabled");
+    }
+
+    @Override
+    public String getSessionUser() {
+        return user;
+    }
+
+    @Override
+    public String getSessionState() {
+        return state;
+    }
+
+    @Override
+    public String getSessionWaitEvent() {
+        if (CommonUtils.isEmpty(waitEvent)) {
+            return null;
+        }
+        return CommonUtils.isEmpty(waitEventType) ? waitEvent : waitEventType + ":" + waitEvent;
+    }
+
     @Override
     public String toString()
     {
@@ -48,8 +48,16 @@ public class LockGraphEditPart extends AbstractGraphicalEditPart {
 
 	@Override
 	protected void refreshVisuals() {
+		GridLayout layout = (GridLayout) getFigure().getLayoutManager();
+		int maxWidth = ((LockGraph) getModel()).getMaxWidth();
+		if (layout.numColumns != maxWidth) {
+			layout.numColumns = maxWidth;
+			getFigure().revalidate();
+		}
 		ConnectionLayer connectionLayer = (ConnectionLayer) getLayer(LayerConstants.CONNECTION_LAYER);
-		connectionLayer.setConnectionRouter(new ShortestPathConnectionRouter(getFigure()));
+		if (!(connectionLayer.getConnectionRouter() instanceof ShortestPathConnectionRouter)) {
+			connectionLayer.setConnectionRouter(new ShortestPathConnectionRouter(getFigure()));
+		}
 	} 
 	
 	
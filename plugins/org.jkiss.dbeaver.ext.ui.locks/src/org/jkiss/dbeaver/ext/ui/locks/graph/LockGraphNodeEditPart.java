@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.ext.ui.locks.graph;
 
+import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.ConnectionAnchor;
 import org.eclipse.draw2d.GridData;
 import org.eclipse.draw2d.IFigure;
@@ -36,6 +37,9 @@ public class LockGraphNodeEditPart extends AbstractGraphicalEditPart {
 
 	private LockGraphConnectionAnchor targetAnchor;
 
+	// Node revision shown by the figure
+	private int renderedRevision = -1;
+
 	@Override
 	public boolean isSelectable() {
 		return true;
@@ -79,12 +83,31 @@ public class LockGraphNodeEditPart extends AbstractGraphicalEditPart {
 		return this.targetAnchor;
 	}
 
+	/**
+	 * Refreshes figure and connections if the node was changed since the last refresh
+	 */
+	public void refreshIfChanged() {
+		if (((LockGraphNode) getModel()).getRevision() != renderedRevision) {
+			refresh();
+		}
+	}
+
 	@Override
 	protected void refreshVisuals() {
 		LockGraphNode node = (LockGraphNode) getModel();
+		renderedRevision = node.getRevision();
 		LockGraph lgraph = (LockGraph)((LockGraphEditPart) getParent()).getModel();
 		LockGraphNodeFigure nodeFigure = (LockGraphNodeFigure) getFigure();
 		LockGraphEditPart graph = (LockGraphEditPart) getParent();
+		if (node == lgraph.getSelection()) {
+			nodeFigure.setState(node.getTitle(), ColorConstants.orange);
+		} else if (node.isDeadlocked()) {
+			nodeFigure.setState(node.getTitle(), ColorConstants.red);
+		} else if (node.isBlockingChain()) {
+			nodeFigure.setState(node.getTitle(), ColorConstants.yellow);
+		} else {
+			nodeFigure.setState(node.getTitle(), ColorConstants.lightGray);
+		}
         GridData gridData = new GridData(55,30);		
 		gridData.horizontalAlignment = GridData.CENTER;
 		gridData.verticalAlignment = GridData.CENTER;
@@ -18,6 +18,7 @@ package org.jkiss.dbeaver.ext.ui.locks.graph;
 
 import org.eclipse.draw2d.*;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.swt.graphics.Color;
 
 
 public class LockGraphNodeFigure extends Figure {
@@ -44,6 +45,11 @@ public class LockGraphNodeFigure extends Figure {
 		return this.rectangleFigure;
 	}
 
+	public void setState(String title, Color background) {
+		this.label.setText(title);
+		this.rectangleFigure.setBackgroundColor(background);
+	}
+
 	@Override
 	public void paintFigure(Graphics g) {
 		Rectangle r = getBounds().getCopy();
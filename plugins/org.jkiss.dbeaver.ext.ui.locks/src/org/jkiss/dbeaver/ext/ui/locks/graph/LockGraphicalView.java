@@ -20,6 +20,7 @@ package org.jkiss.dbeaver.ext.ui.locks.graph;
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.gef.ContextMenuProvider;
 import org.eclipse.gef.DefaultEditDomain;
+import org.eclipse.gef.EditPart;
 import org.eclipse.gef.GraphicalViewer;
 import org.eclipse.gef.editparts.FreeformGraphicalRootEditPart;
 import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
@@ -82,7 +83,18 @@ public class LockGraphicalView extends ViewPart {
 		}
 */
 
-		getGraphicalViewer().setContents(g);
+		EditPart contents = getGraphicalViewer().getContents();
+		if (contents != null && contents.getModel() == g) {
+			// Same graph. Add/remove changed nodes and redraw only nodes changed since the last drawing
+			contents.refresh();
+			for (Object child : contents.getChildren()) {
+				if (child instanceof LockGraphNodeEditPart nodePart) {
+					nodePart.refreshIfChanged();
+				}
+			}
+		} else {
+			getGraphicalViewer().setContents(g);
+		}
 		getGraphicalViewer().getControl().setBackground(ColorConstants.listBackground);
 	}
 	
@@ -227,6 +227,15 @@ public class LockManagerViewer {
             return new Class[] { locksType };
         }
 
+        @Override
+        protected void setListData(Collection<DBAServerLock> items, boolean append, boolean forUpdate) {
+            super.setListData(items, append, forUpdate);
+            // Graph model was updated by the new locks snapshot
+            if (gv != null && curLock != null) {
+                refreshGraph(curLock);
+            }
+        }
+
         @Override
         public void fillCustomActions(IContributionManager contributionManager) {
             contributeToToolbar(getLockManager(), contributionManager);
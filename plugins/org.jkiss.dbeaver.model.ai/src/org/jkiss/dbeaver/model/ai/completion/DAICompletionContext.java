@@ -32,17 +32,20 @@ public class DAICompletionContext {
     private final List<DBSEntity> customEntities;
     private final DBSLogicalDataSource dataSource;
     private final DBCExecutionContext executionContext;
+    private final String editorText;
 
     private DAICompletionContext(
         @NotNull DAICompletionScope scope,
         @Nullable List<DBSEntity> customEntities,
         @NotNull DBSLogicalDataSource dataSource,
-        @NotNull DBCExecutionContext executionContext
+        @NotNull DBCExecutionContext executionContext,
+        @Nullable String editorText
     ) {
         this.scope = scope;
         this.customEntities = customEntities;
         this.dataSource = dataSource;
         this.executionContext = executionContext;
+        this.editorText = editorText;
     }
 
     @NotNull
@@ -65,11 +68,20 @@ public class DAICompletionContext {
         return executionContext;
     }
 
+    /**
+     * Text of the editor the completion was requested from. Tables mentioned in it are described first.
+     */
+    @Nullable
+    public String getEditorText() {
+        return editorText;
+    }
+
     public static class Builder {
         private DAICompletionScope scope;
         private List<DBSEntity> customEntities;
         private DBSLogicalDataSource dataSource;
         private DBCExecutionContext executionContext;
+        private String editorText;
 
         @NotNull
         public Builder setScope(@NotNull DAICompletionScope scope) {
@@ -95,6 +107,12 @@ public class DAICompletionContext {
             return this;
         }
 
+        @NotNull
+        public Builder setEditorText(@Nullable String editorText) {
+            this.editorText = editorText;
+            return this;
+        }
+
         @NotNull
         public DAICompletionContext build() {
             Assert.isLegal(scope != null, "Scope must be specified");
@@ -102,7 +120,7 @@ public class DAICompletionContext {
             Assert.isLegal(dataSource != null, "Data source must be specified");
             Assert.isLegal(executionContext != null, "Execution context must be specified");
 
-            return new DAICompletionContext(scope, customEntities, dataSource, executionContext);
+            return new DAICompletionContext(scope, customEntities, dataSource, executionContext, editorText);
         }
     }
 }
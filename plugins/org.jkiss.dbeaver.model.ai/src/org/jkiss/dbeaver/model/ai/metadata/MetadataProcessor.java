@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.ai.AICompletionConstants;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionContext;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionMessage;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionScope;
@@ -29,17 +30,21 @@ import org.jkiss.dbeaver.model.ai.format.IAIFormatter;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
 import org.jkiss.dbeaver.model.navigator.DBNUtils;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAssociation;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.CommonUtils;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class MetadataProcessor {
     public static final MetadataProcessor INSTANCE = new MetadataProcessor();
@@ -47,6 +52,8 @@ public class MetadataProcessor {
 
     private static final boolean SUPPORTS_ATTRS = true;
 
+    private final SchemaDigestCache digestCache = new SchemaDigestCache();
+
     public String generateObjectDescription(
         @NotNull DBRProgressMonitor monitor,
         @NotNull DBSObject object,
@@ -60,21 +67,8 @@ public class MetadataProcessor {
             return "";
         }
         StringBuilder description = new StringBuilder();
-        if (object instanceof DBSEntity) {
-            String name = useFullyQualifiedName && context != null ? DBUtils.getObjectFullName(
-                context.getDataSource(),
-                object,
-                DBPEvaluationContext.DDL
-            ) : DBUtils.getQuotedIdentifier(object);
-            description.append('\n');
-            formatter.addObjectDescriptionIfNeeded(description, object, monitor);
-            if (object instanceof DBSTable table) {
-                description.append(table.isView() ? "Create View: " : "Create Table: ");
-            }
-            description.append(name).append("(\n\t");
-            DBSEntityAttribute firstAttr = addPromptAttributes(monitor, (DBSEntity) object, description, formatter);
-            formatter.addExtraDescription(monitor, (DBSEntity) object, description, firstAttr);
-            description.append("\n);");
+        if (object instanceof DBSEntity entity) {
+            description.append(createTableDigest(monitor, entity, formatter).getPrompt(useFullyQualifiedName && context != null));
         } else if (object instanceof DBSObjectContainer) {
             monitor.subTask("Load cache of " + object.getName());
             ((DBSObjectContainer) object).cacheStructure(
@@ -114,6 +108,24 @@ public class MetadataProcessor {
         boolean isChatAPI,
         int maxRequestTokens,
         boolean chatCompletion
+    ) throws DBException {
+        return createMetadataMessage(monitor, context, List.of(), mainObject, formatter, isChatAPI, maxRequestTokens, chatCompletion);
+    }
+
+    /**
+     * Creates a new message containing completion metadata for the request.
+     * Tables most relevant to the request messages and to the editor text are described first.
+     */
+    @NotNull
+    public DAICompletionMessage createMetadataMessage(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DAICompletionContext context,
+        @NotNull List<DAICompletionMessage> messages,
+        @Nullable DBSObjectContainer mainObject,
+        @NotNull IAIFormatter formatter,
+        boolean isChatAPI,
+        int maxRequestTokens,
+        boolean chatCompletion
     ) throws DBException {
         if (mainObject == null || mainObject.getDataSource() == null) {
             throw new DBException("Invalid completion request");
@@ -160,28 +172,24 @@ public class MetadataProcessor {
 
         final int remainingRequestTokens = maxRequestTokens - sb.length() - 20;
 
+        final String formatKey = getFormatKey(formatter);
+        final List<TableDigest> tables = new ArrayList<>();
         if (context.getScope() == DAICompletionScope.CUSTOM) {
             for (DBSEntity entity : context.getCustomEntities()) {
-                sb.append(generateObjectDescription(
-                    monitor,
-                    entity,
-                    executionContext,
-                    formatter,
-                    remainingRequestTokens,
-                    isRequiresFullyQualifiedName(entity, executionContext)
-                ));
+                addTableDigest(monitor, entity, formatter, formatKey, tables);
             }
         } else {
-            sb.append(
-                generateObjectDescription(
-                monitor,
-                mainObject,
-                executionContext,
-                formatter,
-                remainingRequestTokens,
-                false
-            ));
+            collectTableDigests(monitor, mainObject, formatter, formatKey, tables);
         }
+        final String requestText = messages.stream()
+            .filter(message -> message.role() == DAICompletionMessage.Role.USER)
+            .map(DAICompletionMessage::content)
+            .collect(Collectors.joining("\n"));
+        sb.append(SchemaDigestRanker.assemble(
+            SchemaDigestRanker.rank(tables, requestText, context.getEditorText()),
+            remainingRequestTokens * 3,
+            table -> isRequiresFullyQualifiedName(table.parentName(), executionContext)
+        ));
 
         return new DAICompletionMessage(
             DAICompletionMessage.Role.SYSTEM,
@@ -189,6 +197,117 @@ public class MetadataProcessor {
         );
     }
 
+    private void collectTableDigests(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSObjectContainer container,
+        @NotNull IAIFormatter formatter,
+        @NotNull String formatKey,
+        @NotNull List<TableDigest> tables
+    ) throws DBException {
+        if (DBNUtils.getNodeByObject(monitor, container, false) == null) {
+            // Skip hidden objects
+            return;
+        }
+        monitor.subTask("Load cache of " + container.getName());
+        // Foreign keys are read too, digests link tables by them
+        container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+        for (DBSObject child : container.getChildren(monitor)) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (DBUtils.isSystemObject(child) || DBUtils.isHiddenObject(child) || child instanceof DBSTablePartition) {
+                continue;
+            }
+            if (child instanceof DBSEntity entity) {
+                addTableDigest(monitor, entity, formatter, formatKey, tables);
+            } else if (child instanceof DBSObjectContainer childContainer) {
+                collectTableDigests(monitor, childContainer, formatter, formatKey, tables);
+            }
+        }
+    }
+
+    private void addTableDigest(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull IAIFormatter formatter,
+        @NotNull String formatKey,
+        @NotNull List<TableDigest> tables
+    ) throws DBException {
+        TableDigest digest = digestCache.getDigest(monitor, entity, formatKey, (m, e) -> {
+            if (DBNUtils.getNodeByObject(m, e, false) == null) {
+                // Skip hidden objects
+                return null;
+            }
+            return createTableDigest(m, e, formatter);
+        });
+        if (digest != null) {
+            tables.add(digest);
+        }
+    }
+
+    @NotNull
+    private TableDigest createTableDigest(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull IAIFormatter formatter
+    ) throws DBException {
+        StringBuilder prefix = new StringBuilder();
+        prefix.append('\n');
+        formatter.addObjectDescriptionIfNeeded(prefix, entity, monitor);
+        if (entity instanceof DBSTable table) {
+            prefix.append(table.isView() ? "Create View: " : "Create Table: ");
+        }
+        StringBuilder body = new StringBuilder();
+        body.append("(\n\t");
+        DBSEntityAttribute firstAttr = addPromptAttributes(monitor, entity, body, formatter);
+        formatter.addExtraDescription(monitor, entity, body, firstAttr);
+        body.append("\n);");
+
+        List<String> terms = new ArrayList<>(SchemaDigestRanker.tokenize(entity.getName()));
+        terms.addAll(SchemaDigestRanker.tokenize(entity.getDescription()));
+        List<? extends DBSEntityAttribute> attributes = entity.getAttributes(monitor);
+        if (attributes != null) {
+            for (DBSEntityAttribute attribute : attributes) {
+                if (!DBUtils.isHiddenObject(attribute)) {
+                    terms.addAll(SchemaDigestRanker.tokenize(attribute.getName()));
+                    terms.addAll(SchemaDigestRanker.tokenize(attribute.getDescription()));
+                }
+            }
+        }
+        Set<String> links = new LinkedHashSet<>();
+        try {
+            Collection<? extends DBSEntityAssociation> associations = entity.getAssociations(monitor);
+            if (associations != null) {
+                for (DBSEntityAssociation association : associations) {
+                    DBSEntity associatedEntity = association.getAssociatedEntity();
+                    if (associatedEntity != null) {
+                        links.add(DBUtils.getObjectFullName(associatedEntity, DBPEvaluationContext.DDL));
+                    }
+                }
+            }
+        } catch (DBException e) {
+            log.debug("Error reading foreign keys of '" + entity.getName() + "'", e);
+        }
+
+        return new TableDigest(
+            DBUtils.getObjectFullName(entity, DBPEvaluationContext.DDL),
+            DBUtils.getQuotedIdentifier(entity),
+            entity.getParentObject() == null ? null : DBUtils.getObjectFullName(entity.getParentObject(), DBPEvaluationContext.DDL),
+            prefix.toString(),
+            body.toString(),
+            terms,
+            links
+        );
+    }
+
+    @NotNull
+    private static String getFormatKey(@NotNull IAIFormatter formatter) {
+        DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
+        return formatter.getClass().getName()
+            + ":" + store.getBoolean(AICompletionConstants.AI_SEND_TYPE_INFO)
+            + ":" + store.getBoolean(AICompletionConstants.AI_SEND_DESCRIPTION);
+    }
+
     protected DBSEntityAttribute addPromptAttributes(
         DBRProgressMonitor monitor,
         DBSEntity entity,
@@ -227,6 +346,19 @@ public class MetadataProcessor {
             || parent.equals(contextDefaults.getDefaultSchema()));
     }
 
+    private boolean isRequiresFullyQualifiedName(@Nullable String parentName, @Nullable DBCExecutionContext context) {
+        if (context == null || context.getContextDefaults() == null) {
+            return false;
+        }
+        DBCExecutionContextDefaults contextDefaults = context.getContextDefaults();
+        return parentName != null && !(isObjectNamed(contextDefaults.getDefaultCatalog(), parentName)
+            || isObjectNamed(contextDefaults.getDefaultSchema(), parentName));
+    }
+
+    private static boolean isObjectNamed(@Nullable DBSObject object, @NotNull String fullName) {
+        return object != null && fullName.equals(DBUtils.getObjectFullName(object, DBPEvaluationContext.DDL));
+    }
+
     private MetadataProcessor() {
 
     }
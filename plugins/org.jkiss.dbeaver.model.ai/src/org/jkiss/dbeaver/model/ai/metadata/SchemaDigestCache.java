@@ -0,0 +1,138 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.metadata;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvent;
+import org.jkiss.dbeaver.model.DBPEventListener;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+
+import java.util.*;
+
+/**
+ * Per data source cache of table digests.
+ * Digests are built on first use and dropped when the table or its data source is changed.
+ */
+class SchemaDigestCache implements DBPEventListener {
+
+    interface DigestFactory {
+        /**
+         * Creates table digest or returns null if table must not be sent to AI
+         */
+        @Nullable
+        TableDigest createDigest(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) throws DBException;
+    }
+
+    private static final TableDigest SKIPPED_TABLE = new TableDigest("", "", null, "", "", List.of(), Set.of());
+
+    private static class DataSourceDigest {
+        private final String formatKey;
+        // Refreshed metadata objects are replaced with new ones, old ones are released with their digests
+        private final Map<DBSEntity, TableDigest> tables = new WeakHashMap<>();
+
+        DataSourceDigest(@NotNull String formatKey) {
+            this.formatKey = formatKey;
+        }
+    }
+
+    private final Map<DBPDataSourceContainer, DataSourceDigest> digests = new HashMap<>();
+    private final Set<DBPDataSourceRegistry> registries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Returns cached table digest or creates a new one.
+     *
+     * @param formatKey identifies prompt format settings, digests created with different settings are dropped
+     */
+    @Nullable
+    TableDigest getDigest(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull String formatKey,
+        @NotNull DigestFactory factory
+    ) throws DBException {
+        DBPDataSource dataSource = entity.getDataSource();
+        if (dataSource == null) {
+            return factory.createDigest(monitor, entity);
+        }
+        DBPDataSourceContainer container = dataSource.getContainer();
+        DataSourceDigest digest;
+        synchronized (this) {
+            if (registries.add(container.getRegistry())) {
+                container.getRegistry().addDataSourceListener(this);
+            }
+            digest = digests.get(container);
+            if (digest == null || !digest.formatKey.equals(formatKey)) {
+                digest = new DataSourceDigest(formatKey);
+                digests.put(container, digest);
+            }
+        }
+        TableDigest table;
+        synchronized (digest) {
+            table = digest.tables.get(entity);
+        }
+        if (table == null) {
+            table = factory.createDigest(monitor, entity);
+            synchronized (digest) {
+                digest.tables.put(entity, table == null ? SKIPPED_TABLE : table);
+            }
+        }
+        return table == SKIPPED_TABLE ? null : table;
+    }
+
+    @Override
+    public void handleDataSourceEvent(DBPEvent event) {
+        DBSObject object = event.getObject();
+        if (object == null || event.getAction() == DBPEvent.Action.OBJECT_SELECT) {
+            return;
+        }
+        if (object instanceof DBPDataSourceContainer container) {
+            // Connect, disconnect and refresh of the whole data source
+            synchronized (this) {
+                digests.remove(container);
+            }
+            return;
+        }
+        DBPDataSource dataSource = object.getDataSource();
+        if (dataSource == null) {
+            return;
+        }
+        DataSourceDigest digest;
+        synchronized (this) {
+            digest = digests.get(dataSource.getContainer());
+            if (digest == null) {
+                return;
+            }
+            if (!(object instanceof DBSEntity) && !(object.getParentObject() instanceof DBSEntity)) {
+                // Schema or catalog change may affect any table
+                digests.remove(dataSource.getContainer());
+                return;
+            }
+        }
+        // Columns, keys and other table children change the table digest
+        DBSEntity entity = object instanceof DBSEntity e ? e : (DBSEntity) object.getParentObject();
+        synchronized (digest) {
+            digest.tables.remove(entity);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.metadata;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Orders schema tables by relevance to the completion request.
+ * Tables are scored with BM25 over their name and comment terms. Tables referenced in the editor
+ * go first, tables linked with them by foreign keys are boosted.
+ */
+public class SchemaDigestRanker {
+
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[\\p{L}\\p{N}_$#]+");
+    private static final Pattern WORD_PATTERN = Pattern.compile("\\p{Lu}?\\p{Ll}+|\\p{Lu}+(?!\\p{Ll})|\\p{N}+");
+
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+
+    // Scores are added to normalized BM25 score which is between 0 and 1
+    private static final double REFERENCED_SCORE = 2;
+    private static final double NEIGHBOR_SCORE = 1;
+
+    private SchemaDigestRanker() {
+    }
+
+    /**
+     * Splits text into lower-cased search terms. Identifiers are split into words by underscores and case changes,
+     * plural word forms are folded into the singular ones.
+     */
+    @NotNull
+    public static List<String> tokenize(@Nullable String text) {
+        List<String> terms = new ArrayList<>();
+        if (CommonUtils.isEmpty(text)) {
+            return terms;
+        }
+        Matcher identifiers = IDENTIFIER_PATTERN.matcher(text);
+        while (identifiers.find()) {
+            String identifier = identifiers.group();
+            Matcher words = WORD_PATTERN.matcher(identifier);
+            int wordCount = 0;
+            while (words.find()) {
+                terms.add(foldTerm(words.group()));
+                wordCount++;
+            }
+            if (wordCount > 1) {
+                terms.add(foldTerm(identifier));
+            }
+        }
+        return terms;
+    }
+
+    @NotNull
+    private static String foldTerm(@NotNull String word) {
+        String term = word.toLowerCase(Locale.ROOT);
+        if (term.length() > 4 && term.endsWith("ies")) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.length() > 3 && term.endsWith("s") && !term.endsWith("ss")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+
+    /**
+     * Returns tables ordered by relevance. Tables with equal scores keep their original order.
+     *
+     * @param tables      schema tables
+     * @param requestText completion request text
+     * @param editorText  text of the SQL editor, tables mentioned in it are considered referenced
+     */
+    @NotNull
+    public static List<TableDigest> rank(
+        @NotNull List<TableDigest> tables,
+        @Nullable String requestText,
+        @Nullable String editorText
+    ) {
+        if (tables.size() < 2) {
+            return tables;
+        }
+        Map<String, Double> scores = new HashMap<>();
+        double[] bm25Scores = computeBM25(tables, new LinkedHashSet<>(tokenize(requestText)));
+        double maxScore = Arrays.stream(bm25Scores).max().orElse(0);
+        for (int i = 0; i < tables.size(); i++) {
+            scores.merge(tables.get(i).fullName(), maxScore > 0 ? bm25Scores[i] / maxScore : 0, Double::sum);
+        }
+
+        Set<String> referenced = findReferencedTables(tables, editorText);
+        if (!referenced.isEmpty()) {
+            Map<String, Set<String>> neighbors = getNeighbors(tables);
+            Set<String> boosted = new HashSet<>();
+            for (String fullName : referenced) {
+                scores.merge(fullName, REFERENCED_SCORE, Double::sum);
+                for (String neighbor : neighbors.getOrDefault(fullName, Collections.emptySet())) {
+                    if (!referenced.contains(neighbor) && boosted.add(neighbor)) {
+                        scores.merge(neighbor, NEIGHBOR_SCORE, Double::sum);
+                    }
+                }
+            }
+        }
+
+        List<TableDigest> result = new ArrayList<>(tables);
+        result.sort(Comparator.comparingDouble((TableDigest table) -> scores.getOrDefault(table.fullName(), 0.0)).reversed());
+        return result;
+    }
+
+    /**
+     * Appends table prompts in the given order while they fit into the maximum length.
+     */
+    @NotNull
+    public static String assemble(
+        @NotNull List<TableDigest> tables,
+        int maxLength,
+        @NotNull Predicate<TableDigest> useFullyQualifiedName
+    ) {
+        StringBuilder prompt = new StringBuilder();
+        for (TableDigest table : tables) {
+            String tablePrompt = table.getPrompt(useFullyQualifiedName.test(table));
+            if (prompt.length() + tablePrompt.length() > maxLength) {
+                // Smaller tables may still fit
+                continue;
+            }
+            prompt.append(tablePrompt);
+        }
+        return prompt.toString();
+    }
+
+    @NotNull
+    private static double[] computeBM25(@NotNull List<TableDigest> tables, @NotNull Set<String> queryTerms) {
+        double[] scores = new double[tables.size()];
+        if (queryTerms.isEmpty()) {
+            return scores;
+        }
+        List<Map<String, Integer>> frequencies = new ArrayList<>(tables.size());
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        long totalLength = 0;
+        for (TableDigest table : tables) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            for (String term : table.terms()) {
+                if (queryTerms.contains(term)) {
+                    termFrequencies.merge(term, 1, Integer::sum);
+                }
+            }
+            for (String term : termFrequencies.keySet()) {
+                documentFrequencies.merge(term, 1, Integer::sum);
+            }
+            frequencies.add(termFrequencies);
+            totalLength += table.terms().size();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / tables.size());
+        int documentCount = tables.size();
+        for (int i = 0; i < tables.size(); i++) {
+            double lengthNorm = 1 - BM25_B + BM25_B * tables.get(i).terms().size() / averageLength;
+            double score = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.get(i).entrySet()) {
+                int df = documentFrequencies.get(entry.getKey());
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                int tf = entry.getValue();
+                score += idf * tf * (BM25_K1 + 1) / (tf + BM25_K1 * lengthNorm);
+            }
+            scores[i] = score;
+        }
+        return scores;
+    }
+
+    @NotNull
+    private static Set<String> findReferencedTables(@NotNull List<TableDigest> tables, @Nullable String editorText) {
+        if (CommonUtils.isEmpty(editorText)) {
+            return Collections.emptySet();
+        }
+        Set<String> identifiers = new HashSet<>();
+        Matcher matcher = IDENTIFIER_PATTERN.matcher(editorText);
+        while (matcher.find()) {
+            identifiers.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+        Set<String> referenced = new LinkedHashSet<>();
+        for (TableDigest table : tables) {
+            if (identifiers.contains(unquote(table.name()).toLowerCase(Locale.ROOT))) {
+                referenced.add(table.fullName());
+            }
+        }
+        return referenced;
+    }
+
+    @NotNull
+    private static String unquote(@NotNull String name) {
+        if (name.length() > 1 && "\"`[".indexOf(name.charAt(0)) >= 0 && "\"`]".indexOf(name.charAt(name.length() - 1)) >= 0) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+
+    @NotNull
+    private static Map<String, Set<String>> getNeighbors(@NotNull List<TableDigest> tables) {
+        Map<String, Set<String>> neighbors = new HashMap<>();
+        for (TableDigest table : tables) {
+            for (String link : table.links()) {
+                if (!link.equals(table.fullName())) {
+                    neighbors.computeIfAbsent(table.fullName(), k -> new HashSet<>()).add(link);
+                    neighbors.computeIfAbsent(link, k -> new HashSet<>()).add(table.fullName());
+                }
+            }
+        }
+        return neighbors;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.metadata;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact summary of a table used to build AI completion prompts.
+ *
+ * @param fullName   fully qualified table name, identifies the table in the digest
+ * @param name       table name as it is written in queries
+ * @param parentName fully qualified name of the table container, used to decide whether the name must be qualified.
+ *                   Digests are cached per table object, so they must not reference metadata objects
+ * @param prefix     prompt text before the table name
+ * @param body       prompt text after the table name (columns and extra description)
+ * @param terms      search terms from the table and column names and comments
+ * @param links      full names of tables referenced by foreign keys
+ */
+public record TableDigest(
+    @NotNull String fullName,
+    @NotNull String name,
+    @Nullable String parentName,
+    @NotNull String prefix,
+    @NotNull String body,
+    @NotNull List<String> terms,
+    @NotNull Set<String> links
+) {
+
+    @NotNull
+    public String getPrompt(boolean useFullyQualifiedName) {
+        return prefix + (useFullyQualifiedName ? fullName : name) + body;
+    }
+
+}
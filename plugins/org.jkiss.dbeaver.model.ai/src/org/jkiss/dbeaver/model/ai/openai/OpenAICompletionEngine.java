@@ -161,6 +161,7 @@ public class OpenAICompletionEngine extends AbstractAICompletionEngine<GPTComple
         final DAICompletionMessage metadataMessage = MetadataProcessor.INSTANCE.createMetadataMessage(
             monitor,
             context,
+            messages,
             mainObject,
             formatter,
             model.isChatAPI(),
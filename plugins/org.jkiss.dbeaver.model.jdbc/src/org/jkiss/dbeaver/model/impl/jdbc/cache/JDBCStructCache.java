@@ -47,13 +47,34 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
 {
     private static final Log log = Log.getLog(JDBCStructCache.class);
 
+    // Max number of objects which children are read with one query
+    private static final int MAX_CHILDREN_BATCH_SIZE = 100;
+
     private final Object objectNameColumn;
     private volatile boolean childrenCached = false;
     private final Map<OBJECT, SimpleObjectCache<OBJECT, CHILD>> childrenCache = new IdentityHashMap<>();
+    // Objects which children were requested but not read yet
+    private final Set<OBJECT> pendingObjects = Collections.newSetFromMap(new IdentityHashMap<>());
 
     abstract protected JDBCStatement prepareChildrenStatement(@NotNull JDBCSession session, @NotNull OWNER owner, @Nullable OBJECT forObject)
         throws SQLException;
 
+    /**
+     * Prepares statement which reads children of several objects at once.
+     * Result set must contain object name column (the same way as when children of all objects are read).
+     * <p>
+     * When children of different objects are requested at the same time (e.g. by several editors or by
+     * SQL completion) they are read with one query instead of a query per object.
+     *
+     * @return statement or null if batch read is not supported. In this case children of each object are read separately.
+     */
+    @Nullable
+    protected JDBCStatement prepareChildrenBatchStatement(@NotNull JDBCSession session, @NotNull OWNER owner, @NotNull List<OBJECT> forObjects)
+        throws SQLException
+    {
+        return null;
+    }
+
     abstract protected CHILD fetchChild(@NotNull JDBCSession session, @NotNull OWNER owner, @NotNull OBJECT parent, @NotNull JDBCResultSet dbResult)
         throws SQLException, DBException;
 
@@ -72,7 +93,26 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
      * @throws org.jkiss.dbeaver.DBException
      *             on error
      */
-    public synchronized void loadChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException
+    public void loadChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException
+    {
+        if (forObject == null) {
+            readChildren(monitor, owner, null);
+            return;
+        }
+        // Register request, so the thread which reads children now or the next one may read them in the same batch
+        synchronized (pendingObjects) {
+            pendingObjects.add(forObject);
+        }
+        try {
+            readChildren(monitor, owner, forObject);
+        } finally {
+            synchronized (pendingObjects) {
+                pendingObjects.remove(forObject);
+            }
+        }
+    }
+
+    private synchronized void readChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException
     {
         if ((forObject == null && this.childrenCached)
             || (forObject != null && (!forObject.isPersisted() || isChildrenCached(forObject))) || monitor.isCanceled()) {
@@ -92,8 +132,23 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         try (JDBCSession session = DBUtils.openMetaSession(monitor, owner, "Load child objects")) {
             Map<OBJECT, List<CHILD>> objectMap = new HashMap<>();
 
+            List<OBJECT> batchObjects = forObject == null ? null : getPendingObjects(forObject);
+            JDBCStatement childrenStatement = null;
+            if (batchObjects != null) {
+                childrenStatement = prepareChildrenBatchStatement(session, owner, batchObjects);
+            }
+            if (childrenStatement == null) {
+                batchObjects = null;
+                childrenStatement = prepareChildrenStatement(session, owner, forObject);
+            }
+            Set<OBJECT> batchObjectSet = null;
+            if (batchObjects != null) {
+                batchObjectSet = Collections.newSetFromMap(new IdentityHashMap<>());
+                batchObjectSet.addAll(batchObjects);
+            }
+
             // Load columns
-            try (JDBCStatement dbStat = prepareChildrenStatement(session, owner, forObject)) {
+            try (JDBCStatement dbStat = childrenStatement) {
                 dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
                 dbStat.executeStatement();
                 JDBCResultSet dbResult = dbStat.getResultSet();
@@ -103,7 +158,7 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
                             if (monitor.isCanceled()) {
                                 return;
                             }
-                            OBJECT object = forObject;
+                            OBJECT object = batchObjects == null ? forObject : null;
                             if (object == null) {
                                 String objectName;
                                 if (objectNameColumn instanceof Number) {
@@ -121,6 +176,9 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
                                     log.debug("Object '" + objectName + "' not found in struct cache (" + getClass().getSimpleName() + ")");
                                     continue;
                                 }
+                                if (batchObjectSet != null && !batchObjectSet.contains(object)) {
+                                    continue;
+                                }
                             }
                             if (isChildrenCached(object)) {
                                 // Already read
@@ -165,6 +223,12 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
                                 }
                                 this.childrenCached = true;
                             }
+                        } else if (batchObjects != null) {
+                            for (OBJECT batchObject : batchObjects) {
+                                if (!objectMap.containsKey(batchObject) && !isChildrenCached(batchObject)) {
+                                    cacheChildren(batchObject, new ArrayList<>());
+                                }
+                            }
                         } else if (!objectMap.containsKey(forObject)) {
                             cacheChildren(forObject, new ArrayList<>());
                         }
@@ -178,6 +242,27 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         }
     }
 
+    /**
+     * Returns requested object and other objects which children were requested but not read yet.
+     * Returns null if there are no other such objects.
+     */
+    @Nullable
+    private List<OBJECT> getPendingObjects(@NotNull OBJECT forObject) {
+        List<OBJECT> objects = new ArrayList<>();
+        objects.add(forObject);
+        synchronized (pendingObjects) {
+            for (OBJECT object : pendingObjects) {
+                if (objects.size() >= MAX_CHILDREN_BATCH_SIZE) {
+                    break;
+                }
+                if (object != forObject && object.isPersisted() && !isChildrenCached(object)) {
+                    objects.add(object);
+                }
+            }
+        }
+        return objects.size() > 1 ? objects : null;
+    }
+
     @Override
     public void removeObject(@NotNull OBJECT object, boolean resetFullCache)
     {
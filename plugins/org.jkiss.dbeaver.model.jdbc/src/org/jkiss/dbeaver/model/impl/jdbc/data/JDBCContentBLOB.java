@@ -26,6 +26,7 @@ import org.jkiss.dbeaver.model.data.DBDContentCached;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
 import org.jkiss.dbeaver.model.data.storage.BytesContentStorage;
+import org.jkiss.dbeaver.model.data.storage.StreamContentStorage;
 import org.jkiss.dbeaver.model.data.storage.TemporaryContentStorage;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
@@ -38,6 +39,7 @@ import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.dbeaver.utils.MimeTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -134,6 +136,36 @@ public class JDBCContentBLOB extends JDBCContentLOB {
         return storage;
     }
 
+    /**
+     * Large BLOBs are streamed directly from the driver instead of being copied into a temporary file first.
+     * Smaller ones are read into memory as usual.
+     * Read errors are handled the same way as in {@link #getContents(DBRProgressMonitor)}.
+     */
+    @Override
+    public DBDContentStorage getStreamedContents(@NotNull DBRProgressMonitor monitor) throws DBCException {
+        if (storage != null || blob == null) {
+            return storage;
+        }
+        long contentLength;
+        try {
+            contentLength = getContentLength();
+        } catch (DBCException e) {
+            handleContentReadingException(e);
+            return null;
+        }
+        if (contentLength < DBWorkbench.getPlatform().getPreferenceStore().getInt(ModelPreferences.MEMORY_CONTENT_MAX_SIZE)) {
+            return getContents(monitor);
+        }
+        releaseTempStream();
+        try {
+            tmpStream = new ContentReadingStream(blob.getBinaryStream());
+        } catch (Throwable e) {
+            handleContentReadingException(new DBCException(e, executionContext));
+            return null;
+        }
+        return new StreamContentStorage(tmpStream, contentLength, getDefaultEncoding());
+    }
+
     @Override
     public void release()
     {
@@ -155,6 +187,44 @@ public class JDBCContentBLOB extends JDBCContentLOB {
         }
     }
 
+    /**
+     * Driver stream which reports read errors with {@link #handleContentReadingException(DBCException)}
+     */
+    private class ContentReadingStream extends FilterInputStream {
+
+        ContentReadingStream(InputStream stream) {
+            super(stream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw handleStreamReadingException(e);
+            }
+        }
+
+        @Override
+        public int read(@NotNull byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                throw handleStreamReadingException(e);
+            }
+        }
+
+        @NotNull
+        private IOException handleStreamReadingException(@NotNull IOException e) {
+            try {
+                handleContentReadingException(new DBCException("IO error while reading content", e));
+            } catch (DBCException handled) {
+                return new IOException(handled.getMessage(), handled);
+            }
+            return e;
+        }
+    }
+
     private void releaseTempStream() {
         if (tmpStream != null) {
             ContentUtils.close(tmpStream);
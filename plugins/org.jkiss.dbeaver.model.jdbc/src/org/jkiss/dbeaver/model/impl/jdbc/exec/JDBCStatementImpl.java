@@ -145,6 +145,17 @@ public class JDBCStatementImpl<STATEMENT extends Statement> extends AbstractStat
         }
     }
 
+    @Override
+    public void addToBatch(@NotNull String query) throws DBCException
+    {
+        try {
+            addBatch(query);
+        }
+        catch (SQLException e) {
+            throw new DBCException(e, connection.getExecutionContext());
+        }
+    }
+
     @Override
     public int[] executeStatementBatch() throws DBCException
     {
@@ -0,0 +1,676 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.qm.QMEventAction;
+import org.jkiss.dbeaver.model.qm.QMMetaEvent;
+import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.qm.meta.QMMStatementExecuteInfo;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSTypedObject;
+import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
+import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Client-side cache of read-only query results.
+ * Results are stored in compressed files in the temp folder, the in-memory index keeps
+ * entries in LRU order and limits the total size of cached files.
+ * Cache of the data source is invalidated when any statement updates rows in it.
+ */
+public class SQLQueryResultCache {
+
+    private static final Log log = Log.getLog(SQLQueryResultCache.class);
+
+    private static final String CACHE_FOLDER_NAME = "query-result-cache";
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BOOLEAN = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_FLOAT = 5;
+    private static final byte TYPE_DOUBLE = 6;
+    private static final byte TYPE_BIG_DECIMAL = 7;
+    private static final byte TYPE_BIG_INTEGER = 8;
+    private static final byte TYPE_TIMESTAMP = 9;
+    private static final byte TYPE_SQL_DATE = 10;
+    private static final byte TYPE_SQL_TIME = 11;
+    private static final byte TYPE_DATE = 12;
+    private static final byte TYPE_LOCAL_DATE = 13;
+    private static final byte TYPE_LOCAL_TIME = 14;
+    private static final byte TYPE_LOCAL_DATE_TIME = 15;
+    private static final byte TYPE_BYTES = 16;
+    private static final byte TYPE_SHORT = 17;
+    private static final byte TYPE_BYTE = 18;
+
+    private static SQLQueryResultCache instance;
+
+    /**
+     * Query result identity. Query text contains bound parameter values and filters,
+     * its comments and whitespaces are collapsed with {@link #normalizeQueryText(String)}.
+     */
+    public record CacheKey(
+        @NotNull String containerId,
+        @Nullable String catalog,
+        @Nullable String schema,
+        @NotNull String queryText,
+        long offset,
+        long maxRows
+    ) {
+    }
+
+    /**
+     * Result set column description
+     */
+    public record CachedColumn(
+        @NotNull String label,
+        @NotNull String typeName,
+        @NotNull String fullTypeName,
+        int typeID,
+        @NotNull DBPDataKind dataKind,
+        @Nullable Integer scale,
+        @Nullable Integer precision,
+        long maxLength,
+        long typeModifiers
+    ) implements DBSTypedObject {
+
+        public static CachedColumn of(@NotNull String label, @NotNull DBSTypedObject type) {
+            return new CachedColumn(
+                label,
+                type.getTypeName(),
+                type.getFullTypeName(),
+                type.getTypeID(),
+                type.getDataKind(),
+                type.getScale(),
+                type.getPrecision(),
+                type.getMaxLength(),
+                type.getTypeModifiers());
+        }
+
+        @NotNull
+        @Override
+        public String getTypeName() {
+            return typeName;
+        }
+
+        @NotNull
+        @Override
+        public String getFullTypeName() {
+            return fullTypeName;
+        }
+
+        @Override
+        public int getTypeID() {
+            return typeID;
+        }
+
+        @NotNull
+        @Override
+        public DBPDataKind getDataKind() {
+            return dataKind;
+        }
+
+        @Nullable
+        @Override
+        public Integer getScale() {
+            return scale;
+        }
+
+        @Nullable
+        @Override
+        public Integer getPrecision() {
+            return precision;
+        }
+
+        @Override
+        public long getMaxLength() {
+            return maxLength;
+        }
+
+        @Override
+        public long getTypeModifiers() {
+            return typeModifiers;
+        }
+    }
+
+    /**
+     * Cached result set
+     */
+    public record CachedResult(
+        @NotNull List<CachedColumn> columns,
+        @NotNull List<Object[]> rows,
+        long createTime
+    ) {
+        /**
+         * Makes read-only result set with cached rows
+         */
+        @NotNull
+        public DBCResultSet openResultSet(@NotNull DBCSession session, @NotNull DBCStatement statement) {
+            LocalResultSet<DBCStatement> resultSet = new LocalResultSet<>(session, statement);
+            for (CachedColumn column : columns) {
+                resultSet.addColumn(column.label(), column);
+            }
+            for (Object[] row : rows) {
+                resultSet.addRow(row);
+            }
+            return resultSet;
+        }
+    }
+
+    private static class CacheEntry {
+        private final Path file;
+        private final long size;
+        private final long createTime;
+
+        CacheEntry(@NotNull Path file, long size, long createTime) {
+            this.file = file;
+            this.size = size;
+            this.createTime = createTime;
+        }
+    }
+
+    // Access order makes iteration start from the least recently used entry
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+    private Path cacheFolder;
+
+    @NotNull
+    public static synchronized SQLQueryResultCache getInstance() {
+        if (instance == null) {
+            instance = new SQLQueryResultCache();
+            try {
+                QMUtils.registerMetaListener(instance::handleQueryEvents);
+            } catch (Exception e) {
+                log.debug("Can't register query manager listener, cache won't be invalidated by updates", e);
+            }
+        }
+        return instance;
+    }
+
+    private SQLQueryResultCache() {
+    }
+
+    /**
+     * Creates cache which stores results in the specified folder.
+     * It is not invalidated by query manager events.
+     */
+    public SQLQueryResultCache(@NotNull Path cacheFolder) {
+        this.cacheFolder = cacheFolder;
+    }
+
+    @NotNull
+    public static CacheKey makeKey(@NotNull DBCExecutionContext context, @NotNull String queryText, long offset, long maxRows) {
+        String catalog = null, schema = null;
+        DBCExecutionContextDefaults<?, ?> contextDefaults = context.getContextDefaults();
+        if (contextDefaults != null) {
+            DBSCatalog defaultCatalog = contextDefaults.getDefaultCatalog();
+            DBSSchema defaultSchema = contextDefaults.getDefaultSchema();
+            catalog = defaultCatalog == null ? null : defaultCatalog.getName();
+            schema = defaultSchema == null ? null : defaultSchema.getName();
+        }
+        return new CacheKey(
+            context.getDataSource().getContainer().getId(),
+            catalog,
+            schema,
+            normalizeQueryText(queryText),
+            offset,
+            maxRows);
+    }
+
+    /**
+     * Removes comments and replaces whitespace sequences with a single space.
+     * Case is never changed and quoted text is kept as is, so different queries never get the same text.
+     * Text which is a comment only in some dialects ('--' without a space, MySQL '#') is kept up to the end of line,
+     * it only makes equal queries use different cache entries.
+     */
+    @NotNull
+    public static String normalizeQueryText(@NotNull String queryText) {
+        StringBuilder result = new StringBuilder(queryText.length());
+        int length = queryText.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; ) {
+            char c = queryText.charAt(i);
+            int end;
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            } else if (c == '-' && queryText.startsWith("--", i) && (i + 2 == length || Character.isWhitespace(queryText.charAt(i + 2)))) {
+                end = queryText.indexOf('\n', i);
+                pendingSpace = true;
+                i = end < 0 ? length : end;
+                continue;
+            } else if (c == '#' || (c == '-' && queryText.startsWith("--", i))) {
+                end = queryText.indexOf('\n', i);
+                end = end < 0 ? length : end + 1;
+            } else if (c == '/' && queryText.startsWith("/*", i) && !queryText.startsWith("/*!", i) && !queryText.startsWith("/*+", i)) {
+                // MySQL executable comments and optimizer hints are part of the query
+                end = queryText.indexOf("*/", i + 2);
+                pendingSpace = true;
+                i = end < 0 ? length : end + 2;
+                continue;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                end = findQuoteEnd(queryText, i + 1, c);
+            } else if (c == '$') {
+                end = findDollarQuoteEnd(queryText, i);
+            } else {
+                end = i + 1;
+            }
+            if (pendingSpace && !result.isEmpty()) {
+                result.append(' ');
+            }
+            pendingSpace = false;
+            result.append(queryText, i, end);
+            i = end;
+        }
+        return result.toString();
+    }
+
+    private static int findQuoteEnd(@NotNull String text, int start, char quote) {
+        // Backslash is treated as escape in all dialects: string may become longer but never shorter than the real one
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == quote) {
+                return i + 1;
+            }
+        }
+        return text.length();
+    }
+
+    private static int findDollarQuoteEnd(@NotNull String text, int start) {
+        // PostgreSQL $tag$...$tag$ strings, $1 parameters are not quotes
+        int tagEnd = start + 1;
+        while (tagEnd < text.length() && isDollarTagChar(text.charAt(tagEnd), tagEnd == start + 1)) {
+            tagEnd++;
+        }
+        if (tagEnd >= text.length() || text.charAt(tagEnd) != '$') {
+            return start + 1;
+        }
+        String tag = text.substring(start, tagEnd + 1);
+        int end = text.indexOf(tag, tagEnd + 1);
+        return end < 0 ? text.length() : end + tag.length();
+    }
+
+    private static boolean isDollarTagChar(char c, boolean first) {
+        return Character.isLetter(c) || c == '_' || (!first && Character.isDigit(c));
+    }
+
+    /**
+     * Returns cached result or null if there is no result or it is older than ttl milliseconds
+     */
+    @Nullable
+    public CachedResult get(@NotNull CacheKey key, long ttl) {
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - entry.createTime > ttl) {
+                removeEntry(key);
+                return null;
+            }
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(entry.file))))) {
+            return readResult(in, entry.createTime);
+        } catch (IOException e) {
+            log.debug("Error reading cached query results", e);
+            synchronized (entries) {
+                if (entries.get(key) == entry) {
+                    removeEntry(key);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Saves result in the cache. Least recently used results are removed if the total cache size exceeds maxSize bytes.
+     * Returns false if result contains values which can't be cached.
+     */
+    public boolean put(@NotNull CacheKey key, @NotNull List<CachedColumn> columns, @NotNull List<Object[]> rows, long maxSize) {
+        if (!isCacheable(rows)) {
+            return false;
+        }
+        Path file;
+        long size;
+        try {
+            file = Files.createTempFile(getCacheFolder(), "result", ".bin");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))))) {
+                writeResult(out, columns, rows);
+            }
+            size = Files.size(file);
+        } catch (IOException e) {
+            log.debug("Error writing cached query results", e);
+            return false;
+        }
+        synchronized (entries) {
+            removeEntry(key);
+            entries.put(key, new CacheEntry(file, size, System.currentTimeMillis()));
+            totalSize += size;
+            Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (totalSize > maxSize && iterator.hasNext()) {
+                CacheEntry staleEntry = iterator.next().getValue();
+                iterator.remove();
+                deleteEntryFile(staleEntry);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns total size of cached result files in bytes
+     */
+    public long getTotalSize() {
+        synchronized (entries) {
+            return totalSize;
+        }
+    }
+
+    public void remove(@NotNull CacheKey key) {
+        synchronized (entries) {
+            removeEntry(key);
+        }
+    }
+
+    /**
+     * Removes all cached results of the data source
+     */
+    public void invalidate(@NotNull String containerId) {
+        synchronized (entries) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<CacheKey, CacheEntry> entry = iterator.next();
+                if (entry.getKey().containerId().equals(containerId)) {
+                    iterator.remove();
+                    deleteEntryFile(entry.getValue());
+                }
+            }
+        }
+    }
+
+    private void removeEntry(@NotNull CacheKey key) {
+        CacheEntry entry = entries.remove(key);
+        if (entry != null) {
+            deleteEntryFile(entry);
+        }
+    }
+
+    private void deleteEntryFile(@NotNull CacheEntry entry) {
+        totalSize -= entry.size;
+        try {
+            Files.deleteIfExists(entry.file);
+        } catch (IOException e) {
+            log.debug("Error deleting cached query results", e);
+        }
+    }
+
+    @NotNull
+    private synchronized Path getCacheFolder() throws IOException {
+        if (cacheFolder == null) {
+            DBRProgressMonitor monitor = new VoidProgressMonitor();
+            cacheFolder = DBWorkbench.getPlatform().getTempFolder(monitor, CACHE_FOLDER_NAME);
+            // Results of the previous session are not indexed
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheFolder)) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        return cacheFolder;
+    }
+
+    private void handleQueryEvents(@NotNull DBRProgressMonitor monitor, @NotNull List<QMMetaEvent> events) {
+        for (QMMetaEvent event : events) {
+            if (event.getAction() == QMEventAction.END
+                && event.getObject() instanceof QMMStatementExecuteInfo execute
+                && execute.getUpdateRowCount() > 0
+            ) {
+                invalidate(execute.getConnection().getContainerId());
+            }
+        }
+    }
+
+    private static boolean isCacheable(@NotNull List<Object[]> rows) {
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                if (value != null && getValueType(value) < 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static byte getValueType(@NotNull Object value) {
+        // Subclasses go first
+        if (value instanceof String) {
+            return TYPE_STRING;
+        } else if (value instanceof Boolean) {
+            return TYPE_BOOLEAN;
+        } else if (value instanceof Byte) {
+            return TYPE_BYTE;
+        } else if (value instanceof Short) {
+            return TYPE_SHORT;
+        } else if (value instanceof Integer) {
+            return TYPE_INTEGER;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof Float) {
+            return TYPE_FLOAT;
+        } else if (value instanceof Double) {
+            return TYPE_DOUBLE;
+        } else if (value instanceof BigDecimal) {
+            return TYPE_BIG_DECIMAL;
+        } else if (value instanceof BigInteger) {
+            return TYPE_BIG_INTEGER;
+        } else if (value instanceof Timestamp) {
+            return TYPE_TIMESTAMP;
+        } else if (value instanceof java.sql.Date) {
+            return TYPE_SQL_DATE;
+        } else if (value instanceof Time) {
+            return TYPE_SQL_TIME;
+        } else if (value.getClass() == Date.class) {
+            return TYPE_DATE;
+        } else if (value instanceof LocalDate) {
+            return TYPE_LOCAL_DATE;
+        } else if (value instanceof LocalTime) {
+            return TYPE_LOCAL_TIME;
+        } else if (value instanceof LocalDateTime) {
+            return TYPE_LOCAL_DATE_TIME;
+        } else if (value instanceof byte[]) {
+            return TYPE_BYTES;
+        }
+        return -1;
+    }
+
+    private static void writeResult(@NotNull DataOutputStream out, @NotNull List<CachedColumn> columns, @NotNull List<Object[]> rows) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(columns.size());
+        for (CachedColumn column : columns) {
+            out.writeUTF(column.label());
+            out.writeUTF(column.typeName());
+            out.writeUTF(column.fullTypeName());
+            out.writeInt(column.typeID());
+            out.writeUTF(column.dataKind().name());
+            out.writeInt(column.scale() == null ? Integer.MIN_VALUE : column.scale());
+            out.writeInt(column.precision() == null ? Integer.MIN_VALUE : column.precision());
+            out.writeLong(column.maxLength());
+            out.writeLong(column.typeModifiers());
+        }
+        out.writeInt(rows.size());
+        for (Object[] row : rows) {
+            out.writeInt(row.length);
+            for (Object value : row) {
+                writeValue(out, value);
+            }
+        }
+    }
+
+    @NotNull
+    private static CachedResult readResult(@NotNull DataInputStream in, long createTime) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported cache format version");
+        }
+        int columnCount = in.readInt();
+        List<CachedColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String label = in.readUTF();
+            String typeName = in.readUTF();
+            String fullTypeName = in.readUTF();
+            int typeID = in.readInt();
+            DBPDataKind dataKind = DBPDataKind.valueOf(in.readUTF());
+            int scale = in.readInt();
+            int precision = in.readInt();
+            columns.add(new CachedColumn(
+                label,
+                typeName,
+                fullTypeName,
+                typeID,
+                dataKind,
+                scale == Integer.MIN_VALUE ? null : scale,
+                precision == Integer.MIN_VALUE ? null : precision,
+                in.readLong(),
+                in.readLong()));
+        }
+        int rowCount = in.readInt();
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Object[] row = new Object[in.readInt()];
+            for (int k = 0; k < row.length; k++) {
+                row[k] = readValue(in);
+            }
+            rows.add(row);
+        }
+        return new CachedResult(columns, rows, createTime);
+    }
+
+    private static void writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+            return;
+        }
+        byte type = getValueType(value);
+        out.writeByte(type);
+        switch (type) {
+            case TYPE_STRING -> writeString(out, (String) value);
+            case TYPE_BOOLEAN -> out.writeBoolean((Boolean) value);
+            case TYPE_BYTE -> out.writeByte((Byte) value);
+            case TYPE_SHORT -> out.writeShort((Short) value);
+            case TYPE_INTEGER -> out.writeInt((Integer) value);
+            case TYPE_LONG -> out.writeLong((Long) value);
+            case TYPE_FLOAT -> out.writeFloat((Float) value);
+            case TYPE_DOUBLE -> out.writeDouble((Double) value);
+            case TYPE_BIG_DECIMAL, TYPE_BIG_INTEGER, TYPE_LOCAL_DATE, TYPE_LOCAL_TIME, TYPE_LOCAL_DATE_TIME ->
+                out.writeUTF(value.toString());
+            case TYPE_TIMESTAMP -> {
+                out.writeLong(((Timestamp) value).getTime());
+                out.writeInt(((Timestamp) value).getNanos());
+            }
+            case TYPE_SQL_DATE, TYPE_SQL_TIME, TYPE_DATE -> out.writeLong(((Date) value).getTime());
+            case TYPE_BYTES -> {
+                out.writeInt(((byte[]) value).length);
+                out.write((byte[]) value);
+            }
+            default -> throw new IOException("Value of type " + value.getClass().getName() + " can't be cached");
+        }
+    }
+
+    @Nullable
+    private static Object readValue(@NotNull DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_STRING -> readString(in);
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_BYTE -> in.readByte();
+            case TYPE_SHORT -> in.readShort();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_LONG -> in.readLong();
+            case TYPE_FLOAT -> in.readFloat();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BIG_DECIMAL -> new BigDecimal(in.readUTF());
+            case TYPE_BIG_INTEGER -> new BigInteger(in.readUTF());
+            case TYPE_LOCAL_DATE -> LocalDate.parse(in.readUTF());
+            case TYPE_LOCAL_TIME -> LocalTime.parse(in.readUTF());
+            case TYPE_LOCAL_DATE_TIME -> LocalDateTime.parse(in.readUTF());
+            case TYPE_TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                yield timestamp;
+            }
+            case TYPE_SQL_DATE -> new java.sql.Date(in.readLong());
+            case TYPE_SQL_TIME -> new Time(in.readLong());
+            case TYPE_DATE -> new Date(in.readLong());
+            case TYPE_BYTES -> {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                yield bytes;
+            }
+            default -> throw new IOException("Bad cached value type: " + type);
+        };
+    }
+
+    private static void writeString(@NotNull DataOutputStream out, @NotNull String value) throws IOException {
+        // writeUTF is limited to 64K bytes
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @NotNull
+    private static String readString(@NotNull DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data receiver which passes fetched rows to the target receiver and saves them in the query result cache.
+ * Values are read once with the regular value handlers, the target receiver gets them from the wrapping result set.
+ */
+public class SQLQueryResultCacheReceiver implements DBDDataReceiver {
+
+    private static final Log log = Log.getLog(SQLQueryResultCacheReceiver.class);
+
+    /**
+     * Larger results are not cached
+     */
+    public static final int MAX_CACHED_ROWS = 100_000;
+
+    private final DBDDataReceiver target;
+    private final DBSDataContainer dataContainer;
+    private final SQLQueryResultCache.CacheKey cacheKey;
+    private final long maxCacheSize;
+
+    private DBDAttributeBinding[] bindings;
+    @Nullable
+    private RecordingResultSet recordingResultSet;
+    private final List<SQLQueryResultCache.CachedColumn> columns = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+    private boolean cacheable = true;
+
+    public SQLQueryResultCacheReceiver(
+        @NotNull DBDDataReceiver target,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull SQLQueryResultCache.CacheKey cacheKey,
+        long maxCacheSize
+    ) {
+        this.target = target;
+        this.dataContainer = dataContainer;
+        this.cacheKey = cacheKey;
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    @Override
+    public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+        DBCResultSetMetaData metaData = resultSet.getMeta();
+        bindings = DBUtils.getAttributeBindings(session, dataContainer, metaData);
+        for (DBDAttributeBinding binding : bindings) {
+            DBSAttributeBase attribute = binding.getAttribute();
+            if (attribute == null || !isCacheableKind(attribute.getDataKind())) {
+                // Complex values are bound to the connection, let target receiver read the source result set
+                cacheable = false;
+                target.fetchStart(session, resultSet, offset, maxRows);
+                return;
+            }
+            columns.add(SQLQueryResultCache.CachedColumn.of(CommonUtils.notEmpty(binding.getLabel()), attribute));
+        }
+        recordingResultSet = new RecordingResultSet(session, resultSet);
+        target.fetchStart(session, recordingResultSet, offset, maxRows);
+    }
+
+    private static boolean isCacheableKind(@NotNull DBPDataKind dataKind) {
+        return switch (dataKind) {
+            case BOOLEAN, NUMERIC, STRING, DATETIME, BINARY -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        if (recordingResultSet == null) {
+            target.fetchRow(session, resultSet);
+            return;
+        }
+        Object[] row = new Object[bindings.length];
+        for (DBDAttributeBinding binding : bindings) {
+            int index = binding.getOrdinalPosition();
+            DBSAttributeBase attribute = binding.getAttribute();
+            if (attribute == null || index < 0 || index >= row.length) {
+                cacheable = false;
+                continue;
+            }
+            try {
+                row[index] = binding.getValueHandler().fetchValueObject(session, resultSet, attribute, index);
+            } catch (Throwable e) {
+                row[index] = new DBDValueError(e);
+            }
+            if (row[index] instanceof DBDValue) {
+                // Contents, collections and errors depend on the connection
+                cacheable = false;
+            }
+        }
+        if (cacheable) {
+            if (rows.size() < MAX_CACHED_ROWS) {
+                rows.add(row);
+            } else {
+                cacheable = false;
+                rows.clear();
+            }
+        }
+        recordingResultSet.setCurrentRow(row);
+        target.fetchRow(session, recordingResultSet);
+    }
+
+    @Override
+    public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        try {
+            target.fetchEnd(session, recordingResultSet == null ? resultSet : recordingResultSet);
+        } finally {
+            // Canceled fetch returns incomplete results
+            if (cacheable && !session.getProgressMonitor().isCanceled()) {
+                try {
+                    SQLQueryResultCache.getInstance().put(cacheKey, columns, rows, maxCacheSize);
+                } catch (Exception e) {
+                    log.debug("Error caching query results", e);
+                }
+            }
+            rows.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        target.close();
+    }
+
+    @NotNull
+    @Override
+    public DBCStatistics getStatistics() {
+        return target.getStatistics();
+    }
+
+    /**
+     * Exposes source result set metadata and values read by the cache receiver
+     */
+    private static class RecordingResultSet extends LocalResultSet<DBCStatement> {
+        private final DBCResultSet source;
+
+        RecordingResultSet(@NotNull DBCSession session, @NotNull DBCResultSet source) {
+            super(session, source.getSourceStatement());
+            this.source = source;
+        }
+
+        void setCurrentRow(@NotNull Object[] row) {
+            rows.clear();
+            rows.add(row);
+            curPosition = 0;
+        }
+
+        @Override
+        public boolean nextRow() {
+            return false;
+        }
+
+        @NotNull
+        @Override
+        public DBCResultSetMetaData getMeta() throws DBCException {
+            return source.getMeta();
+        }
+
+        @Nullable
+        @Override
+        public Object getAttributeValue(String name) throws DBCException {
+            List<? extends DBCAttributeMetaData> attributes = source.getMeta().getAttributes();
+            for (int i = 0; i < attributes.size(); i++) {
+                if (attributes.get(i).getName().equals(name)) {
+                    return getAttributeValue(i);
+                }
+            }
+            throw new DBCException("Bad attribute name: " + name);
+        }
+
+        @Nullable
+        @Override
+        public String getResultSetName() throws DBCException {
+            return source.getResultSetName();
+        }
+
+        @Override
+        public Object getFeature(String name) {
+            return source.getFeature(name);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.dbeaver.model.sql.SQLQueryType;
+import org.jkiss.dbeaver.model.sql.SQLScriptElement;
+import org.jkiss.utils.CommonUtils;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Executes runs of consecutive DML script queries without parameters as statement batches.
+ * <p>
+ * If batch fails and driver reports update counts ({@link BatchUpdateException}), the caller continues script execution
+ * from the first failed query in regular (one by one) mode, so errors are reported and handled exactly as without batching.
+ * Some drivers continue batch execution after the failed query. Queries executed this way are remembered
+ * and must be skipped by the caller (see {@link #isExecuted(int)}).
+ * If driver fails without update counts then some queries of the batch may be already applied,
+ * the caller must report the error for the whole batch and stop (see {@link BatchResult#resumable()}).
+ */
+public class SQLScriptBatchExecutor {
+
+    public record BatchResult(
+        // Number of leading queries executed successfully. Script execution continues from the next one.
+        int executedCount,
+        // Total number of successfully executed queries (including those executed after the failed one)
+        int statementsCount,
+        long updateCount,
+        @Nullable Throwable error,
+        // Script may continue from the first failed query. False if it is unknown which queries were executed.
+        boolean resumable
+    ) {
+    }
+
+    private final List<? extends SQLScriptElement> queries;
+    private final int batchSize;
+    private final BitSet executedQueries = new BitSet();
+    private int failedQueryNum = -1;
+
+    public SQLScriptBatchExecutor(@NotNull List<? extends SQLScriptElement> queries, int batchSize) {
+        this.queries = queries;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return batchSize > 1;
+    }
+
+    /**
+     * Checks whether the query was already executed as a part of a failed batch
+     */
+    public boolean isExecuted(int queryNum) {
+        return executedQueries.get(queryNum);
+    }
+
+    /**
+     * Returns end index (exclusive) of the batch which starts from the specified query.
+     * If returned batch consists of less than two queries then they should be executed in regular mode.
+     *
+     * @param filter additional caller-specific check of queries
+     */
+    public int getBatchEnd(int queryNum, @NotNull Predicate<SQLScriptElement> filter) {
+        if (!isEnabled() || queryNum == failedQueryNum) {
+            // Failed query is always re-executed in regular mode
+            return queryNum;
+        }
+        int batchEnd = queryNum;
+        while (batchEnd < queries.size() && batchEnd - queryNum < batchSize && !executedQueries.get(batchEnd)) {
+            SQLScriptElement query = queries.get(batchEnd);
+            if (!isBatchableQuery(query) || !filter.test(query)) {
+                break;
+            }
+            batchEnd++;
+        }
+        return batchEnd;
+    }
+
+    /**
+     * Adds queries [fromIndex, toIndex) to the statement batch and executes it.
+     * Statement must be a plain (not prepared) statement.
+     */
+    @NotNull
+    public BatchResult executeBatch(@NotNull DBCStatement statement, int fromIndex, int toIndex) {
+        int[] updateCounts = null;
+        Throwable error = null;
+        boolean executeStarted = false;
+        try {
+            for (int i = fromIndex; i < toIndex; i++) {
+                statement.addToBatch(queries.get(i).getText());
+            }
+            executeStarted = true;
+            updateCounts = statement.executeStatementBatch();
+        } catch (Throwable e) {
+            error = e;
+            for (Throwable cause = e; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+                if (cause instanceof BatchUpdateException batchError) {
+                    updateCounts = batchError.getUpdateCounts();
+                    break;
+                }
+            }
+        }
+
+        if (error != null && executeStarted && updateCounts == null) {
+            // Driver could apply some queries before the error, re-execution would repeat them
+            return new BatchResult(0, 0, 0, error, false);
+        }
+        final int batchLength = toIndex - fromIndex;
+        int executedCount = error == null ? batchLength : 0;
+        if (error != null && updateCounts != null) {
+            // Drivers either stop on the first failed query or continue with the rest of the batch
+            while (executedCount < updateCounts.length && updateCounts[executedCount] != Statement.EXECUTE_FAILED) {
+                executedCount++;
+            }
+        }
+        if (error != null) {
+            failedQueryNum = fromIndex + executedCount;
+        }
+        int statementsCount = executedCount;
+        long updateCount = 0;
+        if (updateCounts != null) {
+            for (int i = 0; i < updateCounts.length && i < batchLength; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    continue;
+                }
+                if (i > executedCount) {
+                    executedQueries.set(fromIndex + i);
+                    statementsCount++;
+                }
+                if (updateCounts[i] > 0) {
+                    updateCount += updateCounts[i];
+                }
+            }
+        }
+        return new BatchResult(executedCount, statementsCount, updateCount, error, true);
+    }
+
+    /**
+     * Handles error which happened before batch execution (e.g. statement creation)
+     */
+    @NotNull
+    public BatchResult handleBatchError(int fromIndex, @NotNull Throwable error) {
+        failedQueryNum = fromIndex;
+        return new BatchResult(0, 0, 0, error, true);
+    }
+
+    /**
+     * Only plain DML queries without parameters may be batched
+     */
+    public static boolean isBatchableQuery(@NotNull SQLScriptElement element) {
+        if (!(element instanceof SQLQuery query) || !CommonUtils.isEmpty(query.getParameters())) {
+            return false;
+        }
+        SQLQueryType queryType = query.getType();
+        return queryType == SQLQueryType.INSERT ||
+            queryType == SQLQueryType.UPDATE ||
+            queryType == SQLQueryType.DELETE ||
+            queryType == SQLQueryType.MERGE;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLScriptElement;
+import org.jkiss.dbeaver.model.sql.parser.SQLParserContext;
+import org.jkiss.dbeaver.model.sql.parser.SQLScriptParser;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses script in a background job and hands parsed queries over to the executor through a bounded queue.
+ * This way the first query is executed right after it is parsed, and the rest of the script
+ * is parsed while the database executes previous queries.
+ * <p>
+ * Parser context must not be used by anybody else while the reader is active.
+ */
+public class SQLScriptParseAheadReader implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private static final long POLL_TIMEOUT = 100;
+
+    private final SQLParserContext parserContext;
+    private final BlockingQueue<SQLScriptElement> queue;
+    private volatile boolean finished;
+    private volatile boolean closed;
+    private volatile Throwable parseError;
+
+    public SQLScriptParseAheadReader(@NotNull SQLParserContext parserContext, int queueSize) {
+        this.parserContext = parserContext;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    public void start() {
+        new ParserJob().schedule();
+    }
+
+    /**
+     * Returns next parsed query. Waits until it is parsed.
+     *
+     * @return next query or null if there are no more queries or execution was canceled
+     * @throws DBException if script parsing failed
+     */
+    @Nullable
+    public SQLScriptElement nextQuery(@NotNull DBRProgressMonitor monitor) throws DBException {
+        while (!monitor.isCanceled()) {
+            // Check the flag before polling, so we don't miss queries added right before parser finish
+            boolean parserFinished = finished;
+            SQLScriptElement query;
+            try {
+                query = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return null;
+            }
+            if (query != null) {
+                return query;
+            }
+            if (parserFinished) {
+                if (parseError != null) {
+                    throw new DBException("Error parsing SQL script", parseError);
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops parsing
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private boolean enqueue(@NotNull SQLScriptElement query) {
+        try {
+            while (!closed) {
+                if (queue.offer(query, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stop parsing
+        }
+        return false;
+    }
+
+    private class ParserJob extends AbstractJob {
+
+        ParserJob() {
+            super("Parse SQL script");
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                SQLScriptParser.parseScriptQueries(
+                    parserContext,
+                    0,
+                    parserContext.getDocument().getLength(),
+                    true,
+                    false,
+                    true,
+                    query -> !monitor.isCanceled() && enqueue(query));
+            } catch (Throwable e) {
+                parseError = e;
+            } finally {
+                finished = true;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
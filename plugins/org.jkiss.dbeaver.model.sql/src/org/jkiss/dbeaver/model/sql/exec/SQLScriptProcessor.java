@@ -16,7 +16,9 @@
  */
 package org.jkiss.dbeaver.model.sql.exec;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBFetchProgress;
@@ -31,6 +33,8 @@ import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -41,11 +45,14 @@ public class SQLScriptProcessor {
 
     private final DBCExecutionContext executionContext;
     private final List<SQLScriptElement> queries;
+    @Nullable
+    private SQLScriptParseAheadReader queryReader;
     private final SQLScriptContext scriptContext;
     private final DBDDataReceiver dataReceiver;
     private final Log log;
 
     private Throwable lastError = null;
+    private Throwable parseError = null;
 
     private DBCStatistics statistics;
     private final DBCStatistics totalStatistics = new DBCStatistics();
@@ -54,6 +61,7 @@ public class SQLScriptProcessor {
     private long fetchFlags;
     private SQLScriptCommitType commitType = SQLScriptCommitType.AUTOCOMMIT;
     private SQLScriptErrorHandling errorHandling = SQLScriptErrorHandling.STOP_ROLLBACK;
+    private int batchSize;
 
     public SQLScriptProcessor(
         @NotNull DBCExecutionContext executionContext,
@@ -68,6 +76,19 @@ public class SQLScriptProcessor {
         this.log = log;
     }
 
+    /**
+     * Creates processor which executes queries as soon as they are parsed by the query reader.
+     */
+    public SQLScriptProcessor(
+        @NotNull DBCExecutionContext executionContext,
+        @NotNull SQLScriptParseAheadReader queryReader,
+        @NotNull SQLScriptContext scriptContext,
+        @NotNull DBDDataReceiver dataReceiver,
+        @NotNull Log log) {
+        this(executionContext, new QueryWindow(), scriptContext, dataReceiver, log);
+        this.queryReader = queryReader;
+    }
+
     public void setFetchSize(int fetchSize) {
         this.fetchSize = fetchSize;
     }
@@ -92,6 +113,17 @@ public class SQLScriptProcessor {
         this.errorHandling = errorHandling;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets maximum number of consecutive DML queries executed in a single batch. Zero disables batching.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     public void runScript(DBRProgressMonitor monitor) throws DBCException {
         RuntimeUtils.setThreadName("SQL script execution");
         statistics = new DBCStatistics();
@@ -109,13 +141,46 @@ public class SQLScriptProcessor {
                     txnManager.setAutoCommit(monitor, newAutoCommit);
                 }
 
-                monitor.beginTask("Execute queries (" + queries.size() + ")", queries.size());
+                if (queryReader == null) {
+                    monitor.beginTask("Execute queries (" + queries.size() + ")", queries.size());
+                } else {
+                    queryReader.start();
+                    monitor.beginTask("Execute queries", IProgressMonitor.UNKNOWN);
+                }
 
-                for (SQLScriptElement query : queries) {
-                    if (monitor.isCanceled()) {
+                SQLScriptBatchExecutor batchExecutor = new SQLScriptBatchExecutor(queries, batchSize);
+                for (int queryNum = 0; ; queryNum++) {
+                    if (queries instanceof QueryWindow window) {
+                        // Previous queries are executed, don't keep them
+                        window.release(queryNum);
+                    }
+                    // Read ahead enough queries for the next batch
+                    readQueries(monitor, queryNum + Math.max(batchSize, 1));
+                    if (queryNum >= queries.size() || monitor.isCanceled()) {
                         break;
                     }
+                    if (batchExecutor.isExecuted(queryNum)) {
+                        monitor.worked(1);
+                        continue;
+                    }
+                    if (batchExecutor.isEnabled() && session.getDataSource().getInfo().supportsBatchUpdates()) {
+                        int batchEnd = batchExecutor.getBatchEnd(queryNum, q -> true);
+                        if (batchEnd - queryNum > 1) {
+                            SQLScriptBatchExecutor.BatchResult batchResult = executeQueryBatch(session, batchExecutor, queryNum, batchEnd);
+                            if (!batchResult.resumable()) {
+                                // Some queries of the batch may be applied already, don't repeat them
+                                lastError = batchResult.error();
+                                log.error("Batch of " + (batchEnd - queryNum) + " queries failed", lastError);
+                                break;
+                            }
+                            monitor.worked(batchResult.executedCount());
+                            // Continue from the first failed query (if any)
+                            queryNum += batchResult.executedCount() - 1;
+                            continue;
+                        }
+                    }
                     // Execute query
+                    SQLScriptElement query = queries.get(queryNum);
                     boolean runNext = executeSingleQuery(session, query);
                     if (!runNext) {
                         if (lastError == null) {
@@ -133,6 +198,9 @@ public class SQLScriptProcessor {
                     monitor.worked(1);
                 }
                 monitor.done();
+                if (parseError != null && lastError == null) {
+                    lastError = parseError;
+                }
 
                 // Commit data
                 if (txnManager != null && txnManager.isSupportsTransactions() && !oldAutoCommit && commitType != SQLScriptCommitType.AUTOCOMMIT) {
@@ -162,6 +230,11 @@ public class SQLScriptProcessor {
             }
         } catch (Throwable ex) {
             throw new DBCException("Error during SQL script execution", ex);
+        } finally {
+            if (queryReader != null) {
+                queryReader.close();
+                queryReader = null;
+            }
         }
 
         if (lastError != null && errorHandling != SQLScriptErrorHandling.IGNORE) {
@@ -169,6 +242,28 @@ public class SQLScriptProcessor {
         }
     }
 
+    /**
+     * Takes parsed queries from the query reader until there are at least {@code count} of them
+     */
+    private void readQueries(@NotNull DBRProgressMonitor monitor, int count) {
+        while (queryReader != null && queries.size() < count) {
+            SQLScriptElement query;
+            try {
+                query = queryReader.nextQuery(monitor);
+            } catch (DBException e) {
+                log.error(e);
+                parseError = e;
+                query = null;
+            }
+            if (query == null) {
+                queryReader.close();
+                queryReader = null;
+            } else {
+                queries.add(query);
+            }
+        }
+    }
+
     private boolean executeSingleQuery(@NotNull DBCSession session, @NotNull SQLScriptElement element) {
         if (element instanceof SQLControlCommand) {
             log.debug(STAT_LOG_PREFIX + "Execute command\n" + element.getText());
@@ -210,6 +305,48 @@ public class SQLScriptProcessor {
         return lastError == null || errorHandling == SQLScriptErrorHandling.IGNORE;
     }
 
+    @NotNull
+    private SQLScriptBatchExecutor.BatchResult executeQueryBatch(
+        @NotNull DBCSession session,
+        @NotNull SQLScriptBatchExecutor batchExecutor,
+        int fromIndex,
+        int toIndex
+    ) {
+        SQLQuery firstQuery = (SQLQuery) queries.get(fromIndex);
+        statistics.reset();
+        statistics.setQueryText(firstQuery.getText());
+        log.debug(STAT_LOG_PREFIX + "Execute batch of " + (toIndex - fromIndex) + " queries");
+
+        long startTime = System.currentTimeMillis();
+        SQLScriptBatchExecutor.BatchResult batchResult = null;
+        SQLQueryDataContainer dataContainer = new SQLQueryDataContainer(() -> executionContext, firstQuery, scriptContext, log);
+        DBCExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this, firstQuery);
+        try (DBCStatement statement = DBUtils.makeStatement(source, session, DBCStatementType.SCRIPT, firstQuery, 0, 0)) {
+            batchResult = batchExecutor.executeBatch(statement, fromIndex, toIndex);
+        } catch (Throwable e) {
+            if (batchResult == null) {
+                batchResult = batchExecutor.handleBatchError(fromIndex, e);
+            } else {
+                // Batch was executed, statement close error doesn't change its result
+                log.debug("Error closing batch statement", e);
+            }
+        }
+        statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+        for (int i = 0; i < batchResult.statementsCount(); i++) {
+            statistics.addStatementsCount();
+        }
+        statistics.addRowsUpdated(batchResult.updateCount());
+        if (batchResult.error() != null && batchResult.resumable()) {
+            // Failed query will be executed once again in regular mode
+            log.debug(STAT_LOG_PREFIX + "Batch failed at query " + (fromIndex + batchResult.executedCount() + 1) + ": " + batchResult.error().getMessage());
+        }
+        log.debug(STAT_LOG_PREFIX + "Time: " + RuntimeUtils.formatExecutionTime(statistics.getExecuteTime()) +
+            ", updated " + statistics.getRowsUpdated() + " row(s)");
+        totalStatistics.accumulate(statistics);
+
+        return batchResult;
+    }
+
     private void executeStatement(@NotNull DBCSession session, SQLQuery sqlQuery, long startTime) throws DBCException {
         SQLQueryDataContainer dataContainer = new SQLQueryDataContainer(() -> executionContext, sqlQuery, scriptContext, log);
         DBCExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this, sqlQuery);
@@ -353,4 +490,42 @@ public class SQLScriptProcessor {
         return totalStatistics;
     }
 
+    /**
+     * Queries taken from the query reader.
+     * Indexes are query numbers in the script, but only queries which are not executed yet are kept in memory.
+     */
+    private static class QueryWindow extends AbstractList<SQLScriptElement> {
+        private final List<SQLScriptElement> pending = new ArrayList<>();
+        private int firstQueryNum;
+
+        @Override
+        public SQLScriptElement get(int index) {
+            if (index < firstQueryNum) {
+                throw new IndexOutOfBoundsException("Query " + index + " was already released");
+            }
+            return pending.get(index - firstQueryNum);
+        }
+
+        @Override
+        public int size() {
+            return firstQueryNum + pending.size();
+        }
+
+        @Override
+        public boolean add(SQLScriptElement query) {
+            return pending.add(query);
+        }
+
+        /**
+         * Releases all queries before the specified one
+         */
+        void release(int queryNum) {
+            int count = Math.min(queryNum - firstQueryNum, pending.size());
+            if (count > 0) {
+                pending.subList(0, count).clear();
+                firstQueryNum += count;
+            }
+        }
+    }
+
 }
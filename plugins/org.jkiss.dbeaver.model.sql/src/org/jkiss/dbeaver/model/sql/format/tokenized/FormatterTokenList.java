@@ -0,0 +1,115 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.format.tokenized;
+
+import org.jkiss.code.NotNull;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Token list backed by a gap buffer.
+ * <p>
+ * Formatter passes walk over the list and insert or remove tokens right next to the current one.
+ * In array list each such modification shifts the whole tail of the list, which makes formatting
+ * of large scripts quadratic. Gap buffer keeps free space at the last modified position,
+ * so modifications made while walking through the list take constant time.
+ */
+class FormatterTokenList extends AbstractList<FormatterToken> implements RandomAccess {
+
+    private static final int MIN_GAP_SIZE = 16;
+
+    private FormatterToken[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    FormatterTokenList(@NotNull Collection<FormatterToken> tokens) {
+        buffer = tokens.toArray(new FormatterToken[tokens.size() + MIN_GAP_SIZE]);
+        gapStart = tokens.size();
+        gapEnd = buffer.length;
+    }
+
+    @Override
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public FormatterToken get(int index) {
+        Objects.checkIndex(index, size());
+        return buffer[toBufferIndex(index)];
+    }
+
+    @Override
+    public FormatterToken set(int index, FormatterToken token) {
+        Objects.checkIndex(index, size());
+        int bufferIndex = toBufferIndex(index);
+        FormatterToken oldToken = buffer[bufferIndex];
+        buffer[bufferIndex] = token;
+        return oldToken;
+    }
+
+    @Override
+    public void add(int index, FormatterToken token) {
+        Objects.checkIndex(index, size() + 1);
+        if (gapStart == gapEnd) {
+            growGap();
+        }
+        moveGap(index);
+        buffer[gapStart++] = token;
+        modCount++;
+    }
+
+    @Override
+    public FormatterToken remove(int index) {
+        Objects.checkIndex(index, size());
+        moveGap(index);
+        FormatterToken token = buffer[gapEnd];
+        buffer[gapEnd++] = null;
+        modCount++;
+        return token;
+    }
+
+    private int toBufferIndex(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void growGap() {
+        int tailLength = buffer.length - gapEnd;
+        FormatterToken[] newBuffer = new FormatterToken[buffer.length + Math.max(buffer.length / 2, MIN_GAP_SIZE)];
+        System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, newBuffer, newBuffer.length - tailLength, tailLength);
+        gapEnd = newBuffer.length - tailLength;
+        buffer = newBuffer;
+    }
+}
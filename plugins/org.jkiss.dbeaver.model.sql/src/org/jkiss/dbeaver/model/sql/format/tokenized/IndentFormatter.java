@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.sql.format.tokenized;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.sql.SQLConstants;
@@ -51,6 +52,10 @@ class IndentFormatter {
     private static final String[] DML_KEYWORD = { "SELECT", "UPDATE", "INSERT", "DELETE" };
     private static final String[] CONDITION_KEYWORDS = {"WHERE", "ON", "HAVING"};
 
+    private final PrevKeywordFinder prevKeywordFinder = new PrevKeywordFinder(null);
+    private final PrevKeywordFinder prevDmlKeywordFinder = new PrevKeywordFinder(DML_KEYWORD);
+    private final PrevKeywordFinder prevConditionKeywordFinder = new PrevKeywordFinder(CONDITION_KEYWORDS);
+
     IndentFormatter(SQLFormatterConfiguration formatterCfg, boolean isCompact) {
         this.formatterCfg = formatterCfg;
         delimiterRedefiner = formatterCfg.getSyntaxManager().getDialect().getScriptDelimiterRedefiner();
@@ -493,13 +498,7 @@ class IndentFormatter {
     }
 
     private String getPrevKeyword(List<FormatterToken> argList, int index) {
-        for (int i = index - 1; i >= 0; i--) {
-            FormatterToken token = argList.get(i);
-            if (token.getType() == TokenType.KEYWORD) {
-                return token.getString();
-            }
-        }
-        return null;
+        return prevKeywordFinder.find(argList, index);
     }
 
     private static int getNextKeywordIndex(List<FormatterToken> argList, int index) {
@@ -520,17 +519,7 @@ class IndentFormatter {
     }
 
     private String getPrevSpecialKeyword(List<FormatterToken> argList, int index, boolean isCondition) {
-        for (int i = index - 1; i >= 0; i--) {
-            FormatterToken token = argList.get(i);
-            if (token.getType() == TokenType.KEYWORD) {
-                String upperCaseToken = token.getString().toUpperCase(Locale.ENGLISH);
-                if ((isCondition && ArrayUtils.contains(CONDITION_KEYWORDS, upperCaseToken)) ||
-                        (!isCondition && ArrayUtils.contains(DML_KEYWORD, upperCaseToken))) {
-                    return token.getString();
-                }
-            }
-        }
-        return null;
+        return (isCondition ? prevConditionKeywordFinder : prevDmlKeywordFinder).find(argList, index);
     }
 
 
@@ -549,4 +538,45 @@ class IndentFormatter {
         return result;
     }
 
+    /**
+     * Searches for the nearest keyword before the specified position.
+     * <p>
+     * Formatter inserts and removes only whitespace tokens, so the order of keywords never changes.
+     * Thus the search stops at the token where the previous search started and reuses its result,
+     * otherwise each lookup would scan the script down to its beginning.
+     */
+    private static class PrevKeywordFinder {
+        @Nullable
+        private final String[] keywords;
+        private FormatterToken lastStartToken;
+        private FormatterToken lastResult;
+
+        PrevKeywordFinder(@Nullable String[] keywords) {
+            this.keywords = keywords;
+        }
+
+        @Nullable
+        String find(@NotNull List<FormatterToken> argList, int index) {
+            FormatterToken result = null;
+            for (int i = index - 1; i >= 0; i--) {
+                FormatterToken token = argList.get(i);
+                if (token.getType() == TokenType.KEYWORD &&
+                    (keywords == null || ArrayUtils.contains(keywords, token.getString().toUpperCase(Locale.ENGLISH)))) {
+                    result = token;
+                    break;
+                }
+                if (token == lastStartToken) {
+                    // Tokens before this one were checked by the previous search
+                    result = lastResult;
+                    break;
+                }
+            }
+            if (index < argList.size()) {
+                lastStartToken = argList.get(index);
+                lastResult = result;
+            }
+            return result == null ? null : result.getString();
+        }
+    }
+
 }
\ No newline at end of file
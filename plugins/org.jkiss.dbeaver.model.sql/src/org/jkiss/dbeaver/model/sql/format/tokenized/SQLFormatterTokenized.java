@@ -64,7 +64,7 @@ public class SQLFormatterTokenized implements SQLFormatter {
             isSqlEndsWithNewLine = true;
         }
 
-        List<FormatterToken> list = fParser.parse(argSql);
+        List<FormatterToken> list = new FormatterTokenList(fParser.parse(argSql));
         list = format(list);
 
         StringBuilder after = new StringBuilder(argSql.length() + 20);
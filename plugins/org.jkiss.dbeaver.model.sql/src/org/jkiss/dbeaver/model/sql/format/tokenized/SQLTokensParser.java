@@ -167,7 +167,7 @@ class SQLTokensParser {
             fPos++;
             String commentString = null;
             for (String slc : singleLineComments) {
-                if (fBefore.length() >= start_pos + slc.length() && slc.equals(fBefore.substring(start_pos, start_pos + slc.length()))) {
+                if (fBefore.startsWith(slc, start_pos)) {
                     commentString = slc;
                     break;
                 }
@@ -178,7 +178,7 @@ class SQLTokensParser {
             fPos += commentString.length() - 1;
             while (fPos < fBefore.length()) {
                 fPos++;
-                if (fBefore.substring(fPos).startsWith(System.lineSeparator())) {
+                if (fBefore.startsWith(System.lineSeparator(), fPos)) {
                     break;
                 }
             }
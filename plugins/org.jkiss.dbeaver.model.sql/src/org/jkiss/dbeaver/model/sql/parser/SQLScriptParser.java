@@ -46,6 +46,7 @@ import org.jkiss.utils.CommonUtils;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 
 /**
@@ -915,12 +916,39 @@ public class SQLScriptParser {
 
     public static List<SQLScriptElement> extractScriptQueries(SQLParserContext parserContext, int startOffset, int length, boolean scriptMode, boolean keepDelimiters, boolean parseParameters) {
         List<SQLScriptElement> queryList = new ArrayList<>();
+        parseScriptQueries(parserContext, startOffset, length, scriptMode, keepDelimiters, false, queryList::add);
 
-        IDocument document = parserContext.getDocument();
-        if (document.getLength() == 0) {
-            return queryList;
+        if (parseParameters) {
+            // Parse parameters
+            for (SQLScriptElement element : queryList) {
+                if (element instanceof SQLQuery) {
+                    SQLQuery query = (SQLQuery) element;
+                    (query).setParameters(parseParametersAndVariables(parserContext, query.getOffset(), query.getLength()));
+                }
+            }
         }
+        return queryList;
+    }
 
+    /**
+     * Parses script queries one by one and passes each of them to the consumer as soon as it is parsed.
+     * If {@code parseParameters} is set then parameters are parsed together with the query, so consumer may execute
+     * queries while the rest of the script is still being parsed.
+     *
+     * @param consumer receives parsed queries. Parsing stops if consumer returns false.
+     */
+    public static void parseScriptQueries(
+        @NotNull SQLParserContext parserContext,
+        int startOffset,
+        int length,
+        boolean scriptMode,
+        boolean keepDelimiters,
+        boolean parseParameters,
+        @NotNull Predicate<SQLScriptElement> consumer
+    ) {
+        if (parserContext.getDocument().getLength() == 0) {
+            return;
+        }
         parserContext.startScriptEvaluation();
         try {
             for (int queryOffset = startOffset; ; ) {
@@ -929,26 +957,30 @@ public class SQLScriptParser {
                 if (query == null) {
                     break;
                 }
-                queryList.add(query);
                 queryOffset = query.getOffset() + query.getLength();
+                if (parseParameters && query instanceof SQLQuery sqlQuery) {
+                    sqlQuery.setParameters(parseParametersAndVariables(parserContext, sqlQuery.getOffset(), sqlQuery.getLength()));
+                }
+                if (!consumer.test(query)) {
+                    break;
+                }
             }
         } finally {
             parserContext.endScriptEvaluation();
         }
-
-        if (parseParameters) {
-            // Parse parameters
-            for (SQLScriptElement element : queryList) {
-                if (element instanceof SQLQuery) {
-                    SQLQuery query = (SQLQuery) element;
-                    (query).setParameters(parseParametersAndVariables(parserContext, query.getOffset(), query.getLength()));
-                }
-            }
-        }
-        return queryList;
     }
 
     public static List<SQLScriptElement> parseScript(DBPDataSource dataSource, String sqlScriptContent) {
+        SQLParserContext parserContext = createScriptParserContext(dataSource, sqlScriptContent);
+        return SQLScriptParser.extractScriptQueries(parserContext, 0, sqlScriptContent.length(), true, false, true);
+    }
+
+    /**
+     * Creates standalone parser context for the script text.
+     * It doesn't share any state with editors so it can be used in any thread.
+     */
+    @NotNull
+    public static SQLParserContext createScriptParserContext(@NotNull DBPDataSource dataSource, @NotNull String sqlScriptContent) {
         SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
         syntaxManager.init(dataSource.getSQLDialect(), dataSource.getContainer().getPreferenceStore());
         SQLRuleManager ruleManager = new SQLRuleManager(syntaxManager);
@@ -956,8 +988,7 @@ public class SQLScriptParser {
 
         Document sqlDocument = new Document(sqlScriptContent);
 
-        SQLParserContext parserContext = new SQLParserContext(dataSource, syntaxManager, ruleManager, sqlDocument);
-        return SQLScriptParser.extractScriptQueries(parserContext, 0, sqlScriptContent.length(), true, false, true);
+        return new SQLParserContext(dataSource, syntaxManager, ruleManager, sqlDocument);
     }
 
     public static List<SQLScriptElement> parseScript(
@@ -0,0 +1,203 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import org.antlr.v4.runtime.Token;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.lsm.sql.dialect.SQLStandardAnalyzer;
+import org.jkiss.dbeaver.model.lsm.sql.impl.syntax.SQLStandardLexer;
+import org.jkiss.dbeaver.model.stm.STMSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Normalized query text which identifies the same query executed with different literals and parameters.
+ * Comments and whitespaces are removed, literals and parameters are replaced with '?',
+ * lists of literals are collapsed into a single '?' and unquoted words are upper-cased.
+ *
+ * @param text normalized query text
+ * @param hash hash of the normalized text
+ */
+public record SQLQueryFingerprint(
+    @NotNull String text,
+    @NotNull String hash
+) {
+    private static final String PLACEHOLDER = "?";
+
+    /**
+     * Makes query fingerprint. Query is tokenized with basic dialect so the same query text
+     * has the same fingerprint regardless of the connection it was executed in.
+     */
+    @NotNull
+    public static SQLQueryFingerprint of(@NotNull String queryText) {
+        String text = normalize(queryText, true);
+        return new SQLQueryFingerprint(text, makeHash(text));
+    }
+
+    /**
+     * Removes comments and extra whitespaces from the query text and upper-cases unquoted words.
+     * Literals and parameters are replaced with '?' if replaceLiterals is true, otherwise they are kept as is.
+     */
+    @NotNull
+    public static String normalize(@NotNull String queryText, boolean replaceLiterals) {
+        SQLStandardLexer lexer = SQLStandardAnalyzer.createLexer(STMSource.fromString(queryText), BasicSQLDialect.INSTANCE);
+        List<String> parts = new ArrayList<>();
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (token.getChannel() != Token.DEFAULT_CHANNEL || token.getText().isBlank()) {
+                continue;
+            }
+            if (!replaceLiterals) {
+                parts.add(isQuoted(token) || isLiteral(token) ? token.getText() : token.getText().toUpperCase());
+                continue;
+            }
+            String part = switch (token.getType()) {
+                case SQLStandardLexer.DecimalLiteral,
+                    SQLStandardLexer.UnsignedInteger,
+                    SQLStandardLexer.ApproximateNumericLiteral,
+                    SQLStandardLexer.NationalCharacterStringLiteral,
+                    SQLStandardLexer.BitStringLiteral,
+                    SQLStandardLexer.HexStringLiteral,
+                    SQLStandardLexer.StringLiteralContent,
+                    SQLStandardLexer.QuestionMark,
+                    SQLStandardLexer.ClientParameterName -> PLACEHOLDER;
+                case SQLStandardLexer.Quotted, SQLStandardLexer.DelimitedIdentifier -> token.getText();
+                default -> token.getText().toUpperCase();
+            };
+            int size = parts.size();
+            if (part.equals(PLACEHOLDER) && size >= 2 && parts.get(size - 1).equals(",") && parts.get(size - 2).equals(PLACEHOLDER)) {
+                // IN (?, ?, ?) is the same query as IN (?)
+                parts.remove(size - 1);
+                continue;
+            }
+            parts.add(part);
+        }
+        return String.join(" ", parts);
+    }
+
+    /**
+     * Replaces literals with '?' and comments with a space, the rest of the text is kept as is.
+     * Used to clean texts which may contain query literals, e.g. serialized plans.
+     */
+    @NotNull
+    public static String maskLiterals(@NotNull String text) {
+        SQLStandardLexer lexer = SQLStandardAnalyzer.createLexer(STMSource.fromString(text), BasicSQLDialect.INSTANCE);
+        StringBuilder result = new StringBuilder(text.length());
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            switch (token.getType()) {
+                case SQLStandardLexer.Comment -> result.append(' ');
+                case SQLStandardLexer.DecimalLiteral,
+                    SQLStandardLexer.UnsignedInteger,
+                    SQLStandardLexer.ApproximateNumericLiteral,
+                    SQLStandardLexer.NationalCharacterStringLiteral,
+                    SQLStandardLexer.BitStringLiteral,
+                    SQLStandardLexer.HexStringLiteral,
+                    SQLStandardLexer.StringLiteralContent -> result.append(PLACEHOLDER);
+                default -> result.append(token.getText());
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the longest word (keyword or unquoted identifier) of the normalized query text.
+     * Any query with this fingerprint contains this word, so it is used to skip other queries without lexing them.
+     */
+    @Nullable
+    public static String getLongestWord(@NotNull String normalizedText) {
+        String longestWord = null;
+        for (String part : normalizedText.split(" ")) {
+            if ((longestWord == null || part.length() > longestWord.length()) && isWord(part)) {
+                longestWord = part;
+            }
+        }
+        return longestWord;
+    }
+
+    /**
+     * Checks whether raw query text contains any of the given words (as returned by {@link #getLongestWord(String)}).
+     * Words are compared case-insensitively, query text isn't lexed.
+     */
+    public static boolean containsAnyWord(@NotNull String queryText, @NotNull Set<String> words) {
+        int length = queryText.length();
+        for (int i = 0; i < length; ) {
+            if (!isWordChar(queryText.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            while (end < length && isWordChar(queryText.charAt(end))) {
+                end++;
+            }
+            if (words.contains(queryText.substring(i, end).toUpperCase())) {
+                return true;
+            }
+            i = end;
+        }
+        return false;
+    }
+
+    private static boolean isWord(@NotNull String text) {
+        if (text.isEmpty() || Character.isDigit(text.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isWordChar(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isQuoted(@NotNull Token token) {
+        return token.getType() == SQLStandardLexer.Quotted || token.getType() == SQLStandardLexer.DelimitedIdentifier;
+    }
+
+    private static boolean isLiteral(@NotNull Token token) {
+        return switch (token.getType()) {
+            case SQLStandardLexer.NationalCharacterStringLiteral,
+                SQLStandardLexer.BitStringLiteral,
+                SQLStandardLexer.HexStringLiteral,
+                SQLStandardLexer.StringLiteralContent,
+                SQLStandardLexer.ClientParameterName -> true;
+            default -> false;
+        };
+    }
+
+    @NotNull
+    private static String makeHash(@NotNull String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Should never happen, SHA-256 is supported by all JVMs
+            return Integer.toHexString(text.hashCode());
+        }
+    }
+
+}
@@ -0,0 +1,609 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import com.google.gson.*;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlan;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanCostNode;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
+import org.jkiss.dbeaver.model.exec.plan.DBCQueryPlanner;
+import org.jkiss.dbeaver.model.exec.plan.DBCQueryPlannerSerializable;
+import org.jkiss.dbeaver.model.impl.plan.AbstractExecutionPlanSerializer;
+import org.jkiss.dbeaver.model.qm.QMEventAction;
+import org.jkiss.dbeaver.model.qm.QMMetaEvent;
+import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.qm.meta.QMMStatementExecuteInfo;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * History of query execution plans.
+ * Plans are grouped by data source and query fingerprint, so the same query with different literals
+ * shares the history. The first plan of the query becomes its baseline, following plans are compared
+ * with the baseline to detect plan regressions. Query execution times are collected from the query manager.
+ * History is kept in a local file with one JSON entry per line. Changed queries are appended to the file,
+ * the file is rewritten only when it has many outdated entries. Literals are removed from plans before they are saved.
+ */
+public class SQLQueryPlanHistory {
+
+    private static final Log log = Log.getLog(SQLQueryPlanHistory.class);
+
+    private static final String HISTORY_FILE_NAME = "query-plan-history.jsonl";
+    private static final long SAVE_DELAY = 2000;
+    /**
+     * History file is rewritten when it has this many lines per query
+     */
+    private static final int COMPACT_RATIO = 3;
+    private static final int COMPACT_MIN_LINES = 100;
+    /**
+     * Serialized plan properties which never contain query literals
+     */
+    private static final Set<String> PLAN_NAME_PROPERTIES = Set.of(
+        AbstractExecutionPlanSerializer.PROP_NAME,
+        AbstractExecutionPlanSerializer.PROP_KIND,
+        AbstractExecutionPlanSerializer.PROP_TYPE,
+        AbstractExecutionPlanSerializer.PROP_DATE,
+        AbstractExecutionPlanSerializer.PROP_SIGNATURE,
+        AbstractExecutionPlanSerializer.PROP_VERSION);
+
+    public static final int MAX_PLANS_PER_QUERY = 10;
+    public static final int MAX_QUERIES_PER_DATA_SOURCE = 500;
+    /**
+     * Plan cost growth (comparing to the baseline) which is reported as a regression
+     */
+    public static final double COST_REGRESSION_RATIO = 2.0;
+
+    private static final Gson gson = new GsonBuilder().create();
+
+    private static SQLQueryPlanHistory instance;
+
+    /**
+     * Data source id -> query fingerprint hash -> plans
+     */
+    private final Map<String, Map<String, QueryPlans>> history = new LinkedHashMap<>();
+    /**
+     * Data source id -> the longest words of query fingerprints, executed queries without these words are not fingerprinted
+     */
+    private final Map<String, Set<String>> trackedWords = new HashMap<>();
+    /**
+     * Data source id -> hashes of queries changed since the last save
+     */
+    private final Map<String, Set<String>> changedQueries = new LinkedHashMap<>();
+    private int historyFileLines;
+    private final SaveJob saveJob = new SaveJob();
+
+    /**
+     * Plan recorded in history
+     */
+    public static class PlanRecord {
+        private long time;
+        private double cost;
+        private String shape;
+        @Nullable
+        private String planData;
+
+        PlanRecord(long time, double cost, @NotNull String shape, @Nullable String planData) {
+            this.time = time;
+            this.cost = cost;
+            this.shape = shape;
+            this.planData = planData;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * Total plan cost or negative value if planner doesn't provide costs
+         */
+        public double getCost() {
+            return cost;
+        }
+
+        /**
+         * Plan tree structure: node types and accessed objects
+         */
+        @NotNull
+        public String getShape() {
+            return shape;
+        }
+
+        /**
+         * Plan serialized by the planner or null if planner doesn't support serialization
+         */
+        @Nullable
+        public String getPlanData() {
+            return planData;
+        }
+    }
+
+    /**
+     * Plans of the single query
+     */
+    public static class QueryPlans {
+        private String query;
+        private PlanRecord baseline;
+        private List<PlanRecord> plans = new ArrayList<>();
+        private long executeCount;
+        private long executeTime;
+        private long lastUsed;
+
+        QueryPlans(@NotNull String query) {
+            this.query = query;
+        }
+
+        /**
+         * Normalized query text
+         */
+        @NotNull
+        public String getQuery() {
+            return query;
+        }
+
+        @Nullable
+        public PlanRecord getBaseline() {
+            return baseline;
+        }
+
+        /**
+         * Recent plans, the latest plan comes last
+         */
+        @NotNull
+        public List<PlanRecord> getPlans() {
+            return CommonUtils.safeList(plans);
+        }
+
+        @Nullable
+        public PlanRecord getLatestPlan() {
+            return CommonUtils.isEmpty(plans) ? null : plans.get(plans.size() - 1);
+        }
+
+        public long getExecuteCount() {
+            return executeCount;
+        }
+
+        /**
+         * Average successful execution time in milliseconds or -1 if the query wasn't executed
+         */
+        public long getAverageExecuteTime() {
+            return executeCount == 0 ? -1 : executeTime / executeCount;
+        }
+    }
+
+    /**
+     * Line of the history file. Query plans are null if the query was removed from history.
+     */
+    private static class HistoryEntry {
+        private String dataSource;
+        private String query;
+        @Nullable
+        private QueryPlans plans;
+
+        HistoryEntry(@NotNull String dataSource, @NotNull String query, @Nullable QueryPlans plans) {
+            this.dataSource = dataSource;
+            this.query = query;
+            this.plans = plans;
+        }
+    }
+
+    /**
+     * Plan which differs from the query baseline
+     */
+    public record PlanRegression(
+        @NotNull QueryPlans queryPlans,
+        @NotNull PlanRecord baseline,
+        @NotNull PlanRecord plan,
+        boolean shapeChanged,
+        boolean costIncreased
+    ) {
+    }
+
+    @NotNull
+    public static synchronized SQLQueryPlanHistory getInstance() {
+        if (instance == null) {
+            instance = new SQLQueryPlanHistory();
+            try {
+                QMUtils.registerMetaListener(instance::handleQueryEvents);
+            } catch (Exception e) {
+                log.debug("Can't register query manager listener, execution times won't be collected", e);
+            }
+        }
+        return instance;
+    }
+
+    private SQLQueryPlanHistory() {
+        loadHistory();
+    }
+
+    /**
+     * Adds plan to the query history.
+     * Returns regression if the plan shape differs from the baseline or its cost grew significantly.
+     */
+    @Nullable
+    public PlanRegression addPlan(
+        @NotNull DBPDataSourceContainer container,
+        @NotNull DBCQueryPlanner planner,
+        @NotNull String queryText,
+        @NotNull DBCPlan plan
+    ) {
+        SQLQueryFingerprint fingerprint = SQLQueryFingerprint.of(queryText);
+        List<? extends DBCPlanNode> planNodes = plan.getPlanNodes(Collections.emptyMap());
+        PlanRecord record = new PlanRecord(
+            System.currentTimeMillis(),
+            getPlanCost(planNodes),
+            getPlanShape(planNodes),
+            serializePlan(planner, plan));
+
+        PlanRegression regression;
+        synchronized (history) {
+            Map<String, QueryPlans> containerHistory = history.computeIfAbsent(container.getId(), id -> new LinkedHashMap<>());
+            QueryPlans queryPlans = containerHistory.computeIfAbsent(fingerprint.hash(), hash -> new QueryPlans(fingerprint.text()));
+            if (queryPlans.plans == null) {
+                queryPlans.plans = new ArrayList<>();
+            }
+            queryPlans.plans.add(record);
+            while (queryPlans.plans.size() > MAX_PLANS_PER_QUERY) {
+                queryPlans.plans.remove(0);
+            }
+            queryPlans.lastUsed = record.time;
+            if (queryPlans.baseline == null) {
+                queryPlans.baseline = record;
+            }
+            markChanged(container.getId(), fingerprint.hash());
+            removeStaleQueries(container.getId(), containerHistory);
+            updateTrackedWords(container.getId());
+            regression = compareWithBaseline(queryPlans, record);
+        }
+        saveJob.schedule(SAVE_DELAY);
+        return regression;
+    }
+
+    /**
+     * Makes the latest query plan the baseline for the following plans
+     */
+    public void acceptBaseline(@NotNull DBPDataSourceContainer container, @NotNull String queryText) {
+        SQLQueryFingerprint fingerprint = SQLQueryFingerprint.of(queryText);
+        synchronized (history) {
+            QueryPlans queryPlans = getQueryPlans(container.getId(), fingerprint.hash());
+            if (queryPlans == null || queryPlans.getLatestPlan() == null) {
+                return;
+            }
+            queryPlans.baseline = queryPlans.getLatestPlan();
+            markChanged(container.getId(), fingerprint.hash());
+        }
+        saveJob.schedule(SAVE_DELAY);
+    }
+
+    @Nullable
+    public QueryPlans getQueryPlans(@NotNull DBPDataSourceContainer container, @NotNull String queryText) {
+        SQLQueryFingerprint fingerprint = SQLQueryFingerprint.of(queryText);
+        synchronized (history) {
+            return getQueryPlans(container.getId(), fingerprint.hash());
+        }
+    }
+
+    @Nullable
+    private QueryPlans getQueryPlans(@NotNull String containerId, @NotNull String fingerprintHash) {
+        Map<String, QueryPlans> containerHistory = history.get(containerId);
+        return containerHistory == null ? null : containerHistory.get(fingerprintHash);
+    }
+
+    @Nullable
+    private static PlanRegression compareWithBaseline(@NotNull QueryPlans queryPlans, @NotNull PlanRecord plan) {
+        PlanRecord baseline = queryPlans.baseline;
+        if (baseline == null || baseline == plan) {
+            return null;
+        }
+        boolean shapeChanged = !CommonUtils.equalObjects(baseline.shape, plan.shape);
+        boolean costIncreased = baseline.cost > 0 && plan.cost > baseline.cost * COST_REGRESSION_RATIO;
+        if (!shapeChanged && !costIncreased) {
+            return null;
+        }
+        return new PlanRegression(queryPlans, baseline, plan, shapeChanged, costIncreased);
+    }
+
+    private void removeStaleQueries(@NotNull String containerId, @NotNull Map<String, QueryPlans> containerHistory) {
+        while (containerHistory.size() > MAX_QUERIES_PER_DATA_SOURCE) {
+            String staleKey = null;
+            long staleTime = Long.MAX_VALUE;
+            for (Map.Entry<String, QueryPlans> entry : containerHistory.entrySet()) {
+                if (entry.getValue().lastUsed < staleTime) {
+                    staleKey = entry.getKey();
+                    staleTime = entry.getValue().lastUsed;
+                }
+            }
+            containerHistory.remove(staleKey);
+            markChanged(containerId, staleKey);
+        }
+    }
+
+    private void markChanged(@NotNull String containerId, @NotNull String fingerprintHash) {
+        changedQueries.computeIfAbsent(containerId, id -> new LinkedHashSet<>()).add(fingerprintHash);
+    }
+
+    private void updateTrackedWords(@NotNull String containerId) {
+        Set<String> words = new HashSet<>();
+        Map<String, QueryPlans> containerHistory = history.get(containerId);
+        if (containerHistory != null) {
+            for (QueryPlans queryPlans : containerHistory.values()) {
+                String word = SQLQueryFingerprint.getLongestWord(queryPlans.query);
+                if (word != null) {
+                    words.add(word);
+                }
+            }
+        }
+        // The set is replaced, not modified, so the query manager listener reads it without locking
+        trackedWords.put(containerId, words);
+    }
+
+    /**
+     * Total cost of root nodes. Planners which provide cost for each node without
+     * accumulation are handled by summing costs of nested nodes.
+     */
+    private static double getPlanCost(@NotNull List<? extends DBCPlanNode> planNodes) {
+        double cost = getNestedCost(planNodes);
+        return cost > 0 ? cost : -1;
+    }
+
+    private static double getNestedCost(@Nullable Collection<? extends DBCPlanNode> nodes) {
+        if (nodes == null) {
+            return 0;
+        }
+        double cost = 0;
+        for (DBCPlanNode node : nodes) {
+            if (node instanceof DBCPlanCostNode costNode && costNode.getNodeCost() != null) {
+                // Cumulative costs are larger than the sum of nested costs
+                cost += Math.max(costNode.getNodeCost().doubleValue(), getNestedCost(node.getNested()));
+            } else {
+                cost += getNestedCost(node.getNested());
+            }
+        }
+        return cost;
+    }
+
+    @NotNull
+    private static String getPlanShape(@NotNull List<? extends DBCPlanNode> planNodes) {
+        StringBuilder shape = new StringBuilder();
+        appendPlanShape(shape, planNodes);
+        return shape.toString();
+    }
+
+    private static void appendPlanShape(@NotNull StringBuilder shape, @Nullable Collection<? extends DBCPlanNode> nodes) {
+        if (CommonUtils.isEmpty(nodes)) {
+            return;
+        }
+        shape.append('(');
+        boolean first = true;
+        for (DBCPlanNode node : nodes) {
+            if (!first) {
+                shape.append(',');
+            }
+            first = false;
+            // Conditions are not included because they contain literals
+            shape.append(CommonUtils.notEmpty(node.getNodeType()));
+            if (!CommonUtils.isEmpty(node.getNodeName())) {
+                shape.append('[').append(node.getNodeName()).append(']');
+            }
+            appendPlanShape(shape, node.getNested());
+        }
+        shape.append(')');
+    }
+
+    @Nullable
+    private static String serializePlan(@NotNull DBCQueryPlanner planner, @NotNull DBCPlan plan) {
+        if (!(planner instanceof DBCQueryPlannerSerializable serializable)) {
+            return null;
+        }
+        try {
+            StringWriter writer = new StringWriter();
+            serializable.serialize(writer, plan);
+            JsonElement planJson = JsonParser.parseString(writer.toString());
+            if (!planJson.isJsonObject() && !planJson.isJsonArray()) {
+                // Literals can't be removed from plans in unknown format
+                return null;
+            }
+            return gson.toJson(maskPlanLiterals(planJson));
+        } catch (Exception e) {
+            log.debug("Error serializing query plan", e);
+            return null;
+        }
+    }
+
+    @NotNull
+    private static JsonElement maskPlanLiterals(@NotNull JsonElement element) {
+        if (element.isJsonObject()) {
+            JsonObject result = new JsonObject();
+            for (Map.Entry<String, JsonElement> property : element.getAsJsonObject().entrySet()) {
+                result.add(
+                    property.getKey(),
+                    PLAN_NAME_PROPERTIES.contains(property.getKey()) ? property.getValue() : maskPlanLiterals(property.getValue()));
+            }
+            return result;
+        } else if (element.isJsonArray()) {
+            JsonArray result = new JsonArray();
+            for (JsonElement item : element.getAsJsonArray()) {
+                result.add(maskPlanLiterals(item));
+            }
+            return result;
+        } else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
+            // Query text, conditions and descriptions
+            return new JsonPrimitive(SQLQueryFingerprint.maskLiterals(element.getAsString()));
+        }
+        return element;
+    }
+
+    private void handleQueryEvents(@NotNull DBRProgressMonitor monitor, @NotNull List<QMMetaEvent> events) {
+        boolean changed = false;
+        for (QMMetaEvent event : events) {
+            if (event.getAction() != QMEventAction.END
+                || !(event.getObject() instanceof QMMStatementExecuteInfo execute)
+                || execute.hasError()
+                || execute.getQueryString() == null) {
+                continue;
+            }
+            long duration = execute.getDuration();
+            if (duration < 0) {
+                continue;
+            }
+            String containerId = execute.getConnection().getContainerId();
+            Set<String> words;
+            synchronized (history) {
+                words = trackedWords.get(containerId);
+            }
+            if (words == null || !SQLQueryFingerprint.containsAnyWord(execute.getQueryString(), words)) {
+                // Query can't have a tracked fingerprint, do not lex it
+                continue;
+            }
+            SQLQueryFingerprint fingerprint = SQLQueryFingerprint.of(execute.getQueryString());
+            synchronized (history) {
+                QueryPlans queryPlans = getQueryPlans(containerId, fingerprint.hash());
+                if (queryPlans != null) {
+                    queryPlans.executeCount++;
+                    queryPlans.executeTime += duration;
+                    queryPlans.lastUsed = System.currentTimeMillis();
+                    markChanged(containerId, fingerprint.hash());
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            saveJob.schedule(SAVE_DELAY);
+        }
+    }
+
+    private void loadHistory() {
+        Path historyFile = DBWorkbench.getPlatform().getLocalConfigurationFile(HISTORY_FILE_NAME);
+        if (!Files.exists(historyFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(historyFile, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                historyFileLines++;
+                HistoryEntry entry;
+                try {
+                    entry = gson.fromJson(line, HistoryEntry.class);
+                } catch (JsonParseException e) {
+                    // The last line may be incomplete if the application was terminated while saving
+                    log.debug("Skip invalid query plan history entry", e);
+                    continue;
+                }
+                if (entry == null || entry.dataSource == null || entry.query == null) {
+                    continue;
+                }
+                Map<String, QueryPlans> containerHistory = history.computeIfAbsent(entry.dataSource, id -> new LinkedHashMap<>());
+                if (entry.plans == null) {
+                    containerHistory.remove(entry.query);
+                } else {
+                    containerHistory.put(entry.query, entry.plans);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error loading query plan history", e);
+        }
+        history.values().removeIf(Map::isEmpty);
+        for (String containerId : history.keySet()) {
+            updateTrackedWords(containerId);
+        }
+    }
+
+    /**
+     * Appends changed queries to the history file.
+     * The whole file is rewritten only if most of its lines are outdated.
+     */
+    private void saveHistory() {
+        List<String> lines = new ArrayList<>();
+        boolean compact;
+        synchronized (history) {
+            int queryCount = 0;
+            for (Map<String, QueryPlans> containerHistory : history.values()) {
+                queryCount += containerHistory.size();
+            }
+            int changedCount = 0;
+            for (Set<String> hashes : changedQueries.values()) {
+                changedCount += hashes.size();
+            }
+            if (changedCount == 0) {
+                return;
+            }
+            compact = historyFileLines + changedCount > Math.max(queryCount, COMPACT_MIN_LINES) * COMPACT_RATIO;
+            if (compact) {
+                for (Map.Entry<String, Map<String, QueryPlans>> containerHistory : history.entrySet()) {
+                    for (Map.Entry<String, QueryPlans> queryPlans : containerHistory.getValue().entrySet()) {
+                        lines.add(gson.toJson(new HistoryEntry(containerHistory.getKey(), queryPlans.getKey(), queryPlans.getValue())));
+                    }
+                }
+                historyFileLines = lines.size();
+            } else {
+                for (Map.Entry<String, Set<String>> changed : changedQueries.entrySet()) {
+                    for (String hash : changed.getValue()) {
+                        lines.add(gson.toJson(new HistoryEntry(changed.getKey(), hash, getQueryPlans(changed.getKey(), hash))));
+                    }
+                }
+                historyFileLines += lines.size();
+            }
+            changedQueries.clear();
+        }
+        try {
+            Path historyFile = DBWorkbench.getPlatform().getLocalConfigurationFile(HISTORY_FILE_NAME);
+            if (compact) {
+                Path tempFile = historyFile.resolveSibling(historyFile.getFileName() + ".tmp");
+                Files.write(tempFile, lines, StandardCharsets.UTF_8);
+                Files.move(tempFile, historyFile, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.write(historyFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            log.error("Error saving query plan history", e);
+        }
+    }
+
+    private class SaveJob extends AbstractJob {
+        SaveJob() {
+            super("Save query plan history");
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            saveHistory();
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -17,7 +17,9 @@
 
 package org.jkiss.dbeaver.model.admin.sessions;
 
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBPObject;
+import org.jkiss.utils.CommonUtils;
 
 /**
  * Server session
@@ -28,4 +30,36 @@ public interface DBAServerSession extends DBPObject {
 
     Object getActiveQueryId();
 
+    /**
+     * Returns true if session is doing something (executes query, waits for lock, etc.).
+     * Active sessions are recorded by {@link ServerSessionSampler}.
+     */
+    default boolean isActiveSession() {
+        return !CommonUtils.isEmptyTrimmed(getActiveQuery());
+    }
+
+    /**
+     * Session user name, or null if not available
+     */
+    @Nullable
+    default String getSessionUser() {
+        return null;
+    }
+
+    /**
+     * Session state as reported by server, or null if not available
+     */
+    @Nullable
+    default String getSessionState() {
+        return null;
+    }
+
+    /**
+     * Event the session waits for, or null if session doesn't wait or wait info isn't available
+     */
+    @Nullable
+    default String getSessionWaitEvent() {
+        return null;
+    }
+
 }
@@ -0,0 +1,285 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * History of active server sessions.
+ * <p>
+ * Keeps a fixed number of the latest samples in a ring buffer. Sessions of each sample are grouped by activity
+ * (query text, state, wait event and user). Each distinct activity is stored once and samples refer to it by id,
+ * so a sample takes a few integers per activity. Activity is released when the last sample which refers to it is evicted.
+ * <p>
+ * Thread-safe.
+ */
+public class ServerSessionHistory {
+
+    // Long queries are cut to keep memory usage predictable
+    public static final int MAX_QUERY_LENGTH = 2000;
+
+    private static final int[] EMPTY_IDS = new int[0];
+
+    /**
+     * What sessions were doing
+     */
+    public record Activity(
+        @Nullable String query,
+        @Nullable String state,
+        @Nullable String waitEvent,
+        @Nullable String user
+    ) {
+    }
+
+    /**
+     * Activity aggregated over a time window
+     *
+     * @param sessionSamples        number of active sessions with this activity in all samples
+     * @param averageActiveSessions average number of active sessions with this activity per sample
+     */
+    public record ActivityStat(
+        @NotNull Activity activity,
+        long sessionSamples,
+        double averageActiveSessions
+    ) {
+    }
+
+    /**
+     * Average number of active sessions in a time bucket. Buckets without samples are skipped.
+     */
+    public record TimelinePoint(
+        long startTime,
+        double averageActiveSessions
+    ) {
+    }
+
+    private static class ActivityEntry {
+        final Activity activity;
+        final int id;
+        int refCount;
+
+        ActivityEntry(Activity activity, int id) {
+            this.activity = activity;
+            this.id = id;
+        }
+    }
+
+    private final int capacity;
+    private final long[] sampleTimes;
+    private final int[][] sampleActivityIds;
+    private final int[][] sampleSessionCounts;
+    // Index of the oldest sample
+    private int first;
+    private int size;
+
+    private final Map<Activity, ActivityEntry> activities = new HashMap<>();
+    private final List<ActivityEntry> activitiesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    public ServerSessionHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Bad history capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.sampleTimes = new long[capacity];
+        this.sampleActivityIds = new int[capacity][];
+        this.sampleSessionCounts = new int[capacity][];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int getSampleCount() {
+        return size;
+    }
+
+    /**
+     * Number of distinct activities referenced by samples
+     */
+    public synchronized int getActivityCount() {
+        return activities.size();
+    }
+
+    /**
+     * Records active sessions. Evicts the oldest sample if history is full.
+     * Samples must be added in time order.
+     */
+    public synchronized void addSample(long time, @NotNull Collection<? extends DBAServerSession> sessions) {
+        Map<Activity, int[]> counts = new LinkedHashMap<>();
+        for (DBAServerSession session : sessions) {
+            if (session.isActiveSession()) {
+                counts.computeIfAbsent(getActivity(session), a -> new int[1])[0]++;
+            }
+        }
+
+        int index;
+        if (size == capacity) {
+            index = first;
+            releaseSample(index);
+            first = (first + 1) % capacity;
+        } else {
+            index = (first + size) % capacity;
+            size++;
+        }
+
+        int[] ids = counts.isEmpty() ? EMPTY_IDS : new int[counts.size()];
+        int[] sessionCounts = counts.isEmpty() ? EMPTY_IDS : new int[counts.size()];
+        int i = 0;
+        for (Map.Entry<Activity, int[]> entry : counts.entrySet()) {
+            ActivityEntry activityEntry = acquireActivity(entry.getKey());
+            ids[i] = activityEntry.id;
+            sessionCounts[i] = entry.getValue()[0];
+            i++;
+        }
+        sampleTimes[index] = time;
+        sampleActivityIds[index] = ids;
+        sampleSessionCounts[index] = sessionCounts;
+    }
+
+    /**
+     * Returns activities of samples in the time window ordered by number of active sessions (descending)
+     *
+     * @param fromTime window start (inclusive)
+     * @param toTime   window end (inclusive)
+     * @param limit    maximum number of returned activities
+     */
+    @NotNull
+    public synchronized List<ActivityStat> getTopActivity(long fromTime, long toTime, int limit) {
+        long[] totals = new long[activitiesById.size()];
+        int sampleCount = 0;
+        for (int i = 0; i < size; i++) {
+            int index = (first + i) % capacity;
+            if (sampleTimes[index] < fromTime || sampleTimes[index] > toTime) {
+                continue;
+            }
+            sampleCount++;
+            int[] ids = sampleActivityIds[index];
+            int[] sessionCounts = sampleSessionCounts[index];
+            for (int k = 0; k < ids.length; k++) {
+                totals[ids[k]] += sessionCounts[k];
+            }
+        }
+        List<ActivityStat> result = new ArrayList<>();
+        for (int id = 0; id < totals.length; id++) {
+            if (totals[id] > 0) {
+                result.add(new ActivityStat(activitiesById.get(id).activity, totals[id], (double) totals[id] / sampleCount));
+            }
+        }
+        result.sort(Comparator.comparingLong(ActivityStat::sessionSamples).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Returns average number of active sessions in time buckets of the time window
+     */
+    @NotNull
+    public synchronized List<TimelinePoint> getTimeline(long fromTime, long toTime, long bucketDuration) {
+        if (bucketDuration <= 0) {
+            throw new IllegalArgumentException("Bad bucket duration: " + bucketDuration);
+        }
+        List<TimelinePoint> result = new ArrayList<>();
+        long bucketStart = -1;
+        long bucketSessions = 0;
+        int bucketSamples = 0;
+        for (int i = 0; i < size; i++) {
+            int index = (first + i) % capacity;
+            long time = sampleTimes[index];
+            if (time < fromTime || time > toTime) {
+                continue;
+            }
+            long sampleBucketStart = fromTime + (time - fromTime) / bucketDuration * bucketDuration;
+            if (sampleBucketStart != bucketStart) {
+                if (bucketSamples > 0) {
+                    result.add(new TimelinePoint(bucketStart, (double) bucketSessions / bucketSamples));
+                }
+                bucketStart = sampleBucketStart;
+                bucketSessions = 0;
+                bucketSamples = 0;
+            }
+            for (int count : sampleSessionCounts[index]) {
+                bucketSessions += count;
+            }
+            bucketSamples++;
+        }
+        if (bucketSamples > 0) {
+            result.add(new TimelinePoint(bucketStart, (double) bucketSessions / bucketSamples));
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(sampleActivityIds, null);
+        Arrays.fill(sampleSessionCounts, null);
+        first = 0;
+        size = 0;
+        activities.clear();
+        activitiesById.clear();
+        freeIds.clear();
+    }
+
+    @NotNull
+    private static Activity getActivity(@NotNull DBAServerSession session) {
+        String query = session.getActiveQuery();
+        if (query != null) {
+            query = query.trim();
+            if (query.length() > MAX_QUERY_LENGTH) {
+                query = query.substring(0, MAX_QUERY_LENGTH);
+            }
+        }
+        return new Activity(
+            CommonUtils.nullIfEmpty(query),
+            session.getSessionState(),
+            session.getSessionWaitEvent(),
+            session.getSessionUser());
+    }
+
+    @NotNull
+    private ActivityEntry acquireActivity(@NotNull Activity activity) {
+        ActivityEntry entry = activities.get(activity);
+        if (entry == null) {
+            Integer freeId = freeIds.poll();
+            if (freeId == null) {
+                entry = new ActivityEntry(activity, activitiesById.size());
+                activitiesById.add(entry);
+            } else {
+                entry = new ActivityEntry(activity, freeId);
+                activitiesById.set(freeId, entry);
+            }
+            activities.put(activity, entry);
+        }
+        entry.refCount++;
+        return entry;
+    }
+
+    private void releaseSample(int index) {
+        for (int id : sampleActivityIds[index]) {
+            ActivityEntry entry = activitiesById.get(id);
+            if (--entry.refCount == 0) {
+                activities.remove(entry.activity);
+                freeIds.add(id);
+            }
+        }
+        sampleActivityIds[index] = null;
+        sampleSessionCounts[index] = null;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Polls session manager with the specified interval and records active sessions into the history.
+ * Sessions are read in a separate utility context which is kept open while sampler works.
+ */
+public class ServerSessionSampler extends AbstractJob {
+
+    private static final Log log = Log.getLog(ServerSessionSampler.class);
+
+    public static final long DEFAULT_INTERVAL = 5000;
+
+    private final DBAServerSessionManager<?> sessionManager;
+    private final ServerSessionHistory history;
+    private final Map<String, Object> options;
+    @Nullable
+    private final Runnable sampleListener;
+    private volatile long interval = DEFAULT_INTERVAL;
+    private volatile boolean stopped;
+    private DBCExecutionContext samplerContext;
+    private boolean isolatedContext;
+
+    public ServerSessionSampler(
+        @NotNull DBAServerSessionManager<?> sessionManager,
+        @NotNull ServerSessionHistory history,
+        @Nullable Map<String, Object> options,
+        @Nullable Runnable sampleListener
+    ) {
+        super("Sample sessions of " + sessionManager.getDataSource().getContainer().getName());
+        this.sessionManager = sessionManager;
+        this.history = history;
+        this.options = options == null ? Collections.emptyMap() : options;
+        this.sampleListener = sampleListener;
+        setSystem(true);
+        setUser(false);
+    }
+
+    @NotNull
+    public ServerSessionHistory getHistory() {
+        return history;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public void setInterval(long interval) {
+        this.interval = Math.max(interval, 100);
+    }
+
+    public void start() {
+        stopped = false;
+        schedule();
+    }
+
+    /**
+     * Stops sampling and closes sampler context. History is kept.
+     */
+    public void stop() {
+        stopped = true;
+        if (cancel()) {
+            // Job is not running, so nobody else uses the context
+            closeContext();
+        }
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        if (stopped) {
+            closeContext();
+            return Status.OK_STATUS;
+        }
+        try {
+            DBCExecutionContext context = getSamplerContext(monitor);
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Sample server sessions")) {
+                history.addSample(System.currentTimeMillis(), sessionManager.getSessions(session, options));
+            }
+            if (sampleListener != null) {
+                sampleListener.run();
+            }
+        } catch (Exception e) {
+            log.debug("Error sampling server sessions", e);
+            // Context may be broken. Reopen it next time
+            closeContext();
+        }
+        if (stopped) {
+            closeContext();
+        } else {
+            schedule(interval);
+        }
+        return Status.OK_STATUS;
+    }
+
+    @NotNull
+    private synchronized DBCExecutionContext getSamplerContext(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (samplerContext == null) {
+            DBPDataSource dataSource = sessionManager.getDataSource();
+            if (dataSource.getContainer().isForceUseSingleConnection()) {
+                samplerContext = DBUtils.getDefaultContext(dataSource, false);
+                isolatedContext = false;
+            } else {
+                samplerContext = dataSource.getDefaultInstance().openIsolatedContext(monitor, "Session sampler", null);
+                isolatedContext = true;
+            }
+        }
+        return samplerContext;
+    }
+
+    private synchronized void closeContext() {
+        if (samplerContext != null) {
+            if (isolatedContext) {
+                samplerContext.close();
+            }
+            samplerContext = null;
+        }
+    }
+
+}
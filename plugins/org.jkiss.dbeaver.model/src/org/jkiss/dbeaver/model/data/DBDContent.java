@@ -53,6 +53,17 @@ public interface DBDContent extends DBDValue {
     @Nullable
     DBDContentStorage getContents(@NotNull DBRProgressMonitor monitor) throws DBCException;
 
+    /**
+     * Returns contents for a single sequential read (e.g. export or data transfer).
+     * Unlike {@link #getContents(DBRProgressMonitor)} implementations may return storage which reads
+     * directly from the source without copying content into memory or into a temporary file.
+     * Returned storage must not be kept after the content is released.
+     */
+    @Nullable
+    default DBDContentStorage getStreamedContents(@NotNull DBRProgressMonitor monitor) throws DBCException {
+        return getContents(monitor);
+    }
+
     /**
      * Update contents
      * @param monitor monitor
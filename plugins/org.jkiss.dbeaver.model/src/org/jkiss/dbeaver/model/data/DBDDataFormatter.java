@@ -17,6 +17,7 @@
 
 package org.jkiss.dbeaver.model.data;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 
@@ -25,7 +26,9 @@ import java.util.Locale;
 import java.util.Map;
 
 /**
- * Data formatter
+ * Data formatter.
+ * Formatter instances are shared between consumers (see {@link DBDDataFormatterProfile})
+ * so implementations must be thread-safe after {@link #init}.
  */
 public interface DBDDataFormatter {
 
@@ -44,6 +47,17 @@ public interface DBDDataFormatter {
     @Nullable
     String formatValue(Object value);
 
+    /**
+     * Appends formatted value to the specified buffer. Does nothing if value is null.
+     * Allows to format many values without intermediate strings.
+     */
+    default void formatValue(@Nullable Object value, @NotNull StringBuilder buffer) {
+        String strValue = formatValue(value);
+        if (strValue != null) {
+            buffer.append(strValue);
+        }
+    }
+
     @Nullable
     Object parseValue(String value, @Nullable Class<?> typeHint) throws ParseException;
     
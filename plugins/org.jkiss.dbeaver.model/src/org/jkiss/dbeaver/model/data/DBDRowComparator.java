@@ -0,0 +1,72 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compares data rows by a list of columns, as result set viewer does for local sorting.
+ * Strings are compared ignoring case, other values are compared with {@link DBUtils#compareDataValues}.
+ *
+ * @param <ROW> row type
+ */
+public class DBDRowComparator<ROW> implements Comparator<ROW> {
+
+    private record OrderColumn<ROW>(@NotNull Function<ROW, Object> valueReader, boolean descending) {
+    }
+
+    private final List<OrderColumn<ROW>> columns = new ArrayList<>();
+
+    /**
+     * Adds next order column
+     *
+     * @param valueReader reads column value from row
+     */
+    @NotNull
+    public DBDRowComparator<ROW> addColumn(@NotNull Function<ROW, Object> valueReader, boolean descending) {
+        columns.add(new OrderColumn<>(valueReader, descending));
+        return this;
+    }
+
+    @Override
+    public int compare(ROW row1, ROW row2) {
+        for (OrderColumn<ROW> column : columns) {
+            int result = compareValues(column.valueReader.apply(row1), column.valueReader.apply(row2));
+            if (column.descending) {
+                result = -result;
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    public static int compareValues(@Nullable Object value1, @Nullable Object value2) {
+        if (value1 instanceof String str1 && value2 instanceof String str2) {
+            return str1.compareToIgnoreCase(str2);
+        }
+        return DBUtils.compareDataValues(value1, value2);
+    }
+}
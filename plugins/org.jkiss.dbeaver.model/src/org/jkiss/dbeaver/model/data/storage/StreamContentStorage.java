@@ -32,10 +32,19 @@ import java.io.Reader;
 public class StreamContentStorage implements DBDContentStorage {
 
     private final InputStream stream;
+    private final long contentLength;
+    private final String charset;
 
     public StreamContentStorage(InputStream stream)
+    {
+        this(stream, -1, GeneralUtils.DEFAULT_ENCODING);
+    }
+
+    public StreamContentStorage(InputStream stream, long contentLength, String charset)
     {
         this.stream = stream;
+        this.contentLength = contentLength;
+        this.charset = charset;
     }
 
     @Override
@@ -55,20 +64,20 @@ public class StreamContentStorage implements DBDContentStorage {
     @Override
     public long getContentLength()
     {
-        return -1;
+        return contentLength;
     }
 
     @Override
     public String getCharset()
     {
-        return GeneralUtils.DEFAULT_ENCODING;
+        return charset;
     }
 
     @Override
     public DBDContentStorage cloneStorage(DBRProgressMonitor monitor)
         throws IOException
     {
-        return new StreamContentStorage(stream);
+        return new StreamContentStorage(stream, contentLength, charset);
     }
 
     @Override
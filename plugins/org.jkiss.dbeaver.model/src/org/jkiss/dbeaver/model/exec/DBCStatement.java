@@ -71,6 +71,15 @@ public interface DBCStatement extends DBPObject, DBRBlockingObject, DBPCloseable
      */
     void addToBatch() throws DBCException;
 
+    /**
+     * Adds arbitrary query to execution batch (if supported).
+     * Applicable to plain (not prepared) statements only.
+     * @throws DBCException on error
+     */
+    default void addToBatch(@NotNull String query) throws DBCException {
+        throw new DBCFeatureNotSupportedException("Query batches are not supported");
+    }
+
     /**
      * Executes batch of statements
      * @throws DBCException on error
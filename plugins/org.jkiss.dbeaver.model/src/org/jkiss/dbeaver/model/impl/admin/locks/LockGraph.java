@@ -25,16 +25,20 @@ import java.util.List;
 
 public class LockGraph {
 
-	private List<LockGraphNode> nodes = new ArrayList<>();
-	private int maxWidth = 0;
+	private volatile List<LockGraphNode> nodes = new ArrayList<>();
+	private volatile int maxWidth = 0;
 	private LockGraphNode selection;
 	//private LockManagerViewer lockManagerViewer;
-	private final DBAServerLock lockRoot;
+	private DBAServerLock lockRoot;
 	
 	public DBAServerLock getLockRoot() {
 		return lockRoot;
 	}
 
+	public void setLockRoot(DBAServerLock lockRoot) {
+		this.lockRoot = lockRoot;
+	}
+
 /*
 	public LockManagerViewer getLockManagerViewer() {
 		return lockManagerViewer;
@@ -56,7 +60,15 @@ public class LockGraph {
 
 
 	public void setSelection(LockGraphNode selection) {
-		this.selection = selection;
+		if (this.selection != selection) {
+			if (this.selection != null) {
+				this.selection.markChanged();
+			}
+			if (selection != null) {
+				selection.markChanged();
+			}
+			this.selection = selection;
+		}
 	}
 
 
@@ -64,6 +76,10 @@ public class LockGraph {
 		return this.nodes;
 	}
 
+	public void setNodes(List<LockGraphNode> nodes) {
+		this.nodes = nodes;
+	}
+
 
 	public int getMaxWidth() {
 		return maxWidth;
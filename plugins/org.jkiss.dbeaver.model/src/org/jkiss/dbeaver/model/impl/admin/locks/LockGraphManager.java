@@ -21,16 +21,36 @@ import org.jkiss.dbeaver.model.admin.locks.DBAServerLock;
 
 import java.util.*;
 
+/**
+ * Keeps wait-for graphs of server locks.
+ * <p>
+ * Graph nodes are kept between lock snapshots. Each snapshot is compared with the previous one and only graphs
+ * with added or removed locks and wait edges are laid out again. Unchanged nodes keep their revision,
+ * so views redraw only changed nodes.
+ * <p>
+ * Each lock waits for at most one holder, so a wait cycle (deadlock) may appear only when a wait edge is added
+ * and it is found by following holders from the new edge. A cycle is drawn as a graph rooted in one of its locks.
+ */
 public abstract class LockGraphManager {
 
     public static final String keyType = "type";
     public static final String typeWait = "wait";
     public static final String typeHold = "hold";
 
-    private Map<Object, LockGraphNode> nodes = new HashMap<>();
-    private Map<Object, LockGraph> graphIndex = new HashMap<>();
-
-    public LockGraph getGraph(DBAServerLock curLock) {
+    private final Map<Object, LockGraphNode> nodes = new HashMap<>();
+    // Waiting lock id -> holding lock id
+    private final Map<Object, Object> waitFor = new HashMap<>();
+    // Waiting lock id -> edge from its holder
+    private final Map<Object, LockGraphEdge> waitEdges = new HashMap<>();
+    // Root lock id -> graph
+    private final Map<Object, LockGraph> graphs = new HashMap<>();
+    // Lock id -> graph which contains it
+    private final Map<Object, LockGraph> graphIndex = new HashMap<>();
+    // Deadlocked lock id -> ids of all locks of its wait cycle
+    private final Map<Object, List<Object>> deadlocks = new HashMap<>();
+    private final List<LockGraphNode> blockingChain = new ArrayList<>();
+
+    public synchronized LockGraph getGraph(DBAServerLock curLock) {
 
         LockGraphNode selection = nodes.get(curLock.getId());
 
@@ -38,119 +58,271 @@ public abstract class LockGraphManager {
 
         if (graph != null && selection != null) {
             graph.setSelection(selection);
+            highlightBlockingChain(selection);
         }
 
         return graph;
     }
 
-    @SuppressWarnings("unchecked")
-    private LockGraph createGraph(DBAServerLock root) {
-        LockGraph graph = new LockGraph(root);
+    public synchronized boolean isDeadlocked(DBAServerLock lock) {
+        return deadlocks.containsKey(lock.getId());
+    }
 
-        int maxWidth = 1;
-        int level = 1;
-        LockGraphNode nodeRoot = nodes.get(root.getId());
+    /**
+     * Returns locks of all wait cycles found in the last snapshot
+     */
+    public synchronized List<DBAServerLock> getDeadlockedLocks() {
+        List<DBAServerLock> result = new ArrayList<>(deadlocks.size());
+        for (Object id : deadlocks.keySet()) {
+            result.add(nodes.get(id).getLock());
+        }
+        return result;
+    }
 
-        nodeRoot.setLevel(0);
-        nodeRoot.setSpan(1);
+    public synchronized void buildGraphs(Map<Object, ? extends DBAServerLock> locks) {
 
-        graph.getNodes().add(nodeRoot);
-        graphIndex.put(root.getId(), graph);
+        Map<Object, Object> newWaitFor = new HashMap<>();
 
-        List<DBAServerLock> current = new ArrayList<>();
-        Set<DBAServerLock> touched = new HashSet<>(); //Prevent Cycle
+        for (DBAServerLock l : locks.values()) {
 
-        current.add(root);
-        touched.add(root);
+            Object holdId = l.getHoldID();
+            if (holdId != null && locks.containsKey(holdId) && !holdId.equals(l.getId())) {
 
-        Map<Object, DBAServerLock> childs = new HashMap<>();
+                DBAServerLock holder = locks.get(holdId);
+                l.setHoldBy(holder);
+                holder.waitThis().add(l);
+                newWaitFor.put(l.getId(), holdId);
 
-        while (current.size() > 0) {
-            if (maxWidth < current.size()) {
-                maxWidth = current.size();
             }
+        }
 
-            for (int index = 0; index < current.size(); index++) {
-                DBAServerLock l = current.get(index);
-                LockGraphNode node = nodes.get(l.getId());
+        Set<LockGraph> changedGraphs = new HashSet<>();
+        Set<Object> newIds = new HashSet<>();
+
+        // Remove wait edges which are gone or point to another holder
+        for (Iterator<Map.Entry<Object, Object>> iter = waitFor.entrySet().iterator(); iter.hasNext(); ) {
+            Map.Entry<Object, Object> entry = iter.next();
+            Object waiterId = entry.getKey();
+            if (!entry.getValue().equals(newWaitFor.get(waiterId))) {
+                iter.remove();
+                LockGraphEdge edge = waitEdges.remove(waiterId);
+                edge.setSource(null);
+                edge.setTarget(null);
+                markChanged(waiterId, changedGraphs, newIds);
+                markChanged(entry.getValue(), changedGraphs, newIds);
+                breakDeadlock(waiterId);
+            }
+        }
 
-                if (index == 0) {
-                    node.setLevelPosition(LockGraphNode.LevelPosition.LEFT);
-                } else if (index == current.size() - 1) {
-                    node.setLevelPosition(LockGraphNode.LevelPosition.RIGHT);
-                } else {
-                    node.setLevelPosition(LockGraphNode.LevelPosition.CENTER);
-                }
+        // Remove nodes of released locks
+        for (Iterator<Map.Entry<Object, LockGraphNode>> iter = nodes.entrySet().iterator(); iter.hasNext(); ) {
+            Object id = iter.next().getKey();
+            if (!locks.containsKey(id)) {
+                markChanged(id, changedGraphs, newIds);
+                iter.remove();
+                graphIndex.remove(id);
+            }
+        }
 
-                node.setSpan(current.size());
+        for (DBAServerLock l : locks.values()) {
+            LockGraphNode node = nodes.get(l.getId());
+            if (node == null) {
+                nodes.put(l.getId(), new LockGraphNode(l));
+                newIds.add(l.getId());
+            } else {
+                node.setLock(l);
+            }
+        }
+
+        List<Object> newWaiters = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : newWaitFor.entrySet()) {
+            Object waiterId = entry.getKey();
+            if (!waitFor.containsKey(waiterId)) {
+                waitFor.put(waiterId, entry.getValue());
+                LockGraphEdge edge = new LockGraphEdge();
+                edge.setSource(nodes.get(entry.getValue()));
+                edge.setTarget(nodes.get(waiterId));
+                waitEdges.put(waiterId, edge);
+                markChanged(waiterId, changedGraphs, newIds);
+                markChanged(entry.getValue(), changedGraphs, newIds);
+                newWaiters.add(waiterId);
+            }
+        }
+
+        for (Object waiterId : newWaiters) {
+            detectDeadlock(waiterId);
+        }
 
+        // Lay out graphs which contain changed locks
+        Map<Object, LockGraph> oldGraphs = new HashMap<>();
+        Set<Object> changedRoots = new LinkedHashSet<>();
+        for (LockGraph graph : changedGraphs) {
+            Object rootId = graph.getLockRoot().getId();
+            graphs.remove(rootId);
+            oldGraphs.put(rootId, graph);
+            for (LockGraphNode node : graph.getNodes()) {
+                Object id = node.getLock().getId();
+                if (nodes.containsKey(id)) {
+                    changedRoots.add(findRoot(id));
+                }
+            }
+        }
+        for (Object id : newIds) {
+            if (nodes.containsKey(id)) {
+                changedRoots.add(findRoot(id));
+            }
+        }
+        for (Object rootId : changedRoots) {
+            createGraph(rootId, oldGraphs.remove(rootId));
+        }
 
-                for (DBAServerLock c : l.waitThis()) {
+        for (Map.Entry<Object, LockGraph> entry : graphs.entrySet()) {
+            entry.getValue().setLockRoot(nodes.get(entry.getKey()).getLock());
+        }
+    }
 
-                    if (touched.contains(c)) continue;
+    private void markChanged(Object id, Set<LockGraph> changedGraphs, Set<Object> newIds) {
+        LockGraph graph = graphIndex.get(id);
+        if (graph != null) {
+            changedGraphs.add(graph);
+        } else {
+            newIds.add(id);
+        }
+    }
 
-                    touched.add(c);
+    private void createGraph(Object rootId, LockGraph graph) {
+        LockGraphNode nodeRoot = nodes.get(rootId);
+        if (graph == null) {
+            graph = new LockGraph(nodeRoot.getLock());
+        }
+        graphs.put(rootId, graph);
 
-                    childs.put(c.getId(), c);
+        List<LockGraphNode> graphNodes = new ArrayList<>();
+        Set<LockGraphNode> touched = new HashSet<>(); //Prevent Cycle
 
-                    graphIndex.put(c.getId(), graph);
+        List<LockGraphNode> current = new ArrayList<>();
+        current.add(nodeRoot);
+        touched.add(nodeRoot);
 
-                    LockGraphNode nodeChild = nodes.get(c.getId());
+        int maxWidth = 1;
+        int level = 0;
 
-                    graph.getNodes().add(nodeChild);
+        while (!current.isEmpty()) {
+            if (maxWidth < current.size()) {
+                maxWidth = current.size();
+            }
 
-                    nodeChild.setLevel(level);
+            List<LockGraphNode> childs = new ArrayList<>();
 
-                    LockGraphEdge edge = new LockGraphEdge();
-                    edge.setSource(node);
-                    edge.setTarget(nodeChild);
+            for (int index = 0; index < current.size(); index++) {
+                LockGraphNode node = current.get(index);
 
+                if (index == 0) {
+                    node.setLevelPosition(LockGraphNode.LevelPosition.LEFT);
+                } else if (index == current.size() - 1) {
+                    node.setLevelPosition(LockGraphNode.LevelPosition.RIGHT);
+                } else {
+                    node.setLevelPosition(LockGraphNode.LevelPosition.CENTER);
                 }
 
+                node.setLevel(level);
+                node.setSpan(current.size());
+
+                graphNodes.add(node);
+                graphIndex.put(node.getLock().getId(), graph);
 
+                for (LockGraphEdge edge : node.getSourceEdges()) {
+                    LockGraphNode nodeChild = edge.getTarget();
+                    if (touched.add(nodeChild)) {
+                        childs.add(nodeChild);
+                    }
+                }
             }
 
             level++;
 
-            current = new ArrayList<>(childs.values());
-
-            childs.clear();
-
-
+            current = childs;
         }
 
-        graph.setMaxWidth(maxWidth);
-        return graph;
+        if (graph.getMaxWidth() != maxWidth) {
+            // Grid cells of all nodes depend on the graph width
+            graph.setMaxWidth(maxWidth);
+            for (LockGraphNode node : graphNodes) {
+                node.markChanged();
+            }
+        }
+        graph.setNodes(graphNodes);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public void buildGraphs(Map<Object, ? extends DBAServerLock> locks) {
-
-        Set<DBAServerLock> roots = new HashSet<>();
-
-        this.nodes.clear();
-
-        this.graphIndex.clear();
-
-        for (DBAServerLock l : locks.values()) {
-
-            if (locks.containsKey(l.getHoldID()) && (!l.getHoldID().equals(l.getId()))) {
-
-                DBAServerLock holder = locks.get(l.getHoldID());
-                l.setHoldBy(holder);
-                holder.waitThis().add(l);
-
-            } else {
-                roots.add(l);
+    /**
+     * Returns the lock which does not wait for other locks or the first lock of a wait cycle
+     */
+    private Object findRoot(Object id) {
+        Object rootId = id;
+        for (int i = 0; i <= waitFor.size(); i++) {
+            List<Object> cycle = deadlocks.get(rootId);
+            if (cycle != null) {
+                return cycle.get(0);
+            }
+            Object holdId = waitFor.get(rootId);
+            if (holdId == null) {
+                break;
             }
+            rootId = holdId;
+        }
+        return rootId;
+    }
 
-            nodes.put(l.getId(), new LockGraphNode(l));
+    private void detectDeadlock(Object waiterId) {
+        if (deadlocks.containsKey(waiterId)) {
+            // Cycle was found from another new edge
+            return;
+        }
+        Object id = waitFor.get(waiterId);
+        for (int i = 0; id != null && i < waitFor.size(); i++) {
+            if (id.equals(waiterId)) {
+                List<Object> cycle = new ArrayList<>();
+                Object memberId = waiterId;
+                do {
+                    cycle.add(memberId);
+                    memberId = waitFor.get(memberId);
+                } while (!memberId.equals(waiterId));
+                for (Object cycleMemberId : cycle) {
+                    deadlocks.put(cycleMemberId, cycle);
+                    nodes.get(cycleMemberId).setDeadlocked(true);
+                }
+                return;
+            }
+            if (deadlocks.containsKey(id)) {
+                // Waits for another cycle
+                return;
+            }
+            id = waitFor.get(id);
         }
+    }
 
-        for (DBAServerLock root : roots) {
-            createGraph(root);
+    private void breakDeadlock(Object waiterId) {
+        List<Object> cycle = deadlocks.get(waiterId);
+        if (cycle != null) {
+            for (Object cycleMemberId : cycle) {
+                deadlocks.remove(cycleMemberId);
+                nodes.get(cycleMemberId).setDeadlocked(false);
+            }
         }
+    }
 
+    private void highlightBlockingChain(LockGraphNode selection) {
+        for (LockGraphNode node : blockingChain) {
+            node.setBlockingChain(false);
+        }
+        blockingChain.clear();
+        // Selected lock and all locks it waits for
+        for (LockGraphNode node = selection; node != null && !node.isBlockingChain(); ) {
+            node.setBlockingChain(true);
+            blockingChain.add(node);
+            List<LockGraphEdge> holdEdges = node.getTargetEdges();
+            node = holdEdges.isEmpty() ? null : holdEdges.get(0).getSource();
+        }
     }
 
 }
@@ -19,8 +19,9 @@ package org.jkiss.dbeaver.model.impl.admin.locks;
 
 import org.jkiss.dbeaver.model.admin.locks.DBAServerLock;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 public class LockGraphNode  {
@@ -32,6 +33,13 @@ public class LockGraphNode  {
 	private String title;
 	
 	private DBAServerLock lock;
+
+	private boolean deadlocked;
+
+	private boolean blockingChain;
+
+	// Incremented on each visible change, so views redraw only changed nodes
+	private volatile int revision;
 	
 	public enum LevelPosition { LEFT, CENTER, RIGHT};	
 	
@@ -42,7 +50,10 @@ public class LockGraphNode  {
 	}
 
 	public void setLevelPosition(LevelPosition levelPosition) {
-		this.levelPosition = levelPosition;
+		if (this.levelPosition != levelPosition) {
+			this.levelPosition = levelPosition;
+			markChanged();
+		}
 	}
 
 	public int getLevel() {
@@ -59,8 +70,8 @@ public class LockGraphNode  {
 		this.level = 0;
 		this.span = 0;
 		this.title = lock.getTitle();
-		this.sourceEdges = new ArrayList<>();
-		this.targetEdges = new ArrayList<>();
+		this.sourceEdges = new CopyOnWriteArrayList<>();
+		this.targetEdges = new CopyOnWriteArrayList<>();
 		
 		this.levelPosition = LevelPosition.CENTER;
 		
@@ -70,16 +81,18 @@ public class LockGraphNode  {
 		this.level = level;
 		this.span = span;
 		this.title = title;
-		this.sourceEdges = new ArrayList<>();
-		this.targetEdges = new ArrayList<>();
+		this.sourceEdges = new CopyOnWriteArrayList<>();
+		this.targetEdges = new CopyOnWriteArrayList<>();
 	}
 
 	public void addSourceEdge(LockGraphEdge sourceEdge) {
 		this.sourceEdges.add(sourceEdge);
+		markChanged();
 	}
 
 	public void addTargetEdge(LockGraphEdge targetEdge) {
 		this.targetEdges.add(targetEdge);
+		markChanged();
 	}
 
 	public List<LockGraphEdge> getSourceEdges() {
@@ -91,11 +104,15 @@ public class LockGraphNode  {
 	}
 
 	public void removeSourceEdge(LockGraphEdge sourceEdge) {
-		this.sourceEdges.remove(sourceEdge);
+		if (this.sourceEdges.remove(sourceEdge)) {
+			markChanged();
+		}
 	}
 
 	public void removeTargetEdge(LockGraphEdge targetEdge) {
-		this.targetEdges.remove(targetEdge);
+		if (this.targetEdges.remove(targetEdge)) {
+			markChanged();
+		}
 	}
 
 	public int getSpan() {
@@ -107,16 +124,70 @@ public class LockGraphNode  {
 	}
 
 	public void setLevel(int level) {
-		this.level = level;
+		if (this.level != level) {
+			this.level = level;
+			markChanged();
+		}
 	}
 
 	public void setSpan(int span) {
-		this.span = span;
+		if (this.span != span) {
+			this.span = span;
+			markChanged();
+		}
 	}
 
 	public DBAServerLock getLock() {
 		return lock;
 	}
+
+	/**
+	 * Binds node to the lock of a newer snapshot
+	 */
+	public void setLock(DBAServerLock lock) {
+		this.lock = lock;
+		String newTitle = lock.getTitle();
+		if (!Objects.equals(title, newTitle)) {
+			this.title = newTitle;
+			markChanged();
+		}
+	}
+
+	/**
+	 * Lock is a part of a wait cycle
+	 */
+	public boolean isDeadlocked() {
+		return deadlocked;
+	}
+
+	public void setDeadlocked(boolean deadlocked) {
+		if (this.deadlocked != deadlocked) {
+			this.deadlocked = deadlocked;
+			markChanged();
+		}
+	}
+
+	/**
+	 * Lock is the selected lock or one of the locks it waits for
+	 */
+	public boolean isBlockingChain() {
+		return blockingChain;
+	}
+
+	public void setBlockingChain(boolean blockingChain) {
+		if (this.blockingChain != blockingChain) {
+			this.blockingChain = blockingChain;
+			markChanged();
+		}
+	}
+
+	public int getRevision() {
+		return revision;
+	}
+
+	public void markChanged() {
+		revision++;
+	}
 	
 	
 }
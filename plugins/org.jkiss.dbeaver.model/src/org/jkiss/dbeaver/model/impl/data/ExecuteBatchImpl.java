@@ -23,6 +23,7 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.DBDValueBinder;
 import org.jkiss.dbeaver.model.data.DBDValueHandler;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
@@ -33,6 +34,8 @@ import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -51,12 +54,14 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
     protected final List<Object[]> values = new ArrayList<>();
     protected final DBDDataReceiver keysReceiver;
     protected final boolean reuseStatement;
+    private int executedCount = -1;
 
     /**
      * Constructs new batch
      * @param attributes array of attributes used in batch
      * @param keysReceiver keys receiver (or null)
      * @param reuseStatement true if engine should reuse single prepared statement for each execution.
+     *                       Ignored if any attribute value handler is a {@link DBDValueBinder}.
      */
     protected ExecuteBatchImpl(@NotNull DBSAttributeBase[] attributes, @Nullable DBDDataReceiver keysReceiver, boolean reuseStatement)
     {
@@ -87,6 +92,11 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
         processBatch(session, actions, options);
     }
 
+    @Override
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
     /**
      * Execute batch OR generate batch script.
      * @param session    session
@@ -107,8 +117,10 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                 handlers[i] = DBUtils.findValueHandler(session, attributes[i]);
             }
         }
+        // Value binders put values into the query text, so each row may need its own statement
+        boolean canReuseStatement = reuseStatement && !hasValueBinders(handlers);
 
-        boolean useBatch = session.getDataSource().getInfo().supportsBatchUpdates() && reuseStatement && !CommonUtils.toBoolean(options.get(DBSDataManipulator.OPTION_DISABLE_BATCHES));
+        boolean useBatch = session.getDataSource().getInfo().supportsBatchUpdates() && canReuseStatement && !CommonUtils.toBoolean(options.get(DBSDataManipulator.OPTION_DISABLE_BATCHES));
         if (values.size() <= 1) {
             useBatch = false;
         }
@@ -119,6 +131,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
 
         DBCStatistics statistics = new DBCStatistics();
         DBCStatement statement = null;
+        executedCount = 0;
 
         try {
             // Here we'll try to reuse prepared statement.
@@ -139,7 +152,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     //session.getProgressMonitor().subTask("Save batch (" + rowIndex + " of " + values.size() + ")");
                 }
 
-                boolean reuse = !skipBindValues && reuseStatement;
+                boolean reuse = !skipBindValues && canReuseStatement;
                 if (reuse) {
                     for (int i = 0; i < rowValues.length; i++) {
                         nulls[i] = DBUtils.isNullValue(rowValues[i]);
@@ -151,7 +164,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     if (!reuse && statementsInBatch > 0) {
                         // Flush batch
                         if (actions == null) {
-                            flushBatch(statistics, statement);
+                            flushBatch(statistics, statement, statementsInBatch);
                         }
                         statement.close();
                         statement = null;
@@ -177,6 +190,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                             long startTime = System.currentTimeMillis();
                             executeStatement(statistics, statement);
                             statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+                            executedCount++;
 
                             long rowCount = statement.getUpdateRowCount();
                             if (rowCount > 0) {
@@ -198,6 +212,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                             new SQLDatabasePersistAction(
                                 "Execute statement",
                                 queryString));
+                        executedCount++;
                     }
                 } finally {
                     if (!reuse && !useBatch) {
@@ -208,14 +223,14 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
 
             if (statementsInBatch > 0) {
                 if (actions == null) {
-                    flushBatch(statistics, statement);
+                    flushBatch(statistics, statement, statementsInBatch);
                 }
                 statement.close();
                 statement = null;
             }
             values.clear();
         } finally {
-            if (reuseStatement && statement != null) {
+            if (canReuseStatement && statement != null) {
                 statement.close();
             }
             if (!useBatch && !values.isEmpty()) {
@@ -226,6 +241,15 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
         return statistics;
     }
 
+    private static boolean hasValueBinders(@NotNull DBDValueHandler[] handlers) {
+        for (DBDValueHandler handler : handlers) {
+            if (handler instanceof DBDValueBinder) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected int getNextUsedParamIndex(Object[] attributeValues, int paramIndex) {
         return paramIndex + 1;
     }
@@ -285,6 +309,25 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
         return formatted.toString();
     }
 
+    private void flushBatch(DBCStatistics statistics, DBCStatement statement, int statementsInBatch) throws DBCException {
+        try {
+            flushBatch(statistics, statement);
+        } catch (DBCException e) {
+            for (Throwable cause = e; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+                if (cause instanceof BatchUpdateException batchError && batchError.getUpdateCounts() != null) {
+                    // Drivers either stop on the first failed row or continue with the rest of the batch
+                    int[] updateCounts = batchError.getUpdateCounts();
+                    for (int i = 0; i < updateCounts.length && i < statementsInBatch && updateCounts[i] != Statement.EXECUTE_FAILED; i++) {
+                        executedCount++;
+                    }
+                    break;
+                }
+            }
+            throw e;
+        }
+        executedCount += statementsInBatch;
+    }
+
     void flushBatch(DBCStatistics statistics, DBCStatement statement) throws DBCException {
         long startTime = System.currentTimeMillis();
         int[] updatedRows = statement.executeStatementBatch();
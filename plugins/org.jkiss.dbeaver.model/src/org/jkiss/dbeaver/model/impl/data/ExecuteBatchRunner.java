@@ -0,0 +1,163 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Executes row statements in batches.
+ * Only adjacent statements with the same batch key are executed together, so statements are never reordered.
+ * Only statements which were actually executed are reported as executed: the rest of a batch is skipped
+ * if execution was canceled or failed.
+ *
+ * @param <T> row statement
+ */
+public abstract class ExecuteBatchRunner<T> {
+
+    private static final Log log = Log.getLog(ExecuteBatchRunner.class);
+
+    private final int maxBatchSize;
+
+    protected ExecuteBatchRunner(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Splits statements into runs of adjacent statements with equal batch keys.
+     */
+    @NotNull
+    public List<List<T>> groupStatements(@NotNull List<T> statements) {
+        List<List<T>> result = new ArrayList<>();
+        Object prevKey = null;
+        List<T> batch = null;
+        for (T statement : statements) {
+            Object key = getBatchKey(statement);
+            if (batch == null || batch.size() >= maxBatchSize || !CommonUtils.equalObjects(key, prevKey)) {
+                batch = new ArrayList<>();
+                result.add(batch);
+                prevKey = key;
+            }
+            batch.add(statement);
+        }
+        return result;
+    }
+
+    /**
+     * Executes statements. Stops on the first error or when the session monitor is canceled.
+     *
+     * @param retryFailed if true then after a batch failure statements are re-executed one by one, starting from the failed one.
+     *                    Makes sense in auto-commit mode, where statements executed before the failure can't be rolled back.
+     * @return execution error or null
+     */
+    @Nullable
+    public DBException execute(@NotNull DBCSession session, @NotNull List<T> statements, boolean retryFailed) {
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        for (List<T> batch : groupStatements(statements)) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            DBException error = executeBatch(session, batch, retryFailed);
+            if (error != null) {
+                return error;
+            }
+            monitor.worked(batch.size());
+        }
+        return null;
+    }
+
+    @Nullable
+    private DBException executeBatch(@NotNull DBCSession session, @NotNull List<T> statements, boolean retryFailed) {
+        int[] executedCount = new int[1];
+        try {
+            executeStatements(session, statements, executedCount);
+            return null;
+        } catch (DBException e) {
+            int failedIndex = Math.min(executedCount[0], statements.size() - 1);
+            if (!retryFailed || statements.size() == 1) {
+                statementFailed(session, statements.get(failedIndex));
+                return e;
+            }
+            log.debug("Batch of " + statements.size() + " statements failed at statement " + (failedIndex + 1) + ", execute the rest one by one", e);
+            for (T statement : statements.subList(failedIndex, statements.size())) {
+                if (session.getProgressMonitor().isCanceled()) {
+                    break;
+                }
+                DBException error = executeBatch(session, List.of(statement), false);
+                if (error != null) {
+                    return error;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void executeStatements(@NotNull DBCSession session, @NotNull List<T> statements, @NotNull int[] executedCount) throws DBException {
+        try (DBSDataManipulator.ExecuteBatch batch = openBatch(session, statements.get(0))) {
+            for (T statement : statements) {
+                batch.add(getValues(statement));
+            }
+            boolean success = false;
+            try {
+                processBatch(session, batch);
+                success = true;
+            } finally {
+                int count = batch.getExecutedCount();
+                if (count < 0) {
+                    count = success ? statements.size() : 0;
+                }
+                executedCount[0] = Math.min(count, statements.size());
+                for (int i = 0; i < executedCount[0]; i++) {
+                    statementExecuted(statements.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Statements with equal keys must produce the same batch.
+     */
+    @NotNull
+    protected abstract Object getBatchKey(@NotNull T statement);
+
+    @NotNull
+    protected abstract DBSDataManipulator.ExecuteBatch openBatch(@NotNull DBCSession session, @NotNull T statement) throws DBException;
+
+    @NotNull
+    protected abstract Object[] getValues(@NotNull T statement);
+
+    /**
+     * Executes the batch or generates its script
+     */
+    protected abstract void processBatch(@NotNull DBCSession session, @NotNull DBSDataManipulator.ExecuteBatch batch) throws DBException;
+
+    protected void statementExecuted(@NotNull T statement) {
+    }
+
+    protected void statementFailed(@NotNull DBCSession session, @NotNull T statement) {
+    }
+
+}
@@ -37,6 +37,12 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
 
+/**
+ * Date/time formatter.
+ * Java time values are formatted with immutable {@link DateTimeFormatter}.
+ * Legacy date values are formatted with {@link DateFormat} which is not thread-safe,
+ * so each thread uses its own copy of it.
+ */
 public class DateTimeDataFormatter implements DBDDataFormatter {
 
     public static final String PROP_PATTERN = "pattern";
@@ -44,9 +50,7 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
 
     private String pattern;
     private ZoneId zone;
-    private DateFormat dateFormat;
-    private StringBuffer buffer;
-    private FieldPosition position;
+    private ThreadLocal<LegacyFormat> legacyFormat;
     private DateTimeFormatter dateTimeFormatter;
 
     @Override
@@ -56,13 +60,7 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
         final String timezone = CommonUtils.toString(properties.get(PROP_TIMEZONE));
         zone = CommonUtils.isEmptyTrimmed(timezone) ? null : ZoneId.of(timezone);
         String sdfPattern = pattern.replace("n", "f");
-        dateFormat = new ExtendedDateFormat(
-            sdfPattern,
-            locale);
-        // We shouldn't use lanient formatter (#7244)
-        dateFormat.setLenient(false);
-        buffer = new StringBuffer();
-        position = new FieldPosition(0);
+        legacyFormat = ThreadLocal.withInitial(() -> new LegacyFormat(sdfPattern, locale));
         // DateTimeFormatter pattern for nanoseconds is "n" but old "f" (ExtendedDateFormat)
         String java8DatePattern = pattern.replaceAll("f+", "n");
         dateTimeFormatter = DateTimeFormatter.ofPattern(java8DatePattern);
@@ -73,9 +71,12 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
         return zone;
     }
 
+    /**
+     * Returns date format of the current thread
+     */
     @NotNull
     public DateFormat getDateFormat() {
-        return dateFormat;
+        return legacyFormat.get().dateFormat;
     }
 
     @Override
@@ -87,27 +88,53 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
     @Override
     public String formatValue(Object value)
     {
+        if (value == null) {
+            return null;
+        }
+        TemporalAccessor temporal = toTemporal(value);
+        if (temporal != null) {
+            return dateTimeFormatter.format(temporal);
+        }
+        return legacyFormat.get().format(value).toString();
+    }
+
+    @Override
+    public void formatValue(@Nullable Object value, @NotNull StringBuilder buffer) {
+        if (value == null) {
+            return;
+        }
+        TemporalAccessor temporal = toTemporal(value);
+        if (temporal != null) {
+            dateTimeFormatter.formatTo(temporal, buffer);
+        } else {
+            buffer.append(legacyFormat.get().format(value));
+        }
+    }
+
+    /**
+     * Converts value to the temporal in the formatter time zone.
+     * Returns null if value must be formatted by legacy date format.
+     */
+    @Nullable
+    private TemporalAccessor toTemporal(@NotNull Object value) {
         if (value instanceof Date && zone != null) {
-            return dateTimeFormatter.format(ZonedDateTime.ofInstant(((Date) value).toInstant(), zone));
+            return ZonedDateTime.ofInstant(((Date) value).toInstant(), zone);
         }
         if (value instanceof TemporalAccessor) {
             if (zone != null) {
                 if (value instanceof LocalDateTime) {
-                    return dateTimeFormatter.format(((LocalDateTime) value).atZone(zone));
+                    return ((LocalDateTime) value).atZone(zone);
                 }
                 if (value instanceof ZonedDateTime) {
-                    return dateTimeFormatter.format(((ZonedDateTime) value).withZoneSameInstant(zone));
+                    return ((ZonedDateTime) value).withZoneSameInstant(zone);
                 }
                 if (value instanceof OffsetDateTime) {
-                    return dateTimeFormatter.format(((OffsetDateTime) value).atZoneSameInstant(zone));
+                    return ((OffsetDateTime) value).atZoneSameInstant(zone);
                 }
             }
-            return dateTimeFormatter.format((TemporalAccessor) value);
-        }
-        synchronized (dateFormat) {
-            buffer.setLength(0);
-            return value == null ? null : dateFormat.format(value, buffer, position).toString();
+            return (TemporalAccessor) value;
         }
+        return null;
     }
 
     @Override
@@ -129,7 +156,25 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
                 }
             }
         }
-        return dateFormat.parse(value);
+        return legacyFormat.get().dateFormat.parse(value);
+    }
+
+    private static class LegacyFormat {
+        private final DateFormat dateFormat;
+        private final StringBuffer buffer = new StringBuffer();
+        private final FieldPosition position = new FieldPosition(0);
+
+        LegacyFormat(@NotNull String pattern, @NotNull Locale locale) {
+            dateFormat = new ExtendedDateFormat(pattern, locale);
+            // We shouldn't use lanient formatter (#7244)
+            dateFormat.setLenient(false);
+        }
+
+        @NotNull
+        StringBuffer format(@NotNull Object value) {
+            buffer.setLength(0);
+            return dateFormat.format(value, buffer, position);
+        }
     }
 
 }
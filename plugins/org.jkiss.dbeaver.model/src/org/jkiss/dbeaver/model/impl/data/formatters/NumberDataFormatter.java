@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.model.impl.data.formatters;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
@@ -26,23 +27,38 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Map;
 
+/**
+ * Number formatter.
+ * {@link DecimalFormat} is not thread-safe so each thread formats with its own copy of the configured format.
+ * Integers are formatted without {@link DecimalFormat} when format has no prefixes, suffixes and fraction digits.
+ */
 public class NumberDataFormatter implements DBDDataFormatter {
 
     public static final int MAX_DEFAULT_FRACTIONS_DIGITS = 16;
 
     private static final Log log = Log.getLog(NumberDataFormatter.class);
 
+    // Configured format. It is never used directly, only cloned for each thread
     private DecimalFormat numberFormat;
-    private StringBuffer buffer;
-    private FieldPosition position;
+    private ThreadLocal<FormatState> formatState;
+    private volatile boolean disableUnnecessaryRounding;
     private boolean nativeSpecialValues;
 
+    // Plain integer format settings
+    private boolean plainIntegers;
+    private int minIntegerDigits;
+    private int groupingSize;
+    private char groupingSeparator;
+    private char zeroDigit;
+    private char minusSign;
+
     public NumberDataFormatter() {
     }
 
@@ -113,8 +129,9 @@ public class NumberDataFormatter implements DBDDataFormatter {
                 numberFormat.setGroupingUsed(false);
             }
         }
-        buffer = new StringBuffer();
-        position = new FieldPosition(0);
+        formatState = ThreadLocal.withInitial(this::createFormatState);
+        disableUnnecessaryRounding = false;
+        initPlainIntegers();
         nativeSpecialValues = CommonUtils.toBoolean(properties.get(NumberFormatSample.PROP_NATIVE_SPECIAL_VALUES));
     }
 
@@ -132,68 +149,156 @@ public class NumberDataFormatter implements DBDDataFormatter {
         if (value == null) {
             return null;
         }
+        StringBuilder buffer = new StringBuilder(32);
+        formatValue(value, buffer);
+        return buffer.toString();
+    }
+
+    @Override
+    public void formatValue(@Nullable Object value, @NotNull StringBuilder buffer) {
+        if (value == null) {
+            return;
+        }
+        if (plainIntegers && (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            appendInteger(((Number) value).longValue(), buffer);
+            return;
+        }
         if (CommonUtils.isNaN(value) || CommonUtils.isInfinite(value)) {
             if (nativeSpecialValues) {
-                return value.toString();
+                buffer.append(value);
+                return;
             }
         } else if (value instanceof Float || value instanceof Double) {
             // Convert to BigDecimal so we don't have rounding issues with high minimum fraction digits set
             value = new BigDecimal(value.toString());
         }
+        FormatState state = formatState.get();
         try {
-            synchronized (this) {
-                buffer.setLength(0);
-                try {
-                    return numberFormat.format(value, buffer, position).toString();
-                } catch (ArithmeticException e) {
-                    if (numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
-                        // This type can't use UNNECESSARY rounding. Let's set default one
+            try {
+                buffer.append(state.format(value));
+            } catch (ArithmeticException e) {
+                if (state.format.getRoundingMode() == RoundingMode.UNNECESSARY) {
+                    // This type can't use UNNECESSARY rounding. Let's set default one
+                    if (!disableUnnecessaryRounding) {
                         log.debug("Disabling UNNECESSARY rounding for numbers (" + e.getMessage() + ")");
-                        numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
+                        disableUnnecessaryRounding = true;
                     }
-                    return numberFormat.format(value, buffer, position).toString();
+                    state.format.setRoundingMode(RoundingMode.HALF_EVEN);
                 }
+                buffer.append(state.format(value));
             }
         } catch (Exception e) {
-            return value.toString();
+            buffer.append(value);
         }
     }
 
     @Override
     public Object parseValue(String value, @Nullable Class<?> typeHint) throws ParseException
     {
-        synchronized (this) {
-            numberFormat.setParseBigDecimal(typeHint == BigDecimal.class || typeHint == BigInteger.class);
-            Number number = numberFormat.parse(value);
-            if (number != null && typeHint != null) {
-                boolean isFloat = number instanceof Double || number instanceof Float;
-                if (typeHint == Byte.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.byteValue();
-                } else if (typeHint == Short.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.shortValue();
-                } else if (typeHint == Integer.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.intValue();
-                } else if (typeHint == Long.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.longValue();
-                } else if (typeHint == Float.class) {
-                    return number.floatValue();
-                } else if (typeHint == Double.class) {
-                    return number.doubleValue();
+        DecimalFormat format = formatState.get().format;
+        format.setParseBigDecimal(typeHint == BigDecimal.class || typeHint == BigInteger.class);
+        Number number = format.parse(value);
+        if (number != null && typeHint != null) {
+            boolean isFloat = number instanceof Double || number instanceof Float;
+            if (typeHint == Byte.class) {
+                if (isFloat) {
+                    return number;
                 }
+                return number.byteValue();
+            } else if (typeHint == Short.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.shortValue();
+            } else if (typeHint == Integer.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.intValue();
+            } else if (typeHint == Long.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.longValue();
+            } else if (typeHint == Float.class) {
+                return number.floatValue();
+            } else if (typeHint == Double.class) {
+                return number.doubleValue();
             }
-            return number;
+        }
+        return number;
+    }
+
+    @NotNull
+    private FormatState createFormatState() {
+        DecimalFormat format = (DecimalFormat) numberFormat.clone();
+        if (disableUnnecessaryRounding && format.getRoundingMode() == RoundingMode.UNNECESSARY) {
+            format.setRoundingMode(RoundingMode.HALF_EVEN);
+        }
+        return new FormatState(format);
+    }
+
+    /**
+     * Checks whether integers formatted by the configured format consist only of sign, digits and grouping separators
+     */
+    private void initPlainIntegers() {
+        DecimalFormatSymbols symbols = numberFormat.getDecimalFormatSymbols();
+        String negativePrefix = numberFormat.getNegativePrefix();
+        plainIntegers = numberFormat.getPositivePrefix().isEmpty() &&
+            numberFormat.getPositiveSuffix().isEmpty() &&
+            negativePrefix.length() == 1 &&
+            numberFormat.getNegativeSuffix().isEmpty() &&
+            numberFormat.getMultiplier() == 1 &&
+            numberFormat.getMinimumFractionDigits() == 0 &&
+            !numberFormat.isDecimalSeparatorAlwaysShown() &&
+            // Long has 19 digits, DecimalFormat cuts off higher digits
+            numberFormat.getMaximumIntegerDigits() >= 19;
+        minIntegerDigits = numberFormat.getMinimumIntegerDigits();
+        groupingSize = numberFormat.isGroupingUsed() ? numberFormat.getGroupingSize() : 0;
+        groupingSeparator = symbols.getGroupingSeparator();
+        zeroDigit = symbols.getZeroDigit();
+        minusSign = plainIntegers ? negativePrefix.charAt(0) : symbols.getMinusSign();
+    }
+
+    /**
+     * Appends integer the same way as DecimalFormat does. Digits are written from the end.
+     */
+    private void appendInteger(long value, @NotNull StringBuilder buffer) {
+        if (value < 0) {
+            buffer.append(minusSign);
+        }
+        // Work with negative value because Long.MIN_VALUE can't be negated
+        long negValue = value > 0 ? -value : value;
+        int digitCount = 1;
+        for (long rest = negValue / 10; rest != 0; rest /= 10) {
+            digitCount++;
+        }
+        digitCount = Math.max(digitCount, minIntegerDigits);
+        int separatorCount = groupingSize > 0 ? (digitCount - 1) / groupingSize : 0;
+        int pos = buffer.length() + digitCount + separatorCount;
+        buffer.setLength(pos);
+        for (int i = 0; i < digitCount; i++) {
+            if (separatorCount > 0 && i > 0 && i % groupingSize == 0) {
+                buffer.setCharAt(--pos, groupingSeparator);
+            }
+            buffer.setCharAt(--pos, (char) (zeroDigit - (negValue % 10)));
+            negValue /= 10;
+        }
+    }
+
+    private static class FormatState {
+        private final DecimalFormat format;
+        private final StringBuffer buffer = new StringBuffer();
+        private final FieldPosition position = new FieldPosition(0);
+
+        FormatState(@NotNull DecimalFormat format) {
+            this.format = format;
+        }
+
+        @NotNull
+        StringBuffer format(@NotNull Object value) {
+            buffer.setLength(0);
+            return format.format(value, buffer, position);
         }
     }
 
@@ -21,6 +21,8 @@ import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 
+import java.util.Collection;
+
 /**
  * DBNDatabaseItem
  */
@@ -29,10 +31,17 @@ public class DBNDatabaseItem extends DBNDatabaseNode {
     private DBSObject object;
 
     DBNDatabaseItem(DBNNode parent, DBXTreeNode meta, DBSObject object, boolean reflect) {
+        this(parent, meta, object);
+        registerNode();
+    }
+
+    /**
+     * Creates item which is not registered in the model yet, see {@link DBNModel#addNodes(Collection)}
+     */
+    DBNDatabaseItem(DBNNode parent, DBXTreeNode meta, DBSObject object) {
         super(parent);
         this.meta = meta;
         this.object = object;
-        registerNode();
     }
 
     @Override
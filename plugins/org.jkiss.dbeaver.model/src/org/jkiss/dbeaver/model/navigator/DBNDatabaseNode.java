@@ -629,10 +629,18 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBNLazyNode, DB
             // check it
             return false;
         }
-        List<DBNDatabaseNode> oldList = new LinkedList<>();
+        // Index old children by object name. Containers may have tens of thousands of children,
+        // so we can't compare each new object with each old child.
+        final Map<ObjectKey, List<DBNDatabaseNode>> oldChildren = new LinkedHashMap<>();
         if (oldListCmp != null) {
-            Collections.addAll(oldList, oldListCmp);
+            for (DBNDatabaseNode oldChild : oldListCmp) {
+                if (oldChild.getMeta() == meta) {
+                    oldChildren.computeIfAbsent(ObjectKey.of(oldChild.getObject()), k -> new ArrayList<>(1)).add(oldChild);
+                }
+            }
         }
+        // New items are registered in the model all at once
+        final List<DBNDatabaseNode> newItems = new ArrayList<>(oldChildren.isEmpty() ? itemList.size() : 0);
         for (Object childItem : itemList) {
             if (childItem == null) {
                 continue;
@@ -664,11 +672,12 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBNLazyNode, DB
             }
             DBSObject object = (DBSObject) childItem;
             boolean added = false;
-            if (!oldList.isEmpty()) {
+            final List<DBNDatabaseNode> sameNameChildren = oldChildren.isEmpty() ? null : oldChildren.get(ObjectKey.of(object));
+            if (sameNameChildren != null) {
                 // Check that new object is a replacement of old one
-                for (Iterator<DBNDatabaseNode> iterator = oldList.iterator(); iterator.hasNext(); ) {
+                for (Iterator<DBNDatabaseNode> iterator = sameNameChildren.iterator(); iterator.hasNext(); ) {
                     DBNDatabaseNode oldChild = iterator.next();
-                    if (oldChild.getMeta() == meta && equalObjects(oldChild.getObject(), object)) {
+                    if (equalObjects(oldChild.getObject(), object)) {
                         boolean updated = oldChild.reloadObject(monitor, object);
 
                         if (oldChild.hasChildren(false) && !oldChild.needsInitialization()) {
@@ -689,28 +698,42 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBNLazyNode, DB
             }
             if (!added) {
                 // Simply add new item
-                DBNDatabaseItem treeItem = new DBNDatabaseItem(this, meta, object, oldList != null);
+                DBNDatabaseItem treeItem = new DBNDatabaseItem(this, meta, object);
+                newItems.add(treeItem);
                 toList.add(treeItem);
             }
         }
+        if (!newItems.isEmpty()) {
+            DBNModel model = getModel();
+            if (model != null) {
+                model.addNodes(newItems);
+            }
+        }
 
-        {
+        if (!oldChildren.isEmpty()) {
             // Now remove all non-existing items
-            for (DBNDatabaseNode oldChild : oldList) {
-                if (oldChild.getMeta() != meta) {
-                    // Wrong type
-                    continue;
+            final Map<ObjectKey, List<DBSObject>> newObjects = new HashMap<>();
+            for (Object childItem : itemList) {
+                if (childItem instanceof DBSObject object) {
+                    newObjects.computeIfAbsent(ObjectKey.of(object), k -> new ArrayList<>(1)).add(object);
                 }
-                boolean found = false;
-                for (Object childItem : itemList) {
-                    if (childItem instanceof DBSObject && equalObjects(oldChild.getObject(), (DBSObject) childItem)) {
-                        found = true;
-                        break;
+            }
+            for (List<DBNDatabaseNode> sameNameChildren : oldChildren.values()) {
+                for (DBNDatabaseNode oldChild : sameNameChildren) {
+                    boolean found = false;
+                    List<DBSObject> sameNameObjects = newObjects.get(ObjectKey.of(oldChild.getObject()));
+                    if (sameNameObjects != null) {
+                        for (DBSObject object : sameNameObjects) {
+                            if (equalObjects(oldChild.getObject(), object)) {
+                                found = true;
+                                break;
+                            }
+                        }
+                    }
+                    if (!found) {
+                        // Remove old child object
+                        oldChild.dispose(true);
                     }
-                }
-                if (!found) {
-                    // Remove old child object
-                    oldChild.dispose(true);
                 }
             }
         }
@@ -1038,6 +1061,16 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBNLazyNode, DB
         return false;
     }
 
+    /**
+     * Hash key for the {@link #equalObjects(DBSObject, DBSObject)} check: objects with different keys are never equal.
+     */
+    private record ObjectKey(@NotNull Class<?> type, @Nullable String name) {
+        @Nullable
+        static ObjectKey of(@Nullable DBSObject object) {
+            return object == null ? null : new ObjectKey(object.getClass(), DBUtils.getObjectUniqueName(object));
+        }
+    }
+
     private static class PropertyValueReader implements DBRRunnableParametrized<DBRProgressMonitor> {
         private final DBRProgressMonitor monitor;
         private final DBXTreeItem meta;
@@ -0,0 +1,74 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.navigator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pending navigator events.
+ * Repeated event replaces the pending one and moves to the end of queue,
+ * so the last event of each node is delivered after all events it follows.
+ * Not thread safe.
+ */
+public class DBNEventQueue {
+
+    private final Map<EventKey, DBNEvent> events = new LinkedHashMap<>();
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public void add(@NotNull DBNEvent event) {
+        EventKey key = EventKey.of(event);
+        events.remove(key);
+        events.put(key, event);
+    }
+
+    /**
+     * Removes and returns all pending events
+     */
+    @NotNull
+    public List<DBNEvent> takeAll() {
+        List<DBNEvent> result = new ArrayList<>(events.values());
+        events.clear();
+        return result;
+    }
+
+    /**
+     * Identity of pending event.
+     * Listeners handle add of any child as a change of the parent's children list,
+     * so add events of database nodes are coalesced per parent node.
+     */
+    private record EventKey(@NotNull DBNNode node, @NotNull DBNEvent.Action action, @Nullable DBNEvent.NodeChange nodeChange, @Nullable Object source) {
+        static EventKey of(@NotNull DBNEvent event) {
+            final DBNNode node = event.getNode();
+            final DBNNode parentNode = node.getParentNode();
+            if (event.getAction() == DBNEvent.Action.ADD && event.getNodeChange() != DBNEvent.NodeChange.SELECT &&
+                node instanceof DBNDatabaseNode && parentNode != null)
+            {
+                return new EventKey(parentNode, DBNEvent.Action.ADD, null, null);
+            }
+            return new EventKey(node, event.getAction(), event.getNodeChange(), event.getSource());
+        }
+    }
+}
@@ -61,6 +61,9 @@ public class DBNModel implements IResourceChangeListener {
 
     private static final Log log = Log.getLog(DBNModel.class);
 
+    // Time to collect events burst before delivering them to listeners
+    private static final long EVENTS_COALESCE_DELAY = 50;
+
     public static class NodePath {
         DBNNode.NodePathType type;
         List<String> pathItems;
@@ -87,7 +90,8 @@ public class DBNModel implements IResourceChangeListener {
     private DBNRoot root;
     private final List<INavigatorListener> listeners = new ArrayList<>();
     private transient INavigatorListener[] listenersCopy = null;
-    private final transient List<DBNEvent> eventCache = new ArrayList<>();
+    // Pending events. Repeated event (or children add event of the same parent) is delivered once, in place of its last occurrence
+    private final transient DBNEventQueue eventCache = new DBNEventQueue();
     private final Map<DBSObject, Object> nodeMap = new HashMap<>();
     private final List<Function<DBNNode, Boolean>> nodeFilters = new ArrayList<>();
 
@@ -499,28 +503,45 @@ public class DBNModel implements IResourceChangeListener {
     void addNode(DBNDatabaseNode node, boolean reflect)
     {
         synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
-            if (obj == null) {
-                // New node
-                nodeMap.put(node.getObject(), node);
-            } else if (obj instanceof DBNNode) {
-                // Second node - make a list
-                List<DBNNode> nodeList = new ArrayList<>(2);
-                nodeList.add((DBNNode)obj);
-                nodeList.add(node);
-                nodeMap.put(node.getObject(), nodeList);
-            } else if (obj instanceof List) {
-                // Multiple nodes
-                @SuppressWarnings("unchecked")
-                List<DBNNode> nodeList = (List<DBNNode>) obj;
-                nodeList.add(node);
-            }
+            putNode(node);
         }
         if (reflect) {
             this.fireNodeEvent(new DBNEvent(this, DBNEvent.Action.ADD, DBNEvent.NodeChange.LOAD, node));
         }
     }
 
+    /**
+     * Registers all loaded children of a node at once. Containers may have tens of thousands of children.
+     */
+    void addNodes(Collection<? extends DBNDatabaseNode> nodes)
+    {
+        synchronized (nodeMap) {
+            for (DBNDatabaseNode node : nodes) {
+                putNode(node);
+            }
+        }
+    }
+
+    private void putNode(DBNDatabaseNode node)
+    {
+        Object obj = nodeMap.get(node.getObject());
+        if (obj == null) {
+            // New node
+            nodeMap.put(node.getObject(), node);
+        } else if (obj instanceof DBNNode) {
+            // Second node - make a list
+            List<DBNNode> nodeList = new ArrayList<>(2);
+            nodeList.add((DBNNode)obj);
+            nodeList.add(node);
+            nodeMap.put(node.getObject(), nodeList);
+        } else if (obj instanceof List) {
+            // Multiple nodes
+            @SuppressWarnings("unchecked")
+            List<DBNNode> nodeList = (List<DBNNode>) obj;
+            nodeList.add(node);
+        }
+    }
+
     void removeNode(DBNDatabaseNode node, boolean reflect)
     {
         boolean badNode = false;
@@ -588,6 +609,9 @@ public class DBNModel implements IResourceChangeListener {
             return;
         }
         synchronized (eventCache) {
+            if (eventCache.isEmpty()) {
+                eventCache.notifyAll();
+            }
             eventCache.add(event);
         }
     }
@@ -701,29 +725,37 @@ public class DBNModel implements IResourceChangeListener {
         protected IStatus run(IProgressMonitor monitor) {
             Thread.currentThread().setName("Database navigator events processor");
             while (!platform.isShuttingDown()) {
-                RuntimeUtils.pause(100);
+                synchronized (eventCache) {
+                    if (eventCache.isEmpty()) {
+                        try {
+                            // Wait with timeout to check for shutdown
+                            eventCache.wait(1000);
+                        } catch (InterruptedException e) {
+                            break;
+                        }
+                        continue;
+                    }
+                }
+                // Let the burst of events (e.g. refresh of big schema) to be collected and coalesced
+                RuntimeUtils.pause(EVENTS_COALESCE_DELAY);
+
                 final INavigatorListener[] realListeners;
                 synchronized (listeners) {
                     realListeners = listenersCopy;
                 }
                 if (realListeners == null || realListeners.length == 0) {
+                    RuntimeUtils.pause(100);
                     continue;
                 }
-                final DBNEvent[] realEvents;
+                final List<DBNEvent> realEvents;
                 synchronized (eventCache) {
-                    if (eventCache.isEmpty()) {
-                        continue;
-                    }
-                    realEvents = eventCache.toArray(new DBNEvent[0]);
-                    eventCache.clear();
+                    realEvents = eventCache.takeAll();
                 }
 
                 try {
                     DBWorkbench.getPlatformUI().executeWithProgress(() -> {
-                        for (int i = 0; i < realEvents.length; i++) {
-                            for (INavigatorListener listener : listenersCopy) {
-                                listener.nodeChanged(realEvents[i]);
-                            }
+                        for (INavigatorListener listener : realListeners) {
+                            listener.nodesChanged(realEvents);
                         }
                     });
                 } catch (Exception e) {
@@ -57,6 +57,16 @@ public interface DBSDataManipulator extends DBSDataContainer {
 
         void generatePersistActions(@NotNull DBCSession session, @NotNull List<DBEPersistAction> actions, Map<String, Object> options) throws DBCException;
 
+        /**
+         * Returns number of added rows processed by the last execution.
+         * It is less than the number of added rows if execution was canceled or failed.
+         *
+         * @return processed rows count or -1 if unknown
+         */
+        default int getExecutedCount() {
+            return -1;
+        }
+
         void close();
     }
 
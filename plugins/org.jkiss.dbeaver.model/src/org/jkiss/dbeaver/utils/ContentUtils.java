@@ -39,6 +39,8 @@ import java.text.NumberFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Content manipulation utilities
@@ -46,6 +48,10 @@ import java.util.Locale;
 public class ContentUtils {
 
     static final int STREAM_COPY_BUFFER_SIZE = 10000;
+    // Copy buffers are reused, so streaming millions of LOBs doesn't allocate a buffer per value
+    private static final int COPY_BUFFER_POOL_SIZE = 16;
+    private static final BlockingQueue<byte[]> byteBufferPool = new ArrayBlockingQueue<>(COPY_BUFFER_POOL_SIZE);
+    private static final BlockingQueue<char[]> charBufferPool = new ArrayBlockingQueue<>(COPY_BUFFER_POOL_SIZE);
     private static final String LOB_DIR = ".lob"; //$NON-NLS-1$
 
     private static final Log log = Log.getLog(ContentUtils.class);
@@ -116,8 +122,8 @@ public class ContentUtils {
         DBRProgressMonitor monitor)
         throws IOException {
         monitor.beginTask("Copy binary content", contentLength < 0 ? STREAM_COPY_BUFFER_SIZE : (int) contentLength);
+        byte[] buffer = acquireByteBuffer();
         try {
-            byte[] buffer = new byte[STREAM_COPY_BUFFER_SIZE];
             long totalCopied = 0;
             NumberFormat nf = new ByteNumberFormat(ByteNumberFormat.BinaryPrefix.ISO);
             String subtaskSuffix = " / " + nf.format(contentLength);
@@ -137,10 +143,38 @@ public class ContentUtils {
                 }
             }
         } finally {
+            releaseBuffer(buffer);
             monitor.done();
         }
     }
 
+    /**
+     * Returns a pooled copy buffer. It must be returned with {@link #releaseBuffer(byte[])}.
+     */
+    @NotNull
+    public static byte[] acquireByteBuffer() {
+        byte[] buffer = byteBufferPool.poll();
+        return buffer != null ? buffer : new byte[STREAM_COPY_BUFFER_SIZE];
+    }
+
+    public static void releaseBuffer(@NotNull byte[] buffer) {
+        if (buffer.length == STREAM_COPY_BUFFER_SIZE) {
+            byteBufferPool.offer(buffer);
+        }
+    }
+
+    @NotNull
+    private static char[] acquireCharBuffer() {
+        char[] buffer = charBufferPool.poll();
+        return buffer != null ? buffer : new char[STREAM_COPY_BUFFER_SIZE];
+    }
+
+    private static void releaseBuffer(@NotNull char[] buffer) {
+        if (buffer.length == STREAM_COPY_BUFFER_SIZE) {
+            charBufferPool.offer(buffer);
+        }
+    }
+
     public static void copyStreams(
         Reader reader,
         long contentLength,
@@ -148,8 +182,8 @@ public class ContentUtils {
         DBRProgressMonitor monitor)
         throws IOException {
         monitor.beginTask("Copy character content", contentLength < 0 ? STREAM_COPY_BUFFER_SIZE : (int) contentLength);
+        char[] buffer = acquireCharBuffer();
         try {
-            char[] buffer = new char[STREAM_COPY_BUFFER_SIZE];
             for (; ; ) {
                 if (monitor.isCanceled()) {
                     break;
@@ -162,6 +196,7 @@ public class ContentUtils {
                 monitor.worked(STREAM_COPY_BUFFER_SIZE);
             }
         } finally {
+            releaseBuffer(buffer);
             monitor.done();
         }
     }
@@ -114,6 +114,10 @@ public class JSCHSessionController extends AbstractSessionController<JSCHSession
             } else {
                 session.setConfig("PreferredAuthentications", "publickey,keyboard-interactive,password");
             }
+            if (configuration.getBooleanProperty(SSHConstants.PROP_ENABLE_COMPRESSION)) {
+                session.setConfig("compression.s2c", "zlib@openssh.com,zlib,none");
+                session.setConfig("compression.c2s", "zlib@openssh.com,zlib,none");
+            }
 
             session.connect();
 
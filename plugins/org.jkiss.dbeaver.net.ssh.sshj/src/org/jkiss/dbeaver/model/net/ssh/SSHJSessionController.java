@@ -43,6 +43,10 @@ import java.util.Set;
 public class SSHJSessionController extends AbstractSessionController<SSHJSession> {
     private static final Log log = Log.getLog(SSHJSessionController.class);
 
+    // Forwarded channel can't transfer more than a window per round trip, and default window (2MB)
+    // limits bulk transfers on links with high latency
+    private static final long CHANNEL_WINDOW_SIZE = 16 * 1024 * 1024;
+
     @NotNull
     @Override
     protected SSHJSession createSession() {
@@ -63,6 +67,7 @@ public class SSHJSessionController extends AbstractSessionController<SSHJSession
 
         client.setConnectTimeout(connectTimeout);
         client.getConnection().getKeepAlive().setKeepAliveInterval(keepAliveInterval);
+        client.getConnection().setWindowSize(CHANNEL_WINDOW_SIZE);
         client.getTransport().getConfig().setLoggerFactory(new FilterLoggerFactory());
 
         try {
@@ -74,6 +79,10 @@ public class SSHJSessionController extends AbstractSessionController<SSHJSession
         monitor.subTask(String.format("Instantiate tunnel to %s:%d", host.hostname(), host.port()));
 
         try {
+            if (configuration.getBooleanProperty(SSHConstants.PROP_ENABLE_COMPRESSION)) {
+                // Must be set before connect
+                client.useCompression();
+            }
             client.connect(host.hostname(), host.port());
 
             if (auth instanceof SSHAuthConfiguration.Password password) {
@@ -85,6 +85,7 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
     private Combo tunnelImplCombo;
     private Button fingerprintVerificationCheck;
     private Button enableTunnelSharingCheck;
+    private Button enableCompressionCheck;
     private Text localHostText;
     private Text localPortSpinner;
     private Text remoteHostText;
@@ -287,6 +288,14 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
             // Hide tunnel sharing option if it's disabled
             UIUtils.setControlVisible(enableTunnelSharingCheck, !SSHUtils.DISABLE_SESSION_SHARING);
 
+            enableCompressionCheck = UIUtils.createCheckbox(
+                generalGroup,
+                SSHUIMessages.model_ssh_configurator_label_enable_compression,
+                SSHUIMessages.model_ssh_configurator_label_enable_compression_description,
+                false,
+                2
+            );
+
             final Group portForwardingGroup = UIUtils.createControlGroup(
                 client,
                 SSHUIMessages.model_ssh_configurator_group_port_forwarding_text,
@@ -532,6 +541,7 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
 
         fingerprintVerificationCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION));
         enableTunnelSharingCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_SHARE_TUNNELS, true));
+        enableCompressionCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_ENABLE_COMPRESSION));
 
         localHostText.setText(CommonUtils.notEmpty(configuration.getStringProperty(SSHConstants.PROP_LOCAL_HOST)));
         int lpValue = configuration.getIntProperty(SSHConstants.PROP_LOCAL_PORT);
@@ -598,6 +608,11 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
         }
 
         configuration.setProperty(SSHConstants.PROP_SHARE_TUNNELS, enableTunnelSharingCheck.getSelection());
+        if (enableCompressionCheck.getSelection()) {
+            configuration.setProperty(SSHConstants.PROP_ENABLE_COMPRESSION, true);
+        } else {
+            configuration.setProperty(SSHConstants.PROP_ENABLE_COMPRESSION, null);
+        }
 
         configuration.setProperty(SSHConstants.PROP_LOCAL_HOST, localHostText.getText().trim());
         int localPort = CommonUtils.toInt(localPortSpinner.getText());
@@ -49,6 +49,8 @@ public class SSHUIMessages extends NLS {
     public static String model_ssh_configurator_label_bypass_verification_description;
     public static String model_ssh_configurator_label_share_tunnels;
     public static String model_ssh_configurator_label_share_tunnels_description;
+    public static String model_ssh_configurator_label_enable_compression;
+    public static String model_ssh_configurator_label_enable_compression_description;
     public static String model_ssh_configurator_button_test_tunnel;
     public static String model_ssh_configurator_combo_agent;
     public static String model_ssh_configurator_group_general_text;
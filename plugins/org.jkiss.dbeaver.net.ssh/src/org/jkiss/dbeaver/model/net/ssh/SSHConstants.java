@@ -42,6 +42,7 @@ public class SSHConstants {
     public static final String PROP_REMOTE_PORT = "remotePort";
     public static final String PROP_BYPASS_HOST_VERIFICATION = "bypassHostVerification";
     public static final String PROP_SHARE_TUNNELS = "shareTunnels";
+    public static final String PROP_ENABLE_COMPRESSION = "enableCompression";
     //private static final int CONNECT_TIMEOUT = 10000;
 
     public enum AuthType {
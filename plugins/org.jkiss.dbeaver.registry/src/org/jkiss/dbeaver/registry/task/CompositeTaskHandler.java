@@ -0,0 +1,415 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.task.*;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs steps of a composite task.
+ * Each step runs other task in a separate job as soon as all steps it depends on are finished.
+ * Number of concurrently running steps is limited globally and for each data source used by steps.
+ */
+public class CompositeTaskHandler implements DBTTaskHandler {
+
+    private static final Log log = Log.getLog(CompositeTaskHandler.class);
+
+    public static final String TASK_TYPE_ID = "compositeTask";
+
+    public static final String PROP_MAX_PARALLEL_STEPS = "maxParallelSteps";
+    public static final String PROP_MAX_PARALLEL_STEPS_PER_DATA_SOURCE = "maxParallelStepsPerDataSource";
+
+    private static final int DEFAULT_MAX_PARALLEL_STEPS = 4;
+    private static final int DEFAULT_MAX_PARALLEL_STEPS_PER_DATA_SOURCE = 1;
+    private static final long STEP_WAIT_TIMEOUT_MS = 200;
+
+    @NotNull
+    @Override
+    public DBTTaskRunStatus executeTask(
+        @NotNull DBRRunnableContext runnableContext,
+        @NotNull DBTTask task,
+        @NotNull Locale locale,
+        @NotNull Log log,
+        @NotNull PrintStream logStream,
+        @NotNull DBTTaskExecutionListener listener
+    ) throws DBException {
+        List<CompositeTaskStep> steps = CompositeTaskStep.loadSteps(task.getProperties());
+        if (steps.isEmpty()) {
+            throw new DBException("Composite task '" + task.getName() + "' has no steps");
+        }
+        checkNestedSteps(task, new LinkedHashSet<>());
+
+        StepScheduler scheduler = new StepScheduler(
+            task,
+            steps,
+            locale,
+            logStream,
+            listener,
+            runnableContext instanceof TaskRunJob taskRunJob ? taskRunJob : null);
+
+        listener.taskStarted(task);
+        Throwable error = null;
+        try {
+            runnableContext.run(true, true, scheduler::run);
+        } catch (InvocationTargetException e) {
+            error = e.getTargetException();
+        } catch (InterruptedException e) {
+            log.debug("Task canceled");
+        }
+        if (error == null) {
+            error = scheduler.getStepsError();
+        }
+        if (error != null) {
+            log.error(error);
+        }
+        listener.taskFinished(task, null, error, null);
+
+        DBTTaskRunStatus status = new DBTTaskRunStatus();
+        status.setResultMessage(scheduler.getSummary());
+        return status;
+    }
+
+    /**
+     * Checks that composite task doesn't include itself, directly or through other composite tasks
+     */
+    private static void checkNestedSteps(@NotNull DBTTask task, @NotNull Set<String> path) throws DBException {
+        if (!path.add(task.getId())) {
+            throw new DBException("Composite task '" + task.getName() + "' includes itself");
+        }
+        DBTTaskManager taskManager = task.getProject().getTaskManager();
+        for (CompositeTaskStep step : CompositeTaskStep.loadSteps(task.getProperties())) {
+            DBTTask stepTask = taskManager.getTaskById(step.getTaskId());
+            if (stepTask == null) {
+                throw new DBException("Task '" + step.getTaskId() + "' of step '" + step.getId() + "' not found");
+            }
+            if (TASK_TYPE_ID.equals(stepTask.getType().getId())) {
+                checkNestedSteps(stepTask, path);
+            }
+        }
+        path.remove(task.getId());
+    }
+
+    private static class StepState {
+        final CompositeTaskStep step;
+        final TaskImpl task;
+        final Set<String> dataSources;
+        final TaskStepRun run;
+        TaskRunJob job;
+        IStatus jobResult;
+
+        StepState(@NotNull CompositeTaskStep step, @NotNull TaskImpl task, @NotNull Set<String> dataSources) {
+            this.step = step;
+            this.task = task;
+            this.dataSources = dataSources;
+            this.run = new TaskStepRun(step.getId(), task.getId());
+        }
+    }
+
+    /**
+     * Starts steps and waits for them. Step states are changed in the scheduler thread only,
+     * step jobs just report completion.
+     */
+    private static class StepScheduler {
+        private final DBTTask task;
+        private final Locale locale;
+        private final PrintStream logStream;
+        private final DBTTaskExecutionListener listener;
+        @Nullable
+        private final TaskRunJob taskRunJob;
+        private final int maxParallelSteps;
+        private final int maxParallelStepsPerDataSource;
+
+        private final Map<String, StepState> states = new LinkedHashMap<>();
+        private final BlockingQueue<StepState> finishedSteps = new LinkedBlockingQueue<>();
+        private final Map<String, Integer> runningPerDataSource = new HashMap<>();
+        private int runningSteps;
+        private boolean stopped;
+
+        StepScheduler(
+            @NotNull DBTTask task,
+            @NotNull List<CompositeTaskStep> steps,
+            @NotNull Locale locale,
+            @NotNull PrintStream logStream,
+            @NotNull DBTTaskExecutionListener listener,
+            @Nullable TaskRunJob taskRunJob
+        ) throws DBException {
+            this.task = task;
+            this.locale = locale;
+            this.logStream = logStream;
+            this.listener = listener;
+            this.taskRunJob = taskRunJob;
+            Map<String, Object> properties = task.getProperties();
+            this.maxParallelSteps = Math.max(
+                CommonUtils.toInt(properties.get(PROP_MAX_PARALLEL_STEPS), DEFAULT_MAX_PARALLEL_STEPS), 1);
+            this.maxParallelStepsPerDataSource = Math.max(
+                CommonUtils.toInt(properties.get(PROP_MAX_PARALLEL_STEPS_PER_DATA_SOURCE), DEFAULT_MAX_PARALLEL_STEPS_PER_DATA_SOURCE), 1);
+
+            DBTTaskManager taskManager = task.getProject().getTaskManager();
+            TaskRunImpl taskRun = taskRunJob == null ? null : taskRunJob.getTaskRun();
+            for (CompositeTaskStep step : steps) {
+                if (!(taskManager.getTaskById(step.getTaskId()) instanceof TaskImpl stepTask)) {
+                    throw new DBException("Task '" + step.getTaskId() + "' of step '" + step.getId() + "' not found");
+                }
+                StepState state = new StepState(step, stepTask, getTaskDataSources(stepTask));
+                states.put(step.getId(), state);
+                if (taskRun != null) {
+                    taskRun.addStep(state.run);
+                }
+            }
+        }
+
+        void run(@NotNull DBRProgressMonitor monitor) throws InterruptedException {
+            monitor.beginTask("Run " + states.size() + " steps", states.size());
+            updateTaskRun();
+            try {
+                while (true) {
+                    if (!stopped && monitor.isCanceled()) {
+                        logStream.println("Task canceled, running steps will be interrupted");
+                        stopped = true;
+                        for (StepState state : states.values()) {
+                            if (state.run.getStatus() == TaskStepRun.Status.RUNNING) {
+                                state.job.cancel();
+                            }
+                        }
+                    }
+                    if (stopped) {
+                        skipWaitingSteps(monitor);
+                    } else {
+                        startReadySteps(monitor);
+                    }
+                    if (runningSteps == 0) {
+                        break;
+                    }
+                    StepState finished = finishedSteps.poll(STEP_WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    while (finished != null) {
+                        completeStep(monitor, finished);
+                        finished = finishedSteps.poll();
+                    }
+                }
+            } finally {
+                monitor.done();
+            }
+        }
+
+        private void startReadySteps(@NotNull DBRProgressMonitor monitor) {
+            // States are in dependency order, so skipping propagates to all dependents in one pass
+            for (StepState state : states.values()) {
+                if (state.run.getStatus() != TaskStepRun.Status.WAITING) {
+                    continue;
+                }
+                String skipReason = null;
+                boolean ready = true;
+                for (String dependency : state.step.getDependsOn()) {
+                    StepState dependencyState = states.get(dependency);
+                    TaskStepRun.Status dependencyStatus = dependencyState.run.getStatus();
+                    if (!dependencyStatus.isFinished()) {
+                        ready = false;
+                    } else if (dependencyStatus == TaskStepRun.Status.SKIPPED ||
+                        (dependencyStatus == TaskStepRun.Status.FAILED &&
+                            dependencyState.step.getFailurePolicy() != CompositeTaskStep.FailurePolicy.CONTINUE)
+                    ) {
+                        skipReason = "step '" + dependency + "' " + (dependencyStatus == TaskStepRun.Status.SKIPPED ? "skipped" : "failed");
+                        break;
+                    }
+                }
+                if (skipReason != null) {
+                    skipStep(monitor, state, skipReason);
+                } else if (ready && canStart(state)) {
+                    startStep(state);
+                }
+            }
+        }
+
+        private boolean canStart(@NotNull StepState state) {
+            if (runningSteps >= maxParallelSteps) {
+                return false;
+            }
+            for (String dataSource : state.dataSources) {
+                if (runningPerDataSource.getOrDefault(dataSource, 0) >= maxParallelStepsPerDataSource) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void startStep(@NotNull StepState state) {
+            runningSteps++;
+            for (String dataSource : state.dataSources) {
+                runningPerDataSource.merge(dataSource, 1, Integer::sum);
+            }
+            state.run.setStatus(TaskStepRun.Status.RUNNING);
+            state.run.setStartTime(new Date());
+
+            DBTTaskManager taskManager = task.getProject().getTaskManager();
+            DBTTaskExecutionListener stepListener = new StepExecutionListener();
+            state.job = taskManager instanceof TaskManagerImpl taskManagerImpl ?
+                taskManagerImpl.createJob(state.task, stepListener) :
+                new TaskRunJob(state.task, locale, stepListener);
+            // Composite task job shows progress, steps run in background
+            state.job.setUser(false);
+            state.job.addJobChangeListener(new JobChangeAdapter() {
+                @Override
+                public void done(IJobChangeEvent event) {
+                    state.jobResult = event.getResult();
+                    finishedSteps.add(state);
+                }
+            });
+            logStream.println("Step '" + state.step.getId() + "' started (task '" + state.task.getName() + "')");
+            state.job.schedule();
+            updateTaskRun();
+        }
+
+        private void completeStep(@NotNull DBRProgressMonitor monitor, @NotNull StepState state) {
+            runningSteps--;
+            for (String dataSource : state.dataSources) {
+                runningPerDataSource.merge(dataSource, -1, Integer::sum);
+            }
+            TaskStepRun run = state.run;
+            run.setRunDuration(System.currentTimeMillis() - Objects.requireNonNull(run.getStartTime()).getTime());
+            TaskRunImpl stepTaskRun = state.job.getTaskRun();
+            run.setRunId(stepTaskRun == null ? null : stepTaskRun.getId());
+
+            Throwable error = state.job.getTaskError();
+            if (stepTaskRun == null && state.jobResult != null && state.jobResult.getSeverity() == IStatus.CANCEL) {
+                // Job was canceled before it started
+                run.setStatus(TaskStepRun.Status.SKIPPED);
+                run.setErrorMessage("Canceled");
+                logStream.println("Step '" + run.getStepId() + "' canceled");
+            } else if (error != null) {
+                String errorMessage = CommonUtils.isEmpty(error.getMessage()) ? error.getClass().getName() : error.getMessage();
+                run.setStatus(TaskStepRun.Status.FAILED);
+                run.setErrorMessage(errorMessage);
+                logStream.println("Step '" + run.getStepId() + "' failed in " + run.getRunDuration() + "ms: " + errorMessage);
+                if (state.step.getFailurePolicy() == CompositeTaskStep.FailurePolicy.STOP) {
+                    logStream.println("Task stopped after step '" + run.getStepId() + "' failure");
+                    stopped = true;
+                }
+            } else {
+                run.setStatus(TaskStepRun.Status.SUCCEEDED);
+                run.setResultMessage(state.job.getTaskRunStatus().getResultMessage());
+                logStream.println("Step '" + run.getStepId() + "' finished in " + run.getRunDuration() + "ms" +
+                    (CommonUtils.isEmpty(run.getResultMessage()) ? "" : ": " + run.getResultMessage()));
+            }
+            monitor.worked(1);
+            listener.subTaskFinished(state.task, error, null);
+            updateTaskRun();
+        }
+
+        private void skipWaitingSteps(@NotNull DBRProgressMonitor monitor) {
+            for (StepState state : states.values()) {
+                if (state.run.getStatus() == TaskStepRun.Status.WAITING) {
+                    skipStep(monitor, state, "task stopped");
+                }
+            }
+        }
+
+        private void skipStep(@NotNull DBRProgressMonitor monitor, @NotNull StepState state, @NotNull String reason) {
+            state.run.setStatus(TaskStepRun.Status.SKIPPED);
+            state.run.setErrorMessage("Skipped: " + reason);
+            logStream.println("Step '" + state.step.getId() + "' skipped: " + reason);
+            monitor.worked(1);
+            updateTaskRun();
+        }
+
+        private void updateTaskRun() {
+            if (taskRunJob != null) {
+                taskRunJob.updateTaskRun();
+            }
+        }
+
+        @Nullable
+        DBException getStepsError() {
+            List<String> failedSteps = new ArrayList<>();
+            for (StepState state : states.values()) {
+                if (state.run.getStatus() == TaskStepRun.Status.FAILED) {
+                    failedSteps.add(state.step.getId());
+                }
+            }
+            return failedSteps.isEmpty() ? null : new DBException("Failed steps: " + String.join(", ", failedSteps));
+        }
+
+        @NotNull
+        String getSummary() {
+            Map<TaskStepRun.Status, Integer> counts = new EnumMap<>(TaskStepRun.Status.class);
+            for (StepState state : states.values()) {
+                counts.merge(state.run.getStatus(), 1, Integer::sum);
+            }
+            StringJoiner summary = new StringJoiner(", ");
+            for (Map.Entry<TaskStepRun.Status, Integer> entry : counts.entrySet()) {
+                summary.add(entry.getValue() + " " + entry.getKey().name().toLowerCase(Locale.ENGLISH));
+            }
+            return "Steps: " + summary;
+        }
+    }
+
+    /**
+     * Collects data sources used by task. Only tasks which report their information are limited per data source.
+     */
+    @NotNull
+    private static Set<String> getTaskDataSources(@NotNull DBTTask task) {
+        Set<String> dataSources = new LinkedHashSet<>();
+        try {
+            if (task.getType().createHandler() instanceof DBTTaskInfoCollector infoCollector) {
+                DBTTaskInfoCollector.TaskInformation information = new DBTTaskInfoCollector.TaskInformation();
+                infoCollector.collectTaskInfo(task, information);
+                for (DBPDataSourceContainer dataSource : information.getDataSources()) {
+                    dataSources.add(dataSource.getId());
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Can't collect data sources of task '" + task.getName() + "'", e);
+        }
+        return dataSources;
+    }
+
+    /**
+     * Step results are handled by the scheduler when the step job is done
+     */
+    private static class StepExecutionListener implements DBTTaskExecutionListener {
+        @Override
+        public void taskStarted(@Nullable DBTTask task) {
+            // nothing
+        }
+
+        @Override
+        public void taskFinished(@Nullable DBTTask task, @Nullable Object result, @Nullable Throwable error, @Nullable Object settings) {
+            // nothing
+        }
+
+        @Override
+        public void subTaskFinished(@Nullable DBTTask task, @Nullable Throwable error, @Nullable Object settings) {
+            // nothing
+        }
+    }
+}
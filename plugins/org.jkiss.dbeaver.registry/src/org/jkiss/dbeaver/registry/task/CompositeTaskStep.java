@@ -0,0 +1,197 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Composite task step configuration.
+ * Steps reference other tasks of the same project and form a dependency graph.
+ */
+public class CompositeTaskStep {
+
+    public static final String PROP_STEPS = "steps";
+
+    private static final String ATTR_ID = "id";
+    private static final String ATTR_TASK = "task";
+    private static final String ATTR_DEPENDS_ON = "dependsOn";
+    private static final String ATTR_ON_FAILURE = "onFailure";
+
+    /**
+     * What happens with other steps when the step fails
+     */
+    public enum FailurePolicy {
+        // Steps which depend on the failed step are skipped, other steps continue
+        SKIP_DEPENDENTS,
+        // Steps which depend on the failed step run as if it succeeded
+        CONTINUE,
+        // No more steps are started, already running steps are finished
+        STOP
+    }
+
+    @NotNull
+    private final String id;
+    @NotNull
+    private final String taskId;
+    @NotNull
+    private final List<String> dependsOn;
+    @NotNull
+    private final FailurePolicy failurePolicy;
+
+    public CompositeTaskStep(
+        @NotNull String id,
+        @NotNull String taskId,
+        @NotNull List<String> dependsOn,
+        @NotNull FailurePolicy failurePolicy
+    ) {
+        this.id = id;
+        this.taskId = taskId;
+        this.dependsOn = List.copyOf(dependsOn);
+        this.failurePolicy = failurePolicy;
+    }
+
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    @NotNull
+    public String getTaskId() {
+        return taskId;
+    }
+
+    @NotNull
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    @NotNull
+    public FailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + taskId + ")";
+    }
+
+    /**
+     * Reads steps from task properties.
+     * Steps are returned in execution order: each step follows all steps it depends on.
+     *
+     * @throws DBException if steps are misconfigured or have circular dependencies
+     */
+    @NotNull
+    public static List<CompositeTaskStep> loadSteps(@NotNull Map<String, Object> properties) throws DBException {
+        Map<String, CompositeTaskStep> steps = new LinkedHashMap<>();
+        Object stepList = properties.get(PROP_STEPS);
+        if (stepList instanceof Collection<?> stepConfigs) {
+            for (Object stepConfig : stepConfigs) {
+                if (!(stepConfig instanceof Map<?, ?> stepMap)) {
+                    throw new DBException("Bad composite task step configuration: " + stepConfig);
+                }
+                String taskId = CommonUtils.toString(stepMap.get(ATTR_TASK));
+                if (CommonUtils.isEmpty(taskId)) {
+                    throw new DBException("Composite task step task is not specified");
+                }
+                String id = CommonUtils.toString(stepMap.get(ATTR_ID), taskId);
+                List<String> dependsOn = new ArrayList<>();
+                if (stepMap.get(ATTR_DEPENDS_ON) instanceof Collection<?> dependencies) {
+                    for (Object dependency : dependencies) {
+                        dependsOn.add(CommonUtils.toString(dependency));
+                    }
+                }
+                FailurePolicy failurePolicy = CommonUtils.valueOf(
+                    FailurePolicy.class,
+                    CommonUtils.toString(stepMap.get(ATTR_ON_FAILURE)).toUpperCase(Locale.ENGLISH),
+                    FailurePolicy.SKIP_DEPENDENTS);
+                if (steps.put(id, new CompositeTaskStep(id, taskId, dependsOn, failurePolicy)) != null) {
+                    throw new DBException("Duplicate composite task step '" + id + "'");
+                }
+            }
+        }
+        return sortSteps(steps);
+    }
+
+    /**
+     * Writes steps to task properties
+     */
+    public static void saveSteps(@NotNull Map<String, Object> properties, @NotNull List<CompositeTaskStep> steps) {
+        List<Map<String, Object>> stepList = new ArrayList<>();
+        for (CompositeTaskStep step : steps) {
+            Map<String, Object> stepMap = new LinkedHashMap<>();
+            stepMap.put(ATTR_ID, step.id);
+            stepMap.put(ATTR_TASK, step.taskId);
+            if (!step.dependsOn.isEmpty()) {
+                stepMap.put(ATTR_DEPENDS_ON, step.dependsOn);
+            }
+            if (step.failurePolicy != FailurePolicy.SKIP_DEPENDENTS) {
+                stepMap.put(ATTR_ON_FAILURE, step.failurePolicy.name().toLowerCase(Locale.ENGLISH));
+            }
+            stepList.add(stepMap);
+        }
+        properties.put(PROP_STEPS, stepList);
+    }
+
+    /**
+     * Topological sort which keeps declaration order of independent steps
+     */
+    @NotNull
+    private static List<CompositeTaskStep> sortSteps(@NotNull Map<String, CompositeTaskStep> steps) throws DBException {
+        Map<String, Integer> pendingDependencies = new HashMap<>();
+        for (CompositeTaskStep step : steps.values()) {
+            for (String dependency : step.dependsOn) {
+                if (!steps.containsKey(dependency)) {
+                    throw new DBException("Composite task step '" + step.id + "' depends on unknown step '" + dependency + "'");
+                }
+            }
+            pendingDependencies.put(step.id, new HashSet<>(step.dependsOn).size());
+        }
+        List<CompositeTaskStep> result = new ArrayList<>(steps.size());
+        Set<String> added = new HashSet<>();
+        while (result.size() < steps.size()) {
+            CompositeTaskStep next = null;
+            for (CompositeTaskStep step : steps.values()) {
+                if (!added.contains(step.id) && pendingDependencies.get(step.id) == 0) {
+                    next = step;
+                    break;
+                }
+            }
+            if (next == null) {
+                List<String> cycle = new ArrayList<>();
+                for (CompositeTaskStep step : steps.values()) {
+                    if (!added.contains(step.id)) {
+                        cycle.add(step.id);
+                    }
+                }
+                throw new DBException("Composite task steps have circular dependencies: " + String.join(", ", cycle));
+            }
+            result.add(next);
+            added.add(next.id);
+            for (CompositeTaskStep step : steps.values()) {
+                if (step.dependsOn.contains(next.id)) {
+                    pendingDependencies.merge(step.id, -1, Integer::sum);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -329,7 +329,7 @@ public class TaskManagerImpl implements DBTTaskManager {
     }
 
     @NotNull
-    private TaskRunJob createJob(@NotNull TaskImpl task, @NotNull DBTTaskExecutionListener listener) {
+    TaskRunJob createJob(@NotNull TaskImpl task, @NotNull DBTTaskExecutionListener listener) {
         TaskRunJob runJob = new TaskRunJob(task, Locale.getDefault(), listener);
         runJob.addJobChangeListener(new JobChangeAdapter() {
             @Override
@@ -21,7 +21,9 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.task.DBTTaskRun;
 import org.jkiss.utils.CommonUtils;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * TaskRunImpl
@@ -35,6 +37,7 @@ public class TaskRunImpl implements DBTTaskRun {
     private String errorMessage;
     private String errorStackTrace;
     private String extraMessage;
+    private List<TaskStepRun> steps;
 
     protected TaskRunImpl(
         @NotNull String id,
@@ -124,6 +127,21 @@ public class TaskRunImpl implements DBTTaskRun {
         extraMessage = message;
     }
 
+    /**
+     * Step runs of a composite task. Empty for regular tasks.
+     */
+    @NotNull
+    public List<TaskStepRun> getSteps() {
+        return steps == null ? List.of() : steps;
+    }
+
+    public void addStep(@NotNull TaskStepRun step) {
+        if (steps == null) {
+            steps = new ArrayList<>();
+        }
+        steps.add(step);
+    }
+
     @Override
     public String toString() {
         return id + "; " + startUser + "; " + startedBy + "; " + (isRunSuccess() ? "Success" : CommonUtils.notEmpty(errorMessage));
@@ -62,6 +62,7 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
     private Log taskLog = log;
     private DBRProgressMonitor activeMonitor;
     private DBTTaskRunStatus taskRunStatus = new DBTTaskRunStatus();
+    private TaskRunImpl taskRun;
 
     private long startTime;
     private long elapsedTime;
@@ -83,7 +84,7 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
         SimpleDateFormat dateFormat = new SimpleDateFormat(GeneralUtils.DEFAULT_TIMESTAMP_PATTERN, Locale.getDefault()); //$NON-NLS-1$
         dateFormat.setTimeZone(TimeZone.getTimeZone(TimezoneRegistry.getUserDefaultTimezone()));
         String taskId = dateFormat.format(startTime) + "_" + taskNumber.incrementAndGet();
-        TaskRunImpl taskRun = new TaskRunImpl(
+        taskRun = new TaskRunImpl(
             taskId,
             new Date(),
             System.getProperty(StandardConstants.ENV_USER_NAME),
@@ -151,6 +152,23 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
         return taskError;
     }
 
+    /**
+     * Current task run. Available after the job started.
+     */
+    @Nullable
+    public TaskRunImpl getTaskRun() {
+        return taskRun;
+    }
+
+    /**
+     * Saves changes of the current run made by task handler
+     */
+    void updateTaskRun() {
+        if (taskRun != null) {
+            task.updateRun(taskRun);
+        }
+    }
+
     private class LoggingExecutionListener implements DBTTaskExecutionListener {
 
         DBTTaskExecutionListener parent;
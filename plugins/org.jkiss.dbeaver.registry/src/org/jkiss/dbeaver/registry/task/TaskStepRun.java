@@ -0,0 +1,125 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.Date;
+
+/**
+ * Run of a single composite task step. Saved in run statistics of the composite task.
+ */
+public class TaskStepRun {
+
+    public enum Status {
+        WAITING,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        SKIPPED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == SKIPPED;
+        }
+    }
+
+    private final String stepId;
+    private final String taskId;
+    private Status status = Status.WAITING;
+    private Date startTime;
+    private long duration = -1;
+    private String runId;
+    private String errorMessage;
+    private String resultMessage;
+
+    public TaskStepRun(@NotNull String stepId, @NotNull String taskId) {
+        this.stepId = stepId;
+        this.taskId = taskId;
+    }
+
+    @NotNull
+    public String getStepId() {
+        return stepId;
+    }
+
+    @NotNull
+    public String getTaskId() {
+        return taskId;
+    }
+
+    @NotNull
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(@NotNull Status status) {
+        this.status = status;
+    }
+
+    @Nullable
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(@Nullable Date startTime) {
+        this.startTime = startTime;
+    }
+
+    public long getRunDuration() {
+        return duration;
+    }
+
+    public void setRunDuration(long duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Id of the step task run. Step task keeps its own run log and statistics.
+     */
+    @Nullable
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(@Nullable String runId) {
+        this.runId = runId;
+    }
+
+    @Nullable
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(@Nullable String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Nullable
+    public String getResultMessage() {
+        return resultMessage;
+    }
+
+    public void setResultMessage(@Nullable String resultMessage) {
+        this.resultMessage = resultMessage;
+    }
+
+    @Override
+    public String toString() {
+        return stepId + " (" + taskId + "): " + status;
+    }
+}
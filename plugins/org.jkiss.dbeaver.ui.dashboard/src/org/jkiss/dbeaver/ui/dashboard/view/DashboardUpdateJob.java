@@ -18,15 +18,24 @@ package org.jkiss.dbeaver.ui.dashboard.view;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.ui.dashboard.model.DashboardItemContainer;
 
+import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Job which runs every second and updates necessary dashboards
+ * Job which runs every second and updates necessary dashboards.
+ * <p>
+ * Dashboards of each data source are updated by a separate job, so a slow server doesn't delay
+ * dashboards of other servers. If previous update of a data source is still running then its dashboards
+ * are skipped and will be updated on one of the next runs.
  */
 public class DashboardUpdateJob extends AbstractJob {
 
@@ -37,6 +46,7 @@ public class DashboardUpdateJob extends AbstractJob {
     private static DashboardUpdateJob updateJob;
     
     private final AtomicBoolean isSchedule = new AtomicBoolean(true);
+    private final Map<DBPDataSourceContainer, DataSourceUpdateJob> dataSourceJobs = new HashMap<>();
 
     private DashboardUpdateJob() {
         super("Dashboard update");
@@ -46,8 +56,11 @@ public class DashboardUpdateJob extends AbstractJob {
     protected IStatus run(DBRProgressMonitor monitor) {
 
         try {
-            if (new DashboardUpdater().updateDashboards(monitor)) {
+            List<DashboardItemContainer> dashboards = new ArrayList<>();
+            if (new DashboardUpdater().getDashboardsToUpdate(dashboards)) {
                 pauseDashboardUpdate();
+            } else {
+                scheduleDataSourceUpdates(dashboards);
             }
         } catch (Exception e) {
             log.error("Error running dashboard updater", e);
@@ -60,6 +73,26 @@ public class DashboardUpdateJob extends AbstractJob {
         return Status.OK_STATUS;
     }
 
+    private void scheduleDataSourceUpdates(@NotNull List<DashboardItemContainer> dashboards) {
+        Map<DBPDataSourceContainer, List<DashboardItemContainer>> dataSourceDashboards = new LinkedHashMap<>();
+        for (DashboardItemContainer dashboard : dashboards) {
+            dataSourceDashboards.computeIfAbsent(dashboard.getDataSourceContainer(), k -> new ArrayList<>()).add(dashboard);
+        }
+        // Forget idle jobs of data sources which have no dashboards anymore
+        dataSourceJobs.entrySet().removeIf(entry ->
+            !dataSourceDashboards.containsKey(entry.getKey()) && entry.getValue().getState() == Job.NONE);
+
+        for (Map.Entry<DBPDataSourceContainer, List<DashboardItemContainer>> entry : dataSourceDashboards.entrySet()) {
+            DataSourceUpdateJob dataSourceJob = dataSourceJobs.computeIfAbsent(entry.getKey(), DataSourceUpdateJob::new);
+            if (dataSourceJob.getState() != Job.NONE) {
+                // Previous update is still running
+                continue;
+            }
+            dataSourceJob.dashboards = entry.getValue();
+            dataSourceJob.schedule();
+        }
+    }
+
     public static void startUpdating() {
         updateJob = new DashboardUpdateJob();
         updateJob.schedule(JOB_DELAY);
@@ -79,4 +112,24 @@ public class DashboardUpdateJob extends AbstractJob {
         isSchedule.set(false);
     }
 
+    private static class DataSourceUpdateJob extends AbstractJob {
+
+        private volatile List<DashboardItemContainer> dashboards = Collections.emptyList();
+
+        DataSourceUpdateJob(@NotNull DBPDataSourceContainer dataSourceContainer) {
+            super("Update dashboards of '" + dataSourceContainer.getName() + "'");
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                new DashboardUpdater().updateDashboards(monitor, dashboards);
+            } catch (Exception e) {
+                log.error("Error updating dashboards", e);
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
 }
\ No newline at end of file
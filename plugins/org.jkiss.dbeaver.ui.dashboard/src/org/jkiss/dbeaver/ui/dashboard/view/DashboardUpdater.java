@@ -67,21 +67,10 @@ public class DashboardUpdater {
     }
 
     /**
-     * 
-     * @return true if need pause to update dashboard, false if not
+     * Reads data of specified dashboards.
+     * Dashboards are updated one by one, so they should belong to the same data source.
      */
-    public boolean updateDashboards(@NotNull DBRProgressMonitor monitor) {
-        List<DashboardItemContainer> dashboards = new ArrayList<>();
-        if (getDashboardsToUpdate(dashboards)) {
-            return true;
-        }
-
-        updateDashboards(monitor, dashboards);
-        
-        return false;
-    }
-
-    private void updateDashboards(@NotNull DBRProgressMonitor monitor, @NotNull List<DashboardItemContainer> dashboards) {
+    public void updateDashboards(@NotNull DBRProgressMonitor monitor, @NotNull List<DashboardItemContainer> dashboards) {
         monitor.beginTask("Update dashboards", dashboards.size());
 
         // Get all map queries used by dashboards
@@ -392,6 +381,11 @@ public class DashboardUpdater {
         return newDataset;
     }
 
+    /**
+     * Collects dashboards which update period has passed.
+     *
+     * @return true if need pause to update dashboard, false if not
+     */
     public boolean getDashboardsToUpdate(List<DashboardItemContainer> dashboards) {
         boolean pauseDashboardUpdate = true;
         for (IWorkbenchWindow window : PlatformUI.getWorkbench().getWorkbenchWindows()) {
@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.impl.data.ExecuteBatchRunner;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.RowDataReceiver;
 import org.jkiss.dbeaver.model.struct.*;
@@ -54,6 +55,9 @@ class ResultSetPersister {
 
     private static final Log log = Log.getLog(ResultSetPersister.class);
 
+    // Maximum number of rows saved by one batch
+    private static final int MAX_BATCH_SIZE = 1000;
+
     /**
      * Data update listener
      */
@@ -494,37 +498,47 @@ class ResultSetPersister {
     // Changes affects only rows which statements executed successfully
     private boolean reflectChanges() {
         boolean rowsChanged = false;
+        Map<ResultSetRow, DataStatementInfo> executedUpdates = getExecutedStatements(updateStatements);
         for (ResultSetRow row : changedRows) {
-            for (DataStatementInfo stat : updateStatements) {
-                if (stat.executed && stat.row == row) {
-                    reflectKeysUpdate(stat);
-                    row.changes = null;
-                    break;
-                }
+            DataStatementInfo stat = executedUpdates.get(row);
+            if (stat != null) {
+                reflectKeysUpdate(stat);
+                row.changes = null;
             }
         }
+        Map<ResultSetRow, DataStatementInfo> executedInserts = getExecutedStatements(insertStatements);
         for (ResultSetRow row : addedRows) {
-            for (DataStatementInfo stat : insertStatements) {
-                if (stat.executed && stat.row == row) {
-                    reflectKeysUpdate(stat);
-                    row.setState(ResultSetRow.STATE_NORMAL);
-                    break;
-                }
+            DataStatementInfo stat = executedInserts.get(row);
+            if (stat != null) {
+                reflectKeysUpdate(stat);
+                row.setState(ResultSetRow.STATE_NORMAL);
             }
         }
+        Map<ResultSetRow, DataStatementInfo> executedDeletes = getExecutedStatements(deleteStatements);
         for (ResultSetRow row : deletedRows) {
-            for (DataStatementInfo stat : deleteStatements) {
-                if (stat.executed && stat.row == row) {
-                    model.cleanupRow(row);
-                    rowsChanged = true;
-                    break;
-                }
+            if (executedDeletes.containsKey(row)) {
+                model.cleanupRow(row);
+                rowsChanged = true;
             }
         }
         model.refreshChangeCount();
         return rowsChanged;
     }
 
+    /**
+     * Maps rows to their first executed statements
+     */
+    @NotNull
+    private static Map<ResultSetRow, DataStatementInfo> getExecutedStatements(@NotNull List<DataStatementInfo> statements) {
+        Map<ResultSetRow, DataStatementInfo> result = new IdentityHashMap<>();
+        for (DataStatementInfo stat : statements) {
+            if (stat.executed) {
+                result.putIfAbsent(stat.row, stat);
+            }
+        }
+        return result;
+    }
+
     private void reflectKeysUpdate(DataStatementInfo stat) {
         // Update keys
         if (!stat.updatedCells.isEmpty()) {
@@ -742,31 +756,12 @@ class ResultSetPersister {
                 }
             }
             try {
-                for (DataStatementInfo statement : ResultSetPersister.this.deleteStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.deleteData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            new ExecutionSource(dataContainer))) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                deleteStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
+                // Statements executed before a failure are already committed in auto-commit mode
+                boolean retryFailed = autocommit && !generateScript;
+                DBException deleteError = new StatementBatchRunner(options, deleteStats)
+                    .execute(session, ResultSetPersister.this.deleteStatements, retryFailed);
+                if (deleteError != null) {
+                    return deleteError;
                 }
                 for (DataStatementInfo statement : ResultSetPersister.this.insertStatements) {
                     if (monitor.isCanceled()) break;
@@ -796,44 +791,10 @@ class ResultSetPersister {
                     }
                     monitor.worked(1);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.updateStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.updateData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.updateAttributes),
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            null,
-                            new ExecutionSource(dataContainer))) {
-                            // Make single array of values
-                            Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
-                            for (int i = 0; i < statement.updateAttributes.size(); i++) {
-                                attributes[i] = statement.updateAttributes.get(i).getValue();
-                            }
-                            for (int i = 0; i < statement.keyAttributes.size(); i++) {
-                                attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
-                            }
-                            // Execute
-                            batch.add(attributes);
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                updateStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
+                if (!monitor.isCanceled()) {
+                    return new StatementBatchRunner(options, updateStats)
+                        .execute(session, ResultSetPersister.this.updateStatements, retryFailed);
                 }
-
                 return null;
             } finally {
                 if (!generateScript && txnManager != null && this.savepoint != null) {
@@ -847,6 +808,73 @@ class ResultSetPersister {
             }
         }
 
+        /**
+         * Executes update and delete statements in batches
+         */
+        private class StatementBatchRunner extends ExecuteBatchRunner<DataStatementInfo> {
+            private final Map<String, Object> options;
+            private final DBCStatistics statistics;
+
+            StatementBatchRunner(@NotNull Map<String, Object> options, @NotNull DBCStatistics statistics) {
+                super(MAX_BATCH_SIZE);
+                this.options = options;
+                this.statistics = statistics;
+            }
+
+            @NotNull
+            @Override
+            protected Object getBatchKey(@NotNull DataStatementInfo statement) {
+                return statement.getBatchKey();
+            }
+
+            @NotNull
+            @Override
+            protected DBSDataManipulator.ExecuteBatch openBatch(@NotNull DBCSession session, @NotNull DataStatementInfo statement) throws DBException {
+                DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
+                if (statement.type == DBSManipulationType.DELETE) {
+                    return dataContainer.deleteData(
+                        session,
+                        DBDAttributeValue.getAttributes(statement.keyAttributes),
+                        new ExecutionSource(dataContainer));
+                }
+                return dataContainer.updateData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.updateAttributes),
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    null,
+                    new ExecutionSource(dataContainer));
+            }
+
+            @NotNull
+            @Override
+            protected Object[] getValues(@NotNull DataStatementInfo statement) {
+                return statement.getValues();
+            }
+
+            @Override
+            protected void processBatch(@NotNull DBCSession session, @NotNull DBSDataManipulator.ExecuteBatch batch) throws DBException {
+                if (generateScript) {
+                    batch.generatePersistActions(session, script, options);
+                } else {
+                    DBCStatistics bs = batch.execute(session, options);
+                    // Notify rsv container about statement execute
+                    notifyContainer(bs);
+
+                    statistics.accumulate(bs);
+                }
+            }
+
+            @Override
+            protected void statementExecuted(@NotNull DataStatementInfo statement) {
+                processStatementChanges(statement);
+            }
+
+            @Override
+            protected void statementFailed(@NotNull DBCSession session, @NotNull DataStatementInfo statement) {
+                processStatementError(statement, session);
+            }
+        }
+
         private void processStatementChanges(DataStatementInfo statement) {
             statement.executed = true;
         }
@@ -963,6 +991,30 @@ class ResultSetPersister {
             this.entity = entity;
         }
 
+        /**
+         * Values of update attributes followed by values of key attributes
+         */
+        @NotNull
+        Object[] getValues() {
+            Object[] values = new Object[updateAttributes.size() + keyAttributes.size()];
+            for (int i = 0; i < updateAttributes.size(); i++) {
+                values[i] = updateAttributes.get(i).getValue();
+            }
+            for (int i = 0; i < keyAttributes.size(); i++) {
+                values[updateAttributes.size() + i] = keyAttributes.get(i).getValue();
+            }
+            return values;
+        }
+
+        @NotNull
+        BatchKey getBatchKey() {
+            return new BatchKey(
+                type,
+                entity,
+                Arrays.asList(DBDAttributeValue.getAttributes(updateAttributes)),
+                Arrays.asList(DBDAttributeValue.getAttributes(keyAttributes)));
+        }
+
         boolean needKeys() {
             for (DBDAttributeValue col : keyAttributes) {
                 if (col.getAttribute().isAutoGenerated() && DBUtils.isNullValue(col.getValue())) {
@@ -973,6 +1025,17 @@ class ResultSetPersister {
         }
     }
 
+    /**
+     * Statements with equal keys have the same SQL and can be executed in one batch
+     */
+    private record BatchKey(
+        @NotNull DBSManipulationType type,
+        @NotNull DBSEntity entity,
+        @NotNull List<DBSAttributeBase> updateAttributes,
+        @NotNull List<DBSAttributeBase> keyAttributes
+    ) {
+    }
+
     private class RowRefreshJob extends ResultSetJobAbstract {
 
         private final DBDRowIdentifier rowIdentifier;
@@ -0,0 +1,223 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.views.session;
+
+import org.eclipse.jface.dialogs.IDialogSettings;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.PaintEvent;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.admin.sessions.ServerSessionHistory;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.views.session.internal.SessionEditorMessages;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Shows the top activity of sampled server sessions over a time window
+ */
+class SessionActivityViewer {
+
+    private static final int[] WINDOW_MINUTES = {1, 5, 15, 30, 60};
+    private static final int[] INTERVAL_SECONDS = {1, 5, 10, 30, 60};
+    private static final int DEFAULT_WINDOW_INDEX = 1;
+    private static final int DEFAULT_INTERVAL_INDEX = 1;
+    private static final int TIMELINE_BUCKETS = 60;
+    private static final int TOP_ACTIVITY_LIMIT = 100;
+    private static final int MAX_QUERY_DISPLAY_LENGTH = 200;
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final Composite composite;
+    private final Combo windowCombo;
+    private final Combo intervalCombo;
+    private final Label summaryLabel;
+    private final Canvas timelineCanvas;
+    private final TableViewer activityViewer;
+
+    @Nullable
+    private ServerSessionHistory history;
+    @NotNull
+    private List<ServerSessionHistory.TimelinePoint> timeline = Collections.emptyList();
+    private long timelineStart;
+    private long timelineEnd;
+
+    SessionActivityViewer(@NotNull Composite parent, @NotNull Runnable intervalChangeListener) {
+        composite = UIUtils.createPlaceholder(parent, 1);
+
+        Composite controlsPanel = UIUtils.createComposite(composite, 5);
+        controlsPanel.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        windowCombo = UIUtils.createLabelCombo(controlsPanel, SessionEditorMessages.viewer_activity_window_label, SWT.DROP_DOWN | SWT.READ_ONLY);
+        for (int minutes : WINDOW_MINUTES) {
+            windowCombo.add(NLS.bind(SessionEditorMessages.viewer_activity_window_minutes, minutes));
+        }
+        windowCombo.select(DEFAULT_WINDOW_INDEX);
+        windowCombo.addModifyListener(e -> refresh());
+
+        intervalCombo = UIUtils.createLabelCombo(controlsPanel, SessionEditorMessages.viewer_activity_interval_label, SWT.DROP_DOWN | SWT.READ_ONLY);
+        for (int seconds : INTERVAL_SECONDS) {
+            intervalCombo.add(NLS.bind(SessionEditorMessages.viewer_activity_interval_seconds, seconds));
+        }
+        intervalCombo.select(DEFAULT_INTERVAL_INDEX);
+        intervalCombo.addModifyListener(e -> intervalChangeListener.run());
+
+        summaryLabel = new Label(controlsPanel, SWT.NONE);
+        summaryLabel.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+        timelineCanvas = new Canvas(composite, SWT.DOUBLE_BUFFERED);
+        GridData gd = new GridData(GridData.FILL_HORIZONTAL);
+        gd.heightHint = UIUtils.getFontHeight(timelineCanvas) * 4;
+        timelineCanvas.setLayoutData(gd);
+        timelineCanvas.addPaintListener(this::paintTimeline);
+
+        activityViewer = new TableViewer(composite, SWT.BORDER | SWT.FULL_SELECTION | SWT.MULTI);
+        activityViewer.getTable().setLayoutData(new GridData(GridData.FILL_BOTH));
+        activityViewer.getTable().setHeaderVisible(true);
+        activityViewer.getTable().setLinesVisible(true);
+        activityViewer.setContentProvider(new ArrayContentProvider());
+        createColumn(SessionEditorMessages.viewer_activity_column_sessions, 100, SWT.RIGHT,
+            stat -> String.format("%.2f", stat.averageActiveSessions()));
+        createColumn(SessionEditorMessages.viewer_activity_column_state, 100, SWT.LEFT, stat -> stat.activity().state());
+        createColumn(SessionEditorMessages.viewer_activity_column_wait_event, 150, SWT.LEFT, stat -> stat.activity().waitEvent());
+        createColumn(SessionEditorMessages.viewer_activity_column_user, 100, SWT.LEFT, stat -> stat.activity().user());
+        createColumn(SessionEditorMessages.viewer_activity_column_query, 500, SWT.LEFT, stat -> {
+            String query = stat.activity().query();
+            return query == null ? null : CommonUtils.truncateString(WHITESPACES.matcher(query).replaceAll(" "), MAX_QUERY_DISPLAY_LENGTH);
+        });
+    }
+
+    @NotNull
+    Composite getControl() {
+        return composite;
+    }
+
+    void setHistory(@Nullable ServerSessionHistory history) {
+        this.history = history;
+        refresh();
+    }
+
+    /**
+     * Sampling interval in milliseconds
+     */
+    long getSamplingInterval() {
+        return INTERVAL_SECONDS[Math.max(intervalCombo.getSelectionIndex(), 0)] * 1000L;
+    }
+
+    void refresh() {
+        if (composite.isDisposed()) {
+            return;
+        }
+        if (history == null) {
+            activityViewer.setInput(Collections.emptyList());
+            timeline = Collections.emptyList();
+            summaryLabel.setText(SessionEditorMessages.viewer_activity_not_sampled_label);
+            timelineCanvas.redraw();
+            return;
+        }
+        long window = WINDOW_MINUTES[Math.max(windowCombo.getSelectionIndex(), 0)] * 60_000L;
+        timelineEnd = System.currentTimeMillis();
+        timelineStart = timelineEnd - window;
+        List<ServerSessionHistory.ActivityStat> topActivity = history.getTopActivity(timelineStart, timelineEnd, TOP_ACTIVITY_LIMIT);
+        timeline = history.getTimeline(timelineStart, timelineEnd, window / TIMELINE_BUCKETS);
+        double peak = 0;
+        for (ServerSessionHistory.TimelinePoint point : timeline) {
+            peak = Math.max(peak, point.averageActiveSessions());
+        }
+        summaryLabel.setText(NLS.bind(
+            SessionEditorMessages.viewer_activity_summary_label,
+            history.getSampleCount(),
+            String.format("%.2f", peak)));
+        activityViewer.setInput(topActivity);
+        timelineCanvas.redraw();
+    }
+
+    void loadSettings(@NotNull IDialogSettings settings) {
+        int windowIndex = CommonUtils.toInt(settings.get("ActivityWindow"), DEFAULT_WINDOW_INDEX);
+        if (windowIndex >= 0 && windowIndex < WINDOW_MINUTES.length) {
+            windowCombo.select(windowIndex);
+        }
+        int intervalIndex = CommonUtils.toInt(settings.get("ActivityInterval"), DEFAULT_INTERVAL_INDEX);
+        if (intervalIndex >= 0 && intervalIndex < INTERVAL_SECONDS.length) {
+            intervalCombo.select(intervalIndex);
+        }
+    }
+
+    void saveSettings(@NotNull IDialogSettings settings) {
+        settings.put("ActivityWindow", windowCombo.getSelectionIndex());
+        settings.put("ActivityInterval", intervalCombo.getSelectionIndex());
+    }
+
+    private void createColumn(
+        @NotNull String title,
+        int width,
+        int style,
+        @NotNull Function<ServerSessionHistory.ActivityStat, String> textProvider
+    ) {
+        TableViewerColumn column = new TableViewerColumn(activityViewer, style);
+        column.getColumn().setText(title);
+        column.getColumn().setWidth(width);
+        column.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element) {
+                return CommonUtils.notEmpty(textProvider.apply((ServerSessionHistory.ActivityStat) element));
+            }
+        });
+    }
+
+    private void paintTimeline(@NotNull PaintEvent e) {
+        Rectangle bounds = timelineCanvas.getClientArea();
+        GC gc = e.gc;
+        gc.setBackground(timelineCanvas.getDisplay().getSystemColor(SWT.COLOR_LIST_BACKGROUND));
+        gc.fillRectangle(bounds);
+        gc.setForeground(timelineCanvas.getDisplay().getSystemColor(SWT.COLOR_WIDGET_NORMAL_SHADOW));
+        gc.drawRectangle(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+        if (timeline.isEmpty() || timelineEnd <= timelineStart) {
+            return;
+        }
+        double peak = 0;
+        for (ServerSessionHistory.TimelinePoint point : timeline) {
+            peak = Math.max(peak, point.averageActiveSessions());
+        }
+        if (peak <= 0) {
+            return;
+        }
+        long window = timelineEnd - timelineStart;
+        int barWidth = Math.max(1, bounds.width / TIMELINE_BUCKETS - 1);
+        gc.setBackground(timelineCanvas.getDisplay().getSystemColor(SWT.COLOR_LIST_SELECTION));
+        for (ServerSessionHistory.TimelinePoint point : timeline) {
+            int x = bounds.x + (int) ((point.startTime() - timelineStart) * bounds.width / window);
+            int height = (int) Math.round(point.averageActiveSessions() / peak * (bounds.height - 2));
+            gc.fillRectangle(x, bounds.y + bounds.height - 1 - height, barWidth, height);
+        }
+    }
+
+}
@@ -87,6 +87,9 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
 {
     private static final Log log = Log.getLog(SessionManagerViewer.class);
 
+    // One hour of samples with the default interval
+    private static final int ACTIVITY_HISTORY_CAPACITY = 720;
+
     private final IWorkbenchPart workbenchPart;
     private final DBAServerSessionManager<SESSION_TYPE> sessionManager;
     private final SessionListControl sessionTable;
@@ -110,6 +113,8 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
     private ExplainPlanViewer planViewer;
     private Object selectedPlanElement;
     private final CTabFolder detailsFolder;
+    private final SessionActivityViewer activityViewer;
+    private ServerSessionSampler activitySampler;
 
     protected SessionManagerViewer(IWorkbenchPart part, Composite parent, final DBAServerSessionManager<SESSION_TYPE> sessionManager) {
         this.workbenchPart = part;
@@ -223,6 +228,14 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                     }
                 }
 
+                activityViewer = new SessionActivityViewer(detailsFolder, this::updateSamplingInterval);
+                CTabItem activityItem = new CTabItem(detailsFolder, SWT.NONE);
+                activityItem.setText(SessionEditorMessages.viewer_activity_item_text);
+                activityItem.setToolTipText(SessionEditorMessages.viewer_activity_item_tip);
+                activityItem.setImage(DBeaverIcons.getImage(UIIcon.CHART_BAR));
+                activityItem.setControl(activityViewer.getControl());
+                activityViewer.refresh();
+
                 detailsFolder.setSelection(detailsItem);
                 detailsFolder.addSelectionListener(new SelectionAdapter() {
                     @Override
@@ -341,6 +354,7 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
 
     public void dispose()
     {
+        setActivitySampling(false);
         sessionTable.disposeControl();
         UIUtils.dispose(boldFont);
     }
@@ -387,6 +401,39 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
         refreshControl.scheduleAutoRefresh(false);
     }
 
+    public boolean isActivitySampling() {
+        return activitySampler != null;
+    }
+
+    /**
+     * Starts or stops background sampling of active sessions. Samples are shown on the activity tab.
+     */
+    public void setActivitySampling(boolean enable) {
+        if (enable == isActivitySampling()) {
+            return;
+        }
+        if (enable) {
+            activitySampler = new ServerSessionSampler(
+                sessionManager,
+                new ServerSessionHistory(ACTIVITY_HISTORY_CAPACITY),
+                getSessionOptions(),
+                () -> UIUtils.asyncExec(activityViewer::refresh));
+            activitySampler.setInterval(activityViewer.getSamplingInterval());
+            activityViewer.setHistory(activitySampler.getHistory());
+            activitySampler.start();
+        } else {
+            // Keep the collected history on screen
+            activitySampler.stop();
+            activitySampler = null;
+        }
+    }
+
+    private void updateSamplingInterval() {
+        if (activitySampler != null) {
+            activitySampler.setInterval(activityViewer.getSamplingInterval());
+        }
+    }
+
     public void alterSessions(final List<SESSION_TYPE> sessions, Map<String, Object> options) {
         sessionTable.createAlterService(sessions, options).schedule();
     }
@@ -431,11 +478,13 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
         if (detailsSashRatio > 0) {
             sashDetails.setWeights(new int[] { detailsSashRatio, 1000 - detailsSashRatio });
         }
+        activityViewer.loadSettings(settings);
     }
 
     protected void saveSettings(IDialogSettings settings) {
         settings.put("MainSashRatio", sashMain.getWeights()[0]);
         settings.put("DetailsSashRatio", sashDetails.getWeights()[0]);
+        activityViewer.saveSettings(settings);
     }
 
     protected boolean sessionMatches(SESSION_TYPE element, Pattern searchPattern) {
@@ -496,6 +545,18 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                 contributionManager.add(new Separator());
             }
 
+            contributionManager.add(new Action(SessionEditorMessages.viewer_sample_activity_action, IAction.AS_CHECK_BOX) {
+                {
+                    setImageDescriptor(DBeaverIcons.getImageDescriptor(UIIcon.CHART_BAR));
+                    setToolTipText(SessionEditorMessages.viewer_sample_activity_action_tip);
+                    setChecked(isActivitySampling());
+                }
+
+                @Override
+                public void run() {
+                    setActivitySampling(isChecked());
+                }
+            });
             refreshControl.populateRefreshButton(contributionManager);
             contributionManager.add(new Action(SessionEditorMessages.viewer_session_manager_refresh_sessions_action, DBeaverIcons.getImageDescriptor(UIIcon.REFRESH)) {
                 @Override
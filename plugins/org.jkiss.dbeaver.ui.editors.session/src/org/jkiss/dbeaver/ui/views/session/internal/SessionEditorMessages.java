@@ -35,6 +35,21 @@ public class SessionEditorMessages extends NLS {
     public static String viewer_session_manager_error_opening_editor_title;
     public static String viewer_session_manager_error_opening_editor_message;
     public static String viewer_session_manager_refresh_sessions_action;
+    public static String viewer_sample_activity_action;
+    public static String viewer_sample_activity_action_tip;
+    public static String viewer_activity_item_text;
+    public static String viewer_activity_item_tip;
+    public static String viewer_activity_window_label;
+    public static String viewer_activity_window_minutes;
+    public static String viewer_activity_interval_label;
+    public static String viewer_activity_interval_seconds;
+    public static String viewer_activity_not_sampled_label;
+    public static String viewer_activity_summary_label;
+    public static String viewer_activity_column_sessions;
+    public static String viewer_activity_column_state;
+    public static String viewer_activity_column_wait_event;
+    public static String viewer_activity_column_user;
+    public static String viewer_activity_column_query;
 
     static {
         // initialize resource bundle
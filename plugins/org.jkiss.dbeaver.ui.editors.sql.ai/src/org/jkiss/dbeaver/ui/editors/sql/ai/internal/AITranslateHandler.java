@@ -155,6 +155,9 @@ public class AITranslateHandler extends AbstractHandler {
             return;
         }
 
+        IDocument editorDocument = editor.getDocument();
+        String editorText = editorDocument == null ? null : editorDocument.get();
+
         List<DAICompletionResponse> completionResult = new ArrayList<>();
         try {
             UIUtils.runInProgressDialog(monitor -> {
@@ -163,6 +166,7 @@ public class AITranslateHandler extends AbstractHandler {
                     .setCustomEntities(popup.getCustomEntities(monitor))
                     .setDataSource(lDataSource)
                     .setExecutionContext(executionContext)
+                    .setEditorText(editorText)
                     .build();
 
                 try {
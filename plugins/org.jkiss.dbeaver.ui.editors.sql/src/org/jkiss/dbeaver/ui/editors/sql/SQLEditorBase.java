@@ -238,6 +238,10 @@ public abstract class SQLEditorBase extends BaseTextEditor implements DBPContext
         return this.getActivePreferenceStore().getBoolean(SQLModelPreferences.READ_METADATA_FOR_SEMANTIC_ANALYSIS);
     }
 
+    public boolean isPerformanceAnalysisEnabled() {
+        return this.getActivePreferenceStore().getBoolean(SQLModelPreferences.PERFORMANCE_ANALYSIS_ENABLE);
+    }
+
     private void handleInputChange(IEditorInput input) {
         occurrencesHighlighter.updateInput(input);
     }
@@ -647,7 +651,8 @@ public abstract class SQLEditorBase extends BaseTextEditor implements DBPContext
 
     @NotNull
     public IContentOutlinePage getOverviewOutlinePage() {
-        if (this.getSyntaxContext() == null) {
+        if (this.getSyntaxContext() == null && SQLEditorUtils.isSQLSyntaxParserApplied(getEditorInput())) {
+            // Big scripts never have syntax context, do not re-partition the whole document each time
             this.reloadSyntaxRules();
         }
         if ((outlinePage == null || outlinePage.getControl() == null || outlinePage.getControl().isDisposed())) {
@@ -1200,6 +1205,7 @@ public abstract class SQLEditorBase extends BaseTextEditor implements DBPContext
             case SQLPreferenceConstants.SQL_FORMAT_ACTIVE_QUERY:
             case SQLPreferenceConstants.SQL_FORMAT_EXTRACT_FROM_SOURCE:
             case SQLPreferenceConstants.READ_METADATA_FOR_SEMANTIC_ANALYSIS:
+            case SQLPreferenceConstants.PERFORMANCE_ANALYSIS_ENABLE:
             case ModelPreferences.SQL_FORMAT_KEYWORD_CASE:
             case ModelPreferences.SQL_FORMAT_LF_BEFORE_COMMA:
             case ModelPreferences.SQL_FORMAT_BREAK_BEFORE_CLOSE_BRACKET:
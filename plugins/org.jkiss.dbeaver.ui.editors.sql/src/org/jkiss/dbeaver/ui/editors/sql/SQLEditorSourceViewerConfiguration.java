@@ -56,6 +56,9 @@ import org.jkiss.dbeaver.ui.editors.sql.syntax.*;
 import org.jkiss.dbeaver.ui.editors.sql.util.SQLAnnotationHover;
 import org.jkiss.utils.ArrayUtils;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 /**
  * This class defines the editor add-ons; content assist, content formatter,
@@ -296,44 +299,55 @@ public class SQLEditorSourceViewerConfiguration extends TextSourceViewerConfigur
      */
     @Override
     public IPresentationReconciler getPresentationReconciler(ISourceViewer sourceViewer) {
-        // Create a presentation reconciler to handle handle document changes.
-        PresentationReconciler reconciler = new PresentationReconciler();
         String docPartitioning = getConfiguredDocumentPartitioning(sourceViewer);
-        reconciler.setDocumentPartitioning(docPartitioning);
+        Map<String, ITokenScanner> scanners = new LinkedHashMap<>();
 
-        // Add a "damager-repairer" for changes in default text (SQL code).
-        addContentTypeDamageRepairer(reconciler, IDocument.DEFAULT_CONTENT_TYPE);
+        // Scanner for changes in default text (SQL code).
+        addContentTypeScanner(scanners, IDocument.DEFAULT_CONTENT_TYPE);
         
         // rule for multiline comments
         // We just need a scanner that does nothing but returns a token with
         // the corresponding text attributes
-        addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_MULTILINE_COMMENT, SQLConstants.CONFIG_COLOR_COMMENT);
-        // Add a "damager-repairer" for changes within one-line SQL comments.
-        addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_COMMENT, SQLConstants.CONFIG_COLOR_COMMENT);
+        addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_MULTILINE_COMMENT, SQLConstants.CONFIG_COLOR_COMMENT);
+        // Scanner for changes within one-line SQL comments.
+        addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_COMMENT, SQLConstants.CONFIG_COLOR_COMMENT);
         SQLEditorBase sqlEditor = this.getSQLEditor();
         if (sqlEditor.isAdvancedHighlightingEnabled() && SQLEditorUtils.isSQLSyntaxParserApplied(sqlEditor.getEditorInput())) {
-            // Add a "damager-repairer" for changes within string literals.
-            addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_STRING);
-            // Add a "damager-repairer" for changes within quoted literals.
-            addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_QUOTED);
+            // Scanner for changes within string literals.
+            addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_STRING);
+            // Scanner for changes within quoted literals.
+            addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_QUOTED);
         } else {
-            // Add a "damager-repairer" for changes within string literals.
-            addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_STRING, SQLConstants.CONFIG_COLOR_STRING);
-            // Add a "damager-repairer" for changes within quoted literals.
-            addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_QUOTED, SQLConstants.CONFIG_COLOR_DATATYPE);
+            // Scanner for changes within string literals.
+            addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_STRING, SQLConstants.CONFIG_COLOR_STRING);
+            // Scanner for changes within quoted literals.
+            addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_QUOTED, SQLConstants.CONFIG_COLOR_DATATYPE);
         }
-        // Add a "damager-repairer" for changes within control commands.
-        addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_CONTROL);
+        // Scanner for changes within control commands.
+        addContentTypeScanner(scanners, SQLParserPartitions.CONTENT_TYPE_SQL_CONTROL);
 
+        if (SQLEditorBase.isBigScript(sqlEditor.getEditorInput())) {
+            // Highlight only visible lines, the whole document presentation is too expensive
+            return new SQLViewportPresentationReconciler(docPartitioning, scanners);
+        }
+
+        // Create a presentation reconciler to handle handle document changes.
+        PresentationReconciler reconciler = new PresentationReconciler();
+        reconciler.setDocumentPartitioning(docPartitioning);
+        scanners.forEach((contentType, scanner) -> {
+            DefaultDamagerRepairer dr = new DefaultDamagerRepairer(scanner);
+            reconciler.setDamager(dr, contentType);
+            reconciler.setRepairer(dr, contentType);
+        });
         return reconciler;
     }
 
-    private void addContentTypeDamageRepairer(@NotNull PresentationReconciler reconciler, @NotNull String contentType) {
-        addContentTypeDamageRepairer(reconciler, contentType, ruleManager);
+    private void addContentTypeScanner(@NotNull Map<String, ITokenScanner> scanners, @NotNull String contentType) {
+        scanners.put(contentType, ruleManager);
     }
     
-    private void addContentTypeDamageRepairer(
-        @NotNull PresentationReconciler reconciler,
+    private void addContentTypeScanner(
+        @NotNull Map<String, ITokenScanner> scanners,
         @NotNull String contentType,
         @NotNull String colorId
     ) {
@@ -341,17 +355,7 @@ public class SQLEditorSourceViewerConfiguration extends TextSourceViewerConfigur
         if (UIStyles.isDarkHighContrastTheme()) {
             color = UIUtils.getInvertedColor(color);
         }
-        addContentTypeDamageRepairer(reconciler, contentType, new SingleTokenScanner(new TextAttribute(color)));
-    }
-
-    private void addContentTypeDamageRepairer(
-        @NotNull PresentationReconciler reconciler,
-        @NotNull String contentType,
-        @NotNull ITokenScanner scanner
-    ) {
-        DefaultDamagerRepairer dr = new DefaultDamagerRepairer(scanner);
-        reconciler.setDamager(dr, contentType);
-        reconciler.setRepairer(dr, contentType);
+        scanners.put(contentType, new SingleTokenScanner(new TextAttribute(color)));
     }
 
     /**
@@ -45,6 +45,7 @@ import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
 import org.jkiss.dbeaver.model.impl.local.StatResultSet;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.qm.QMUtils;
@@ -52,6 +53,9 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableParametrized;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
+import org.jkiss.dbeaver.model.sql.exec.SQLQueryResultCache;
+import org.jkiss.dbeaver.model.sql.exec.SQLQueryResultCacheReceiver;
+import org.jkiss.dbeaver.model.sql.exec.SQLScriptBatchExecutor;
 import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
 import org.jkiss.dbeaver.model.sql.registry.SQLCommandsRegistry;
 import org.jkiss.dbeaver.model.sql.registry.SQLPragmaHandlerDescriptor;
@@ -105,6 +109,7 @@ public class SQLQueryJob extends DataSourceJob
     private SQLScriptCommitType commitType;
     private SQLScriptErrorHandling errorHandling;
     private boolean fetchResultSets;
+    private int batchSize;
     private long rsOffset;
     private long rsMaxRows;
 
@@ -152,6 +157,7 @@ public class SQLQueryJob extends DataSourceJob
                 preferenceStore.getBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS) && !isDisableFetchResultSet
             );
             this.rsMaxRows = preferenceStore.getInt(ModelPreferences.RESULT_SET_MAX_ROWS);
+            this.batchSize = queries.size() > 1 ? preferenceStore.getInt(SQLPreferenceConstants.SCRIPT_BATCH_SIZE) : 0;
         }
     }
 
@@ -231,10 +237,37 @@ public class SQLQueryJob extends DataSourceJob
                 }
 
                 resultSetNumber = 0;
+                SQLScriptBatchExecutor batchExecutor = new SQLScriptBatchExecutor(queries, batchSize);
                 for (int queryNum = 0; queryNum < queries.size(); ) {
                     // Execute query
                     SQLScriptElement query = queries.get(queryNum);
 
+                    if (batchExecutor.isExecuted(queryNum)) {
+                        // Already executed by driver as a part of a failed batch
+                        monitor.worked(1);
+                        queryNum++;
+                        continue;
+                    }
+                    if (batchExecutor.isEnabled()) {
+                        int batchEnd = batchExecutor.getBatchEnd(queryNum, q -> canExecuteInBatch(session));
+                        if (batchEnd - queryNum > 1) {
+                            SQLScriptBatchExecutor.BatchResult batchResult = executeQueryBatch(session, batchExecutor, queryNum, batchEnd);
+                            if (!batchResult.resumable()) {
+                                // Some queries of the batch may be applied already, they can't be retried or skipped
+                                lastError = batchResult.error();
+                                log.error(lastError);
+                                ExecutionQueueErrorJob.showError("SQL script execution", lastError, false);
+                                break;
+                            }
+                            monitor.worked(batchResult.executedCount());
+                            queryNum += batchResult.executedCount();
+                            if (monitor.isCanceled()) {
+                                break;
+                            }
+                            continue;
+                        }
+                    }
+
                     fetchResultSetNumber = resultSetNumber;
                     boolean runNext = executeSingleQuery(session, query, true);
                     if (txnManager != null && txnManager.isSupportsTransactions()
@@ -561,6 +594,98 @@ public class SQLQueryJob extends DataSourceJob
         return true;
     }
 
+    private boolean canExecuteInBatch(@NotNull DBCSession session) {
+        return scriptContext.getPragmas().isEmpty() &&
+            (dataFilter == null || !dataFilter.hasFilters()) &&
+            (skipConfirmation || !getDataSourceContainer().getConnectionConfiguration().getConnectionType().isConfirmExecute()) &&
+            session.getDataSource().getInfo().supportsBatchUpdates();
+    }
+
+    /**
+     * Executes queries [fromIndex, toIndex) as a single batch.
+     * Listeners are notified once per batch.
+     *
+     * @return batch result, its executedCount is the number of leading queries which were executed successfully
+     */
+    @NotNull
+    private SQLScriptBatchExecutor.BatchResult executeQueryBatch(
+        @NotNull DBCSession session,
+        @NotNull SQLScriptBatchExecutor batchExecutor,
+        int fromIndex,
+        int toIndex
+    ) {
+        final SQLQuery firstQuery = (SQLQuery) queries.get(fromIndex);
+        final DBRProgressMonitor monitor = session.getProgressMonitor();
+        lastError = null;
+
+        final SQLQuery batchQuery = new SQLQuery(session.getDataSource(), firstQuery.getText(), firstQuery);
+        curResult = new SQLQueryResult(batchQuery);
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, batchQuery);
+            } catch (Exception e) {
+                log.error(e);
+            }
+        }
+
+        monitor.beginTask("Execute batch", 1);
+        monitor.subTask("Execute " + (toIndex - fromIndex) + " queries in batch");
+        final long startTime = System.currentTimeMillis();
+        SQLScriptBatchExecutor.BatchResult batchResult = null;
+        try {
+            closeStatement();
+            if (resultsConsumer instanceof ISmartTransactionManager && ((ISmartTransactionManager) resultsConsumer).isSmartAutoCommit()) {
+                DBExecUtils.checkSmartAutoCommit(session, firstQuery.getText());
+            }
+            AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), batchQuery);
+            source.setScriptContext(scriptContext);
+            try (DBCStatement dbcStatement = DBUtils.makeStatement(source, session, DBCStatementType.SCRIPT, batchQuery, 0, 0)) {
+                curStatement = dbcStatement;
+                int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(SQLPreferenceConstants.STATEMENT_TIMEOUT);
+                if (statementTimeout > 0) {
+                    try {
+                        dbcStatement.setStatementTimeout(statementTimeout);
+                    } catch (Throwable e) {
+                        log.debug("Can't set statement timeout:" + e.getMessage());
+                    }
+                }
+                batchResult = batchExecutor.executeBatch(dbcStatement, fromIndex, toIndex);
+            } finally {
+                curStatement = null;
+            }
+        } catch (Throwable e) {
+            if (batchResult == null) {
+                batchResult = batchExecutor.handleBatchError(fromIndex, e);
+            } else {
+                // Batch was executed, statement close error doesn't change its result
+                log.debug("Error closing batch statement", e);
+            }
+        }
+        statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+        for (int i = 0; i < batchResult.statementsCount(); i++) {
+            statistics.addStatementsCount();
+        }
+        statistics.addRowsUpdated(batchResult.updateCount());
+        if (batchResult.error() != null && !batchResult.resumable()) {
+            curResult.setError(batchResult.error());
+        } else if (batchResult.error() != null) {
+            // Failed query will be executed once again in regular mode and its error will be reported then
+            log.debug("Batch execution failed at query " + (fromIndex + batchResult.executedCount() + 1) + ": " + batchResult.error().getMessage());
+        }
+        if (batchResult.executedCount() > 0) {
+            lastGoodQuery = (SQLQuery) queries.get(fromIndex + batchResult.executedCount() - 1);
+        }
+
+        curResult.addExecuteResult(false).setUpdateCount(batchResult.updateCount());
+        curResult.setQueryTime(System.currentTimeMillis() - startTime);
+        if (listener != null) {
+            notifyQueryExecutionEnd(curResult);
+        }
+        monitor.done();
+
+        return batchResult;
+    }
+
     private boolean shouldRecoverQuery(SQLQuery query) {
         Statement statement = query.getStatement();
         if (statement instanceof Insert ||
@@ -585,6 +710,10 @@ public class SQLQueryJob extends DataSourceJob
     }
 
     private void executeStatement(@NotNull DBCSession session, SQLQuery sqlQuery, long startTime, SQLQueryResult curResult) throws DBCException {
+        SQLQueryResultCache.CacheKey cacheKey = getResultCacheKey(session, sqlQuery);
+        if (cacheKey != null && readCachedResults(session, sqlQuery, cacheKey, curResult)) {
+            return;
+        }
         AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), sqlQuery);
         source.setScriptContext(scriptContext);
         final DBCStatement dbcStatement = DBUtils.makeStatement(
@@ -659,6 +788,13 @@ public class SQLQueryJob extends DataSourceJob
                             break;
                         } else {
                             DBDDataReceiver dataReceiver = resultsConsumer.getDataReceiver(sqlQuery, resultSetNumber);
+                            if (dataReceiver != null && cacheKey != null && resultSetCounter == 1 && !(dataReceiver instanceof IDataTransferConsumer)) {
+                                dataReceiver = new SQLQueryResultCacheReceiver(
+                                    dataReceiver,
+                                    dataContainer,
+                                    cacheKey,
+                                    getDataSourceContainer().getPreferenceStore().getLong(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_SIZE) * 1024 * 1024);
+                            }
                             if (dataReceiver != null) {
                                 try {
                                     hasResultSet = fetchQueryData(session, resultSet, curResult, curResult.addExecuteResult(true), dataReceiver, true);
@@ -722,6 +858,10 @@ public class SQLQueryJob extends DataSourceJob
             };
         }
         finally {
+            if (cacheKey != null && curResult.getExecuteResults().size() > 1) {
+                // Only single result set is served from cache
+                SQLQueryResultCache.getInstance().remove(cacheKey);
+            }
             try {
                 curResult.addWarnings(dbcStatement.getStatementWarnings());
             } catch (Throwable e) {
@@ -737,6 +877,57 @@ public class SQLQueryJob extends DataSourceJob
         }
     }
 
+    /**
+     * Returns result cache key if query results may be served from the cache.
+     * Cached results of the data source are invalidated by any query except SELECT.
+     */
+    @Nullable
+    private SQLQueryResultCache.CacheKey getResultCacheKey(@NotNull DBCSession session, @NotNull SQLQuery sqlQuery) {
+        if (!getDataSourceContainer().getPreferenceStore().getBoolean(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_ENABLED)) {
+            return null;
+        }
+        if (sqlQuery.getType() != SQLQueryType.SELECT || sqlQuery.isModifiyng()) {
+            SQLQueryResultCache.getInstance().invalidate(getDataSourceContainer().getId());
+            return null;
+        }
+        if (!fetchResultSets
+            || CommonUtils.isBitSet(fetchFlags, DBSDataContainer.FLAG_REFRESH)
+            || (fetchResultSetNumber >= 0 && fetchResultSetNumber != resultSetNumber)
+        ) {
+            return null;
+        }
+        return SQLQueryResultCache.makeKey(session.getExecutionContext(), sqlQuery.getText(), rsOffset, rsMaxRows);
+    }
+
+    private boolean readCachedResults(
+        @NotNull DBCSession session,
+        @NotNull SQLQuery sqlQuery,
+        @NotNull SQLQueryResultCache.CacheKey cacheKey,
+        @NotNull SQLQueryResult curResult
+    ) throws DBCException {
+        long ttl = getDataSourceContainer().getPreferenceStore().getLong(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_TTL) * 60 * 1000;
+        SQLQueryResultCache.CachedResult cachedResult = SQLQueryResultCache.getInstance().get(cacheKey, ttl);
+        if (cachedResult == null) {
+            return false;
+        }
+        DBDDataReceiver dataReceiver = resultsConsumer.getDataReceiver(sqlQuery, resultSetNumber);
+        if (dataReceiver == null || dataReceiver instanceof IDataTransferConsumer) {
+            return false;
+        }
+        statistics.addStatementsCount();
+        statistics.addMessage(NLS.bind(
+            SQLEditorMessages.editors_sql_result_cached_message,
+            new SimpleDateFormat(DBConstants.DEFAULT_TIMESTAMP_FORMAT).format(new Date(cachedResult.createTime()))));
+        curResult.setHasResultSet(true);
+        SQLQueryResult.ExecuteResult executeResult = curResult.addExecuteResult(true);
+        DBCResultSet resultSet = cachedResult.openResultSet(session, new LocalStatement(session, sqlQuery.getText()));
+        fetchQueryData(session, resultSet, curResult, executeResult, dataReceiver, true);
+        executeResult.setResultSetName(NLS.bind(SQLEditorMessages.editors_sql_result_cached_name, executeResult.getResultSetName()));
+        resultSetNumber++;
+        fetchResultSetNumber = resultSetNumber;
+        return true;
+    }
+
     private void showExecutionResult(DBCSession session) {
         if (isShowExecutionResult()) { // Single statement with some stats
             SQLQuery query = new SQLQuery(session.getDataSource(), "", -1, -1);
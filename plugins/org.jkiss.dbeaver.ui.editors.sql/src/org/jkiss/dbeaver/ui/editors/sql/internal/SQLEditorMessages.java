@@ -56,11 +56,18 @@ public class SQLEditorMessages extends NLS {
     public static String editors_sql_explain_plan;
     public static String editors_sql_explain_refresh_plan_action_text;
     public static String editors_sql_explain_refresh_tree_viewer_plan_toggle_view_text;
+    public static String editors_sql_explain_accept_baseline_action_text;
+    public static String editors_sql_explain_accept_baseline_action_tip;
+    public static String editors_sql_explain_plan_regression_title;
+    public static String editors_sql_explain_plan_regression_shape_message;
+    public static String editors_sql_explain_plan_regression_cost_message;
     public static String editors_sql_output;
     public static String editors_sql_output_tip;
     public static String editors_sql_warning_many_subtables_title;
     public static String editors_sql_warning_many_subtables_text;
     public static String editors_sql_statistics;
+    public static String editors_sql_result_cached_name;
+    public static String editors_sql_result_cached_message;
     public static String editors_sql_job_execute_query;
     public static String editors_sql_job_execute_script;
     public static String editors_sql_save_on_close_message;
@@ -253,6 +260,8 @@ public class SQLEditorMessages extends NLS {
     public static String pref_page_code_editor_label_advanced_highlighting_enabled_tip;
     public static String pref_page_code_editor_label_read_metadata_enabled;
     public static String pref_page_code_editor_label_read_metadata_enabled_tip;
+    public static String pref_page_code_editor_label_performance_analysis_enabled;
+    public static String pref_page_code_editor_label_performance_analysis_enabled_tip;
 
     public static String pref_page_sql_editor_checkbox_fetch_resultsets;
     public static String pref_page_sql_editor_text_statement_delimiter;
@@ -303,6 +312,8 @@ public class SQLEditorMessages extends NLS {
     public static String pref_page_sql_editor_group_parameters;
     public static String pref_page_sql_editor_group_delimiters;
     public static String pref_page_sql_editor_label_commit_after_line;
+    public static String pref_page_sql_editor_label_batch_size;
+    public static String pref_page_sql_editor_label_batch_size_tip;
     public static String pref_page_sql_editor_label_commit_type;
     public static String pref_page_sql_editor_label_error_handling;
     public static String pref_page_sql_editor_label_invalidate_before_execute;
@@ -312,6 +323,10 @@ public class SQLEditorMessages extends NLS {
     public static String pref_page_sql_editor_label_refresh_defaults_after_execute_tip;
     public static String pref_page_sql_editor_label_clear_output_before_execute;
     public static String pref_page_sql_editor_label_clear_output_before_execute_tip;
+    public static String pref_page_sql_editor_label_result_cache_enabled;
+    public static String pref_page_sql_editor_label_result_cache_enabled_tip;
+    public static String pref_page_sql_editor_label_result_cache_ttl;
+    public static String pref_page_sql_editor_label_result_cache_size;
 
 	public static String pref_page_sql_insert_case_default;
 	public static String pref_page_sql_insert_case_lower_case;
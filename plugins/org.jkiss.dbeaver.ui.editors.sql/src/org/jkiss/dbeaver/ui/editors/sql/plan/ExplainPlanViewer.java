@@ -22,6 +22,7 @@ import org.eclipse.jface.action.IContributionManager;
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StackLayout;
 import org.eclipse.swt.layout.GridData;
@@ -30,6 +31,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.ui.IWorkbenchPart;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPContextProvider;
@@ -44,6 +46,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.load.DatabaseLoadService;
 import org.jkiss.dbeaver.model.runtime.load.ILoadVisualizerExt;
 import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.dbeaver.model.sql.plan.SQLQueryPlanHistory;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
 import org.jkiss.dbeaver.ui.LoadingJob;
@@ -67,7 +70,9 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
+import java.text.DateFormat;
 import java.util.Collections;
+import java.util.Date;
 
 /**
  * ResultSetViewer
@@ -76,6 +81,7 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
 {
     static final Log log = Log.getLog(ExplainPlanViewer.class);
     private LoadingJob<DBCPlan> explainService;
+    private ExplainPlanService explainPlanService;
 
     private static class PlanViewInfo {
         private SQLPlanViewDescriptor descriptor;
@@ -101,6 +107,7 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
     private int planNumber;
 
     private RefreshPlanAction refreshPlanAction;
+    private AcceptBaselineAction acceptBaselineAction;
     
     private String curFolder;
 
@@ -112,6 +119,8 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
 
         this.refreshPlanAction = new RefreshPlanAction();
         this.refreshPlanAction.setEnabled(false);
+        this.acceptBaselineAction = new AcceptBaselineAction();
+        this.acceptBaselineAction.setEnabled(false);
 
         this.planPresentationContainer = new ProgressControl(parent);
         this.planPresentationContainer.getLayout().numColumns = 2;
@@ -284,8 +293,9 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
         if (planner == null) {
             DBWorkbench.getPlatformUI().showError("No SQL Plan","This datasource doesn't support execution plans");
         } else {
+            explainPlanService = new ExplainPlanService(planner, executionContext, lastQuery.getText(), lastQueryId);
             explainService = LoadingJob.createService(
-                new ExplainPlanService(planner, executionContext, lastQuery.getText(), lastQueryId),
+                explainPlanService,
                 planPresentationContainer.createVisualizer());
             explainService.schedule();
         }
@@ -303,6 +313,29 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
         planPresentationContainer.refreshActions();
     }
 
+    private void showPlanRegression(@Nullable SQLQueryPlanHistory.PlanRegression regression) {
+        acceptBaselineAction.setEnabled(regression != null);
+        if (regression == null) {
+            planPresentationContainer.setInfo("");
+            return;
+        }
+        String baselineTime = DateFormat.getDateTimeInstance().format(new Date(regression.baseline().getTime()));
+        String message;
+        if (regression.costIncreased()) {
+            message = NLS.bind(
+                SQLEditorMessages.editors_sql_explain_plan_regression_cost_message,
+                new Object[] {
+                    String.format("%.2f", regression.baseline().getCost()),
+                    String.format("%.2f", regression.plan().getCost()),
+                    baselineTime
+                });
+        } else {
+            message = NLS.bind(SQLEditorMessages.editors_sql_explain_plan_regression_shape_message, baselineTime);
+        }
+        planPresentationContainer.setInfo(message);
+        DBWorkbench.getPlatformUI().showWarningNotification(SQLEditorMessages.editors_sql_explain_plan_regression_title, message);
+    }
+
     @Override
     public void setInput(Object input) {
         if (activeViewInfo != null) {
@@ -336,6 +369,7 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
             if (activeViewInfo != null && activeViewInfo.viewer != null) {
                 activeViewInfo.planViewer.contributeActions(activeViewInfo.viewer, contributionManager, lastQuery, lastPlan);
             }
+            contributionManager.add(acceptBaselineAction);
             contributionManager.add(refreshPlanAction);
         }
 
@@ -358,8 +392,10 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
                 super.completeLoading(plan);
                 if (plan != null) {
                     visualizePlan(plan);
+                    showPlanRegression(explainPlanService == null ? null : explainPlanService.getPlanRegression());
                 }
                 explainService = null;
+                explainPlanService = null;
             }
 
             @Override
@@ -380,6 +416,7 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
         private final String query;
         private final Object savedQueryId;
         private DBCPlan plan;
+        private SQLQueryPlanHistory.PlanRegression planRegression;
 
         ExplainPlanService(DBCQueryPlanner planner, DBCExecutionContext executionContext, String query, Object savedQueryId)
         {
@@ -415,9 +452,25 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
             } catch (Throwable ex) {
                 throw new InvocationTargetException(ex);
             }
+            if (plan != null && savedQueryId == null) {
+                try {
+                    planRegression = SQLQueryPlanHistory.getInstance().addPlan(
+                        executionContext.getDataSource().getContainer(), planner, query, plan);
+                } catch (Exception e) {
+                    log.debug("Error saving query plan in history", e);
+                }
+            }
             return plan;
         }
 
+        /**
+         * Difference between the evaluated plan and the query baseline plan
+         */
+        @Nullable
+        public SQLQueryPlanHistory.PlanRegression getPlanRegression() {
+            return planRegression;
+        }
+
     }
 
     private class RefreshPlanAction extends Action {
@@ -433,6 +486,23 @@ public class ExplainPlanViewer extends Viewer implements IAdaptable
         }
     }
 
+    private class AcceptBaselineAction extends Action {
+        private AcceptBaselineAction() {
+            super(SQLEditorMessages.editors_sql_explain_accept_baseline_action_text, DBeaverIcons.getImageDescriptor(UIIcon.ACCEPT));
+            setToolTipText(SQLEditorMessages.editors_sql_explain_accept_baseline_action_tip);
+        }
+
+        @Override
+        public void run() {
+            DBCExecutionContext executionContext = contextProvider.getExecutionContext();
+            if (executionContext == null || lastQuery == null) {
+                return;
+            }
+            SQLQueryPlanHistory.getInstance().acceptBaseline(executionContext.getDataSource().getContainer(), lastQuery.getText());
+            showPlanRegression(null);
+        }
+    }
+
     public static DBCQueryPlannerConfiguration makeExplainPlanConfiguration(DBRProgressMonitor monitor, DBCQueryPlanner planner) {
         DBCQueryPlannerConfiguration configuration = new DBCQueryPlannerConfiguration();
         DBEObjectConfigurator<DBCQueryPlannerConfiguration> plannerConfigurator = GeneralUtils.adapt(planner, DBEObjectConfigurator.class);
@@ -53,6 +53,9 @@ public class PrefPageSQLExecute extends TargetPrefPage
 
     private Button invalidateBeforeExecuteCheck;
     private Spinner executeTimeoutText;
+    private Button resultCacheEnabledCheck;
+    private Spinner resultCacheTtlText;
+    private Spinner resultCacheSizeText;
     private Button soundOnQueryEnd;
     private Button updateDefaultAfterExecute;
     private Button clearOutputBeforeExecute;
@@ -60,6 +63,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
     private Combo commitTypeCombo;
     private Combo errorHandlingCombo;
     private Spinner commitLinesText;
+    private Spinner batchSizeText;
     private Button fetchResultSetsCheck;
     private Button resetCursorCheck;
     private Button maxEditorCheck;
@@ -92,11 +96,15 @@ public class PrefPageSQLExecute extends TargetPrefPage
         return
             store.contains(SQLPreferenceConstants.STATEMENT_INVALIDATE_BEFORE_EXECUTE) ||
             store.contains(SQLPreferenceConstants.STATEMENT_TIMEOUT) ||
+            store.contains(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_ENABLED) ||
+            store.contains(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_TTL) ||
+            store.contains(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_SIZE) ||
 
             store.contains(SQLPreferenceConstants.SCRIPT_COMMIT_TYPE) ||
             store.contains(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING) ||
             store.contains(SQLPreferenceConstants.SCRIPT_COMMIT_LINES) ||
             store.contains(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS) ||
+            store.contains(SQLPreferenceConstants.SCRIPT_BATCH_SIZE) ||
 
             store.contains(ModelPreferences.SCRIPT_STATEMENT_DELIMITER) ||
             store.contains(ModelPreferences.SCRIPT_IGNORE_NATIVE_DELIMITER) ||
@@ -181,6 +189,27 @@ public class PrefPageSQLExecute extends TargetPrefPage
                 executeTimeoutText.setMaximum(100000);
                 executeTimeoutText.setToolTipText(SQLEditorMessages.pref_page_sql_editor_label_sql_timeout_tip);
 
+                resultCacheEnabledCheck = UIUtils.createCheckbox(
+                    commonGroup,
+                    SQLEditorMessages.pref_page_sql_editor_label_result_cache_enabled,
+                    SQLEditorMessages.pref_page_sql_editor_label_result_cache_enabled_tip,
+                    false,
+                    2
+                );
+                resultCacheTtlText = UIUtils.createLabelSpinner(
+                    commonGroup,
+                    SQLEditorMessages.pref_page_sql_editor_label_result_cache_ttl,
+                    60,
+                    1,
+                    60 * 24 * 7
+                );
+                resultCacheSizeText = UIUtils.createLabelSpinner(
+                    commonGroup,
+                    SQLEditorMessages.pref_page_sql_editor_label_result_cache_size,
+                    256,
+                    1,
+                    1024 * 100
+                );
             }
         }
 
@@ -216,6 +245,17 @@ public class PrefPageSQLExecute extends TargetPrefPage
                 errorHandlingCombo.add(SQLEditorMessages.pref_page_sql_editor_combo_item_ignore, SQLScriptErrorHandling.IGNORE.ordinal());
             }
 
+            {
+                UIUtils.createControlLabel(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_label_batch_size)
+                    .setToolTipText(SQLEditorMessages.pref_page_sql_editor_label_batch_size_tip);
+                batchSizeText = new Spinner(scriptsGroup, SWT.BORDER);
+                batchSizeText.setDigits(0);
+                batchSizeText.setIncrement(100);
+                batchSizeText.setMinimum(0);
+                batchSizeText.setMaximum(100000);
+                batchSizeText.setToolTipText(SQLEditorMessages.pref_page_sql_editor_label_batch_size_tip);
+            }
+
             fetchResultSetsCheck = UIUtils.createCheckbox(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_fetch_resultsets, null, false, 2);
             resetCursorCheck = UIUtils.createCheckbox(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_reset_cursor, null, false, 2);
             maxEditorCheck = UIUtils.createCheckbox(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_max_editor_on_script_exec, null, false, 2);
@@ -301,6 +341,9 @@ public class PrefPageSQLExecute extends TargetPrefPage
         try {
             invalidateBeforeExecuteCheck.setSelection(store.getBoolean(SQLPreferenceConstants.STATEMENT_INVALIDATE_BEFORE_EXECUTE));
             executeTimeoutText.setSelection(store.getInt(SQLPreferenceConstants.STATEMENT_TIMEOUT));
+            resultCacheEnabledCheck.setSelection(store.getBoolean(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_ENABLED));
+            resultCacheTtlText.setSelection(store.getInt(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_TTL));
+            resultCacheSizeText.setSelection(store.getInt(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_SIZE));
             soundOnQueryEnd.setSelection(store.getBoolean(SQLPreferenceConstants.BEEP_ON_QUERY_END));
             updateDefaultAfterExecute.setSelection(store.getBoolean(SQLPreferenceConstants.REFRESH_DEFAULTS_AFTER_EXECUTE));
             clearOutputBeforeExecute.setSelection(store.getBoolean(SQLPreferenceConstants.CLEAR_OUTPUT_BEFORE_EXECUTE));
@@ -309,6 +352,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             errorHandlingCombo.select(SQLScriptErrorHandling.valueOf(store.getString(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING)).ordinal());
             commitLinesText.setSelection(store.getInt(SQLPreferenceConstants.SCRIPT_COMMIT_LINES));
             fetchResultSetsCheck.setSelection(store.getBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS));
+            batchSizeText.setSelection(store.getInt(SQLPreferenceConstants.SCRIPT_BATCH_SIZE));
             resetCursorCheck.setSelection(store.getBoolean(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE));
             maxEditorCheck.setSelection(store.getBoolean(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE));
             UIUtils.setComboSelection(showStatisticsCombo, StatisticsTabOnExecutionBehavior.getByName(
@@ -343,6 +387,9 @@ public class PrefPageSQLExecute extends TargetPrefPage
         try {
             store.setValue(SQLPreferenceConstants.STATEMENT_INVALIDATE_BEFORE_EXECUTE, invalidateBeforeExecuteCheck.getSelection());
             store.setValue(SQLPreferenceConstants.STATEMENT_TIMEOUT, executeTimeoutText.getSelection());
+            store.setValue(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_ENABLED, resultCacheEnabledCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_TTL, resultCacheTtlText.getSelection());
+            store.setValue(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_SIZE, resultCacheSizeText.getSelection());
             store.setValue(SQLPreferenceConstants.BEEP_ON_QUERY_END, soundOnQueryEnd.getSelection());
             store.setValue(SQLPreferenceConstants.REFRESH_DEFAULTS_AFTER_EXECUTE, updateDefaultAfterExecute.getSelection());
             store.setValue(SQLPreferenceConstants.CLEAR_OUTPUT_BEFORE_EXECUTE, clearOutputBeforeExecute.getSelection());
@@ -351,6 +398,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.setValue(SQLPreferenceConstants.SCRIPT_COMMIT_LINES, commitLinesText.getSelection());
             store.setValue(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING, CommonUtils.fromOrdinal(SQLScriptErrorHandling.class, errorHandlingCombo.getSelectionIndex()).name());
             store.setValue(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS, fetchResultSetsCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_BATCH_SIZE, batchSizeText.getSelection());
             store.setValue(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE, resetCursorCheck.getSelection());
             store.setValue(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE, maxEditorCheck.getSelection());
             store.setValue(
@@ -392,11 +440,15 @@ public class PrefPageSQLExecute extends TargetPrefPage
     {
         store.setToDefault(SQLPreferenceConstants.STATEMENT_INVALIDATE_BEFORE_EXECUTE);
         store.setToDefault(SQLPreferenceConstants.STATEMENT_TIMEOUT);
+        store.setToDefault(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_ENABLED);
+        store.setToDefault(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_TTL);
+        store.setToDefault(SQLPreferenceConstants.STATEMENT_RESULT_CACHE_SIZE);
 
         store.setToDefault(SQLPreferenceConstants.SCRIPT_COMMIT_TYPE);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_COMMIT_LINES);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_BATCH_SIZE);
 
         store.setToDefault(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE);
         store.setToDefault(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE);
@@ -431,6 +483,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
         UIUtils.setComboSelection(errorHandlingCombo, store.getDefaultString(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING));
         commitLinesText.setSelection(store.getDefaultInt(SQLPreferenceConstants.SCRIPT_COMMIT_LINES));
         fetchResultSetsCheck.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS));
+        batchSizeText.setSelection(store.getDefaultInt(SQLPreferenceConstants.SCRIPT_BATCH_SIZE));
         resetCursorCheck.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE));
         maxEditorCheck.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE));
         UIUtils.setComboSelection(showStatisticsCombo, StatisticsTabOnExecutionBehavior.getByName(
@@ -22,6 +22,9 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.text.*;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.jface.text.source.IAnnotationModelExtension;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
@@ -43,6 +46,9 @@ import org.jkiss.dbeaver.ui.editors.sql.SQLEditorBase;
 import org.jkiss.dbeaver.ui.editors.sql.SQLEditorUtils;
 import org.jkiss.dbeaver.ui.editors.sql.semantics.OffsetKeyedTreeMap.NodesIterator;
 import org.jkiss.dbeaver.ui.editors.sql.semantics.SQLDocumentSyntaxContext.ScriptItemAtOffset;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.analysis.SQLQueryPerformanceAnalyzer;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.analysis.SQLQueryPerformanceAnnotation;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.analysis.SQLQueryPerformanceProblem;
 import org.jkiss.dbeaver.ui.editors.sql.semantics.completion.SQLQueryCompletionContext;
 import org.jkiss.dbeaver.ui.editors.sql.semantics.context.SQLQueryDataContext;
 import org.jkiss.dbeaver.ui.editors.sql.semantics.model.SQLQueryModel;
@@ -447,6 +453,7 @@ public class SQLBackgroundParsingJob {
         }
 
         IProgressMonitor monitor = jobMonitor.getNestedMonitor(); //Job.getJobManager().createProgressGroup();
+        Map<Annotation, Position> performanceAnnotations = new LinkedHashMap<>();
         try {
             if (workLength == 0) {
                 return;
@@ -487,6 +494,10 @@ public class SQLBackgroundParsingJob {
 
             boolean isReadMetadataForQueryAnalysis = this.editor.isReadMetadataForQueryAnalysisEnabled();
             DBCExecutionContext executionContext = this.editor.getExecutionContext();
+            // One analyzer for all elements, so metadata of each table is read once
+            SQLQueryPerformanceAnalyzer performanceAnalyzer = this.editor.isPerformanceAnalysisEnabled()
+                ? new SQLQueryPerformanceAnalyzer(RuntimeUtils.makeMonitor(monitor))
+                : null;
             
             monitor.beginTask("Background query analysis for " + editor.getTitle(), 1 + elements.size());
             monitor.worked(1);
@@ -518,6 +529,15 @@ public class SQLBackgroundParsingJob {
                             itemContext.registerToken(entry.getInterval().a, entry);
                         }
                         itemContext.refreshCompleted();
+
+                        if (performanceAnalyzer != null) {
+                            for (SQLQueryPerformanceProblem problem : performanceAnalyzer.analyzeQuery(queryModel)) {
+                                performanceAnnotations.put(
+                                    new SQLQueryPerformanceAnnotation(problem.message()),
+                                    new Position(element.getOffset() + problem.interval().a, problem.interval().length())
+                                );
+                            }
+                        }
                     }
                 } catch (Throwable ex) {
                     log.debug("Error while analyzing query text: " + element.getOriginalText(), ex);
@@ -546,9 +566,39 @@ public class SQLBackgroundParsingJob {
         
         UIUtils.asyncExec(() -> {
             viewer.invalidateTextPresentation(parsedOffset, parsedLength);
+            this.updatePerformanceAnnotations(parsedOffset, parsedLength, performanceAnnotations);
         });
     }
 
+    /**
+     * Replaces performance warnings of the parsed region
+     */
+    private void updatePerformanceAnnotations(int offset, int length, @NotNull Map<Annotation, Position> annotations) {
+        IAnnotationModel annotationModel = this.editor.getAnnotationModel();
+        if (annotationModel == null) {
+            return;
+        }
+        List<Annotation> obsoleteAnnotations = new ArrayList<>();
+        for (Iterator<Annotation> it = annotationModel.getAnnotationIterator(); it.hasNext(); ) {
+            Annotation annotation = it.next();
+            if (annotation instanceof SQLQueryPerformanceAnnotation) {
+                Position position = annotationModel.getPosition(annotation);
+                if (position == null || position.overlapsWith(offset, length)) {
+                    obsoleteAnnotations.add(annotation);
+                }
+            }
+        }
+        if (obsoleteAnnotations.isEmpty() && annotations.isEmpty()) {
+            return;
+        }
+        if (annotationModel instanceof IAnnotationModelExtension modelExtension) {
+            modelExtension.replaceAnnotations(obsoleteAnnotations.toArray(Annotation[]::new), annotations);
+        } else {
+            obsoleteAnnotations.forEach(annotationModel::removeAnnotation);
+            annotations.forEach(annotationModel::addAnnotation);
+        }
+    }
+
     private class DocumentLifecycleListener implements IDocumentListener, ITextInputListener, IViewportListener {
 
         @Override
@@ -0,0 +1,435 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.sql.semantics.analysis;
+
+import org.antlr.v4.runtime.misc.Interval;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.stm.STMKnownRuleNames;
+import org.jkiss.dbeaver.model.stm.STMTreeNode;
+import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTableIndex;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.context.SQLQueryResultTupleContext.SQLQueryResultColumn;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.model.*;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.model.SQLQueryRowsCteModel.SQLQueryRowsCteSubqueryModel;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Looks for query constructs which usually make query slow.
+ * <p>
+ * Index-related checks rely on the index and unique constraint metadata of the tables referenced by the query.
+ * Metadata of each table is read once per analyzer instance, so one analyzer should be used for a batch of queries.
+ */
+public class SQLQueryPerformanceAnalyzer {
+
+    private static final Log log = Log.getLog(SQLQueryPerformanceAnalyzer.class);
+
+    // SELECT * is reported for row sources with more columns
+    public static final int WIDE_ROWS_COLUMN_COUNT = 30;
+
+    // Expressions over a column which make it impossible to use the column index
+    private static final Set<String> columnTransformRuleNames = Set.of(
+        STMKnownRuleNames.anyProperty,
+        STMKnownRuleNames.castSpecification,
+        STMKnownRuleNames.valueExpressionCast,
+        STMKnownRuleNames.valueExpressionPrimaryBased,
+        STMKnownRuleNames.valueExpressionPrimarySignedBased,
+        STMKnownRuleNames.numericOperation,
+        STMKnownRuleNames.concatenationOperation,
+        STMKnownRuleNames.intervalOperation,
+        STMKnownRuleNames.intervalOperation2,
+        STMKnownRuleNames.extractExpression,
+        STMKnownRuleNames.caseExpression
+    );
+
+    private final DBRProgressMonitor monitor;
+    private final Map<DBSEntity, Set<DBSEntityAttribute>> indexedAttributes = new HashMap<>();
+    private List<SQLQueryPerformanceProblem> problems;
+
+    public SQLQueryPerformanceAnalyzer(@NotNull DBRProgressMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Analyzes recognized query. Query model should have its data context propagated.
+     */
+    @NotNull
+    public List<SQLQueryPerformanceProblem> analyzeQuery(@NotNull SQLQueryModel queryModel) {
+        this.problems = new ArrayList<>();
+        SQLQueryModelContent content = queryModel.getQueryModel();
+        if (content instanceof SQLQueryRowsSourceModel rowsSource) {
+            this.analyzeRowsSource(rowsSource, false);
+        } else if (content instanceof SQLQueryTableUpdateModel update) {
+            if (update.getWhereClause() != null) {
+                this.analyzeConditions(List.of(update.getWhereClause()));
+            } else if (update.getTargetRows() != null) {
+                this.report(update.getInterval(), "UPDATE without WHERE clause modifies every row of the table");
+            }
+        } else if (content instanceof SQLQueryTableDeleteModel delete) {
+            if (delete.getCondition() != null) {
+                this.analyzeConditions(List.of(delete.getCondition()));
+            } else if (delete.getTableModel() != null) {
+                this.report(delete.getInterval(), "DELETE without WHERE clause removes every row of the table");
+            }
+        } else if (content instanceof SQLQueryTableInsertModel insert) {
+            SQLQueryRowsSourceModel valuesRows = insert.getValuesRows();
+            if (valuesRows != null) {
+                this.analyzeRowsSource(valuesRows, false);
+            }
+        }
+        List<SQLQueryPerformanceProblem> result = this.problems;
+        this.problems = null;
+        return result;
+    }
+
+    private void analyzeRowsSource(@NotNull SQLQueryRowsSourceModel rowsSource, boolean existenceCheck) {
+        if (rowsSource instanceof SQLQueryRowsProjectionModel projection) {
+            this.analyzeProjection(projection, existenceCheck);
+        } else if (rowsSource instanceof SQLQueryRowsSetOperationModel setOperation) {
+            this.analyzeRowsSource(setOperation.getLeft(), existenceCheck);
+            this.analyzeRowsSource(setOperation.getRight(), existenceCheck);
+        } else if (rowsSource instanceof SQLQueryRowsCorrelatedSourceModel correlated) {
+            this.analyzeRowsSource(correlated.getSource(), existenceCheck);
+        } else if (rowsSource instanceof SQLQueryRowsCteModel cte) {
+            for (SQLQueryRowsSourceModel query : cte.getAllQueries()) {
+                this.analyzeRowsSource(query, existenceCheck);
+            }
+        } else if (rowsSource instanceof SQLQueryRowsCteSubqueryModel cteSubquery) {
+            this.analyzeRowsSource(cteSubquery.source, false);
+        }
+    }
+
+    private void analyzeProjection(@NotNull SQLQueryRowsProjectionModel projection, boolean existenceCheck) {
+        this.analyzeRowsSource(projection.getFromSource(), false);
+
+        List<SQLQueryValueExpression> conditions = new ArrayList<>();
+        if (projection.getWhereClause() != null) {
+            conditions.add(projection.getWhereClause());
+        }
+        List<SQLQueryRowsCrossJoinModel> crossJoins = new ArrayList<>();
+        collectJoins(projection.getFromSource(), conditions, crossJoins);
+        Map<STMTreeNode, Set<SQLQueryRowsSourceModel>> predicateSources = this.analyzeConditions(conditions);
+        if (predicateSources != null) {
+            for (SQLQueryRowsCrossJoinModel crossJoin : crossJoins) {
+                this.checkJoinPredicate(crossJoin, predicateSources);
+            }
+        }
+
+        List<SQLQueryValueSubqueryExpression> subqueries = new ArrayList<>();
+        for (SQLQuerySelectionResultModel.ResultSublistSpec sublist : projection.getResult().getSublists()) {
+            if (sublist instanceof SQLQuerySelectionResultModel.ColumnSpec columnSpec) {
+                collectValueParts(columnSpec.getValueExpression(), new ArrayList<>(), subqueries);
+            } else if (!existenceCheck) {
+                // Columns of EXISTS subquery are never read
+                this.checkAllColumnsSelected(projection, sublist);
+            }
+        }
+        for (SQLQueryValueSubqueryExpression subquery : subqueries) {
+            this.analyzeSubquery(subquery);
+        }
+    }
+
+    /**
+     * Checks columns used in conditions and subqueries of the conditions.
+     *
+     * @return sources of columns used in each predicate or null if some columns were not resolved
+     */
+    @Nullable
+    private Map<STMTreeNode, Set<SQLQueryRowsSourceModel>> analyzeConditions(@NotNull List<SQLQueryValueExpression> conditions) {
+        List<SQLQueryValueColumnReferenceExpression> columnRefs = new ArrayList<>();
+        List<SQLQueryValueSubqueryExpression> subqueries = new ArrayList<>();
+        for (SQLQueryValueExpression condition : conditions) {
+            collectValueParts(condition, columnRefs, subqueries);
+        }
+
+        Map<STMTreeNode, Set<SQLQueryRowsSourceModel>> predicateSources = new HashMap<>();
+        boolean allResolved = true;
+        for (SQLQueryValueColumnReferenceExpression columnRef : columnRefs) {
+            SQLQueryResultColumn column = columnRef.getColumnIfTrivialExpression();
+            if (column == null) {
+                allResolved = false;
+                continue;
+            }
+            STMTreeNode predicate = this.checkColumnUsage(columnRef, column);
+            if (predicate != null) {
+                predicateSources.computeIfAbsent(predicate, p -> new HashSet<>()).add(column.source);
+            }
+        }
+        for (SQLQueryValueSubqueryExpression subquery : subqueries) {
+            this.analyzeSubquery(subquery);
+        }
+        return allResolved ? predicateSources : null;
+    }
+
+    /**
+     * Reports transformed indexed column or LIKE with leading wildcard over indexed column.
+     *
+     * @return predicate which uses the column
+     */
+    @Nullable
+    private STMTreeNode checkColumnUsage(@NotNull SQLQueryValueColumnReferenceExpression columnRef, @NotNull SQLQueryResultColumn column) {
+        STMTreeNode transform = null;
+        boolean likeMatchValue = false;
+        STMTreeNode node = columnRef.getSyntaxNode();
+        while (node != null && !node.getNodeName().equals(STMKnownRuleNames.predicate)) {
+            String nodeName = node.getNodeName();
+            if (nodeName.equals(STMKnownRuleNames.subquery)) {
+                return null;
+            } else if (nodeName.equals(STMKnownRuleNames.matchValue)) {
+                likeMatchValue = true;
+            } else if (transform == null && columnTransformRuleNames.contains(nodeName)) {
+                transform = node;
+            }
+            node = node.getStmParent();
+        }
+        if (node == null || column.realSource == null || column.realAttr == null) {
+            return node;
+        }
+        if (transform != null) {
+            if (this.isIndexedAttribute(column.realSource, column.realAttr)) {
+                this.report(
+                    transform.getRealInterval(),
+                    "Expression over indexed column " + column.realAttr.getName() + " prevents the use of the index. " +
+                        "Compare the column itself with a transformed value instead"
+                );
+            }
+        } else if (likeMatchValue) {
+            STMTreeNode likePredicate = node.findChildOfName(STMKnownRuleNames.likePredicate);
+            STMTreeNode pattern = likePredicate == null ? null : likePredicate.findChildOfName(STMKnownRuleNames.pattern);
+            if (pattern != null) {
+                String patternText = pattern.getTextContent().trim();
+                if ((patternText.startsWith("'%") || patternText.startsWith("'_")) &&
+                    this.isIndexedAttribute(column.realSource, column.realAttr)
+                ) {
+                    this.report(
+                        pattern.getRealInterval(),
+                        "LIKE pattern starting with a wildcard prevents the use of the index on column " + column.realAttr.getName()
+                    );
+                }
+            }
+        }
+        return node;
+    }
+
+    private void checkJoinPredicate(
+        @NotNull SQLQueryRowsCrossJoinModel crossJoin,
+        @NotNull Map<STMTreeNode, Set<SQLQueryRowsSourceModel>> predicateSources
+    ) {
+        if (crossJoin.getSyntaxNode().getNodeName().equals(STMKnownRuleNames.crossJoinTerm)) {
+            // Explicit CROSS JOIN is intended
+            return;
+        }
+        Set<SQLQueryRowsSourceModel> leftSources = new HashSet<>();
+        collectRowsSources(crossJoin.getLeft(), leftSources);
+        Set<SQLQueryRowsSourceModel> rightSources = new HashSet<>();
+        collectRowsSources(crossJoin.getRight(), rightSources);
+        for (Set<SQLQueryRowsSourceModel> sources : predicateSources.values()) {
+            if (!Collections.disjoint(sources, leftSources) && !Collections.disjoint(sources, rightSources)) {
+                return;
+            }
+        }
+        this.report(
+            crossJoin.getRight().getInterval(),
+            "Table is not joined by any condition, so the query produces cartesian product of the rows"
+        );
+    }
+
+    private void checkAllColumnsSelected(
+        @NotNull SQLQueryRowsProjectionModel projection,
+        @NotNull SQLQuerySelectionResultModel.ResultSublistSpec sublist
+    ) {
+        SQLQueryRowsSourceModel rowsSource = sublist instanceof SQLQuerySelectionResultModel.TupleSpec tupleSpec
+            ? tupleSpec.getTupleSource()
+            : projection.getFromSource();
+        if (rowsSource == null) {
+            return;
+        }
+        List<SQLQueryResultColumn> columns = rowsSource.getResultDataContext().getColumnsList();
+        if (columns.size() > WIDE_ROWS_COLUMN_COUNT && columns.stream().anyMatch(c -> c.realAttr != null)) {
+            this.report(
+                sublist.getInterval(),
+                "SELECT * reads all " + columns.size() + " columns. List only required columns to reduce I/O and network traffic"
+            );
+        }
+    }
+
+    private void analyzeSubquery(@NotNull SQLQueryValueSubqueryExpression subquery) {
+        boolean existenceCheck = isExistsSubquery(subquery);
+        this.analyzeRowsSource(subquery.getSource(), existenceCheck);
+        if (!existenceCheck && isCorrelatedSubquery(subquery.getSource())) {
+            this.report(
+                subquery.getInterval(),
+                "Correlated subquery is evaluated for each row of the outer query. Consider rewriting it as a join"
+            );
+        }
+    }
+
+    private boolean isIndexedAttribute(@NotNull DBSEntity entity, @NotNull DBSEntityAttribute attribute) {
+        Set<DBSEntityAttribute> attributes = this.indexedAttributes.get(entity);
+        if (attributes == null) {
+            attributes = this.readIndexedAttributes(entity);
+            this.indexedAttributes.put(entity, attributes);
+        }
+        return attributes.contains(attribute);
+    }
+
+    /**
+     * Leading columns of the table indexes and unique keys
+     */
+    @NotNull
+    private Set<DBSEntityAttribute> readIndexedAttributes(@NotNull DBSEntity entity) {
+        Set<DBSEntityAttribute> attributes = new HashSet<>();
+        if (this.monitor.isCanceled()) {
+            return attributes;
+        }
+        try {
+            if (entity instanceof DBSTable table) {
+                for (DBSTableIndex index : CommonUtils.safeCollection(table.getIndexes(this.monitor))) {
+                    this.addLeadingAttribute(index, attributes);
+                }
+            }
+            for (DBSEntityConstraint constraint : CommonUtils.safeCollection(entity.getConstraints(this.monitor))) {
+                if (constraint instanceof DBSEntityReferrer referrer && constraint.getConstraintType().isUnique()) {
+                    this.addLeadingAttribute(referrer, attributes);
+                }
+            }
+        } catch (DBException e) {
+            log.debug("Error reading indexes of " + entity.getName(), e);
+        }
+        return attributes;
+    }
+
+    private void addLeadingAttribute(@NotNull DBSEntityReferrer referrer, @NotNull Set<DBSEntityAttribute> attributes) throws DBException {
+        List<? extends DBSEntityAttributeRef> references = referrer.getAttributeReferences(this.monitor);
+        if (!CommonUtils.isEmpty(references) && references.get(0).getAttribute() != null) {
+            attributes.add(references.get(0).getAttribute());
+        }
+    }
+
+    private void report(@NotNull Interval interval, @NotNull String message) {
+        this.problems.add(new SQLQueryPerformanceProblem(interval, message));
+    }
+
+    private static boolean isExistsSubquery(@NotNull SQLQueryValueSubqueryExpression subquery) {
+        STMTreeNode node = subquery.getSyntaxNode().getStmParent();
+        if (node != null && node.getNodeName().equals(STMKnownRuleNames.tableSubquery)) {
+            node = node.getStmParent();
+        }
+        return node != null && node.getNodeName().equals(STMKnownRuleNames.existsPredicate);
+    }
+
+    /**
+     * Checks whether subquery conditions refer to the table columns of the outer query
+     */
+    private static boolean isCorrelatedSubquery(@NotNull SQLQueryRowsSourceModel subquerySource) {
+        Set<SQLQueryRowsSourceModel> innerSources = new HashSet<>();
+        collectRowsSources(subquerySource, innerSources);
+        List<SQLQueryValueExpression> conditions = new ArrayList<>();
+        for (SQLQueryRowsSourceModel source : innerSources) {
+            if (source instanceof SQLQueryRowsProjectionModel projection) {
+                if (projection.getWhereClause() != null) {
+                    conditions.add(projection.getWhereClause());
+                }
+                collectJoins(projection.getFromSource(), conditions, new ArrayList<>());
+            }
+        }
+        List<SQLQueryValueColumnReferenceExpression> columnRefs = new ArrayList<>();
+        for (SQLQueryValueExpression condition : conditions) {
+            collectValueParts(condition, columnRefs, new ArrayList<>());
+        }
+        for (SQLQueryValueColumnReferenceExpression columnRef : columnRefs) {
+            SQLQueryResultColumn column = columnRef.getColumnIfTrivialExpression();
+            if (column != null && column.source instanceof SQLQueryRowsTableDataModel && !innerSources.contains(column.source)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects join conditions and comma-separated or cross joined sources of the FROM clause
+     */
+    private static void collectJoins(
+        @NotNull SQLQueryRowsSourceModel fromSource,
+        @NotNull List<SQLQueryValueExpression> conditions,
+        @NotNull List<SQLQueryRowsCrossJoinModel> crossJoins
+    ) {
+        if (fromSource instanceof SQLQueryRowsNaturalJoinModel naturalJoin) {
+            if (naturalJoin.getCondition() != null) {
+                conditions.add(naturalJoin.getCondition());
+            }
+            collectJoins(naturalJoin.getLeft(), conditions, crossJoins);
+            collectJoins(naturalJoin.getRight(), conditions, crossJoins);
+        } else if (fromSource instanceof SQLQueryRowsCrossJoinModel crossJoin) {
+            crossJoins.add(crossJoin);
+            collectJoins(crossJoin.getLeft(), conditions, crossJoins);
+            collectJoins(crossJoin.getRight(), conditions, crossJoins);
+        } else if (fromSource instanceof SQLQueryRowsCorrelatedSourceModel correlated) {
+            collectJoins(correlated.getSource(), conditions, crossJoins);
+        }
+    }
+
+    /**
+     * Collects the rows source and all sources nested in it except the ones of value subqueries
+     */
+    private static void collectRowsSources(@NotNull SQLQueryRowsSourceModel rowsSource, @NotNull Set<SQLQueryRowsSourceModel> sources) {
+        sources.add(rowsSource);
+        if (rowsSource instanceof SQLQueryRowsProjectionModel projection) {
+            collectRowsSources(projection.getFromSource(), sources);
+        } else if (rowsSource instanceof SQLQueryRowsSetOperationModel setOperation) {
+            collectRowsSources(setOperation.getLeft(), sources);
+            collectRowsSources(setOperation.getRight(), sources);
+        } else if (rowsSource instanceof SQLQueryRowsCorrelatedSourceModel correlated) {
+            collectRowsSources(correlated.getSource(), sources);
+        } else if (rowsSource instanceof SQLQueryRowsCteModel cte) {
+            for (SQLQueryRowsSourceModel query : cte.getAllQueries()) {
+                collectRowsSources(query, sources);
+            }
+        } else if (rowsSource instanceof SQLQueryRowsCteSubqueryModel cteSubquery) {
+            collectRowsSources(cteSubquery.source, sources);
+        }
+    }
+
+    /**
+     * Collects column references and subqueries of the expression. Subqueries are not traversed.
+     */
+    private static void collectValueParts(
+        @Nullable SQLQueryValueExpression expression,
+        @NotNull List<SQLQueryValueColumnReferenceExpression> columnRefs,
+        @NotNull List<SQLQueryValueSubqueryExpression> subqueries
+    ) {
+        if (expression instanceof SQLQueryValueColumnReferenceExpression columnRef) {
+            columnRefs.add(columnRef);
+        } else if (expression instanceof SQLQueryValueSubqueryExpression subquery) {
+            subqueries.add(subquery);
+        } else if (expression instanceof SQLQueryValueFlattenedExpression flattened) {
+            for (SQLQueryValueExpression operand : flattened.getOperands()) {
+                collectValueParts(operand, columnRefs, subqueries);
+            }
+        } else if (expression instanceof SQLQueryValueTypeCastExpression typeCast) {
+            collectValueParts(typeCast.getValueExpr(), columnRefs, subqueries);
+        } else if (expression instanceof SQLQueryValueMemberExpression member) {
+            collectValueParts(member.getMemberOwner(), columnRefs, subqueries);
+        }
+    }
+}
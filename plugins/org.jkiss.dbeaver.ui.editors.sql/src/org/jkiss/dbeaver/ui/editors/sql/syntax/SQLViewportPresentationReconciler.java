@@ -0,0 +1,152 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.sql.syntax;
+
+import org.eclipse.jface.text.*;
+import org.eclipse.jface.text.presentation.IPresentationDamager;
+import org.eclipse.jface.text.presentation.IPresentationReconciler;
+import org.eclipse.jface.text.presentation.IPresentationRepairer;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.ITokenScanner;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.LineStyleEvent;
+import org.eclipse.swt.custom.LineStyleListener;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Presentation reconciler for big scripts.
+ * <p>
+ * Regular presentation reconciler creates text presentation for the whole document when it is loaded,
+ * which takes a lot of time and memory for huge scripts.
+ * This one highlights lines when they are painted, so only visible part of the document is scanned.
+ */
+public class SQLViewportPresentationReconciler implements IPresentationReconciler, LineStyleListener, ITextListener {
+
+    private static final Log log = Log.getLog(SQLViewportPresentationReconciler.class);
+
+    private final String partitioning;
+    private final Map<String, ITokenScanner> scanners;
+    private ITextViewer viewer;
+
+    public SQLViewportPresentationReconciler(@NotNull String partitioning, @NotNull Map<String, ITokenScanner> scanners) {
+        this.partitioning = partitioning;
+        this.scanners = scanners;
+    }
+
+    @Override
+    public void install(ITextViewer viewer) {
+        this.viewer = viewer;
+        StyledText textWidget = viewer.getTextWidget();
+        if (textWidget != null) {
+            textWidget.addLineStyleListener(this);
+        }
+        viewer.addTextListener(this);
+    }
+
+    @Override
+    public void uninstall() {
+        if (viewer != null) {
+            viewer.removeTextListener(this);
+            StyledText textWidget = viewer.getTextWidget();
+            if (textWidget != null && !textWidget.isDisposed()) {
+                textWidget.removeLineStyleListener(this);
+            }
+            viewer = null;
+        }
+    }
+
+    @Override
+    public IPresentationDamager getDamager(String contentType) {
+        return null;
+    }
+
+    @Override
+    public IPresentationRepairer getRepairer(String contentType) {
+        return null;
+    }
+
+    @Override
+    public void textChanged(TextEvent event) {
+        // Modification may change partitions (e.g. open a comment) of the following lines
+        StyledText textWidget = viewer == null ? null : viewer.getTextWidget();
+        if (textWidget != null && !textWidget.isDisposed()) {
+            textWidget.redraw();
+        }
+    }
+
+    @Override
+    public void lineGetStyle(LineStyleEvent event) {
+        ITextViewer viewer = this.viewer;
+        IDocument document = viewer == null ? null : viewer.getDocument();
+        if (document == null) {
+            return;
+        }
+        int lineOffset = event.lineOffset;
+        if (viewer instanceof ITextViewerExtension5 extension) {
+            lineOffset = extension.widgetOffset2ModelOffset(event.lineOffset);
+            if (lineOffset < 0) {
+                return;
+            }
+        }
+        // Style ranges are in widget coordinates
+        final int widgetDelta = event.lineOffset - lineOffset;
+        final List<StyleRange> styles = new ArrayList<>();
+        try {
+            ITypedRegion[] partitions = TextUtilities.computePartitioning(
+                document, partitioning, lineOffset, event.lineText.length(), false);
+            for (ITypedRegion partition : partitions) {
+                ITokenScanner scanner = scanners.get(partition.getType());
+                if (scanner == null) {
+                    continue;
+                }
+                scanner.setRange(document, partition.getOffset(), partition.getLength());
+                for (IToken token = scanner.nextToken(); !token.isEOF(); token = scanner.nextToken()) {
+                    if (token.getData() instanceof TextAttribute attribute && scanner.getTokenLength() > 0) {
+                        styles.add(createStyleRange(attribute, scanner.getTokenOffset() + widgetDelta, scanner.getTokenLength()));
+                    }
+                }
+            }
+        } catch (BadLocationException e) {
+            log.debug("Error highlighting line at " + lineOffset, e);
+        }
+        event.styles = styles.toArray(new StyleRange[0]);
+    }
+
+    @NotNull
+    private static StyleRange createStyleRange(@NotNull TextAttribute attribute, int offset, int length) {
+        // The same way as DefaultDamagerRepairer does
+        int style = attribute.getStyle();
+        StyleRange styleRange = new StyleRange(
+            offset,
+            length,
+            attribute.getForeground(),
+            attribute.getBackground(),
+            style & (SWT.ITALIC | SWT.BOLD | SWT.NORMAL));
+        styleRange.strikeout = (style & TextAttribute.STRIKETHROUGH) != 0;
+        styleRange.underline = (style & TextAttribute.UNDERLINE) != 0;
+        styleRange.font = attribute.getFont();
+        return styleRange;
+    }
+
+}
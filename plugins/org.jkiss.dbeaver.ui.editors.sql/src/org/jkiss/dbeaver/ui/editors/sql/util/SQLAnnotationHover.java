@@ -25,6 +25,7 @@ import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.texteditor.spelling.SpellingAnnotation;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ui.editors.sql.SQLEditorBase;
+import org.jkiss.dbeaver.ui.editors.sql.semantics.analysis.SQLQueryPerformanceAnnotation;
 import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLProblemAnnotation;
 
 import java.util.Iterator;
@@ -69,7 +70,7 @@ public class SQLAnnotationHover extends AbstractSQLEditorTextHover
     }
 
     private boolean isSupportedAnnotation(Annotation anno) {
-        return anno instanceof SpellingAnnotation || anno instanceof SQLProblemAnnotation;
+        return anno instanceof SpellingAnnotation || anno instanceof SQLProblemAnnotation || anno instanceof SQLQueryPerformanceAnnotation;
     }
 
     @Override
@@ -71,7 +71,8 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.*;
 
 public class DatabaseNavigatorTree extends Composite implements INavigatorListener
 {
@@ -81,6 +82,8 @@ public class DatabaseNavigatorTree extends Composite implements INavigatorListen
     static final String TREE_DATA_STAT_MAX_SIZE = "nav.stat.maxSize";
     private static final String FILTER_TOOLBAR_CONTRIBUTION_ID = "toolbar:org.jkiss.dbeaver.navigator.filter.toolbar"; //$NON-NLS-1$
     private static final String DATA_TREE_CONTROL = DatabaseNavigatorTree.class.getSimpleName();
+    // Refresh parent instead of its children if there are more children updates in the batch
+    private static final int CHILD_UPDATES_FOLD_THRESHOLD = 50;
 
     private TreeViewer treeViewer;
     private DBNModel model;
@@ -422,6 +425,49 @@ public class DatabaseNavigatorTree extends Composite implements INavigatorListen
         return (CheckboxTreeViewer) treeViewer;
     }
 
+    @Override
+    public void nodesChanged(@NotNull List<DBNEvent> events) {
+        if (events.size() < CHILD_UPDATES_FOLD_THRESHOLD) {
+            INavigatorListener.super.nodesChanged(events);
+            return;
+        }
+        final Map<DBNNode, Integer> childUpdates = new HashMap<>();
+        for (DBNEvent event : events) {
+            if (isFoldableChildUpdate(event)) {
+                childUpdates.merge(event.getNode().getParentNode(), 1, Integer::sum);
+            }
+        }
+        childUpdates.values().removeIf(count -> count < CHILD_UPDATES_FOLD_THRESHOLD);
+        if (childUpdates.isEmpty()) {
+            INavigatorListener.super.nodesChanged(events);
+            return;
+        }
+        final Set<DBNNode> refreshedParents = new HashSet<>();
+        for (DBNEvent event : events) {
+            if (isFoldableChildUpdate(event) && childUpdates.containsKey(event.getNode().getParentNode())) {
+                DBNNode parentNode = event.getNode().getParentNode();
+                if (refreshedParents.add(parentNode) &&
+                    !treeViewer.getControl().isDisposed() && !treeViewer.isBusy() && !parentNode.isDisposed())
+                {
+                    // Refreshes children labels as well
+                    treeViewer.refresh(getViewerObject(parentNode), true);
+                }
+            } else {
+                nodeChanged(event);
+            }
+        }
+    }
+
+    private static boolean isFoldableChildUpdate(@NotNull DBNEvent event) {
+        if (event.getAction() != DBNEvent.Action.UPDATE || event.getNode().getParentNode() == null) {
+            return false;
+        }
+        return switch (event.getNodeChange()) {
+            case REFRESH, STRUCT_REFRESH, LOCK, UNLOCK -> true;
+            default -> false;
+        };
+    }
+
     @Override
     public void nodeChanged(final DBNEvent event)
     {
@@ -0,0 +1,127 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.tools;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.Path;
+import org.eclipse.draw2d.graph.ShortestPathRouter;
+import org.jkiss.dbeaver.erd.ui.router.shortpath.ObstacleGridIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic ERD routing benchmark.
+ * Usage: ERDRoutingBenchmark [nodes] [connections]
+ */
+public class ERDRoutingBenchmark {
+
+    private static final int ENTITY_WIDTH = 160;
+    private static final int ENTITY_HEIGHT = 120;
+    private static final int ENTITY_SPACING = 80;
+
+    public static void main(String[] args) {
+        final int nodeCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        final int connectionCount = args.length > 1 ? Integer.parseInt(args[1]) : nodeCount * 2;
+        final Random random = new Random(42);
+
+        final List<Rectangle> entities = generateEntities(nodeCount, random);
+        final List<Point> bendPoints = new ArrayList<>();
+        final List<Rectangle> corridors = new ArrayList<>();
+        for (int i = 0; i < connectionCount; i++) {
+            Rectangle source = entities.get(random.nextInt(nodeCount));
+            Rectangle target = entities.get(random.nextInt(nodeCount));
+            corridors.add(new Rectangle(source.getCenter(), target.getCenter()));
+            for (int k = 0; k < 3; k++) {
+                bendPoints.add(new Point(
+                    source.x + random.nextInt(Math.abs(target.x - source.x) + 1),
+                    source.y + random.nextInt(Math.abs(target.y - source.y) + 1)));
+            }
+        }
+        System.out.println(nodeCount + " entities, " + connectionCount + " connections, " + bendPoints.size() + " bend points");
+
+        // Bend points overlapping entities
+        long start = System.nanoTime();
+        int linearHits = 0;
+        for (Point bp : bendPoints) {
+            for (Rectangle entity : entities) {
+                if (entity.contains(bp)) {
+                    linearHits++;
+                    break;
+                }
+            }
+        }
+        long linearTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ObstacleGridIndex obstacleIndex = new ObstacleGridIndex();
+        entities.forEach(obstacleIndex::add);
+        int indexHits = 0;
+        for (Point bp : bendPoints) {
+            if (obstacleIndex.containsPoint(bp)) {
+                indexHits++;
+            }
+        }
+        long indexTime = System.nanoTime() - start;
+        printResult("Bend point overlap", linearTime, linearHits, indexTime, indexHits);
+
+        // Full route and incremental re-route after moving one entity
+        ShortestPathRouter router = new ShortestPathRouter();
+        entities.forEach(router::addObstacle);
+        for (Rectangle corridor : corridors) {
+            Path path = new Path(corridor);
+            path.setStartPoint(corridor.getTopLeft());
+            path.setEndPoint(corridor.getBottomRight());
+            router.addPath(path);
+        }
+        start = System.nanoTime();
+        int routed = router.solve().size();
+        System.out.println("Initial routing: " + routed + " paths in " + toMillis(System.nanoTime() - start) + "ms");
+
+        Rectangle moved = entities.get(nodeCount / 2);
+        Rectangle newBounds = moved.getCopy().translate(ENTITY_SPACING / 2, ENTITY_SPACING / 2);
+        start = System.nanoTime();
+        router.updateObstacle(moved, newBounds);
+        routed = router.solve().size();
+        System.out.println("Re-routing after move: " + routed + " paths in " + toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    private static List<Rectangle> generateEntities(int count, Random random) {
+        final int columns = (int) Math.ceil(Math.sqrt(count));
+        final List<Rectangle> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new Rectangle(
+                (i % columns) * (ENTITY_WIDTH + ENTITY_SPACING) + random.nextInt(ENTITY_SPACING / 2),
+                (i / columns) * (ENTITY_HEIGHT + ENTITY_SPACING) + random.nextInt(ENTITY_SPACING / 2),
+                ENTITY_WIDTH - random.nextInt(40),
+                ENTITY_HEIGHT - random.nextInt(40)));
+        }
+        return entities;
+    }
+
+    private static void printResult(String name, long linearTime, int linearHits, long indexTime, int indexHits) {
+        System.out.println(name + ": linear scan " + toMillis(linearTime) + "ms (" + linearHits + " hits), " +
+            "grid index " + toMillis(indexTime) + "ms (" + indexHits + " hits)");
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1000000;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+
+/**
+ * Single benchmark. Setup prepares the data, each run performs one measured operation over it.
+ */
+public interface BenchmarkCase {
+
+    /**
+     * Benchmark name, results of the same benchmark are compared across runs by name and parameters
+     */
+    @NotNull
+    String getName();
+
+    /**
+     * Benchmark parameters, e.g. data size
+     */
+    @NotNull
+    String getParameters();
+
+    void setUp() throws Exception;
+
+    /**
+     * Performs one operation. The result is consumed by the runner, so the work can't be optimized out.
+     */
+    Object run() throws Exception;
+
+    default void tearDown() throws Exception {
+        // nothing by default
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import java.nio.file.Path;
+
+/**
+ * Compares two benchmark result files.
+ * Usage: BenchmarkCompare baseline.json current.json [max slowdown percent]
+ * Exits with code 1 if any benchmark became slower than allowed.
+ */
+public class BenchmarkCompare {
+
+    private static final double DEFAULT_MAX_SLOWDOWN_PERCENT = 10;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkCompare <baseline.json> <current.json> [max slowdown percent]");
+            System.exit(2);
+        }
+        BenchmarkResults baseline = BenchmarkResults.load(Path.of(args[0]));
+        BenchmarkResults current = BenchmarkResults.load(Path.of(args[1]));
+        double maxSlowdown = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MAX_SLOWDOWN_PERCENT;
+
+        System.out.println("Baseline: " + baseline.revision + ", current: " + current.revision);
+        boolean regression = false;
+        for (BenchmarkResults.Result result : current.results) {
+            BenchmarkResults.Result base = baseline.findResult(result.getKey());
+            if (base == null || base.meanNs <= 0) {
+                System.out.printf("%-60s %14.1f ns/op  (new)%n", result.getKey(), result.meanNs);
+                continue;
+            }
+            double change = (result.meanNs - base.meanNs) * 100 / base.meanNs;
+            // Differences within the measurement error are not regressions
+            double error = (result.stdDevNs + base.stdDevNs) * 100 / base.meanNs;
+            boolean slower = change > maxSlowdown && change > error;
+            regression |= slower;
+            System.out.printf(
+                "%-60s %14.1f -> %14.1f ns/op  %+7.1f%%%s%n",
+                result.getKey(),
+                base.meanNs,
+                result.meanNs,
+                change,
+                slower ? "  REGRESSION" : "");
+        }
+        System.exit(regression ? 1 : 0);
+    }
+}
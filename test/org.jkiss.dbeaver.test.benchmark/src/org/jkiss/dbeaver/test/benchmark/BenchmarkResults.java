@@ -0,0 +1,95 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark run results. Saved in JSON so runs made on different revisions can be compared.
+ */
+public class BenchmarkResults {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Single benchmark result, times are in nanoseconds per operation
+     */
+    public static class Result {
+        public String name;
+        public String parameters;
+        public int iterations;
+        public long operations;
+        public double meanNs;
+        public double stdDevNs;
+        public double minNs;
+        public double maxNs;
+
+        @NotNull
+        public String getKey() {
+            return parameters.isEmpty() ? name : name + " [" + parameters + "]";
+        }
+    }
+
+    public String revision;
+    public long timestamp;
+    public String javaVersion;
+    public String osName;
+    public List<Result> results = new ArrayList<>();
+
+    @Nullable
+    public Result findResult(@NotNull String key) {
+        for (Result result : results) {
+            if (result.getKey().equals(key)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    public void save(@NotNull Path file) throws IOException {
+        Path folder = file.toAbsolutePath().getParent();
+        if (folder != null) {
+            Files.createDirectories(folder);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            gson.toJson(this, writer);
+        }
+    }
+
+    @NotNull
+    public static BenchmarkResults load(@NotNull Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            BenchmarkResults results = gson.fromJson(reader, BenchmarkResults.class);
+            if (results == null) {
+                throw new IOException("Empty benchmark results file " + file);
+            }
+            return results;
+        }
+    }
+}
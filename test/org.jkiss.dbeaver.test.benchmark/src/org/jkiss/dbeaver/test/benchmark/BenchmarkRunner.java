@@ -0,0 +1,142 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Runs benchmarks in the current JVM.
+ * Each benchmark is warmed up first, then measured in fixed time iterations.
+ * Every iteration gives the average operation time, the result contains statistics over iterations.
+ */
+public class BenchmarkRunner {
+
+    public static final String PROP_WARMUP_ITERATIONS = "dbeaver.benchmark.warmup";
+    public static final String PROP_MEASURE_ITERATIONS = "dbeaver.benchmark.iterations";
+    public static final String PROP_ITERATION_TIME = "dbeaver.benchmark.iterationTime";
+
+    private final int warmupIterations;
+    private final int measureIterations;
+    private final long iterationTimeNs;
+
+    // Results of all operations are folded here so JIT can't eliminate them
+    private volatile int sink;
+
+    public BenchmarkRunner(int warmupIterations, int measureIterations, long iterationTimeMs) {
+        this.warmupIterations = warmupIterations;
+        this.measureIterations = measureIterations;
+        this.iterationTimeNs = iterationTimeMs * 1_000_000L;
+    }
+
+    /**
+     * Creates runner configured with system properties
+     */
+    @NotNull
+    public static BenchmarkRunner fromSystemProperties() {
+        return new BenchmarkRunner(
+            Integer.getInteger(PROP_WARMUP_ITERATIONS, 5),
+            Integer.getInteger(PROP_MEASURE_ITERATIONS, 10),
+            Long.getLong(PROP_ITERATION_TIME, 1000));
+    }
+
+    @NotNull
+    public BenchmarkResults run(@NotNull List<BenchmarkCase> benchmarks, @Nullable Pattern filter) throws Exception {
+        BenchmarkResults results = new BenchmarkResults();
+        results.revision = System.getProperty("dbeaver.benchmark.revision", System.getenv("GIT_COMMIT"));
+        results.timestamp = System.currentTimeMillis();
+        results.javaVersion = System.getProperty("java.version");
+        results.osName = System.getProperty("os.name") + " " + System.getProperty("os.arch");
+        for (BenchmarkCase benchmark : benchmarks) {
+            if (filter != null && !filter.matcher(benchmark.getName()).find()) {
+                continue;
+            }
+            BenchmarkResults.Result result = run(benchmark);
+            System.out.printf(
+                "%-60s %14.1f ns/op  (+/- %.1f, %d ops)%n",
+                result.getKey(),
+                result.meanNs,
+                result.stdDevNs,
+                result.operations);
+            results.results.add(result);
+        }
+        return results;
+    }
+
+    @NotNull
+    public BenchmarkResults.Result run(@NotNull BenchmarkCase benchmark) throws Exception {
+        benchmark.setUp();
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                runIteration(benchmark);
+            }
+            double[] times = new double[measureIterations];
+            long operations = 0;
+            for (int i = 0; i < measureIterations; i++) {
+                long[] iteration = runIteration(benchmark);
+                times[i] = (double) iteration[0] / iteration[1];
+                operations += iteration[1];
+            }
+            return makeResult(benchmark, times, operations);
+        } finally {
+            benchmark.tearDown();
+        }
+    }
+
+    /**
+     * Runs operations until iteration time is elapsed.
+     * Returns total time and operations count.
+     */
+    private long[] runIteration(@NotNull BenchmarkCase benchmark) throws Exception {
+        long startTime = System.nanoTime();
+        long elapsed;
+        long count = 0;
+        do {
+            Object result = benchmark.run();
+            sink += result == null ? 0 : result.hashCode();
+            count++;
+            elapsed = System.nanoTime() - startTime;
+        } while (elapsed < iterationTimeNs);
+        return new long[] { elapsed, count };
+    }
+
+    @NotNull
+    private BenchmarkResults.Result makeResult(@NotNull BenchmarkCase benchmark, @NotNull double[] times, long operations) {
+        BenchmarkResults.Result result = new BenchmarkResults.Result();
+        result.name = benchmark.getName();
+        result.parameters = benchmark.getParameters();
+        result.iterations = times.length;
+        result.operations = operations;
+        result.minNs = Double.MAX_VALUE;
+        double sum = 0;
+        for (double time : times) {
+            sum += time;
+            result.minNs = Math.min(result.minNs, time);
+            result.maxNs = Math.max(result.maxNs, time);
+        }
+        result.meanNs = times.length == 0 ? 0 : sum / times.length;
+        double variance = 0;
+        for (double time : times) {
+            variance += (time - result.meanNs) * (time - result.meanNs);
+        }
+        result.stdDevNs = times.length < 2 ? 0 : Math.sqrt(variance / (times.length - 1));
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.utils.CommonUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Runs all benchmarks and saves results.
+ * Run with: mvn verify -Pbenchmark -Dbenchmark.filter=&lt;name regex&gt; -Dbenchmark.output=&lt;results.json&gt;
+ * Results of two revisions are compared with {@link BenchmarkCompare}.
+ */
+public class BenchmarkSuite {
+
+    public static final String PROP_FILTER = "dbeaver.benchmark.filter";
+    public static final String PROP_OUTPUT = "dbeaver.benchmark.output";
+
+    @NotNull
+    public static List<BenchmarkCase> createBenchmarks() {
+        return List.of(
+            new SQLScriptParserBenchmark(false, 100),
+            new SQLScriptParserBenchmark(false, 1024),
+            new SQLScriptParserBenchmark(true, 100),
+            new SQLScriptParserBenchmark(true, 1024),
+            new LSMAnalyzerBenchmark(),
+            new SQLFormatterBenchmark(10),
+            new SQLFormatterBenchmark(100),
+            new SQLFormatterBenchmark(1024),
+            new ValueHandlerBenchmark("number"),
+            new ValueHandlerBenchmark("datetime"),
+            new ValueHandlerBenchmark("string"),
+            new ResultSetSortBenchmark(10_000),
+            new ResultSetSortBenchmark(100_000),
+            new DataExporterBenchmark("csv", 10_000),
+            new DataExporterBenchmark("json", 10_000),
+            new DataImporterCSVBenchmark(false, 10_000),
+            new DataImporterCSVBenchmark(true, 10_000)
+        );
+    }
+
+    @Test
+    public void runBenchmarks() throws Exception {
+        String filter = System.getProperty(PROP_FILTER);
+        BenchmarkResults results = BenchmarkRunner.fromSystemProperties().run(
+            createBenchmarks(),
+            CommonUtils.isEmpty(filter) ? null : Pattern.compile(filter));
+        Assert.assertFalse("No benchmarks match filter '" + filter + "'", results.results.isEmpty());
+
+        String output = System.getProperty(PROP_OUTPUT);
+        if (!CommonUtils.isEmpty(output)) {
+            results.save(Path.of(output));
+            System.out.println("Benchmark results saved to " + output);
+        }
+    }
+}
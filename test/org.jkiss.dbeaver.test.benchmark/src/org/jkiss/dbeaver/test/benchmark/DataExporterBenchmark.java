@@ -0,0 +1,175 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPNamedObject;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDContentStorage;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporter;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamEntityMapping;
+import org.jkiss.dbeaver.tools.transfer.stream.exporter.DataExporterCSV;
+import org.jkiss.dbeaver.tools.transfer.stream.exporter.DataExporterJSON;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Exports rows with a stream exporter. Output is discarded, so only value formatting and writing is measured.
+ */
+public class DataExporterBenchmark implements BenchmarkCase {
+
+    private final String format;
+    private final Supplier<IStreamDataExporter> exporterFactory;
+    private final int rowCount;
+
+    private StreamEntityMapping source;
+    private DBCSession session;
+    private DBCResultSet resultSet;
+    private List<Object[]> rows;
+    private BenchmarkExporterSite site;
+
+    public DataExporterBenchmark(@NotNull String format, int rowCount) {
+        this.format = format;
+        this.exporterFactory = switch (format) {
+            case "csv" -> DataExporterCSV::new;
+            case "json" -> DataExporterJSON::new;
+            default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+        };
+        this.rowCount = rowCount;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "transfer.export." + format;
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return rowCount + " rows";
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        source = new StreamEntityMapping(Path.of("benchmark." + format));
+        session = SampleData.openSession(source.getDataSource());
+        rows = SampleData.generateRows(rowCount);
+        resultSet = SampleData.createResultSet(session, rows);
+        site = new BenchmarkExporterSite(source, DBUtils.getAttributeBindings(session, source, resultSet.getMeta()));
+    }
+
+    @Override
+    public Object run() throws Exception {
+        IStreamDataExporter exporter = exporterFactory.get();
+        exporter.init(site);
+        try {
+            exporter.exportHeader(session);
+            for (Object[] row : rows) {
+                exporter.exportRow(session, resultSet, row);
+            }
+            exporter.exportFooter(session.getProgressMonitor());
+        } finally {
+            exporter.dispose();
+        }
+        return site.getWriter().checkError();
+    }
+
+    @Override
+    public void tearDown() {
+        resultSet.close();
+        session.close();
+    }
+
+    private static class BenchmarkExporterSite implements IStreamDataExporterSite {
+        private final DBPNamedObject source;
+        private final DBDAttributeBinding[] attributes;
+        private final Map<String, Object> properties = new HashMap<>();
+        private final PrintWriter writer = new PrintWriter(Writer.nullWriter());
+
+        BenchmarkExporterSite(@NotNull DBPNamedObject source, @NotNull DBDAttributeBinding[] attributes) {
+            this.source = source;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public DBPNamedObject getSource() {
+            return source;
+        }
+
+        @Override
+        public DBDDisplayFormat getExportFormat() {
+            return DBDDisplayFormat.UI;
+        }
+
+        @Override
+        public Map<String, Object> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public DBDAttributeBinding[] getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Nullable
+        @Override
+        public Path getOutputFile() {
+            return null;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+
+        @Override
+        public void flush() {
+            writer.flush();
+        }
+
+        @Override
+        public void writeBinaryData(@NotNull DBDContentStorage cs) {
+            // binary data is not exported in benchmarks
+        }
+
+        @NotNull
+        @Override
+        public String getOutputEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+    }
+}
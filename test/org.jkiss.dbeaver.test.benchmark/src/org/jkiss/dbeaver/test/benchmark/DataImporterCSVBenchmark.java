@@ -0,0 +1,136 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataImporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamEntityMapping;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamProducerSettings;
+import org.jkiss.dbeaver.tools.transfer.stream.importer.DataImporterCSV;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads CSV data with the CSV importer: either guesses column types over all rows or reads all values.
+ */
+public class DataImporterCSVBenchmark implements BenchmarkCase {
+
+    private final boolean readValues;
+    private final int rowCount;
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private final DataImporterCSV importer = new DataImporterCSV();
+    private final VoidProgressMonitor monitor = new VoidProgressMonitor();
+    private StreamEntityMapping mapping;
+    private IDataTransferConsumer<?, ?> consumer;
+    private byte[] data;
+    private long valuesRead;
+
+    public DataImporterCSVBenchmark(boolean readValues, int rowCount) {
+        this.readValues = readValues;
+        this.rowCount = rowCount;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return readValues ? "transfer.import.csv" : "transfer.import.csv.columnTypes";
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return rowCount + " rows";
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        data = generateCSV(rowCount).getBytes(StandardCharsets.UTF_8);
+        mapping = new StreamEntityMapping(Path.of("benchmark.csv"));
+        properties.put("header", DataImporterCSV.HeaderPosition.top);
+        properties.put("columnTypeSamplesCount", rowCount);
+
+        // Stub-only mocks don't record invocations, so memory doesn't grow during the run
+        IStreamDataImporterSite site = Mockito.mock(IStreamDataImporterSite.class, Mockito.withSettings().stubOnly());
+        Mockito.when(site.getProcessorProperties()).thenReturn(properties);
+        Mockito.when(site.getSourceObject()).thenReturn(mapping);
+        Mockito.when(site.getSettings()).thenReturn(new StreamProducerSettings());
+        importer.init(site);
+
+        try (InputStream is = new ByteArrayInputStream(data)) {
+            mapping.getStreamColumns().addAll(importer.readColumnsInfo(mapping, is));
+        }
+
+        consumer = Mockito.mock(IDataTransferConsumer.class, Mockito.withSettings().stubOnly());
+        Mockito.doAnswer(invocation -> {
+            DBCResultSet resultSet = invocation.getArgument(1);
+            for (int i = 0; i < mapping.getStreamColumns().size(); i++) {
+                if (resultSet.getAttributeValue(i) != null) {
+                    valuesRead++;
+                }
+            }
+            return null;
+        }).when(consumer).fetchRow(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Override
+    public Object run() throws Exception {
+        try (InputStream is = new ByteArrayInputStream(data)) {
+            if (readValues) {
+                importer.runImport(monitor, mapping.getDataSource(), is, consumer);
+                return valuesRead;
+            } else {
+                return importer.readColumnsInfo(mapping, is).size();
+            }
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        importer.dispose();
+    }
+
+    @NotNull
+    private static String generateCSV(int rowCount) {
+        StringBuilder csv = new StringBuilder();
+        csv.append(String.join(",", SampleData.COLUMN_NAMES)).append('\n');
+        for (Object[] row : SampleData.generateRows(rowCount)) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                if (row[i] instanceof String) {
+                    csv.append('"').append(row[i]).append('"');
+                } else {
+                    csv.append(row[i]);
+                }
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
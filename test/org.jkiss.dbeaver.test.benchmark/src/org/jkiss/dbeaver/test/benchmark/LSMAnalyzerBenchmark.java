@@ -0,0 +1,65 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.lsm.LSMAnalyzer;
+import org.jkiss.dbeaver.model.lsm.sql.dialect.SQLStandardAnalyzer;
+import org.jkiss.dbeaver.model.stm.STMSource;
+import org.jkiss.dbeaver.model.stm.STMTreeRuleNode;
+
+import java.util.List;
+
+/**
+ * Builds syntax trees for the queries of the corpus. One operation parses all corpus queries.
+ */
+public class LSMAnalyzerBenchmark implements BenchmarkCase {
+
+    private LSMAnalyzer analyzer;
+    private List<String> queries;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "lsm.parseSqlQueryTree";
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return "corpus";
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        analyzer = new SQLStandardAnalyzer(BasicSQLDialect.INSTANCE);
+        queries = ScriptCorpus.splitStatements(ScriptCorpus.getCorpusScript(1));
+    }
+
+    @Override
+    public Object run() {
+        int nodes = 0;
+        for (String query : queries) {
+            STMTreeRuleNode tree = analyzer.parseSqlQueryTree(STMSource.fromString(query), null);
+            if (tree != null) {
+                nodes += tree.getChildCount();
+            }
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.data.DBDRowComparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts fetched rows by name ascending and amount descending
+ * with the comparator used by result set viewer for local sorting.
+ */
+public class ResultSetSortBenchmark implements BenchmarkCase {
+
+    private final int rowCount;
+    private final DBDRowComparator<Object[]> comparator = new DBDRowComparator<Object[]>()
+        .addColumn(row -> row[1], false)
+        .addColumn(row -> row[2], true);
+    private List<Object[]> rows;
+
+    public ResultSetSortBenchmark(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "data.resultSet.localSort";
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return rowCount + " rows";
+    }
+
+    @Override
+    public void setUp() {
+        rows = SampleData.generateRows(rowCount);
+    }
+
+    @Override
+    public Object run() {
+        List<Object[]> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong(row -> (Long) row[0]));
+        sorted.sort(comparator);
+        return sorted.get(0);
+    }
+}
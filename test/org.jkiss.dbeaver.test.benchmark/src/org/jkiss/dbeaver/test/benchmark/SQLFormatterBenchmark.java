@@ -0,0 +1,79 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBPIdentifierCase;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
+import org.jkiss.dbeaver.model.sql.format.SQLFormatterConfiguration;
+import org.jkiss.dbeaver.model.sql.format.tokenized.SQLFormatterTokenized;
+import org.mockito.Mockito;
+
+/**
+ * Formats synthetic scripts of growing size. Formatting time must grow linearly with the script size.
+ */
+public class SQLFormatterBenchmark implements BenchmarkCase {
+
+    private final int sizeKB;
+
+    private SQLFormatterConfiguration configuration;
+    private String script;
+
+    public SQLFormatterBenchmark(int sizeKB) {
+        this.sizeKB = sizeKB;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "sql.format.tokenized";
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return sizeKB + "KB";
+    }
+
+    @Override
+    public void setUp() {
+        configuration = createConfiguration();
+        script = ScriptCorpus.generateScript(sizeKB * 1024);
+    }
+
+    @Override
+    public Object run() {
+        return new SQLFormatterTokenized().format(script, configuration).length();
+    }
+
+    private static SQLFormatterConfiguration createConfiguration() {
+        SQLFormatterConfiguration configuration = Mockito.mock(SQLFormatterConfiguration.class);
+        SQLSyntaxManager syntaxManager = Mockito.mock(SQLSyntaxManager.class);
+        DBPPreferenceStore preferenceStore = Mockito.mock(DBPPreferenceStore.class);
+        Mockito.when(configuration.getSyntaxManager()).thenReturn(syntaxManager);
+        Mockito.when(configuration.getKeywordCase()).thenReturn(DBPIdentifierCase.UPPER);
+        Mockito.when(configuration.getIndentString()).thenReturn("\t");
+        Mockito.when(configuration.getPreferenceStore()).thenReturn(preferenceStore);
+        Mockito.when(syntaxManager.getStatementDelimiters()).thenReturn(new String[]{";"});
+        Mockito.when(syntaxManager.getDialect()).thenReturn(BasicSQLDialect.INSTANCE);
+        Mockito.when(syntaxManager.getCatalogSeparator()).thenReturn(".");
+        Mockito.when(syntaxManager.getStructSeparator()).thenReturn('.');
+        return configuration;
+    }
+}
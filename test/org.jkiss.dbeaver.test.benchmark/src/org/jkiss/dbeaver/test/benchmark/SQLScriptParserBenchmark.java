@@ -0,0 +1,91 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.eclipse.jface.text.Document;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.connection.DBPConnectionConfiguration;
+import org.jkiss.dbeaver.model.connection.DBPDriver;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCDataSource;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
+import org.jkiss.dbeaver.model.sql.parser.SQLParserContext;
+import org.jkiss.dbeaver.model.sql.parser.SQLRuleManager;
+import org.jkiss.dbeaver.model.sql.parser.SQLScriptParser;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.mockito.Mockito;
+
+/**
+ * Splits a script into queries the same way SQL editor does before script execution
+ */
+public class SQLScriptParserBenchmark implements BenchmarkCase {
+
+    private final boolean corpus;
+    private final int sizeKB;
+
+    private JDBCDataSource dataSource;
+    private SQLSyntaxManager syntaxManager;
+    private SQLRuleManager ruleManager;
+    private String script;
+
+    public SQLScriptParserBenchmark(boolean corpus, int sizeKB) {
+        this.corpus = corpus;
+        this.sizeKB = sizeKB;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "sql.parser.extractScriptQueries";
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return (corpus ? "corpus" : "generated") + ", " + sizeKB + "KB";
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        DBPConnectionConfiguration connectionConfiguration = new DBPConnectionConfiguration();
+        DBPPreferenceStore preferenceStore = DBWorkbench.getPlatform().getPreferenceStore();
+        DBPDataSourceContainer dataSourceContainer = Mockito.mock(DBPDataSourceContainer.class);
+        dataSource = Mockito.mock(JDBCDataSource.class);
+        Mockito.when(dataSource.getContainer()).thenReturn(dataSourceContainer);
+        Mockito.when(dataSource.getSQLDialect()).thenReturn(BasicSQLDialect.INSTANCE);
+        Mockito.when(dataSourceContainer.getConnectionConfiguration()).thenReturn(connectionConfiguration);
+        Mockito.when(dataSourceContainer.getActualConnectionConfiguration()).thenReturn(connectionConfiguration);
+        Mockito.when(dataSourceContainer.getPreferenceStore()).thenReturn(preferenceStore);
+        Mockito.when(dataSourceContainer.getDriver()).thenReturn(Mockito.mock(DBPDriver.class));
+
+        syntaxManager = new SQLSyntaxManager();
+        syntaxManager.init(BasicSQLDialect.INSTANCE, preferenceStore);
+        ruleManager = new SQLRuleManager(syntaxManager);
+        ruleManager.loadRules(dataSource, false);
+
+        script = corpus ? ScriptCorpus.getCorpusScript(sizeKB * 1024) : ScriptCorpus.generateScript(sizeKB * 1024);
+    }
+
+    @Override
+    public Object run() {
+        // Parser context keeps state of the last evaluation, so every run starts with a new one
+        SQLParserContext context = new SQLParserContext(dataSource, syntaxManager, ruleManager, new Document(script));
+        return SQLScriptParser.extractScriptQueries(context, 0, script.length(), false, false, false).size();
+    }
+}
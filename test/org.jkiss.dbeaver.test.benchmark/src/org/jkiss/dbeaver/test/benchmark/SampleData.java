@@ -0,0 +1,127 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.SimpleTypedObject;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Table-like data for result set, value handler and data transfer benchmarks
+ */
+public class SampleData {
+
+    /**
+     * Column type with JDBC type id, value handlers choose conversions by it
+     */
+    public static class ColumnType extends SimpleTypedObject {
+        private final int typeID;
+        private final DBPDataKind dataKind;
+        private final Integer scale;
+
+        public ColumnType(@NotNull String typeName, int typeID, @NotNull DBPDataKind dataKind, @Nullable Integer scale) {
+            super(typeName);
+            this.typeID = typeID;
+            this.dataKind = dataKind;
+            this.scale = scale;
+        }
+
+        @Override
+        public int getTypeID() {
+            return typeID;
+        }
+
+        @NotNull
+        @Override
+        public DBPDataKind getDataKind() {
+            return dataKind;
+        }
+
+        @Nullable
+        @Override
+        public Integer getScale() {
+            return scale;
+        }
+    }
+
+    public static final ColumnType TYPE_BIGINT = new ColumnType("BIGINT", Types.BIGINT, DBPDataKind.NUMERIC, 0);
+    public static final ColumnType TYPE_VARCHAR = new ColumnType("VARCHAR", Types.VARCHAR, DBPDataKind.STRING, null);
+    public static final ColumnType TYPE_DECIMAL = new ColumnType("DECIMAL", Types.DECIMAL, DBPDataKind.NUMERIC, 2);
+    public static final ColumnType TYPE_TIMESTAMP = new ColumnType("TIMESTAMP", Types.TIMESTAMP, DBPDataKind.DATETIME, null);
+    public static final ColumnType TYPE_BOOLEAN = new ColumnType("BOOLEAN", Types.BOOLEAN, DBPDataKind.BOOLEAN, null);
+
+    public static final String[] COLUMN_NAMES = { "id", "name", "amount", "created", "active" };
+    public static final ColumnType[] COLUMN_TYPES = { TYPE_BIGINT, TYPE_VARCHAR, TYPE_DECIMAL, TYPE_TIMESTAMP, TYPE_BOOLEAN };
+
+    private static final String[] NAMES = { "Alpha", "beta", "Gamma", "delta", "Epsilon", "zeta", "Eta", "theta" };
+    private static final long BASE_TIME = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    /**
+     * Generates rows for {@link #COLUMN_TYPES}. The same count always gives the same rows.
+     */
+    @NotNull
+    public static List<Object[]> generateRows(int count) {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                (long) i,
+                NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(count),
+                BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                new Timestamp(BASE_TIME + random.nextInt(365 * 24 * 3600) * 1000L),
+                random.nextBoolean()
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Creates result set with {@link #COLUMN_TYPES} columns and given rows
+     */
+    @NotNull
+    public static LocalResultSet<LocalStatement> createResultSet(@NotNull DBCSession session, @NotNull List<Object[]> rows) {
+        LocalResultSet<LocalStatement> resultSet = new LocalResultSet<>(session, new LocalStatement(session, "SELECT * FROM sample"));
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            resultSet.addColumn(COLUMN_NAMES[i], COLUMN_TYPES[i]);
+        }
+        for (Object[] row : rows) {
+            resultSet.addRow(row);
+        }
+        return resultSet;
+    }
+
+    @NotNull
+    public static DBCSession openSession(@NotNull DBPDataSource dataSource) {
+        VoidProgressMonitor monitor = new VoidProgressMonitor();
+        return dataSource.getDefaultInstance().getDefaultContext(monitor, false)
+            .openSession(monitor, DBCExecutionPurpose.UTIL, "Benchmark");
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * SQL scripts used by benchmarks: synthetic scripts of the given size and a corpus of realistic queries
+ */
+public class ScriptCorpus {
+
+    private static final String CORPUS_RESOURCE = "corpus.sql";
+
+    /**
+     * Generates a script of mixed DML statements. The same length always gives the same script.
+     */
+    @NotNull
+    public static String generateScript(int length) {
+        final Random random = new Random(42);
+        final StringBuilder script = new StringBuilder(length + 1024);
+        while (script.length() < length) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    script.append("insert into table").append(random.nextInt(100)).append(" (id, name, amount) values ");
+                    for (int i = 0, rows = 1 + random.nextInt(20); i < rows; i++) {
+                        if (i > 0) {
+                            script.append(", ");
+                        }
+                        script.append("(").append(random.nextInt()).append(", 'name ").append(i).append("', ")
+                            .append(random.nextDouble()).append(")");
+                    }
+                    script.append(";\n");
+                }
+                case 1 -> script.append("-- comment ").append(random.nextInt()).append("\n")
+                    .append("update table").append(random.nextInt(100)).append(" set amount = amount + 1 where id = ")
+                    .append(random.nextInt()).append(" and name in ('a', 'b');\n");
+                case 2 -> script.append("select t.id, sum(t.amount) from table").append(random.nextInt(100))
+                    .append(" t left outer join ref r on r.id = t.ref_id where t.id > ").append(random.nextInt())
+                    .append(" and (t.name is not null or t.amount between 1 and 10) group by t.id order by t.id;\n");
+                default -> script.append("delete from table").append(random.nextInt(100)).append(" /* cleanup */ where id = ")
+                    .append(random.nextInt()).append(";\n");
+            }
+        }
+        return script.toString();
+    }
+
+    /**
+     * Returns the corpus of realistic queries repeated until it reaches the given length
+     */
+    @NotNull
+    public static String getCorpusScript(int length) throws IOException {
+        String corpus;
+        try (InputStream stream = ScriptCorpus.class.getResourceAsStream(CORPUS_RESOURCE)) {
+            if (stream == null) {
+                throw new IOException("Resource " + CORPUS_RESOURCE + " not found");
+            }
+            corpus = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        StringBuilder script = new StringBuilder(length + corpus.length());
+        while (script.length() < length) {
+            script.append(corpus).append('\n');
+        }
+        return script.toString();
+    }
+
+    /**
+     * Splits script by statement delimiters at line ends. Enough for generated scripts and the corpus.
+     */
+    @NotNull
+    public static List<String> splitStatements(@NotNull String script) {
+        List<String> statements = new ArrayList<>();
+        for (String statement : script.split(";\\s*\\n")) {
+            if (!statement.isBlank()) {
+                statements.add(statement.trim());
+            }
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCDateTimeValueHandler;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCNumberValueHandler;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCStringValueHandler;
+import org.jkiss.dbeaver.tools.transfer.stream.model.StreamDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts text values with a value handler and formats them back for display,
+ * the same conversions are made for each cell in result set editing and data transfer.
+ */
+public class ValueHandlerBenchmark implements BenchmarkCase {
+
+    private static final int VALUE_COUNT = 1000;
+
+    private final String kind;
+
+    private StreamDataSource dataSource;
+    private DBCSession session;
+    private SampleData.ColumnType type;
+    private DBDValueHandler valueHandler;
+    private final List<String> values = new ArrayList<>();
+
+    public ValueHandlerBenchmark(@NotNull String kind) {
+        this.kind = kind;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "data.valueHandler." + kind;
+    }
+
+    @NotNull
+    @Override
+    public String getParameters() {
+        return VALUE_COUNT + " values";
+    }
+
+    @Override
+    public void setUp() {
+        dataSource = new StreamDataSource("benchmark");
+        session = SampleData.openSession(dataSource);
+        int column = switch (kind) {
+            case "number" -> {
+                type = SampleData.TYPE_DECIMAL;
+                valueHandler = new JDBCNumberValueHandler(type, session);
+                yield 2;
+            }
+            case "datetime" -> {
+                type = SampleData.TYPE_TIMESTAMP;
+                valueHandler = new JDBCDateTimeValueHandler(session);
+                yield 3;
+            }
+            case "string" -> {
+                type = SampleData.TYPE_VARCHAR;
+                valueHandler = JDBCStringValueHandler.INSTANCE;
+                yield 1;
+            }
+            default -> throw new IllegalArgumentException("Unsupported value kind: " + kind);
+        };
+        for (Object[] row : SampleData.generateRows(VALUE_COUNT)) {
+            values.add(valueHandler.getValueDisplayString(type, row[column], DBDDisplayFormat.UI));
+        }
+    }
+
+    @Override
+    public Object run() throws Exception {
+        int length = 0;
+        for (String value : values) {
+            Object object = valueHandler.getValueFromObject(session, type, value, false, false);
+            length += valueHandler.getValueDisplayString(type, object, DBDDisplayFormat.UI).length();
+        }
+        return length;
+    }
+
+    @Override
+    public void tearDown() {
+        session.close();
+    }
+}
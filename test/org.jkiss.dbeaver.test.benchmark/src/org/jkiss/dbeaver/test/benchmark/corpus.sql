@@ -0,0 +1,84 @@
+-- Reporting and maintenance queries of a typical order management schema
+
+create table customers (
+    id bigint not null primary key,
+    name varchar(200) not null,
+    email varchar(320),
+    country_code char(2),
+    created_at timestamp default current_timestamp
+);
+
+create table orders (
+    id bigint not null primary key,
+    customer_id bigint not null references customers (id),
+    status varchar(20) not null,
+    order_date date not null,
+    total_amount numeric(12, 2)
+);
+
+create table order_items (
+    order_id bigint not null references orders (id),
+    line_no integer not null,
+    product_id bigint not null,
+    quantity integer not null,
+    price numeric(12, 2) not null,
+    primary key (order_id, line_no)
+);
+
+create index order_customer_idx on orders (customer_id, order_date);
+
+insert into customers (id, name, email, country_code) values
+    (1, 'Acme Corp', 'sales@acme.example', 'US'),
+    (2, 'Globex', 'info@globex.example', 'DE'),
+    (3, 'Initech', null, 'US');
+
+select c.country_code, count(distinct o.customer_id) as customers, sum(o.total_amount) as revenue
+from orders o
+    join customers c on c.id = o.customer_id
+where o.order_date >= date '2024-01-01' and o.status not in ('CANCELLED', 'DRAFT')
+group by c.country_code
+having sum(o.total_amount) > 1000
+order by revenue desc;
+
+with monthly as (
+    select customer_id, extract(year from order_date) as y, extract(month from order_date) as m, sum(total_amount) as amount
+    from orders
+    group by customer_id, extract(year from order_date), extract(month from order_date)
+)
+select customer_id, y, m, amount,
+    amount - lag(amount) over (partition by customer_id order by y, m) as delta,
+    rank() over (partition by y, m order by amount desc) as place
+from monthly;
+
+select o.id, o.order_date, c.name,
+    (select count(*) from order_items i where i.order_id = o.id) as items,
+    case when o.total_amount > 500 then 'large' when o.total_amount > 100 then 'medium' else 'small' end as size_class
+from orders o
+    left outer join customers c on c.id = o.customer_id
+where exists (select 1 from order_items i where i.order_id = o.id and i.quantity > 10)
+order by o.order_date desc, o.id
+limit 100;
+
+update orders set status = 'SHIPPED'
+where status = 'PAID' and order_date < current_date - 3 and id in (select order_id from order_items group by order_id having count(*) < 50);
+
+select p.product_id, sum(p.quantity * p.price) as revenue
+from order_items p
+group by p.product_id
+union all
+select null, sum(quantity * price)
+from order_items;
+
+merge into customers t
+using (select 4 as id, 'Umbrella' as name, 'DE' as country_code) s
+on (t.id = s.id)
+when matched then update set name = s.name, country_code = s.country_code
+when not matched then insert (id, name, country_code) values (s.id, s.name, s.country_code);
+
+delete from order_items where order_id in (select id from orders where status = 'CANCELLED');
+
+alter table orders add column shipped_at timestamp;
+
+select * from orders o where o.customer_id = ? and o.order_date between :date_from and :date_to;
+
+drop index order_customer_idx;
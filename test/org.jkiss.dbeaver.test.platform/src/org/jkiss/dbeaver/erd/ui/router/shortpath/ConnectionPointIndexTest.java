@@ -0,0 +1,127 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.router.shortpath;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class ConnectionPointIndexTest {
+
+    private static final int POINT_DISTANCE = 7;
+
+    @Test
+    public void endIsShiftedAwayFromOtherPoints() {
+        ConnectionPointIndex<String> index = new ConnectionPointIndex<>(POINT_DISTANCE);
+        index.add("a", points(10, 100, 50, 100));
+        index.add("b", points(10, 103, 80, 200));
+        index.add("c", points(10, 100, 90, 300));
+
+        // Own points are ignored
+        Assert.assertEquals(0, index.countShifts("a", new Point(50, 100), 0, 10));
+        // Both points are close to the end
+        Assert.assertEquals(2, index.countShifts("a", new Point(10, 100), 0, 0));
+        // Shifted end is checked against the following points only
+        Assert.assertEquals(1, index.countShifts("a", new Point(10, 100), 0, 10));
+        Assert.assertEquals(0, index.countShifts("a", new Point(11, 100), 0, 10));
+    }
+
+    @Test
+    public void updateReplacesPointsOfKnownOwnersOnly() {
+        ConnectionPointIndex<String> index = new ConnectionPointIndex<>(POINT_DISTANCE);
+        index.add("a", points(10, 100));
+        index.add("b", points(20, 100));
+        Assert.assertEquals(1, index.countShifts("b", new Point(10, 100), 5, 0));
+
+        index.update("a", points(30, 100));
+        Assert.assertEquals(0, index.countShifts("b", new Point(10, 100), 5, 0));
+        Assert.assertEquals(1, index.countShifts("b", new Point(30, 100), 5, 0));
+
+        index.update("unknown", points(40, 100));
+        Assert.assertEquals(0, index.countShifts("b", new Point(40, 100), 5, 0));
+    }
+
+    @Test
+    public void shiftsMatchSequentialScan() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            Map<String, PointList> connections = new LinkedHashMap<>();
+            ConnectionPointIndex<String> index = new ConnectionPointIndex<>(POINT_DISTANCE);
+            for (int i = 0; i < 30; i++) {
+                PointList points = randomPoints(random);
+                connections.put("c" + i, points);
+                index.add("c" + i, points);
+            }
+            // Route connections in random order, each route moves connection points
+            List<String> routeOrder = new ArrayList<>(connections.keySet());
+            Collections.shuffle(routeOrder, random);
+            for (String connection : routeOrder) {
+                int dx = random.nextInt(7) - 3;
+                int dy = random.nextInt(7) - 3;
+                Point start = new Point(random.nextInt(8), random.nextInt(40));
+                Point end = connections.get(connection).getLastPoint();
+                Assert.assertEquals(
+                    scanShifts(connections, connection, start, dx, dy),
+                    index.countShifts(connection, start, dx, dy));
+                Assert.assertEquals(
+                    scanShifts(connections, connection, end, -dx, -dy),
+                    index.countShifts(connection, end, -dx, -dy));
+
+                PointList newPoints = randomPoints(random);
+                connections.put(connection, newPoints);
+                index.update(connection, newPoints);
+            }
+        }
+    }
+
+    /**
+     * Coincident ends check as it was implemented before the index: all points of all other connections are scanned
+     */
+    private static int scanShifts(Map<String, PointList> connections, String owner, Point point, int dx, int dy) {
+        Point current = point.getCopy();
+        int shifts = 0;
+        for (Map.Entry<String, PointList> entry : connections.entrySet()) {
+            if (entry.getKey().equals(owner)) {
+                continue;
+            }
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                Point p = entry.getValue().getPoint(i);
+                if (Math.abs(current.x - p.x) == 0 && Math.abs(current.y - p.y) < POINT_DISTANCE) {
+                    current = new Point(current.x + dx, current.y + dy);
+                    shifts++;
+                }
+            }
+        }
+        return shifts;
+    }
+
+    private static PointList randomPoints(Random random) {
+        PointList points = new PointList();
+        int count = 2 + random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            points.addPoint(random.nextInt(8), random.nextInt(40));
+        }
+        return points;
+    }
+
+    private static PointList points(int... coordinates) {
+        return new PointList(coordinates);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ServerSessionHistoryTest {
+
+    @Test
+    public void shouldAggregateActiveSessions() {
+        ServerSessionHistory history = new ServerSessionHistory(10);
+        history.addSample(1000, List.of(
+            new TestSession("select 1", "active", "Lock:tuple", "alice"),
+            new TestSession("select 1", "active", "Lock:tuple", "alice"),
+            new TestSession("select 2", "active", null, "bob"),
+            new TestSession("select 3", "idle", null, "bob")));
+        history.addSample(2000, List.of(
+            new TestSession("select 1", "active", "Lock:tuple", "alice")));
+
+        List<ServerSessionHistory.ActivityStat> top = history.getTopActivity(0, 3000, 10);
+        Assert.assertEquals(2, top.size());
+        Assert.assertEquals(new ServerSessionHistory.Activity("select 1", "active", "Lock:tuple", "alice"), top.get(0).activity());
+        Assert.assertEquals(3, top.get(0).sessionSamples());
+        Assert.assertEquals(1.5, top.get(0).averageActiveSessions(), 0.001);
+        Assert.assertEquals("select 2", top.get(1).activity().query());
+        Assert.assertEquals(0.5, top.get(1).averageActiveSessions(), 0.001);
+
+        // Time window
+        top = history.getTopActivity(1500, 3000, 10);
+        Assert.assertEquals(1, top.size());
+        Assert.assertEquals(1.0, top.get(0).averageActiveSessions(), 0.001);
+
+        List<ServerSessionHistory.TimelinePoint> timeline = history.getTimeline(0, 3000, 1000);
+        Assert.assertEquals(2, timeline.size());
+        Assert.assertEquals(1000, timeline.get(0).startTime());
+        Assert.assertEquals(3.0, timeline.get(0).averageActiveSessions(), 0.001);
+        Assert.assertEquals(1.0, timeline.get(1).averageActiveSessions(), 0.001);
+    }
+
+    @Test
+    public void shouldEvictOldSamplesAndActivities() {
+        ServerSessionHistory history = new ServerSessionHistory(3);
+        for (int i = 0; i < 100; i++) {
+            history.addSample(i, List.of(new TestSession("select " + i, "active", null, "alice")));
+        }
+        Assert.assertEquals(3, history.getSampleCount());
+        // Activities of evicted samples are released
+        Assert.assertEquals(3, history.getActivityCount());
+
+        List<ServerSessionHistory.ActivityStat> top = history.getTopActivity(0, 100, 10);
+        Assert.assertEquals(3, top.size());
+        for (ServerSessionHistory.ActivityStat stat : top) {
+            Assert.assertTrue(stat.activity().query().compareTo("select 97") >= 0);
+        }
+        Assert.assertEquals(1, history.getTopActivity(0, 100, 1).size());
+    }
+
+    private static class TestSession extends AbstractServerSession {
+        private final String query;
+        private final String state;
+        private final String waitEvent;
+        private final String user;
+
+        TestSession(String query, String state, String waitEvent, String user) {
+            this.query = query;
+            this.state = state;
+            this.waitEvent = waitEvent;
+            this.user = user;
+        }
+
+        @Override
+        public String getActiveQuery() {
+            return query;
+        }
+
+        @Override
+        public boolean isActiveSession() {
+            return "active".equals(state);
+        }
+
+        @Override
+        public String getSessionUser() {
+            return user;
+        }
+
+        @Override
+        public String getSessionState() {
+            return state;
+        }
+
+        @Override
+        public String getSessionWaitEvent() {
+            return waitEvent;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.metadata;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SchemaDigestRankerTest {
+
+    private static final List<TableDigest> TABLES = List.of(
+        table("audit_log", "event_time", "message"),
+        table("customers", "id", "name", "email"),
+        table("order_items", Set.of("orders"), "order_id", "product_id", "quantity"),
+        table("orders", Set.of("customers"), "id", "customer_id", "order_date"),
+        table("products", "id", "title", "price")
+    );
+
+    @Test
+    public void tokenizeSplitsIdentifiers() {
+        Assert.assertEquals(
+            List.of("order", "item", "order_item", "customer", "id", "customerid"),
+            SchemaDigestRanker.tokenize("ORDER_ITEMS.customerId"));
+    }
+
+    @Test
+    public void relevantTablesGoFirst() {
+        List<TableDigest> ranked = SchemaDigestRanker.rank(TABLES, "total price of products", null);
+        Assert.assertEquals("products", ranked.get(0).name());
+        Assert.assertEquals("order_items", ranked.get(1).name());
+        // Not matched tables keep schema order
+        Assert.assertEquals("audit_log", ranked.get(2).name());
+    }
+
+    @Test
+    public void referencedTablesAndNeighborsGoFirst() {
+        List<TableDigest> ranked = SchemaDigestRanker.rank(
+            TABLES,
+            "latest ones by date",
+            "select * from ORDERS o where o.id = 10");
+        Assert.assertEquals("orders", ranked.get(0).name());
+        Assert.assertEquals(Set.of("customers", "order_items"), Set.of(ranked.get(1).name(), ranked.get(2).name()));
+        Assert.assertEquals("audit_log", ranked.get(3).name());
+    }
+
+    @Test
+    public void assembleFitsMaxLength() {
+        String prompt = SchemaDigestRanker.assemble(TABLES, 80, table -> false);
+        Assert.assertTrue(prompt.length() <= 80);
+        Assert.assertTrue(prompt.contains("audit_log("));
+        Assert.assertFalse(prompt.contains("order_items("));
+
+        String qualified = SchemaDigestRanker.assemble(TABLES.subList(0, 1), 1000, table -> true);
+        Assert.assertTrue(qualified.contains("public.audit_log("));
+    }
+
+    private static TableDigest table(String name, String... columns) {
+        return table(name, Set.of(), columns);
+    }
+
+    private static TableDigest table(String name, Set<String> links, String... columns) {
+        StringBuilder terms = new StringBuilder(name);
+        for (String column : columns) {
+            terms.append(' ').append(column);
+        }
+        return new TableDigest(
+            "public." + name,
+            name,
+            null,
+            "\nCreate Table: ",
+            "(\n\t" + String.join(",\n\t", columns) + "\n);",
+            SchemaDigestRanker.tokenize(terms.toString()),
+            links.stream().map(link -> "public." + link).collect(Collectors.toSet())
+        );
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DBDRowComparatorTest {
+
+    @Test
+    public void rowsAreSortedByColumns() {
+        List<Object[]> rows = new ArrayList<>(List.of(
+            new Object[]{"b", 1},
+            new Object[]{"A", 1},
+            new Object[]{"a", 2},
+            new Object[]{null, 3},
+            new Object[]{"B", 5}
+        ));
+        rows.sort(new DBDRowComparator<Object[]>()
+            .addColumn(row -> row[0], false)
+            .addColumn(row -> row[1], true));
+
+        Assert.assertEquals(List.of(2, 1, 5, 1, 3), rows.stream().map(row -> row[1]).toList());
+    }
+}
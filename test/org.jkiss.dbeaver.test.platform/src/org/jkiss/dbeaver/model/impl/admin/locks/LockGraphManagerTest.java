@@ -0,0 +1,189 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.admin.locks;
+
+import org.jkiss.dbeaver.model.admin.locks.DBAServerLock;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class LockGraphManagerTest {
+
+    @Test
+    public void shouldKeepUnchangedGraphs() {
+        TestLockManager manager = new TestLockManager();
+        manager.buildGraphs(locks(new TestLock(1, null), new TestLock(2, 1), new TestLock(3, 1), new TestLock(10, null), new TestLock(11, 10)));
+
+        TestLock lock1 = new TestLock(1, null);
+        LockGraph graph1 = manager.getGraph(lock1);
+        LockGraph graph10 = manager.getGraph(new TestLock(10, null));
+        Assert.assertEquals(3, graph1.getNodes().size());
+        Assert.assertEquals(2, graph1.getMaxWidth());
+        Assert.assertEquals(2, graph10.getNodes().size());
+        LockGraphNode node11 = graph10.getNodes().get(1);
+        int revision11 = node11.getRevision();
+
+        // Lock 3 is released, lock 4 waits for lock 2
+        Map<Object, TestLock> snapshot = locks(lock1, new TestLock(2, 1), new TestLock(4, 2), new TestLock(10, null), new TestLock(11, 10));
+        manager.buildGraphs(snapshot);
+
+        Assert.assertSame(graph1, manager.getGraph(lock1));
+        Assert.assertSame(lock1, graph1.getLockRoot());
+        Assert.assertEquals(3, graph1.getNodes().size());
+        Assert.assertEquals(1, graph1.getMaxWidth());
+        Assert.assertEquals(2, graph1.getNodes().get(2).getLevel());
+
+        // Graph of lock 10 was not touched
+        Assert.assertSame(node11, graph10.getNodes().get(1));
+        Assert.assertSame(snapshot.get(11), node11.getLock());
+        Assert.assertEquals(revision11, node11.getRevision());
+        Assert.assertSame(graph10, manager.getGraph(new TestLock(11, 10)));
+    }
+
+    @Test
+    public void shouldMergeAndSplitGraphs() {
+        TestLockManager manager = new TestLockManager();
+        manager.buildGraphs(locks(new TestLock(1, null), new TestLock(2, 1), new TestLock(10, null), new TestLock(11, 10)));
+        LockGraph graph1 = manager.getGraph(new TestLock(1, null));
+
+        // Lock 10 now waits for lock 2
+        manager.buildGraphs(locks(new TestLock(1, null), new TestLock(2, 1), new TestLock(10, 2), new TestLock(11, 10)));
+        Assert.assertSame(graph1, manager.getGraph(new TestLock(11, 10)));
+        Assert.assertEquals(4, graph1.getNodes().size());
+        Assert.assertEquals(3, graph1.getNodes().get(3).getLevel());
+
+        // Lock 1 is released
+        manager.buildGraphs(locks(new TestLock(2, 1), new TestLock(10, 2), new TestLock(11, 10)));
+        LockGraph graph2 = manager.getGraph(new TestLock(11, 10));
+        Assert.assertNotSame(graph1, graph2);
+        Assert.assertEquals(2, graph2.getLockRoot().getId());
+        Assert.assertEquals(3, graph2.getNodes().size());
+        Assert.assertNull(manager.getGraph(new TestLock(1, null)));
+    }
+
+    @Test
+    public void shouldDetectDeadlocks() {
+        TestLockManager manager = new TestLockManager();
+        manager.buildGraphs(locks(new TestLock(1, null), new TestLock(2, 1), new TestLock(3, 2), new TestLock(4, 3)));
+        Assert.assertTrue(manager.getDeadlockedLocks().isEmpty());
+
+        // Lock 1 waits for lock 3: 1 -> 3 -> 2 -> 1, lock 4 waits for the cycle
+        manager.buildGraphs(locks(new TestLock(1, 3), new TestLock(2, 1), new TestLock(3, 2), new TestLock(4, 3)));
+        Set<Object> deadlocked = new HashSet<>();
+        for (DBAServerLock lock : manager.getDeadlockedLocks()) {
+            deadlocked.add(lock.getId());
+        }
+        Assert.assertEquals(Set.of(1, 2, 3), deadlocked);
+        Assert.assertFalse(manager.isDeadlocked(new TestLock(4, 3)));
+
+        LockGraph graph = manager.getGraph(new TestLock(4, 3));
+        Assert.assertNotNull(graph);
+        Assert.assertEquals(4, graph.getNodes().size());
+        Assert.assertSame(graph, manager.getGraph(new TestLock(1, 3)));
+        for (LockGraphNode node : graph.getNodes()) {
+            Assert.assertEquals(node.getLock().getId() != (Object) 4, node.isDeadlocked());
+        }
+
+        // Lock 2 is released
+        manager.buildGraphs(locks(new TestLock(1, 3), new TestLock(3, 2), new TestLock(4, 3)));
+        Assert.assertTrue(manager.getDeadlockedLocks().isEmpty());
+        graph = manager.getGraph(new TestLock(4, 3));
+        Assert.assertEquals(3, graph.getLockRoot().getId());
+        Assert.assertEquals(3, graph.getNodes().size());
+        for (LockGraphNode node : graph.getNodes()) {
+            Assert.assertFalse(node.isDeadlocked());
+        }
+    }
+
+    @Test
+    public void shouldHighlightBlockingChain() {
+        TestLockManager manager = new TestLockManager();
+        manager.buildGraphs(locks(new TestLock(1, null), new TestLock(2, 1), new TestLock(3, 2), new TestLock(4, 1)));
+        LockGraph graph = manager.getGraph(new TestLock(3, 2));
+
+        Set<Object> chain = new HashSet<>();
+        for (LockGraphNode node : graph.getNodes()) {
+            if (node.isBlockingChain()) {
+                chain.add(node.getLock().getId());
+            }
+        }
+        Assert.assertEquals(Set.of(1, 2, 3), chain);
+
+        manager.getGraph(new TestLock(4, 1));
+        chain.clear();
+        for (LockGraphNode node : graph.getNodes()) {
+            if (node.isBlockingChain()) {
+                chain.add(node.getLock().getId());
+            }
+        }
+        Assert.assertEquals(Set.of(1, 4), chain);
+    }
+
+    private static Map<Object, TestLock> locks(TestLock... locks) {
+        Map<Object, TestLock> result = new LinkedHashMap<>();
+        for (TestLock lock : locks) {
+            result.put(lock.getId(), lock);
+        }
+        return result;
+    }
+
+    private static class TestLockManager extends LockGraphManager {
+    }
+
+    private static class TestLock implements DBAServerLock {
+        private final Integer id;
+        private final Integer holdId;
+        private final List<DBAServerLock> waiters = new ArrayList<>();
+        private DBAServerLock holdBy;
+
+        TestLock(Integer id, Integer holdId) {
+            this.id = id;
+            this.holdId = holdId;
+        }
+
+        @Override
+        public String getTitle() {
+            return String.valueOf(id);
+        }
+
+        @Override
+        public Object getId() {
+            return id;
+        }
+
+        @Override
+        public DBAServerLock getHoldBy() {
+            return holdBy;
+        }
+
+        @Override
+        public void setHoldBy(DBAServerLock lock) {
+            this.holdBy = lock;
+        }
+
+        @Override
+        public Object getHoldID() {
+            return holdId;
+        }
+
+        @Override
+        public List<DBAServerLock> waitThis() {
+            return waiters;
+        }
+    }
+}
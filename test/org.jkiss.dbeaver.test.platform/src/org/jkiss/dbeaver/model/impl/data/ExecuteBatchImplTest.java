@@ -0,0 +1,172 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceInfo;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDValueBinder;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.test.platform.TestProgressMonitor;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+
+public class ExecuteBatchImplTest {
+
+    private DBCSession session;
+    private DBCStatement statement;
+    private TestProgressMonitor monitor;
+    private DBSAttributeBase[] attributes;
+    private int preparedCount;
+
+    @Before
+    public void init() throws DBCException {
+        monitor = new TestProgressMonitor();
+        DBPDataSourceInfo info = Mockito.mock(DBPDataSourceInfo.class);
+        Mockito.when(info.supportsBatchUpdates()).thenReturn(true);
+        DBPDataSource dataSource = Mockito.mock(DBPDataSource.class);
+        Mockito.when(dataSource.getInfo()).thenReturn(info);
+        session = Mockito.mock(DBCSession.class);
+        Mockito.when(session.getDataSource()).thenReturn(dataSource);
+        Mockito.when(session.getProgressMonitor()).thenReturn(monitor);
+
+        DBDAttributeBinding attribute = Mockito.mock(DBDAttributeBinding.class);
+        Mockito.when(attribute.getValueHandler()).thenReturn(Mockito.mock(DBDValueHandler.class));
+        attributes = new DBSAttributeBase[]{attribute};
+
+        statement = Mockito.mock(DBCStatement.class);
+        Mockito.when(statement.executeStatementBatch()).thenAnswer(invocation -> new int[]{1});
+        preparedCount = 0;
+    }
+
+    @Test
+    public void reusedStatementIsExecutedAsBatch() throws DBCException {
+        ExecuteBatchImpl batch = createBatch(true);
+        batch.add(new Object[]{1});
+        batch.add(new Object[]{2});
+        batch.add(new Object[]{3});
+        DBCStatistics statistics = batch.execute(session, Collections.emptyMap());
+
+        Assert.assertEquals(1, preparedCount);
+        Mockito.verify(statement, Mockito.times(3)).addToBatch();
+        Mockito.verify(statement, Mockito.times(1)).executeStatementBatch();
+        Mockito.verify(statement, Mockito.never()).executeStatement();
+        Assert.assertEquals(3, batch.getExecutedCount());
+        Assert.assertEquals(1, statistics.getRowsUpdated());
+    }
+
+    @Test
+    public void notReusedStatementIsExecutedPerRow() throws DBCException {
+        ExecuteBatchImpl batch = createBatch(false);
+        batch.add(new Object[]{1});
+        batch.add(new Object[]{2});
+        batch.execute(session, Collections.emptyMap());
+
+        Assert.assertEquals(2, preparedCount);
+        Mockito.verify(statement, Mockito.never()).executeStatementBatch();
+        Mockito.verify(statement, Mockito.times(2)).executeStatement();
+        Assert.assertEquals(2, batch.getExecutedCount());
+    }
+
+    @Test
+    public void nullPatternChangeRestartsBatch() throws DBCException {
+        ExecuteBatchImpl batch = createBatch(true);
+        batch.add(new Object[]{1});
+        batch.add(new Object[]{null});
+        batch.add(new Object[]{null});
+        batch.execute(session, Collections.emptyMap());
+
+        Assert.assertEquals(2, preparedCount);
+        Mockito.verify(statement, Mockito.times(2)).executeStatementBatch();
+        Assert.assertEquals(3, batch.getExecutedCount());
+    }
+
+    @Test
+    public void valueBinderDisablesStatementReuse() throws DBCException {
+        DBDAttributeBinding attribute = Mockito.mock(DBDAttributeBinding.class);
+        Mockito.when(attribute.getValueHandler()).thenReturn(Mockito.mock(DBDValueBinder.class));
+        attributes = new DBSAttributeBase[]{attribute};
+        ExecuteBatchImpl batch = createBatch(true);
+        batch.add(new Object[]{1});
+        batch.add(new Object[]{2});
+        batch.add(new Object[]{3});
+        batch.execute(session, Collections.emptyMap());
+
+        Assert.assertEquals(3, preparedCount);
+        Mockito.verify(statement, Mockito.never()).executeStatementBatch();
+        Mockito.verify(statement, Mockito.times(3)).executeStatement();
+        Assert.assertEquals(3, batch.getExecutedCount());
+    }
+
+    @Test
+    public void cancelFlushesOnlyAddedRows() throws DBCException {
+        Mockito.doAnswer(invocation -> {
+            monitor.setCanceled(true);
+            return null;
+        }).when(statement).addToBatch();
+        ExecuteBatchImpl batch = createBatch(true);
+        batch.add(new Object[]{1});
+        batch.add(new Object[]{2});
+        batch.add(new Object[]{3});
+        batch.execute(session, Collections.emptyMap());
+
+        Mockito.verify(statement, Mockito.times(1)).addToBatch();
+        Mockito.verify(statement, Mockito.times(1)).executeStatementBatch();
+        Assert.assertEquals(1, batch.getExecutedCount());
+    }
+
+    @Test
+    public void failedBatchCountsRowsBeforeFailure() throws DBCException {
+        BatchUpdateException batchError = new BatchUpdateException(new int[]{1, 1, Statement.EXECUTE_FAILED});
+        Mockito.when(statement.executeStatementBatch()).thenThrow(new DBCException("Batch failed", batchError));
+        ExecuteBatchImpl batch = createBatch(true);
+        for (int i = 0; i < 4; i++) {
+            batch.add(new Object[]{i});
+        }
+        Assert.assertThrows(DBCException.class, () -> batch.execute(session, Collections.emptyMap()));
+        Assert.assertEquals(2, batch.getExecutedCount());
+    }
+
+    @NotNull
+    private ExecuteBatchImpl createBatch(boolean reuseStatement) {
+        return new ExecuteBatchImpl(attributes, null, reuseStatement) {
+            @NotNull
+            @Override
+            protected DBCStatement prepareStatement(@NotNull DBCSession session, DBDValueHandler[] handlers, Object[] attributeValues, Map<String, Object> options) {
+                preparedCount++;
+                return statement;
+            }
+
+            @Override
+            protected void bindStatement(@NotNull DBDValueHandler[] handlers, @NotNull DBCStatement statement, Object[] attributeValues) {
+            }
+        };
+    }
+}
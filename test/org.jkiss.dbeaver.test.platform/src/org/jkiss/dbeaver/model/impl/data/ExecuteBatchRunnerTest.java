@@ -0,0 +1,213 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.edit.DBEPersistAction;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.dbeaver.test.platform.TestProgressMonitor;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+
+public class ExecuteBatchRunnerTest {
+
+    private DBCSession session;
+    private TestProgressMonitor monitor;
+    private TestRunner runner;
+
+    @Before
+    public void init() {
+        monitor = new TestProgressMonitor();
+        session = Mockito.mock(DBCSession.class);
+        Mockito.when(session.getProgressMonitor()).thenReturn(monitor);
+        runner = new TestRunner(3);
+    }
+
+    @Test
+    public void onlyAdjacentStatementsAreGrouped() {
+        List<List<Row>> groups = runner.groupStatements(rows("A", "A", "B", "A", "A", "A", "A"));
+        Assert.assertEquals(
+            List.of(List.of(1, 2), List.of(3), List.of(4, 5, 6), List.of(7)),
+            groups.stream().map(ExecuteBatchRunnerTest::ids).toList());
+    }
+
+    @Test
+    public void statementsAreExecutedInOrder() {
+        Assert.assertNull(runner.execute(session, rows("A", "B", "A"), false));
+        Assert.assertEquals(List.of(List.of(1), List.of(2), List.of(3)), runner.batches);
+        Assert.assertEquals(List.of(1, 2, 3), runner.executed);
+    }
+
+    @Test
+    public void failedStatementIsReported() {
+        runner.failing.add(3);
+        Assert.assertNotNull(runner.execute(session, rows("A", "A", "A", "A"), false));
+        Assert.assertEquals(List.of(List.of(1, 2, 3)), runner.batches);
+        Assert.assertEquals(List.of(1, 2), runner.executed);
+        Assert.assertEquals(List.of(3), runner.failed);
+    }
+
+    @Test
+    public void failedBatchIsRetriedFromFailedStatement() {
+        runner.failing.add(2);
+        runner.failOnlyInBatch = true;
+        Assert.assertNull(runner.execute(session, rows("A", "A", "A", "B"), true));
+        Assert.assertEquals(List.of(List.of(1, 2, 3), List.of(2), List.of(3), List.of(4)), runner.batches);
+        Assert.assertEquals(List.of(1, 2, 3, 4), runner.executed);
+        Assert.assertTrue(runner.failed.isEmpty());
+    }
+
+    @Test
+    public void retryStopsOnFailedStatement() {
+        runner.failing.add(2);
+        Assert.assertNotNull(runner.execute(session, rows("A", "A", "A", "B"), true));
+        Assert.assertEquals(List.of(List.of(1, 2, 3), List.of(2)), runner.batches);
+        Assert.assertEquals(List.of(1), runner.executed);
+        Assert.assertEquals(List.of(2), runner.failed);
+    }
+
+    @Test
+    public void canceledBatchReportsOnlyExecutedStatements() {
+        runner.cancelAfter = 2;
+        Assert.assertNull(runner.execute(session, rows("A", "A", "A", "B"), true));
+        Assert.assertEquals(List.of(List.of(1, 2, 3)), runner.batches);
+        Assert.assertEquals(List.of(1, 2), runner.executed);
+        Assert.assertTrue(runner.failed.isEmpty());
+    }
+
+    @NotNull
+    private static List<Row> rows(String... keys) {
+        List<Row> rows = new ArrayList<>();
+        for (String key : keys) {
+            rows.add(new Row(rows.size() + 1, key));
+        }
+        return rows;
+    }
+
+    @NotNull
+    private static List<Integer> ids(@NotNull List<Row> rows) {
+        return rows.stream().map(Row::id).toList();
+    }
+
+    private record Row(int id, String key) {
+    }
+
+    private class TestRunner extends ExecuteBatchRunner<Row> {
+        private final List<List<Integer>> batches = new ArrayList<>();
+        private final List<Integer> executed = new ArrayList<>();
+        private final List<Integer> failed = new ArrayList<>();
+        private final Set<Integer> failing = new HashSet<>();
+        private boolean failOnlyInBatch;
+        private int cancelAfter = -1;
+
+        TestRunner(int maxBatchSize) {
+            super(maxBatchSize);
+        }
+
+        @NotNull
+        @Override
+        protected Object getBatchKey(@NotNull Row statement) {
+            return statement.key();
+        }
+
+        @NotNull
+        @Override
+        protected DBSDataManipulator.ExecuteBatch openBatch(@NotNull DBCSession session, @NotNull Row statement) {
+            return new TestBatch(this);
+        }
+
+        @NotNull
+        @Override
+        protected Object[] getValues(@NotNull Row statement) {
+            return new Object[]{statement.id()};
+        }
+
+        @Override
+        protected void processBatch(@NotNull DBCSession session, @NotNull DBSDataManipulator.ExecuteBatch batch) throws DBException {
+            batch.execute(session, Collections.emptyMap());
+        }
+
+        @Override
+        protected void statementExecuted(@NotNull Row statement) {
+            executed.add(statement.id());
+        }
+
+        @Override
+        protected void statementFailed(@NotNull DBCSession session, @NotNull Row statement) {
+            failed.add(statement.id());
+        }
+    }
+
+    /**
+     * Executes rows one by one like {@link ExecuteBatchImpl} does
+     */
+    private class TestBatch implements DBSDataManipulator.ExecuteBatch {
+        private final TestRunner runner;
+        private final List<Integer> ids = new ArrayList<>();
+        private int executedCount = -1;
+
+        TestBatch(TestRunner runner) {
+            this.runner = runner;
+        }
+
+        @Override
+        public void add(@NotNull Object[] attributeValues) {
+            ids.add((Integer) attributeValues[0]);
+        }
+
+        @NotNull
+        @Override
+        public DBCStatistics execute(@NotNull DBCSession session, Map<String, Object> options) throws DBCException {
+            runner.batches.add(List.copyOf(ids));
+            executedCount = 0;
+            for (Integer id : ids) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                if (runner.failing.contains(id) && (ids.size() > 1 || !runner.failOnlyInBatch)) {
+                    throw new DBCException("Row " + id + " failed");
+                }
+                executedCount++;
+                if (id == runner.cancelAfter) {
+                    monitor.setCanceled(true);
+                }
+            }
+            return new DBCStatistics();
+        }
+
+        @Override
+        public void generatePersistActions(@NotNull DBCSession session, @NotNull List<DBEPersistAction> actions, Map<String, Object> options) {
+        }
+
+        @Override
+        public int getExecutedCount() {
+            return executedCount;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data.formatters;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class NumberDataFormatterTest {
+
+    @Test
+    public void shouldFormatIntegersLikeDecimalFormat() {
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("hi", "IN")}) {
+            for (int groupingSize = 0; groupingSize <= 3; groupingSize++) {
+                for (int minIntDigits = 0; minIntDigits <= 21; minIntDigits += 3) {
+                    Map<String, Object> properties = new HashMap<>();
+                    properties.put(NumberFormatSample.PROP_USE_GROUPING, groupingSize > 0);
+                    if (groupingSize > 0) {
+                        properties.put(NumberFormatSample.PROP_GROUPING_SIZE, groupingSize);
+                    }
+                    properties.put(NumberFormatSample.PROP_MIN_INT_DIGITS, minIntDigits);
+                    NumberDataFormatter formatter = new NumberDataFormatter();
+                    formatter.init(null, locale, properties);
+
+                    DecimalFormat expectedFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+                    expectedFormat.setGroupingUsed(groupingSize > 0);
+                    if (groupingSize > 0) {
+                        expectedFormat.setGroupingSize(groupingSize);
+                    }
+                    expectedFormat.setMinimumIntegerDigits(minIntDigits);
+
+                    Random random = new Random(groupingSize * 100L + minIntDigits);
+                    for (int i = 0; i < 1000; i++) {
+                        long value = switch (i) {
+                            case 0 -> Long.MIN_VALUE;
+                            case 1 -> Long.MAX_VALUE;
+                            case 2 -> 0;
+                            default -> random.nextLong() >> random.nextInt(64);
+                        };
+                        assertEquals(expectedFormat.format(value), formatter.formatValue(value));
+                        assertEquals(expectedFormat.format((int) value), formatter.formatValue((int) value));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldAppendToBuffer() {
+        NumberDataFormatter formatter = new NumberDataFormatter();
+        formatter.init(null, Locale.US, Map.of(NumberFormatSample.PROP_USE_GROUPING, true));
+        StringBuilder buffer = new StringBuilder("value: ");
+        formatter.formatValue(1234567L, buffer);
+        buffer.append("; ");
+        formatter.formatValue(null, buffer);
+        formatter.formatValue(12.5, buffer);
+        assertEquals("value: 1,234,567; 12.5", buffer.toString());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.navigator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class DBNEventQueueTest {
+
+    @Test
+    public void lastEventOfNodeWins() {
+        DBNNode node = Mockito.mock(DBNNode.class);
+        DBNEventQueue queue = new DBNEventQueue();
+        DBNEvent load1 = new DBNEvent(this, DBNEvent.Action.UPDATE, DBNEvent.NodeChange.LOAD, node);
+        DBNEvent unload = new DBNEvent(this, DBNEvent.Action.UPDATE, DBNEvent.NodeChange.UNLOAD, node);
+        DBNEvent load2 = new DBNEvent(this, DBNEvent.Action.UPDATE, DBNEvent.NodeChange.LOAD, node);
+        queue.add(load1);
+        queue.add(unload);
+        queue.add(load2);
+
+        Assert.assertEquals(List.of(unload, load2), queue.takeAll());
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void eventsOfDifferentNodesKeepOrder() {
+        DBNNode node1 = Mockito.mock(DBNNode.class);
+        DBNNode node2 = Mockito.mock(DBNNode.class);
+        DBNEventQueue queue = new DBNEventQueue();
+        DBNEvent update1 = new DBNEvent(this, DBNEvent.Action.UPDATE, node1);
+        DBNEvent update2 = new DBNEvent(this, DBNEvent.Action.UPDATE, node2);
+        DBNEvent remove1 = new DBNEvent(this, DBNEvent.Action.REMOVE, node1);
+        queue.add(update1);
+        queue.add(update2);
+        queue.add(update1);
+        queue.add(remove1);
+
+        Assert.assertEquals(List.of(update2, update1, remove1), queue.takeAll());
+    }
+}
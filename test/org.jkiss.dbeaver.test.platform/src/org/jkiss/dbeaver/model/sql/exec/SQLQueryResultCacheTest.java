@@ -0,0 +1,192 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.List;
+
+public class SQLQueryResultCacheTest {
+
+    private static final List<SQLQueryResultCache.CachedColumn> COLUMNS = List.of(
+        new SQLQueryResultCache.CachedColumn("ID", "int4", "int4", 4, DBPDataKind.NUMERIC, 0, 10, 4, 0),
+        new SQLQueryResultCache.CachedColumn("NAME", "varchar", "varchar(100)", 12, DBPDataKind.STRING, null, null, 100, 0));
+    private static final List<Object[]> ROWS = List.of(new Object[]{1, "first"}, new Object[]{2, "second"});
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private SQLQueryResultCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new SQLQueryResultCache(folder.getRoot().toPath());
+    }
+
+    @Test
+    public void queryTextCaseIsKept() {
+        Assert.assertEquals(
+            "select * from Users where name = 'Bob'",
+            SQLQueryResultCache.normalizeQueryText("  select *\n\tfrom Users -- all users\n where /* name */ name = 'Bob'  "));
+        Assert.assertNotEquals(
+            SQLQueryResultCache.normalizeQueryText("select * from users"),
+            SQLQueryResultCache.normalizeQueryText("select * from USERS"));
+        Assert.assertNotEquals(
+            SQLQueryResultCache.normalizeQueryText("select * from \"Users\""),
+            SQLQueryResultCache.normalizeQueryText("select * from \"USERS\""));
+    }
+
+    @Test
+    public void quotedTextIsKept() {
+        Assert.assertEquals("select 'a  -- b' , `x  y`", SQLQueryResultCache.normalizeQueryText("select 'a  -- b' ,\n`x  y`"));
+        Assert.assertEquals("select 'it''s  /* a */'", SQLQueryResultCache.normalizeQueryText("select 'it''s  /* a */'"));
+        Assert.assertEquals("select $q$a  b$q$, $1", SQLQueryResultCache.normalizeQueryText("select $q$a  b$q$,  $1"));
+        Assert.assertEquals("select /*+ FULL(t) */ 1", SQLQueryResultCache.normalizeQueryText("select  /*+ FULL(t) */ 1"));
+    }
+
+    @Test
+    public void dialectCommentsAreKept() {
+        // 1--1 is an expression in MySQL, everything after # is a comment
+        Assert.assertNotEquals(
+            SQLQueryResultCache.normalizeQueryText("select 1--1"),
+            SQLQueryResultCache.normalizeQueryText("select 1--2"));
+        Assert.assertNotEquals(
+            SQLQueryResultCache.normalizeQueryText("select 1 # x\n+2"),
+            SQLQueryResultCache.normalizeQueryText("select 1 # x +2"));
+    }
+
+    @Test
+    public void allValueTypesAreRestored() {
+        Timestamp timestamp = new Timestamp(1_700_000_000_000L);
+        timestamp.setNanos(123_456_789);
+        Object[] row = {
+            null,
+            "text",
+            "x".repeat(70_000),
+            true,
+            (byte) 7,
+            (short) 300,
+            100_000,
+            10_000_000_000L,
+            1.5f,
+            2.25d,
+            new BigDecimal("12345678901234567890.123456789"),
+            new BigInteger("123456789012345678901234567890"),
+            timestamp,
+            new java.sql.Date(1_700_000_000_000L),
+            new Time(43_200_000L),
+            new Date(1_700_000_000_000L),
+            LocalDate.of(2024, 2, 29),
+            LocalTime.of(23, 59, 58, 1000),
+            LocalDateTime.of(2024, 2, 29, 23, 59, 58, 1000),
+            new byte[]{0, 1, -1, 127},
+        };
+        SQLQueryResultCache.CacheKey key = makeKey("ds", "select all_types");
+        Assert.assertTrue(cache.put(key, COLUMNS, List.<Object[]>of(row), Long.MAX_VALUE));
+
+        SQLQueryResultCache.CachedResult result = cache.get(key, Long.MAX_VALUE);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(COLUMNS, result.columns());
+        Assert.assertEquals(1, result.rows().size());
+        Object[] restored = result.rows().get(0);
+        Assert.assertEquals(row.length, restored.length);
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] instanceof byte[] bytes) {
+                Assert.assertArrayEquals(bytes, (byte[]) restored[i]);
+            } else {
+                Assert.assertEquals(row[i], restored[i]);
+                Assert.assertSame(row[i] == null ? null : row[i].getClass(), restored[i] == null ? null : restored[i].getClass());
+            }
+        }
+    }
+
+    @Test
+    public void unsupportedValuesAreNotCached() {
+        SQLQueryResultCache.CacheKey key = makeKey("ds", "select object");
+        Assert.assertFalse(cache.put(key, COLUMNS, List.<Object[]>of(new Object[]{1, new Object()}), Long.MAX_VALUE));
+        Assert.assertNull(cache.get(key, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void leastRecentlyUsedResultIsEvicted() {
+        SQLQueryResultCache.CacheKey key1 = makeKey("ds", "select 1");
+        SQLQueryResultCache.CacheKey key2 = makeKey("ds", "select 2");
+        SQLQueryResultCache.CacheKey key3 = makeKey("ds", "select 3");
+        SQLQueryResultCache.CacheKey key4 = makeKey("ds", "select 4");
+        cache.put(key1, COLUMNS, ROWS, Long.MAX_VALUE);
+        long entrySize = cache.getTotalSize();
+        cache.put(key2, COLUMNS, ROWS, Long.MAX_VALUE);
+        cache.put(key3, COLUMNS, ROWS, Long.MAX_VALUE);
+        Assert.assertEquals(entrySize * 3, cache.getTotalSize());
+
+        Assert.assertNotNull(cache.get(key1, Long.MAX_VALUE));
+        cache.put(key4, COLUMNS, ROWS, entrySize * 3);
+
+        Assert.assertEquals(entrySize * 3, cache.getTotalSize());
+        Assert.assertNull(cache.get(key2, Long.MAX_VALUE));
+        Assert.assertNotNull(cache.get(key1, Long.MAX_VALUE));
+        Assert.assertNotNull(cache.get(key3, Long.MAX_VALUE));
+        Assert.assertNotNull(cache.get(key4, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void expiredResultIsRemoved() {
+        SQLQueryResultCache.CacheKey key = makeKey("ds", "select 1");
+        cache.put(key, COLUMNS, ROWS, Long.MAX_VALUE);
+        Assert.assertNotNull(cache.get(key, Long.MAX_VALUE));
+
+        Assert.assertNull(cache.get(key, -1));
+        Assert.assertNull(cache.get(key, Long.MAX_VALUE));
+        Assert.assertEquals(0, cache.getTotalSize());
+        Assert.assertArrayEquals(new String[0], folder.getRoot().list());
+    }
+
+    @Test
+    public void invalidateRemovesDataSourceResults() {
+        SQLQueryResultCache.CacheKey key1 = makeKey("ds1", "select 1");
+        SQLQueryResultCache.CacheKey key2 = makeKey("ds1", "select 2");
+        SQLQueryResultCache.CacheKey key3 = makeKey("ds2", "select 1");
+        cache.put(key1, COLUMNS, ROWS, Long.MAX_VALUE);
+        long entrySize = cache.getTotalSize();
+        cache.put(key2, COLUMNS, ROWS, Long.MAX_VALUE);
+        cache.put(key3, COLUMNS, ROWS, Long.MAX_VALUE);
+
+        cache.invalidate("ds1");
+
+        Assert.assertEquals(entrySize, cache.getTotalSize());
+        Assert.assertNull(cache.get(key1, Long.MAX_VALUE));
+        Assert.assertNull(cache.get(key2, Long.MAX_VALUE));
+        Assert.assertNotNull(cache.get(key3, Long.MAX_VALUE));
+    }
+
+    private static SQLQueryResultCache.CacheKey makeKey(String containerId, String queryText) {
+        return new SQLQueryResultCache.CacheKey(containerId, null, null, queryText, 0, 200);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SQLScriptBatchExecutorTest {
+
+    private final List<SQLQuery> queries = new ArrayList<>();
+    private final List<String> batch = new ArrayList<>();
+    private final List<String> applied = new ArrayList<>();
+    private DBCStatement statement;
+
+    @Before
+    public void init() throws DBCException {
+        for (int i = 0; i < 4; i++) {
+            queries.add(new SQLQuery(null, "insert into t values (" + i + ")"));
+        }
+        statement = Mockito.mock(DBCStatement.class);
+        Mockito.doAnswer(invocation -> batch.add(invocation.getArgument(0)))
+            .when(statement).addToBatch(Mockito.anyString());
+    }
+
+    @Test
+    public void successfulBatch() throws DBCException {
+        Mockito.when(statement.executeStatementBatch()).thenReturn(new int[]{1, 2, 1});
+        SQLScriptBatchExecutor executor = new SQLScriptBatchExecutor(queries, 10);
+
+        SQLScriptBatchExecutor.BatchResult result = executor.executeBatch(statement, 0, 3);
+
+        Assert.assertNull(result.error());
+        Assert.assertTrue(result.resumable());
+        Assert.assertEquals(3, result.executedCount());
+        Assert.assertEquals(3, result.statementsCount());
+        Assert.assertEquals(4, result.updateCount());
+    }
+
+    @Test
+    public void batchUpdateErrorContinuesFromFailedQuery() throws DBCException {
+        BatchUpdateException error = new BatchUpdateException(new int[]{1, Statement.EXECUTE_FAILED, 1});
+        Mockito.when(statement.executeStatementBatch()).thenThrow(new DBCException("Batch failed", error));
+        SQLScriptBatchExecutor executor = new SQLScriptBatchExecutor(queries, 10);
+
+        SQLScriptBatchExecutor.BatchResult result = executor.executeBatch(statement, 0, 3);
+
+        Assert.assertTrue(result.resumable());
+        Assert.assertEquals(1, result.executedCount());
+        Assert.assertEquals(2, result.statementsCount());
+        Assert.assertFalse(executor.isExecuted(1));
+        Assert.assertTrue(executor.isExecuted(2));
+    }
+
+    @Test
+    public void partiallyAppliedBatchIsNotResumed() throws DBCException {
+        // Driver applies first queries and fails without update counts
+        Mockito.when(statement.executeStatementBatch()).thenAnswer(invocation -> {
+            applied.addAll(batch.subList(0, 2));
+            throw new DBCException("Batch failed", new SQLException("Duplicate key"));
+        });
+        SQLScriptBatchExecutor executor = new SQLScriptBatchExecutor(queries, 10);
+
+        SQLScriptBatchExecutor.BatchResult result = executor.executeBatch(statement, 0, 3);
+
+        Assert.assertEquals(2, applied.size());
+        Assert.assertNotNull(result.error());
+        Assert.assertFalse(result.resumable());
+        Assert.assertEquals(0, result.executedCount());
+        Assert.assertEquals(0, result.statementsCount());
+        for (int i = 0; i < queries.size(); i++) {
+            Assert.assertFalse(executor.isExecuted(i));
+        }
+    }
+
+    @Test
+    public void errorBeforeExecutionIsResumed() throws DBCException {
+        Mockito.doThrow(new DBCException("Batches are not supported")).when(statement).addToBatch(Mockito.anyString());
+        SQLScriptBatchExecutor executor = new SQLScriptBatchExecutor(queries, 10);
+
+        SQLScriptBatchExecutor.BatchResult result = executor.executeBatch(statement, 0, 3);
+
+        Assert.assertNotNull(result.error());
+        Assert.assertTrue(result.resumable());
+        Assert.assertEquals(0, result.executedCount());
+        Mockito.verify(statement, Mockito.never()).executeStatementBatch();
+    }
+}
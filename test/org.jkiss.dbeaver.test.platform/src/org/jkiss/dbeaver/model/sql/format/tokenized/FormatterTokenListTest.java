@@ -0,0 +1,74 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.format.tokenized;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FormatterTokenListTest {
+
+    @Test
+    public void shouldBehaveLikeArrayList() {
+        List<FormatterToken> initial = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            initial.add(new FormatterToken(TokenType.NAME, "t" + i));
+        }
+        List<FormatterToken> expected = new ArrayList<>(initial);
+        List<FormatterToken> actual = new FormatterTokenList(initial);
+
+        Random random = new Random(1);
+        int position = 0;
+        for (int i = 0; i < 10000; i++) {
+            // Mostly local modifications, as formatter does, with occasional jumps
+            position = random.nextInt(10) == 0 ?
+                random.nextInt(expected.size() + 1) :
+                Math.max(0, Math.min(expected.size(), position + random.nextInt(5) - 2));
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    FormatterToken token = new FormatterToken(TokenType.SPACE, " " + i);
+                    expected.add(position, token);
+                    actual.add(position, token);
+                }
+                case 1 -> {
+                    if (position < expected.size()) {
+                        assertEquals(expected.remove(position), actual.remove(position));
+                    }
+                }
+                default -> {
+                    if (position < expected.size()) {
+                        FormatterToken token = new FormatterToken(TokenType.VALUE, "v" + i);
+                        assertEquals(expected.set(position, token), actual.set(position, token));
+                    }
+                }
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldCheckBounds() {
+        List<FormatterToken> list = new FormatterTokenList(List.of(new FormatterToken(TokenType.NAME, "a")));
+        list.remove(0);
+        list.get(0);
+    }
+}
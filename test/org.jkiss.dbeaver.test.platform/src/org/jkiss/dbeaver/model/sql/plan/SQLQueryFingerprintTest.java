@@ -0,0 +1,77 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.plan;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+
+public class SQLQueryFingerprintTest {
+
+    @Test
+    public void literalsAreReplaced() {
+        SQLQueryFingerprint fingerprint = SQLQueryFingerprint.of("select * from orders where id = 10 and status = 'NEW'");
+        Assert.assertEquals("SELECT * FROM ORDERS WHERE ID = ? AND STATUS = ?", fingerprint.text());
+        Assert.assertEquals(
+            fingerprint,
+            SQLQueryFingerprint.of("SELECT *\n  FROM orders -- all orders\n WHERE id = 42 AND status = 'CLOSED'"));
+    }
+
+    @Test
+    public void parametersMatchLiterals() {
+        Assert.assertEquals(
+            SQLQueryFingerprint.of("select name from users where id = 1").hash(),
+            SQLQueryFingerprint.of("select name from users where id = ?").hash());
+    }
+
+    @Test
+    public void literalListsAreCollapsed() {
+        Assert.assertEquals(
+            SQLQueryFingerprint.of("select * from users where id in (1)"),
+            SQLQueryFingerprint.of("select * from users where id in (1, 2, 3, 4)"));
+    }
+
+    @Test
+    public void quotedIdentifiersAreKept() {
+        Assert.assertNotEquals(
+            SQLQueryFingerprint.of("select * from \"Users\""),
+            SQLQueryFingerprint.of("select * from \"USERS\""));
+    }
+
+    @Test
+    public void differentQueriesDiffer() {
+        Assert.assertNotEquals(
+            SQLQueryFingerprint.of("select * from users where id = 1").hash(),
+            SQLQueryFingerprint.of("select * from users where name = 1").hash());
+    }
+
+    @Test
+    public void literalsAreMasked() {
+        Assert.assertEquals(
+            "Filter: ((status = ?) AND (id > ?))",
+            SQLQueryFingerprint.maskLiterals("Filter: ((status = 'NEW') AND (id > 42))"));
+    }
+
+    @Test
+    public void longestWordIsInQuery() {
+        String word = SQLQueryFingerprint.getLongestWord(SQLQueryFingerprint.of("select * from customer_orders where id = 1").text());
+        Assert.assertEquals("CUSTOMER_ORDERS", word);
+        Assert.assertTrue(SQLQueryFingerprint.containsAnyWord("SELECT * FROM Customer_Orders WHERE id=2", Set.of(word)));
+        Assert.assertFalse(SQLQueryFingerprint.containsAnyWord("SELECT * FROM customer WHERE id=2", Set.of(word)));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import org.jkiss.dbeaver.DBException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompositeTaskStepTest {
+
+    @Test
+    public void stepsAreSortedByDependencies() throws DBException {
+        List<CompositeTaskStep> steps = CompositeTaskStep.loadSteps(Map.of(CompositeTaskStep.PROP_STEPS, List.of(
+            Map.of("id", "import", "task", "task-import", "dependsOn", List.of("export", "cleanup")),
+            Map.of("id", "export", "task", "task-export"),
+            Map.of("id", "report", "task", "task-report", "dependsOn", List.of("import")),
+            Map.of("id", "cleanup", "task", "task-cleanup")
+        )));
+        Assert.assertEquals(List.of("export", "cleanup", "import", "report"), getIds(steps));
+    }
+
+    @Test
+    public void stepIdDefaultsToTaskId() throws DBException {
+        List<CompositeTaskStep> steps = CompositeTaskStep.loadSteps(Map.of(CompositeTaskStep.PROP_STEPS, List.of(
+            Map.of("task", "task-export"),
+            Map.of("task", "task-import", "dependsOn", List.of("task-export"), "onFailure", "stop")
+        )));
+        Assert.assertEquals(List.of("task-export", "task-import"), getIds(steps));
+        Assert.assertEquals(CompositeTaskStep.FailurePolicy.SKIP_DEPENDENTS, steps.get(0).getFailurePolicy());
+        Assert.assertEquals(CompositeTaskStep.FailurePolicy.STOP, steps.get(1).getFailurePolicy());
+    }
+
+    @Test
+    public void circularDependenciesAreRejected() {
+        DBException error = Assert.assertThrows(DBException.class, () -> CompositeTaskStep.loadSteps(Map.of(
+            CompositeTaskStep.PROP_STEPS, List.of(
+                Map.of("id", "first", "task", "task-1"),
+                Map.of("id", "second", "task", "task-2", "dependsOn", List.of("third")),
+                Map.of("id", "third", "task", "task-3", "dependsOn", List.of("second"))
+            ))));
+        Assert.assertTrue(error.getMessage(), error.getMessage().endsWith("second, third"));
+    }
+
+    @Test
+    public void unknownDependenciesAreRejected() {
+        Assert.assertThrows(DBException.class, () -> CompositeTaskStep.loadSteps(Map.of(
+            CompositeTaskStep.PROP_STEPS, List.of(
+                Map.of("id", "import", "task", "task-import", "dependsOn", List.of("export"))
+            ))));
+    }
+
+    @Test
+    public void savedStepsAreLoaded() throws DBException {
+        List<CompositeTaskStep> steps = List.of(
+            new CompositeTaskStep("export", "task-export", List.of(), CompositeTaskStep.FailurePolicy.CONTINUE),
+            new CompositeTaskStep("import", "task-import", List.of("export"), CompositeTaskStep.FailurePolicy.SKIP_DEPENDENTS)
+        );
+        Map<String, Object> properties = new HashMap<>();
+        CompositeTaskStep.saveSteps(properties, steps);
+
+        List<CompositeTaskStep> loaded = CompositeTaskStep.loadSteps(properties);
+        Assert.assertEquals(getIds(steps), getIds(loaded));
+        Assert.assertEquals(CompositeTaskStep.FailurePolicy.CONTINUE, loaded.get(0).getFailurePolicy());
+        Assert.assertEquals(List.of("export"), loaded.get(1).getDependsOn());
+    }
+
+    private static List<String> getIds(List<CompositeTaskStep> steps) {
+        return steps.stream().map(CompositeTaskStep::getId).toList();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.test.platform;
+
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+
+/**
+ * Progress monitor for unit tests.
+ * Doesn't depend on the workbench, can be canceled by the test and counts sub-tasks.
+ */
+public class TestProgressMonitor extends VoidProgressMonitor {
+
+    private volatile boolean canceled;
+    private int subTaskCount;
+
+    @Override
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    public void setCanceled(boolean canceled) {
+        this.canceled = canceled;
+    }
+
+    @Override
+    public void subTask(String name) {
+        subTaskCount++;
+    }
+
+    public int getSubTaskCount() {
+        return subTaskCount;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.test.platform.TestProgressMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+public class CompareDataExecutorTest {
+
+    private final CompareDataExecutor executor = new CompareDataExecutor(Mockito.mock(DBSEntity.class), Mockito.mock(DBSEntity.class));
+    private final TestProgressMonitor monitor = new TestProgressMonitor();
+    private final List<CompareDataDifference> differences = new ArrayList<>();
+
+    @Test
+    public void equalRangesAreSkippedByHash() throws DBException {
+        MemorySide source = new MemorySide(CompareDataHashFunction.POSTGRESQL, rows(1, 25_000));
+        MemorySide target = new MemorySide(CompareDataHashFunction.POSTGRESQL, rows(1, 25_000));
+        target.rows.get(12_344)[1] = "changed";
+
+        compare(source, target);
+
+        Assert.assertEquals(1, differences.size());
+        Assert.assertEquals(CompareDataDifference.Type.DIFFERENT, differences.get(0).getType());
+        Assert.assertEquals(2, executor.getHashedRangeCount());
+        Assert.assertEquals(1, executor.getMergedRangeCount());
+        Assert.assertEquals(10_000, source.readRowCount);
+        Assert.assertEquals(25_000, executor.getSourceRowCount());
+        Assert.assertEquals(25_000, executor.getTargetRowCount());
+    }
+
+    @Test
+    public void rowsOutsideOfSourceKeysAreCompared() throws DBException {
+        MemorySide source = new MemorySide(CompareDataHashFunction.MYSQL, rows(1, 25_000));
+        MemorySide target = new MemorySide(CompareDataHashFunction.MYSQL, rows(0, 25_001));
+
+        compare(source, target);
+
+        Assert.assertEquals(2, differences.size());
+        Assert.assertEquals(CompareDataDifference.Type.MISSING_IN_SOURCE, differences.get(0).getType());
+        Assert.assertEquals(0, differences.get(0).getKeyValues()[0]);
+        Assert.assertEquals(CompareDataDifference.Type.MISSING_IN_SOURCE, differences.get(1).getType());
+        Assert.assertEquals(25_001, differences.get(1).getKeyValues()[0]);
+        Assert.assertEquals(25_003, executor.getTargetRowCount());
+    }
+
+    @Test
+    public void tablesAreMergedWithoutCommonHashFunction() throws DBException {
+        MemorySide source = new MemorySide(CompareDataHashFunction.POSTGRESQL, rows(1, 5));
+        MemorySide target = new MemorySide(CompareDataHashFunction.MYSQL, rows(2, 6));
+        target.rows.get(1)[1] = "changed";
+
+        compare(source, target);
+
+        Assert.assertEquals(0, source.hashCount + target.hashCount);
+        Assert.assertEquals(1, executor.getMergedRangeCount());
+        Assert.assertEquals(
+            List.of(CompareDataDifference.Type.MISSING_IN_TARGET, CompareDataDifference.Type.DIFFERENT, CompareDataDifference.Type.MISSING_IN_SOURCE),
+            differences.stream().map(CompareDataDifference::getType).toList());
+    }
+
+    @Test
+    public void progressIsReportedOncePerBlock() throws DBException {
+        MemorySide source = new MemorySide(null, rows(1_000_000, 1_000_000));
+        MemorySide target = new MemorySide(null, rows(1, 250_000));
+
+        compare(source, target);
+
+        // Only target rows are read before the single source row
+        Assert.assertEquals(0, monitor.getSubTaskCount());
+
+        source = new MemorySide(null, rows(1, 250_000));
+        compare(source, source);
+        Assert.assertEquals(2, monitor.getSubTaskCount());
+    }
+
+    @Test
+    public void wrongRowOrderIsDetected() {
+        List<Object[]> rows = rows(1, 3);
+        rows.add(new Object[]{2, "row 2"});
+        MemorySide source = new MemorySide(null, rows);
+        MemorySide target = new MemorySide(null, rows(1, 3));
+
+        Assert.assertThrows(DBException.class, () -> compare(source, target));
+    }
+
+    private void compare(@NotNull MemorySide source, @NotNull MemorySide target) throws DBException {
+        differences.clear();
+        executor.compareData(monitor, differences::add, source, target, 1);
+    }
+
+    @NotNull
+    private static List<Object[]> rows(int firstKey, int lastKey) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int key = firstKey; key <= lastKey; key++) {
+            rows.add(new Object[]{key, "row " + key});
+        }
+        return rows;
+    }
+
+    /**
+     * Table rows ordered by key
+     */
+    private static class MemorySide implements CompareDataSide {
+        private final CompareDataHashFunction hashFunction;
+        private final List<Object[]> rows;
+        private int hashCount;
+        private int readRowCount;
+
+        MemorySide(@Nullable CompareDataHashFunction hashFunction, @NotNull List<Object[]> rows) {
+            this.hashFunction = hashFunction;
+            this.rows = rows;
+        }
+
+        @Nullable
+        @Override
+        public CompareDataHashFunction getHashFunction() {
+            return hashFunction;
+        }
+
+        @Nullable
+        @Override
+        public Object[] findRangeEnd(@Nullable Object[] lowerKey, int rowCount) {
+            List<Object[]> range = getRange(lowerKey, null);
+            return range.size() < rowCount ? null : new Object[]{range.get(rowCount - 1)[0]};
+        }
+
+        @NotNull
+        @Override
+        public RangeHash hashRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) {
+            hashCount++;
+            List<Object[]> range = getRange(lowerKey, upperKey);
+            return new RangeHash(range.size(), Integer.toHexString(Arrays.deepHashCode(range.toArray())));
+        }
+
+        @NotNull
+        @Override
+        public RowCursor readRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) {
+            Iterator<Object[]> iterator = getRange(lowerKey, upperKey).iterator();
+            return new RowCursor() {
+                @Nullable
+                @Override
+                public Object[] nextRow() {
+                    if (!iterator.hasNext()) {
+                        return null;
+                    }
+                    readRowCount++;
+                    return iterator.next().clone();
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @NotNull
+        private List<Object[]> getRange(@Nullable Object[] lowerKey, @Nullable Object[] upperKey) {
+            List<Object[]> range = new ArrayList<>();
+            for (Object[] row : rows) {
+                if ((lowerKey == null || DBUtils.compareDataValues(row[0], lowerKey[0]) > 0) &&
+                    (upperKey == null || DBUtils.compareDataValues(row[0], upperKey[0]) <= 0)) {
+                    range.add(row);
+                }
+            }
+            return range;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
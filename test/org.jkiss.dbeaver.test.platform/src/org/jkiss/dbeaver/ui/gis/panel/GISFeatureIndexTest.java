@@ -0,0 +1,117 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.gis.panel;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class GISFeatureIndexTest {
+
+    private static final GeometryFactory factory = new GeometryFactory();
+
+    @Test
+    public void limitAppliesToUnindexedFeatures() {
+        GISFeatureIndex index = new GISFeatureIndex();
+        index.addFeature("not a geometry", "u1");
+        index.addFeature("not a geometry", "u2");
+        index.addFeature("not a geometry", "u3");
+        index.addFeature(point(0, 0), "p1");
+
+        Assert.assertEquals(List.of("u1", "u2"), tips(index.query(new Envelope(-10, 10, -10, 10), 2)));
+        Assert.assertEquals(List.of("u1", "u2", "u3", "p1"), tips(index.query(new Envelope(-10, 10, -10, 10), 10)));
+    }
+
+    @Test
+    public void largeAndCloseFeaturesArePreferred() {
+        GISFeatureIndex index = new GISFeatureIndex();
+        index.addFeature(point(9, 9), "far");
+        index.addFeature(point(1, 1), "near");
+        index.addFeature(box(2, 2, 5, 5), "small");
+        index.addFeature(box(-8, -8, 8, 8), "large");
+        index.addFeature(point(-5, 0), "middle");
+
+        Envelope viewport = new Envelope(-10, 10, -10, 10);
+        Assert.assertEquals(List.of("large", "small", "near"), tips(index.query(viewport, 3)));
+        Assert.assertEquals(
+            Set.of("large", "small", "near", "middle", "far"),
+            new HashSet<>(tips(index.query(viewport, 5))));
+    }
+
+    @Test
+    public void viewportCrossingAntimeridianIsSplit() {
+        GISFeatureIndex index = new GISFeatureIndex();
+        index.addFeature(point(175, 0), "east");
+        index.addFeature(point(-175, 0), "west");
+        index.addFeature(point(0, 0), "center");
+
+        Envelope viewport = new Envelope(170, 190, -10, 10);
+        Assert.assertEquals(List.of("east"), tips(index.query(viewport, 10)));
+
+        index.setWrapLongitude(true);
+        Assert.assertEquals(List.of("east", "west"), tips(index.query(viewport, 10)));
+        Assert.assertEquals(List.of("east", "west"), tips(index.query(new Envelope(-190, -170, -10, 10), 10)));
+        // Map panned a whole world around
+        Assert.assertEquals(List.of("center"), tips(index.query(new Envelope(350, 370, -10, 10), 10)));
+    }
+
+    @Test
+    public void closestFeatureAcrossAntimeridianIsPreferred() {
+        GISFeatureIndex index = new GISFeatureIndex();
+        index.setWrapLongitude(true);
+        index.addFeature(point(150, 0), "far");
+        index.addFeature(point(-178, 0), "near");
+
+        Assert.assertEquals(List.of("near"), tips(index.query(new Envelope(140, 200, -10, 10), 1)));
+    }
+
+    @Test
+    public void splitViewport() {
+        Envelope viewport = new Envelope(-20, 20, -10, 10);
+        Assert.assertEquals(List.of(viewport), GISFeatureIndex.splitViewport(viewport, false));
+        Assert.assertEquals(List.of(viewport), GISFeatureIndex.splitViewport(viewport, true));
+        Assert.assertEquals(
+            List.of(new Envelope(170, 180, -10, 10), new Envelope(-180, -170, -10, 10)),
+            GISFeatureIndex.splitViewport(new Envelope(170, 190, -10, 10), true));
+        Assert.assertEquals(
+            List.of(new Envelope(170, 180, -10, 10), new Envelope(-180, -170, -10, 10)),
+            GISFeatureIndex.splitViewport(new Envelope(-190, -170, -10, 10), true));
+        Assert.assertEquals(
+            List.of(new Envelope(-180, 180, -10, 10)),
+            GISFeatureIndex.splitViewport(new Envelope(-300, 300, -10, 10), true));
+    }
+
+    private static Geometry point(double x, double y) {
+        return factory.createPoint(new Coordinate(x, y));
+    }
+
+    private static Geometry box(double minX, double minY, double maxX, double maxY) {
+        return factory.toGeometry(new Envelope(minX, maxX, minY, maxY));
+    }
+
+    private static List<String> tips(List<GISFeatureIndex.Feature> features) {
+        return features.stream().map(GISFeatureIndex.Feature::getTip).collect(Collectors.toList());
+    }
+}